@@ -0,0 +1,242 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.accounting.journalentry.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.accounting.closure.domain.GLClosureRepository;
+import org.apache.fineract.accounting.financialactivityaccount.domain.FinancialActivityAccountRepository;
+import org.apache.fineract.accounting.producttoaccountmapping.domain.ProductToGLAccountMappingRepository;
+import org.apache.fineract.infrastructure.cache.service.MultiNodeCacheManager;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Holds the {@link AccountingMappingIndex} of every tenant. An index is built lazily on first use and rebuilt when it is
+ * older than {@code fineract.accounting.mapping-cache.time-to-live}, when a product unknown to it is looked up, or after
+ * {@link #invalidate()} was called by a write command changing the accounting configuration. A time to live of zero
+ * disables the cache.
+ *
+ * Invalidations are broadcast to the other nodes of a cluster through the {@link MultiNodeCacheManager} once the
+ * command committed, while the multi node cache is not active changes made on other nodes become visible here only once
+ * the index expired.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccountingMappingCache implements InitializingBean {
+
+    private static final String METRIC_PREFIX = "fineract.accounting.mapping.cache";
+    public static final String CACHE_NAME = "accountingMappings";
+
+    private final ProductToGLAccountMappingRepository accountMappingRepository;
+    private final FinancialActivityAccountRepository financialActivityAccountRepository;
+    private final GLClosureRepository closureRepository;
+    private final FineractProperties fineractProperties;
+    private final MultiNodeCacheManager multiNodeCacheManager;
+    private final Optional<MeterRegistry> meterRegistry;
+
+    private final ConcurrentMap<String, TenantIndex> indexes = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    @Override
+    public void afterPropertiesSet() {
+        multiNodeCacheManager.registerExternalCache(CACHE_NAME, this::invalidateRemotely);
+        meterRegistry.ifPresent(registry -> {
+            FunctionCounter.builder(METRIC_PREFIX + ".requests", hits, LongAdder::sum).tag("result", "hit").register(registry);
+            FunctionCounter.builder(METRIC_PREFIX + ".requests", misses, LongAdder::sum).tag("result", "miss").register(registry);
+            Gauge.builder(METRIC_PREFIX + ".hit.ratio", this, AccountingMappingCache::getHitRatio)
+                    .description("Share of lookups answered by an already built index").register(registry);
+            Gauge.builder(METRIC_PREFIX + ".size", this, AccountingMappingCache::getSize)
+                    .description("Resolved mappings held for all tenants").register(registry);
+        });
+    }
+
+    /**
+     * @return the index of the current tenant, or null when the cache is disabled
+     */
+    public AccountingMappingIndex getIndex() {
+        Duration timeToLive = getTimeToLive();
+        if (timeToLive == null) {
+            return null;
+        }
+        TenantIndex tenantIndex = indexes.computeIfAbsent(ThreadLocalContextUtil.getTenant().getTenantIdentifier(),
+                tenant -> new TenantIndex());
+        AccountingMappingIndex index = tenantIndex.current(timeToLive);
+        if (index != null) {
+            hits.increment();
+            return index;
+        }
+        synchronized (tenantIndex) {
+            index = tenantIndex.current(timeToLive);
+            if (index != null) {
+                hits.increment();
+                return index;
+            }
+            misses.increment();
+            return rebuild(tenantIndex);
+        }
+    }
+
+    /**
+     * @return the index of the current tenant, or null when the cache is disabled. The index is rebuilt once if the
+     *         product is unknown to it, e.g. because it was created on another node.
+     */
+    public AccountingMappingIndex getIndex(Long productId, Integer productType) {
+        AccountingMappingIndex index = getIndex();
+        if (index == null || index.containsProduct(productId, productType)) {
+            return index;
+        }
+        TenantIndex tenantIndex = indexes.get(ThreadLocalContextUtil.getTenant().getTenantIdentifier());
+        synchronized (tenantIndex) {
+            BuiltIndex current = tenantIndex.built;
+            if (current != null && current.index() != index) {
+                // rebuilt by another thread meanwhile
+                return current.index();
+            }
+            if (current != null && current.unknownProducts().contains(new ProductKey(productId, productType))) {
+                return index;
+            }
+            AccountingMappingIndex rebuilt = rebuild(tenantIndex);
+            if (!rebuilt.containsProduct(productId, productType) && tenantIndex.built != null) {
+                tenantIndex.built.unknownProducts().add(new ProductKey(productId, productType));
+            }
+            return rebuilt;
+        }
+    }
+
+    /**
+     * Drops the index of the current tenant, right away and again once the surrounding transaction completed, and on the
+     * other nodes once it committed.
+     */
+    public void invalidate() {
+        final String tenantIdentifier = ThreadLocalContextUtil.getTenant().getTenantIdentifier();
+        invalidate(tenantIdentifier);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCompletion(int status) {
+                    invalidate(tenantIdentifier);
+                }
+            });
+        }
+        multiNodeCacheManager.broadcastInvalidation(CACHE_NAME, tenantIdentifier);
+    }
+
+    private void invalidateRemotely(String tenantIdentifier) {
+        if (tenantIdentifier == null) {
+            indexes.values().forEach(TenantIndex::invalidate);
+        } else {
+            invalidate(tenantIdentifier);
+        }
+    }
+
+    private void invalidate(String tenantIdentifier) {
+        TenantIndex tenantIndex = indexes.get(tenantIdentifier);
+        if (tenantIndex != null) {
+            tenantIndex.invalidate();
+        }
+    }
+
+    private AccountingMappingIndex rebuild(TenantIndex tenantIndex) {
+        long generationAtStart = tenantIndex.generation.get();
+        AccountingMappingIndex index = AccountingMappingIndex.build(accountMappingRepository.findAllMappingIds(),
+                financialActivityAccountRepository.findAll(), closureRepository.getLatestGLClosures());
+        if (tenantIndex.generation.get() == generationAtStart) {
+            tenantIndex.set(index);
+        }
+        log.debug("Built accounting mapping index with {} entries", index.size());
+        return index;
+    }
+
+    private Duration getTimeToLive() {
+        FineractProperties.FineractAccountingMappingCacheProperties properties = fineractProperties.getAccounting().getMappingCache();
+        if (properties == null || properties.getTimeToLive() == null || properties.getTimeToLive().isZero()
+                || properties.getTimeToLive().isNegative()) {
+            return null;
+        }
+        return properties.getTimeToLive();
+    }
+
+    private double getHitRatio() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    private double getSize() {
+        return indexes.values().stream().mapToInt(TenantIndex::size).sum();
+    }
+
+    private static final class TenantIndex {
+
+        private volatile BuiltIndex built;
+        // bumped on every invalidation of the tenant, an index built concurrently with a change is not kept
+        private final AtomicLong generation = new AtomicLong();
+
+        private AccountingMappingIndex current(Duration timeToLive) {
+            BuiltIndex current = built;
+            if (current == null || timeToLive == null || System.nanoTime() - current.builtAt() >= timeToLive.toNanos()) {
+                return null;
+            }
+            return current.index();
+        }
+
+        private void set(AccountingMappingIndex index) {
+            built = new BuiltIndex(index, System.nanoTime(), ConcurrentHashMap.newKeySet());
+        }
+
+        private void invalidate() {
+            generation.incrementAndGet();
+            built = null;
+        }
+
+        private int size() {
+            BuiltIndex current = built;
+            return current == null ? 0 : current.index().size();
+        }
+    }
+
+    /**
+     * @param unknownProducts
+     *            products looked up right after this index was built that have no mappings, they do not trigger another
+     *            rebuild
+     */
+    private record BuiltIndex(AccountingMappingIndex index, long builtAt, Set<ProductKey> unknownProducts) {
+    }
+
+    private record ProductKey(Long productId, Integer productType) {
+    }
+}
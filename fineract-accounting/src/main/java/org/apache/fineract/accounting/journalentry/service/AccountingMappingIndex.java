@@ -0,0 +1,138 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.accounting.journalentry.service;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.fineract.accounting.closure.domain.GLClosure;
+import org.apache.fineract.accounting.financialactivityaccount.domain.FinancialActivityAccount;
+import org.apache.fineract.accounting.producttoaccountmapping.domain.ProductToGLAccountMappingIds;
+
+/**
+ * Immutable snapshot of the accounting configuration of one tenant: the product to GL account mappings (including the
+ * payment type, charge and charge-off reason specific ones), the financial activity accounts and the latest closure of
+ * every office. The lookups answer the same questions as the corresponding repository queries.
+ *
+ * Only ids and values are kept, no entities, as an index is shared by the transactions of all threads of a tenant.
+ */
+public final class AccountingMappingIndex {
+
+    private final Set<ProductKey> products;
+    private final Map<MappingKey, ResolvedMapping> mappings;
+    private final Map<MappingKey, ResolvedMapping> chargeOffMappings;
+    private final Map<Integer, Long> financialActivityGLAccountIds;
+    private final Map<Long, LatestClosure> latestClosures;
+
+    private AccountingMappingIndex(Set<ProductKey> products, Map<MappingKey, ResolvedMapping> mappings,
+            Map<MappingKey, ResolvedMapping> chargeOffMappings, Map<Integer, Long> financialActivityGLAccountIds,
+            Map<Long, LatestClosure> latestClosures) {
+        this.products = Set.copyOf(products);
+        this.mappings = Map.copyOf(mappings);
+        this.chargeOffMappings = Map.copyOf(chargeOffMappings);
+        this.financialActivityGLAccountIds = Map.copyOf(financialActivityGLAccountIds);
+        this.latestClosures = Map.copyOf(latestClosures);
+    }
+
+    public static AccountingMappingIndex build(List<ProductToGLAccountMappingIds> productMappings,
+            List<FinancialActivityAccount> financialActivityAccounts, List<GLClosure> latestClosures) {
+        Set<ProductKey> products = new HashSet<>();
+        Map<MappingKey, ResolvedMapping> mappings = new HashMap<>();
+        Map<MappingKey, ResolvedMapping> chargeOffMappings = new HashMap<>();
+        for (ProductToGLAccountMappingIds mapping : productMappings) {
+            products.add(new ProductKey(mapping.getProductId(), mapping.getProductType()));
+            ResolvedMapping resolved = new ResolvedMapping(mapping.getId(), mapping.getGlAccountId());
+            if (mapping.getChargeOffReasonId() != null) {
+                // charge-off reason mappings are looked up regardless of the financial account type
+                chargeOffMappings.putIfAbsent(new MappingKey(mapping.getProductId(), mapping.getProductType(), null, null, null,
+                        mapping.getChargeOffReasonId()), resolved);
+            } else {
+                mappings.putIfAbsent(new MappingKey(mapping.getProductId(), mapping.getProductType(), mapping.getFinancialAccountType(),
+                        mapping.getPaymentTypeId(), mapping.getChargeId(), null), resolved);
+            }
+        }
+        Map<Integer, Long> financialActivityGLAccountIds = new HashMap<>();
+        for (FinancialActivityAccount financialActivityAccount : financialActivityAccounts) {
+            if (financialActivityAccount.getGlAccount() != null) {
+                financialActivityGLAccountIds.put(financialActivityAccount.getFinancialActivityType(),
+                        financialActivityAccount.getGlAccount().getId());
+            }
+        }
+        Map<Long, LatestClosure> closures = new HashMap<>();
+        for (GLClosure closure : latestClosures) {
+            closures.put(closure.getOffice().getId(), new LatestClosure(closure.getId(), closure.getClosingDate()));
+        }
+        return new AccountingMappingIndex(products, mappings, chargeOffMappings, financialActivityGLAccountIds, closures);
+    }
+
+    public boolean containsProduct(Long productId, Integer productType) {
+        return products.contains(new ProductKey(productId, productType));
+    }
+
+    public ResolvedMapping findCoreMapping(Long productId, Integer productType, Integer financialAccountType) {
+        return mappings.get(new MappingKey(productId, productType, financialAccountType, null, null, null));
+    }
+
+    public ResolvedMapping findPaymentTypeMapping(Long productId, Integer productType, Integer financialAccountType, Long paymentTypeId) {
+        return paymentTypeId == null ? null
+                : mappings.get(new MappingKey(productId, productType, financialAccountType, paymentTypeId, null, null));
+    }
+
+    public ResolvedMapping findChargeMapping(Long productId, Integer productType, Integer financialAccountType, Long chargeId) {
+        return chargeId == null ? null : mappings.get(new MappingKey(productId, productType, financialAccountType, null, chargeId, null));
+    }
+
+    public ResolvedMapping findChargeOffMapping(Long productId, Integer productType, Long chargeOffReasonId) {
+        return chargeOffMappings.get(new MappingKey(productId, productType, null, null, null, chargeOffReasonId));
+    }
+
+    public Long findFinancialActivityGLAccountId(Integer financialActivityType) {
+        return financialActivityGLAccountIds.get(financialActivityType);
+    }
+
+    public LatestClosure findLatestClosure(Long officeId) {
+        return latestClosures.get(officeId);
+    }
+
+    public int size() {
+        return mappings.size() + chargeOffMappings.size() + financialActivityGLAccountIds.size() + latestClosures.size();
+    }
+
+    /**
+     * The mapping and the GL account it points to, the GL account is null when the mapping has none.
+     */
+    public record ResolvedMapping(Long mappingId, Long glAccountId) {
+    }
+
+    /**
+     * The latest closure of an office and its closing date.
+     */
+    public record LatestClosure(Long closureId, LocalDate closingDate) {
+    }
+
+    private record ProductKey(Long productId, Integer productType) {
+    }
+
+    private record MappingKey(Long productId, Integer productType, Integer financialAccountType, Long paymentTypeId, Long chargeId,
+            Long chargeOffReasonId) {
+    }
+}
@@ -82,4 +82,7 @@ public interface ProductToGLAccountMappingRepository
 
     @Query("select mapping from ProductToGLAccountMapping mapping where mapping.productId =:productId AND mapping.productType =:productType AND mapping.charge.penalty = FALSE")
     List<ProductToGLAccountMapping> findAllFeeMappings(@Param("productId") Long productId, @Param("productType") Integer productType);
+
+    @Query("select mapping.id as id, mapping.productId as productId, mapping.productType as productType, mapping.financialAccountType as financialAccountType, paymentType.id as paymentTypeId, charge.id as chargeId, chargeOffReason.id as chargeOffReasonId, glAccount.id as glAccountId from ProductToGLAccountMapping mapping left join mapping.paymentType paymentType left join mapping.charge charge left join mapping.chargeOffReason chargeOffReason left join mapping.glAccount glAccount")
+    List<ProductToGLAccountMappingIds> findAllMappingIds();
 }
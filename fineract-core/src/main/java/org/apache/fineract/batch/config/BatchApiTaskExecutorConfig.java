@@ -0,0 +1,49 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.batch.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@RequiredArgsConstructor
+public class BatchApiTaskExecutorConfig {
+
+    public static final String BATCH_API_PARALLEL_EXECUTOR_BEAN_NAME = "batchApiParallelExecutor";
+
+    private final FineractProperties fineractProperties;
+
+    @Bean(BATCH_API_PARALLEL_EXECUTOR_BEAN_NAME)
+    public ThreadPoolTaskExecutor batchApiParallelExecutor() {
+        FineractProperties.FineractBatchApiProperties batchProperties = fineractProperties.getApi().getBatch();
+        ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+        threadPoolTaskExecutor.setCorePoolSize(batchProperties.getParallelThreadPoolSize());
+        threadPoolTaskExecutor.setMaxPoolSize(batchProperties.getParallelThreadPoolSize());
+        threadPoolTaskExecutor.setQueueCapacity(batchProperties.getParallelQueueCapacity());
+        // when every worker is busy the request thread runs the tree itself, this bounds the work a single node accepts
+        threadPoolTaskExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        threadPoolTaskExecutor.setThreadNamePrefix("batch-api-");
+        threadPoolTaskExecutor.initialize();
+        return threadPoolTaskExecutor;
+    }
+}
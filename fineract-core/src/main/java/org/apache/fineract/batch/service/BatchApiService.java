@@ -45,6 +45,18 @@ public interface BatchApiService {
      */
     List<BatchResponse> handleBatchRequestsWithoutEnclosingTransaction(List<BatchRequest> requestList, UriInfo uriInfo);
 
+    /**
+     * Same as {@link #handleBatchRequestsWithoutEnclosingTransaction(List, UriInfo)}, but the request trees that do not
+     * reference each other are executed concurrently. Requests depending on another request are still executed after
+     * their parent, and the responses are returned in request id order. It will be used when the Query Parameter
+     * "enclosingTransaction" is set to 'false' and "parallel" is set to 'true'.
+     *
+     * @param requestList
+     * @param uriInfo
+     * @return List&lt;BatchResponse&gt;
+     */
+    List<BatchResponse> handleBatchRequestsInParallelWithoutEnclosingTransaction(List<BatchRequest> requestList, UriInfo uriInfo);
+
     /**
      * returns a list of {@link org.apache.fineract.batch.domain.BatchResponse}s by getting the appropriate
      * CommandStrategy for every {@link org.apache.fineract.batch.domain.BatchRequest}. It will be used when the Query
@@ -35,8 +35,11 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -46,6 +49,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.batch.command.CommandContext;
 import org.apache.fineract.batch.command.CommandStrategy;
 import org.apache.fineract.batch.command.CommandStrategyProvider;
+import org.apache.fineract.batch.config.BatchApiTaskExecutorConfig;
 import org.apache.fineract.batch.domain.BatchRequest;
 import org.apache.fineract.batch.domain.BatchResponse;
 import org.apache.fineract.batch.domain.Header;
@@ -54,13 +58,20 @@ import org.apache.fineract.batch.exception.ErrorInfo;
 import org.apache.fineract.batch.service.ResolutionHelper.BatchRequestNode;
 import org.apache.fineract.commands.configuration.RetryConfigurationAssembler;
 import org.apache.fineract.infrastructure.core.domain.BatchRequestContextHolder;
+import org.apache.fineract.infrastructure.core.domain.FineractContext;
 import org.apache.fineract.infrastructure.core.exception.ErrorHandler;
 import org.apache.fineract.infrastructure.core.filters.BatchCallHandler;
 import org.apache.fineract.infrastructure.core.filters.BatchFilter;
 import org.apache.fineract.infrastructure.core.filters.BatchRequestPreprocessor;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.dao.NonTransientDataAccessException;
 import org.springframework.lang.NonNull;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
@@ -94,6 +105,9 @@ public class BatchApiServiceImpl implements BatchApiService {
 
     private final RetryConfigurationAssembler retryConfigurationAssembler;
 
+    @Qualifier(BatchApiTaskExecutorConfig.BATCH_API_PARALLEL_EXECUTOR_BEAN_NAME)
+    private final ThreadPoolTaskExecutor parallelExecutor;
+
     private EntityManager entityManager;
 
     /**
@@ -120,6 +134,24 @@ public class BatchApiServiceImpl implements BatchApiService {
         return handleBatchRequests(requestList, uriInfo, true);
     }
 
+    /**
+     * Run the independent request trees concurrently, each root step in a separated transaction
+     *
+     * @param requestList
+     * @param uriInfo
+     * @return
+     */
+    @Override
+    public List<BatchResponse> handleBatchRequestsInParallelWithoutEnclosingTransaction(final List<BatchRequest> requestList,
+            UriInfo uriInfo) {
+        BatchRequestContextHolder.setIsEnclosingTransaction(false);
+        try {
+            return handleRequestNodesInParallel(requestList, uriInfo);
+        } finally {
+            BatchRequestContextHolder.resetIsEnclosingTransaction();
+        }
+    }
+
     private List<BatchResponse> handleBatchRequests(final List<BatchRequest> requestList, final UriInfo uriInfo,
             boolean enclosingTransaction) {
         BatchRequestContextHolder.setIsEnclosingTransaction(enclosingTransaction);
@@ -198,6 +230,81 @@ public class BatchApiServiceImpl implements BatchApiService {
         return responseList;
     }
 
+    /**
+     * Executes every root node with its child requests on the parallel executor. The child requests of a root node keep
+     * running one after the other on the same thread, only the independent trees run concurrently.
+     *
+     * @param requestList
+     * @param uriInfo
+     * @return {@code List<BatchResponse>}
+     */
+    private List<BatchResponse> handleRequestNodesInParallel(final List<BatchRequest> requestList, final UriInfo uriInfo) {
+        final List<BatchRequestNode> rootNodes;
+        try {
+            rootNodes = this.resolutionHelper.buildNodesTree(requestList);
+        } catch (BatchReferenceInvalidException e) {
+            return List.of(buildOrThrowErrorResponse(e, null));
+        }
+
+        final Thread requestThread = Thread.currentThread();
+        final FineractContext context = ThreadLocalContextUtil.getContext();
+        final SecurityContext securityContext = SecurityContextHolder.getContext();
+        final Map<String, String> mdcContext = MDC.getCopyOfContextMap();
+        final List<Future<List<BatchResponse>>> trees = new ArrayList<>(rootNodes.size());
+        for (BatchRequestNode rootNode : rootNodes) {
+            trees.add(parallelExecutor.submit(() -> {
+                // a saturated executor runs the tree on the request thread, whose context is already in place
+                boolean workerThread = Thread.currentThread() != requestThread;
+                try {
+                    if (workerThread) {
+                        ThreadLocalContextUtil.init(context);
+                        SecurityContext workerSecurityContext = SecurityContextHolder.createEmptyContext();
+                        workerSecurityContext.setAuthentication(securityContext.getAuthentication());
+                        SecurityContextHolder.setContext(workerSecurityContext);
+                        if (mdcContext != null) {
+                            MDC.setContextMap(mdcContext);
+                        }
+                        BatchRequestContextHolder.setIsEnclosingTransaction(false);
+                    }
+                    List<BatchResponse> treeResponses = new ArrayList<>();
+                    this.callRequestRecursive(rootNode.getRequest(), rootNode, treeResponses, uriInfo);
+                    return treeResponses;
+                } finally {
+                    if (workerThread) {
+                        BatchRequestContextHolder.resetIsEnclosingTransaction();
+                        MDC.clear();
+                        SecurityContextHolder.clearContext();
+                        ThreadLocalContextUtil.reset();
+                    }
+                }
+            }));
+        }
+
+        final ArrayList<BatchResponse> responseList = new ArrayList<>(requestList.size());
+        for (int i = 0; i < rootNodes.size(); i++) {
+            BatchRequestNode rootNode = rootNodes.get(i);
+            try {
+                responseList.addAll(trees.get(i).get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                responseList.addAll(treeFailed(rootNode, e));
+            } catch (ExecutionException e) {
+                log.error("Exception during the parallel batch request processing", e.getCause());
+                responseList.addAll(treeFailed(rootNode, e.getCause()));
+            }
+        }
+        responseList.sort(Comparator.comparing(BatchResponse::getRequestId));
+        return responseList;
+    }
+
+    private List<BatchResponse> treeFailed(BatchRequestNode rootNode, Throwable ex) {
+        List<BatchResponse> responses = new ArrayList<>();
+        BatchResponse rootResponse = buildErrorResponse(ex, rootNode.getRequest());
+        responses.add(rootResponse);
+        responses.addAll(parentRequestFailedRecursive(rootNode.getRequest(), rootNode, rootResponse, null));
+        return responses;
+    }
+
     /**
      * Executes the request and call child requests recursively.
      *
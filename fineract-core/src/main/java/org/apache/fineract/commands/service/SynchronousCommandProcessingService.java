@@ -57,8 +57,10 @@ import org.apache.fineract.infrastructure.core.serialization.ToApiJsonSerializer
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.infrastructure.hooks.event.HookEvent;
 import org.apache.fineract.infrastructure.hooks.event.HookEventSource;
+import org.apache.fineract.infrastructure.hooks.service.HookEventRegistry;
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
 import org.apache.fineract.useradministration.domain.AppUser;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.ApplicationContext;
 import org.springframework.stereotype.Service;
 
@@ -80,6 +82,8 @@ public class SynchronousCommandProcessingService implements CommandProcessingSer
     private final IdempotencyKeyResolver idempotencyKeyResolver;
     private final CommandSourceService commandSourceService;
     private final RetryConfigurationAssembler retryConfigurationAssembler;
+    private final HookEventRegistry hookEventRegistry;
+    private final ObjectProvider<CommandProcessedListener> commandProcessedListeners;
 
     private final FineractRequestContextHolder fineractRequestContextHolder;
     private final Gson gson = GoogleGsonSerializerHelper.createSimpleGson();
@@ -197,6 +201,8 @@ public class SynchronousCommandProcessingService implements CommandProcessingSer
         }
 
         result.setRollbackTransaction(null);
+        commandProcessedListeners.orderedStream()
+                .forEach(listener -> listener.onCommandProcessed(wrapper.entityName(), wrapper.actionName()));
         publishHookEvent(wrapper.entityName(), wrapper.actionName(), command, result); // TODO must be performed in a
         // new transaction
         return result;
@@ -324,6 +330,10 @@ public class SynchronousCommandProcessingService implements CommandProcessingSer
 
     protected void publishHookEvent(final String entityName, final String actionName, JsonCommand command, final Object result) {
 
+        if (!hookEventRegistry.hasHooksListeningTo(entityName, actionName)) {
+            return;
+        }
+
         final AppUser appUser = context.authenticatedUser(CommandWrapper.wrap(actionName, entityName, null, null));
 
         final HookEventSource hookEventSource = new HookEventSource(entityName, actionName);
@@ -0,0 +1,87 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.businessdate.service;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDate;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateRepository;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Provides the business dates stored for the current tenant. They are resolved for every request, hence cached per
+ * tenant; {@link BusinessDateWritePlatformServiceImpl} evicts the entry whenever a business date is changed.
+ *
+ * The entry is evicted again once the changing transaction completed, a request reading the business dates before the
+ * commit would otherwise cache the old dates until the next change.
+ */
+@Component
+@RequiredArgsConstructor
+public class TenantBusinessDateProvider {
+
+    public static final String CACHE_NAME = "businessDates";
+    public static final String CACHE_KEY =
+            "T(org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil).getTenant().getTenantIdentifier().concat('BD')";
+
+    private final BusinessDateRepository repository;
+    private final CacheManager cacheManager;
+
+    @Cacheable(value = CACHE_NAME, key = CACHE_KEY)
+    public Map<BusinessDateType, LocalDate> getStoredBusinessDates() {
+        Map<BusinessDateType, LocalDate> businessDates = new EnumMap<>(BusinessDateType.class);
+        for (BusinessDate businessDate : repository.findAll()) {
+            businessDates.put(businessDate.getType(), businessDate.getDate());
+        }
+        return Collections.unmodifiableMap(businessDates);
+    }
+
+    /**
+     * Evicts the business dates of the current tenant, right away and again once the surrounding transaction completed.
+     */
+    public void evict() {
+        final String key = ThreadLocalContextUtil.getTenant().getTenantIdentifier().concat("BD");
+        evict(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCompletion(int status) {
+                    evict(key);
+                }
+            });
+        }
+    }
+
+    private void evict(String key) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.cache.data;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Tells the other nodes of the cluster to drop an entry of a cache, or the whole cache when there is no key.
+ *
+ * @param nodeId
+ *            the node which sent the message, a node ignores its own messages
+ * @param cacheName
+ *            name of the invalidated cache
+ * @param cacheKey
+ *            the invalidated key, <code>null</code> when the whole cache was cleared
+ */
+public record CacheInvalidationMessage(String nodeId, String cacheName, String cacheKey) implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public boolean isClear() {
+        return cacheKey == null;
+    }
+}
@@ -0,0 +1,165 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.cache.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
+import org.springframework.cache.Cache;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Local near-cache of the {@link MultiNodeCacheManager}. Reads and writes stay local, every eviction is also handed over
+ * to be broadcast to the other nodes.
+ */
+final class InvalidationBroadcastingCache implements Cache {
+
+    private final Cache delegate;
+    private final BiConsumer<String, Object> invalidationPublisher;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter localEvictions;
+    private final Counter remoteEvictions;
+
+    InvalidationBroadcastingCache(final Cache delegate, final BiConsumer<String, Object> invalidationPublisher,
+            final Optional<MeterRegistry> meterRegistry) {
+        this.delegate = delegate;
+        this.invalidationPublisher = invalidationPublisher;
+        this.hits = meterRegistry.map(registry -> counter(registry, "cache.gets", "result", "hit")).orElse(null);
+        this.misses = meterRegistry.map(registry -> counter(registry, "cache.gets", "result", "miss")).orElse(null);
+        this.localEvictions = meterRegistry.map(registry -> counter(registry, "cache.evictions", "origin", "local")).orElse(null);
+        this.remoteEvictions = meterRegistry.map(registry -> counter(registry, "cache.evictions", "origin", "remote")).orElse(null);
+    }
+
+    private Counter counter(final MeterRegistry registry, final String name, final String tagKey, final String tagValue) {
+        return Counter.builder(name).tag("cache", delegate.getName()).tag("cacheManager", "multiNode").tag(tagKey, tagValue)
+                .register(registry);
+    }
+
+    @NonNull
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @NonNull
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Nullable
+    @Override
+    public ValueWrapper get(@NonNull final Object key) {
+        return count(delegate.get(key));
+    }
+
+    @Nullable
+    @Override
+    public <T> T get(@NonNull final Object key, @Nullable final Class<T> type) {
+        final T value = delegate.get(key, type);
+        increment(value == null ? misses : hits);
+        return value;
+    }
+
+    @Nullable
+    @Override
+    public <T> T get(@NonNull final Object key, @NonNull final Callable<T> valueLoader) {
+        return delegate.get(key, valueLoader);
+    }
+
+    @Override
+    public void put(@NonNull final Object key, @Nullable final Object value) {
+        delegate.put(key, value);
+    }
+
+    @Nullable
+    @Override
+    public ValueWrapper putIfAbsent(@NonNull final Object key, @Nullable final Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(@NonNull final Object key) {
+        delegate.evict(key);
+        increment(localEvictions);
+        invalidationPublisher.accept(getName(), key);
+    }
+
+    @Override
+    public boolean evictIfPresent(@NonNull final Object key) {
+        final boolean evicted = delegate.evictIfPresent(key);
+        increment(localEvictions);
+        // the other nodes may still hold the entry even if this node did not
+        invalidationPublisher.accept(getName(), key);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        increment(localEvictions);
+        invalidationPublisher.accept(getName(), null);
+    }
+
+    @Override
+    public boolean invalidate() {
+        final boolean invalidated = delegate.invalidate();
+        increment(localEvictions);
+        invalidationPublisher.accept(getName(), null);
+        return invalidated;
+    }
+
+    /**
+     * Applies an invalidation received from another node, without broadcasting it again.
+     */
+    void evictRemotely(@Nullable final Object key) {
+        if (key == null) {
+            delegate.clear();
+        } else {
+            delegate.evict(key);
+        }
+        increment(remoteEvictions);
+    }
+
+    /**
+     * Evicts locally only, used to drop values cached by concurrent readers while the evicting transaction was running.
+     */
+    void evictLocally(@Nullable final Object key) {
+        if (key == null) {
+            delegate.clear();
+        } else {
+            delegate.evict(key);
+        }
+    }
+
+    private ValueWrapper count(final ValueWrapper valueWrapper) {
+        increment(valueWrapper == null ? misses : hits);
+        return valueWrapper;
+    }
+
+    private static void increment(final Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+}
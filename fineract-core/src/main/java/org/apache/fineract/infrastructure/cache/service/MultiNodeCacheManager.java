@@ -0,0 +1,193 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.cache.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.cache.data.CacheInvalidationMessage;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * {@link CacheManager} for a cluster of Fineract nodes. Every node keeps its own local near-caches (backed by the
+ * single node cache manager) and every eviction is broadcast through a {@link CacheInvalidationTransport}, so the other
+ * nodes drop their stale copies.
+ *
+ * String keys are invalidated one by one on the other nodes, for any other key type the whole cache is cleared there,
+ * because only string keys can be carried over the transport unambiguously.
+ *
+ * Caches that are not managed by Spring can take part as well, see {@link #registerExternalCache(String, Consumer)}.
+ */
+@Slf4j
+public class MultiNodeCacheManager implements CacheManager {
+
+    private final CacheManager localCacheManager;
+    private final CacheInvalidationTransport transport;
+    @Getter
+    private final String nodeId;
+    private final Optional<MeterRegistry> meterRegistry;
+    private final ConcurrentMap<String, InvalidationBroadcastingCache> caches = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Consumer<String>> externalCaches = new ConcurrentHashMap<>();
+    private volatile boolean active;
+
+    public MultiNodeCacheManager(final CacheManager localCacheManager, final CacheInvalidationTransport transport, final String nodeId,
+            final Optional<MeterRegistry> meterRegistry) {
+        this.localCacheManager = localCacheManager;
+        this.transport = transport;
+        this.nodeId = nodeId;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Starts listening to the invalidations of the other nodes. The local caches are cleared first as this node missed
+     * everything broadcast while it was not active.
+     */
+    public synchronized void activate() {
+        if (active) {
+            return;
+        }
+        localCacheManager.getCacheNames().forEach(name -> {
+            final Cache cache = localCacheManager.getCache(name);
+            if (cache != null) {
+                cache.clear();
+            }
+        });
+        transport.start(this::onMessage);
+        active = true;
+        log.info("Multi node cache activated on node {}", nodeId);
+    }
+
+    public synchronized void deactivate() {
+        if (!active) {
+            return;
+        }
+        active = false;
+        transport.stop();
+        log.info("Multi node cache deactivated on node {}", nodeId);
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    @Nullable
+    @Override
+    public Cache getCache(@NonNull final String name) {
+        return getBroadcastingCache(name);
+    }
+
+    @NonNull
+    @Override
+    public Collection<String> getCacheNames() {
+        return localCacheManager.getCacheNames();
+    }
+
+    /**
+     * Registers a cache that is not managed by Spring. The evictor is called with the key of every invalidation of the
+     * cache received from another node, null meaning every key.
+     */
+    public void registerExternalCache(final String cacheName, final Consumer<String> evictor) {
+        externalCaches.put(cacheName, evictor);
+    }
+
+    /**
+     * Broadcasts the invalidation of a key of an external cache once the surrounding transaction committed, null
+     * invalidates every key. The cache evicts its local entry itself. Nothing is broadcast while the multi node cache is
+     * not active.
+     */
+    public void broadcastInvalidation(final String cacheName, @Nullable final String key) {
+        invalidate(cacheName, key);
+    }
+
+    private InvalidationBroadcastingCache getBroadcastingCache(final String name) {
+        final InvalidationBroadcastingCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        final Cache localCache = localCacheManager.getCache(name);
+        if (localCache == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, n -> new InvalidationBroadcastingCache(localCache, this::invalidate, meterRegistry));
+    }
+
+    /**
+     * Broadcasts the eviction once the surrounding transaction committed, other nodes would otherwise reload the old
+     * value before the change is visible to them. The local entry is evicted again at that point as well, for the same
+     * reason.
+     */
+    private void invalidate(final String cacheName, @Nullable final Object key) {
+        if (!active) {
+            return;
+        }
+        final CacheInvalidationMessage message = new CacheInvalidationMessage(nodeId, cacheName,
+                key instanceof String stringKey ? stringKey : null);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    final InvalidationBroadcastingCache cache = getBroadcastingCache(cacheName);
+                    if (cache != null) {
+                        cache.evictLocally(key);
+                    }
+                    publish(message);
+                }
+            });
+        } else {
+            publish(message);
+        }
+    }
+
+    private void publish(final CacheInvalidationMessage message) {
+        try {
+            transport.publish(message);
+        } catch (RuntimeException e) {
+            // the change itself is already committed, the other nodes catch up when their entries expire
+            log.error("Could not broadcast the invalidation of cache {}", message.cacheName(), e);
+        }
+    }
+
+    private void onMessage(final CacheInvalidationMessage message) {
+        if (nodeId.equals(message.nodeId())) {
+            return;
+        }
+        final Consumer<String> externalCache = externalCaches.get(message.cacheName());
+        if (externalCache != null) {
+            externalCache.accept(message.cacheKey());
+            return;
+        }
+        final InvalidationBroadcastingCache cache = getBroadcastingCache(message.cacheName());
+        if (cache == null) {
+            log.debug("Invalidation received for unknown cache {}", message.cacheName());
+            return;
+        }
+        cache.evictRemotely(message.cacheKey());
+    }
+}
@@ -53,6 +53,8 @@ public class RuntimeDelegatingCacheManager implements CacheManager, Initializing
     private final CacheManager ehCacheManager;
     @Qualifier("defaultCacheManager")
     private final CacheManager defaultCacheManager;
+    @Qualifier("multiNodeCacheManager")
+    private final MultiNodeCacheManager multiNodeCacheManager;
     private CacheManager currentCacheManager;
 
     @Override
@@ -74,44 +76,58 @@ public class RuntimeDelegatingCacheManager implements CacheManager, Initializing
 
         final boolean noCacheEnabled = currentCacheManager == defaultCacheManager;
         final boolean ehCacheEnabled = currentCacheManager == ehCacheManager;
+        final boolean multiNodeCacheEnabled = currentCacheManager == multiNodeCacheManager;
 
         final EnumOptionData noCacheType = CacheEnumerations.cacheType(CacheType.NO_CACHE);
         final EnumOptionData singleNodeCacheType = CacheEnumerations.cacheType(CacheType.SINGLE_NODE);
+        final EnumOptionData multiNodeCacheType = CacheEnumerations.cacheType(CacheType.MULTI_NODE);
 
         final CacheData noCache = CacheData.instance(noCacheType, noCacheEnabled);
         final CacheData singleNodeCache = CacheData.instance(singleNodeCacheType, ehCacheEnabled);
+        final CacheData multiNodeCache = CacheData.instance(multiNodeCacheType, multiNodeCacheEnabled);
 
-        return Arrays.asList(noCache, singleNodeCache);
+        return Arrays.asList(noCache, singleNodeCache, multiNodeCache);
     }
 
-    public Map<String, Object> switchToCache(final boolean ehcacheEnabled, final CacheType toCacheType) {
+    public Map<String, Object> switchToCache(final CacheType currentCacheType, final CacheType toCacheType) {
 
         final Map<String, Object> changes = new HashMap<>();
 
-        final boolean noCacheEnabled = !ehcacheEnabled;
-
         switch (toCacheType) {
             case INVALID -> {
                 log.warn("Invalid cache type used");
             }
             case NO_CACHE -> {
-                if (!noCacheEnabled) {
+                if (currentCacheType != CacheType.NO_CACHE) {
                     changes.put(CacheApiConstants.CACHE_TYPE_PARAMETER, toCacheType.getValue());
                 }
                 currentCacheManager = defaultCacheManager;
+                multiNodeCacheManager.deactivate();
             }
             case SINGLE_NODE -> {
-                if (!ehcacheEnabled) {
+                if (currentCacheType != CacheType.SINGLE_NODE) {
                     changes.put(CacheApiConstants.CACHE_TYPE_PARAMETER, toCacheType.getValue());
                     clearEhCache();
                 }
                 currentCacheManager = ehCacheManager;
+                multiNodeCacheManager.deactivate();
+
+                if (currentCacheManager.getCacheNames().isEmpty()) {
+                    log.error("No caches configured for activated CacheManager {}", currentCacheManager);
+                }
+            }
+            case MULTI_NODE -> {
+                if (currentCacheType != CacheType.MULTI_NODE) {
+                    changes.put(CacheApiConstants.CACHE_TYPE_PARAMETER, toCacheType.getValue());
+                }
+                // activating clears the local caches, nothing broadcast before can be trusted
+                multiNodeCacheManager.activate();
+                currentCacheManager = multiNodeCacheManager;
 
                 if (currentCacheManager.getCacheNames().isEmpty()) {
                     log.error("No caches configured for activated CacheManager {}", currentCacheManager);
                 }
             }
-            case MULTI_NODE -> throw new UnsupportedOperationException("Multi node cache is not supported");
         }
 
         return changes;
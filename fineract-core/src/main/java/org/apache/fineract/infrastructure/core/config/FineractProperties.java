@@ -74,8 +74,14 @@ public class FineractProperties {
 
     private FineractNotificationProperties notification;
 
+    private FineractHookProperties hooks;
+
+    private FineractSearchProperties search;
+
     private FineractLoanProperties loan;
 
+    private FineractAccountingProperties accounting;
+
     private FineractSamplingProperties sampling;
 
     private FineractModulesProperties module;
@@ -110,6 +116,19 @@ public class FineractProperties {
         private String readOnlyName;
 
         private FineractConfigProperties config;
+        private FineractReadReplicaProperties readReplica;
+    }
+
+    /**
+     * Routes read-only transactions of a read-write instance to the read-only connection of the tenant
+     */
+    @Getter
+    @Setter
+    public static class FineractReadReplicaProperties {
+
+        private boolean enabled;
+        private Duration maxLag;
+        private Duration lagCheckInterval;
     }
 
     /**
@@ -172,7 +191,9 @@ public class FineractProperties {
         private Integer threadPoolMaxPoolSize;
         private Integer threadPoolQueueCapacity;
         private Integer retryLimit;
+        private Integer skipLimit;
         private Integer pollInterval;
+        private Integer prefetchWindowSize;
 
     }
 
@@ -302,6 +323,16 @@ public class FineractProperties {
         private int threadPoolCorePoolSize;
         private int threadPoolMaxPoolSize;
         private int threadPoolQueueCapacity;
+        private FineractExternalEventsPipelineProperties pipeline;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractExternalEventsPipelineProperties {
+
+        private boolean enabled;
+        private int maxInFlightBatches;
+        private int serializationParallelism;
     }
 
     @Getter
@@ -386,6 +417,15 @@ public class FineractProperties {
     public static class FineractExportProperties {
 
         private FineractExportS3Properties s3;
+        private FineractExportStreamProperties stream;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractExportStreamProperties {
+
+        private int fetchSize;
+        private int maxRows;
     }
 
     @Getter
@@ -402,6 +442,22 @@ public class FineractProperties {
 
         private int stuckRetryThreshold;
         private boolean loanCobEnabled;
+        private FineractSavingsInterestPostingJobProperties savingsInterestPosting;
+        private FineractLoanCobLockProperties loanCobLock;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractLoanCobLockProperties {
+
+        private boolean skipLockedClaimEnabled;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractSavingsInterestPostingJobProperties {
+
+        private int queueCapacity;
     }
 
     @Getter
@@ -417,6 +473,26 @@ public class FineractProperties {
     public static class FineractJpaProperties {
 
         private boolean statementLoggingEnabled;
+        private FineractJpaSharedCacheProperties sharedCache;
+        private FineractJpaBatchWritingProperties batchWriting;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractJpaBatchWritingProperties {
+
+        private boolean enabled;
+        private int size;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractJpaSharedCacheProperties {
+
+        private boolean enabled;
+        private List<String> entities;
+        private int maxEntriesPerTenant;
+        private Duration timeToLive;
     }
 
     @Getter
@@ -438,6 +514,15 @@ public class FineractProperties {
     public static class FineractApiProperties {
 
         private FineractBodyItemSizeLimitProperties bodyItemSizeLimit;
+        private FineractBatchApiProperties batch;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractBatchApiProperties {
+
+        private int parallelThreadPoolSize;
+        private int parallelQueueCapacity;
     }
 
     @Getter
@@ -467,6 +552,34 @@ public class FineractProperties {
 
         private FineractTransactionProcessorProperties transactionProcessor;
         private String statusChangeHistoryStatuses;
+        private FineractProgressiveModelProperties progressiveModel;
+        private FineractLoanPointInTimeProperties pointInTime;
+        private FineractLoanBusinessCalendarProperties businessCalendar;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractLoanBusinessCalendarProperties {
+
+        private Duration timeToLive;
+        private int pastDays;
+        private int horizonDays;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractLoanPointInTimeProperties {
+
+        private int batchSize;
+        private int threadPoolSize;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractProgressiveModelProperties {
+
+        private boolean binaryEnabled;
+        private boolean compressionEnabled;
     }
 
     @Getter
@@ -486,6 +599,63 @@ public class FineractProperties {
         private boolean errorNotFoundFail;
     }
 
+    @Getter
+    @Setter
+    public static class FineractHookProperties {
+
+        private Duration registryTimeToLive;
+        private FineractHookDeliveryProperties delivery;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractHookDeliveryProperties {
+
+        private int threadPoolSize;
+        private int queueCapacity;
+        private int maxAttempts;
+        private Duration initialBackoff;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractSearchProperties {
+
+        private FineractSearchIndexProperties index;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractSearchIndexProperties {
+
+        private boolean enabled;
+        private int batchSize;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractAccountingProperties {
+
+        private FineractRunningBalanceProperties runningBalance;
+        private FineractAccountingMappingCacheProperties mappingCache;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractAccountingMappingCacheProperties {
+
+        private Duration timeToLive;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractRunningBalanceProperties {
+
+        private int threadPoolSize;
+        private int pageSize;
+        private int batchSize;
+    }
+
     @Getter
     @Setter
     public static class FineractSecurityProperties {
@@ -505,6 +675,16 @@ public class FineractProperties {
     public static class FineractSecurityBasicAuth {
 
         private boolean enabled;
+        private FineractSecurityBasicAuthCredentialCache credentialCache;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractSecurityBasicAuthCredentialCache {
+
+        private boolean enabled;
+        private Duration ttl;
+        private long maximumEntries;
     }
 
     @Getter
@@ -605,6 +785,32 @@ public class FineractProperties {
 
         private FineractCacheDetails defaultTemplate;
         private Map<String, FineractCacheDetails> customTemplates = new HashMap<>();
+        private FineractMultiNodeCacheProperties multiNode;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractMultiNodeCacheProperties {
+
+        private String nodeId;
+        private FineractCacheInvalidationTransportType transport;
+        private Duration pollInterval;
+        private Duration retention;
+        private FineractMultiNodeCacheJmsProperties jms;
+    }
+
+    public enum FineractCacheInvalidationTransportType {
+        JDBC, JMS
+    }
+
+    @Getter
+    @Setter
+    public static class FineractMultiNodeCacheJmsProperties {
+
+        private String brokerUrl;
+        private String brokerUsername;
+        private String brokerPassword;
+        private String topicName;
     }
 
     @Getter
@@ -56,8 +56,25 @@ public class DataSourcePerTenantServiceFactory {
     private final DatabasePasswordEncryptor databasePasswordEncryptor;
     private final Optional<MeterRegistry> meterRegistry;
 
-    @SuppressFBWarnings(value = "SLF4J_SIGN_ONLY_FORMAT")
     public DataSource createNewDataSourceFor(FineractPlatformTenant tenant, FineractPlatformTenantConnection tenantConnection) {
+        return createDataSource(tenant, tenantConnection, fineractProperties.getMode().isReadOnlyMode(), "_pool");
+    }
+
+    /**
+     * Creates the connection pool of the read-only connection of the tenant, used by a read-write instance for its
+     * read-only transactions.
+     */
+    public DataSource createNewReadReplicaDataSourceFor(FineractPlatformTenant tenant, FineractPlatformTenantConnection tenantConnection) {
+        return createDataSource(tenant, tenantConnection, true, "_replica_pool");
+    }
+
+    public boolean hasReadReplica(FineractPlatformTenantConnection tenantConnection) {
+        return StringUtils.isNotBlank(tenantConnection.getReadOnlySchemaServer());
+    }
+
+    @SuppressFBWarnings(value = "SLF4J_SIGN_ONLY_FORMAT")
+    private DataSource createDataSource(FineractPlatformTenant tenant, FineractPlatformTenantConnection tenantConnection,
+            boolean readOnly, String poolNameSuffix) {
         if (!databasePasswordEncryptor.isMasterPasswordHashValid(tenantConnection.getMasterPasswordHash())) {
             throw new IllegalArgumentException(
                     "Invalid master password on tenant connection %d.".formatted(tenantConnection.getConnectionId()));
@@ -71,7 +88,7 @@ public class DataSourcePerTenantServiceFactory {
         String schemaPassword = tenantConnection.getSchemaPassword();
         String schemaConnectionParameters = tenantConnection.getSchemaConnectionParameters();
         // Properties to ReadOnly case
-        if (fineractProperties.getMode().isReadOnlyMode()) {
+        if (readOnly) {
             schemaServer = StringUtils.defaultIfBlank(tenantConnection.getReadOnlySchemaServer(), schemaServer);
             schemaPort = StringUtils.defaultIfBlank(tenantConnection.getReadOnlySchemaServerPort(), schemaPort);
             schemaName = StringUtils.defaultIfBlank(tenantConnection.getReadOnlySchemaName(), schemaName);
@@ -84,9 +101,9 @@ public class DataSourcePerTenantServiceFactory {
         log.debug("{}", jdbcUrl);
 
         HikariConfig config = new HikariConfig();
-        config.setReadOnly(fineractProperties.getMode().isReadOnlyMode());
+        config.setReadOnly(readOnly);
         config.setJdbcUrl(jdbcUrl);
-        config.setPoolName(schemaName + "_pool");
+        config.setPoolName(schemaName + poolNameSuffix);
         config.setUsername(schemaUsername);
         config.setPassword(databasePasswordEncryptor.decrypt(schemaPassword));
         config.setMinimumIdle(getMinPoolSize(tenantConnection));
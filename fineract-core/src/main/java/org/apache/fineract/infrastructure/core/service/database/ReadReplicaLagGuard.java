@@ -0,0 +1,127 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.service.database;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Decides whether the read replica of a tenant is close enough to the primary database to serve read-only
+ * transactions. The replication lag is measured at most once per
+ * <code>fineract.tenant.read-replica.lag-check-interval</code> for every tenant connection. When the lag is above
+ * <code>fineract.tenant.read-replica.max-lag</code> or cannot be determined, the primary database is used instead.
+ *
+ * The measurement runs outside of any lock; requests arriving while it runs use the previous measurement, or the
+ * primary database before the first one completed.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReadReplicaLagGuard {
+
+    private static final int LAG_QUERY_TIMEOUT_SECONDS = 2;
+    private static final String MYSQL_LAG_QUERY = "SHOW REPLICA STATUS";
+    private static final String POSTGRESQL_LAG_QUERY = "SELECT CASE WHEN NOT pg_is_in_recovery() THEN 0"
+            + " WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0"
+            + " ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END";
+
+    private final FineractProperties fineractProperties;
+    private final DatabaseTypeResolver databaseTypeResolver;
+    private final Map<Long, LagCheck> lagChecks = new ConcurrentHashMap<>();
+    private final Set<Long> measuringKeys = ConcurrentHashMap.newKeySet();
+
+    public boolean isWithinMaxLag(Long tenantConnectionKey, DataSource readReplicaDataSource) {
+        FineractProperties.FineractReadReplicaProperties properties = fineractProperties.getTenant().getReadReplica();
+        LagCheck lagCheck = lagChecks.get(tenantConnectionKey);
+        if (lagCheck == null || lagCheck.isOlderThan(properties.getLagCheckInterval().toNanos())) {
+            // a single request measures, the others keep using the previous measurement meanwhile
+            if (measuringKeys.add(tenantConnectionKey)) {
+                try {
+                    lagCheck = new LagCheck(measureLag(tenantConnectionKey, readReplicaDataSource), System.nanoTime());
+                    lagChecks.put(tenantConnectionKey, lagCheck);
+                } finally {
+                    measuringKeys.remove(tenantConnectionKey);
+                }
+            } else if (lagCheck == null) {
+                // the first measurement is still running, the primary database is safe
+                return false;
+            }
+        }
+        return lagCheck.lag() != null && lagCheck.lag().compareTo(properties.getMaxLag()) <= 0;
+    }
+
+    /**
+     * Plain JDBC on purpose, a JdbcTemplate would bind the replica connection to the ongoing transaction.
+     */
+    private Duration measureLag(Long tenantConnectionKey, DataSource readReplicaDataSource) {
+        try (Connection connection = readReplicaDataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(LAG_QUERY_TIMEOUT_SECONDS);
+            if (databaseTypeResolver.isPostgreSQL()) {
+                try (ResultSet resultSet = statement.executeQuery(POSTGRESQL_LAG_QUERY)) {
+                    resultSet.next();
+                    return toDuration(resultSet.getBigDecimal(1));
+                }
+            }
+            try (ResultSet resultSet = statement.executeQuery(MYSQL_LAG_QUERY)) {
+                if (!resultSet.next()) {
+                    // not a replica, e.g. the read-only connection points to the primary itself
+                    return Duration.ZERO;
+                }
+                return toDuration(resultSet.getBigDecimal(findSecondsBehindColumn(resultSet)));
+            }
+        } catch (SQLException | RuntimeException e) {
+            log.warn("Could not determine the replication lag of the read replica of tenant connection {}, using the primary database: {}",
+                    tenantConnectionKey, e.getMessage());
+            return null;
+        }
+    }
+
+    private static int findSecondsBehindColumn(ResultSet resultSet) throws SQLException {
+        try {
+            return resultSet.findColumn("Seconds_Behind_Source");
+        } catch (SQLException e) {
+            // MariaDB and MySQL before 8.0.22
+            return resultSet.findColumn("Seconds_Behind_Master");
+        }
+    }
+
+    private static Duration toDuration(BigDecimal seconds) {
+        // NULL means the replication is not running
+        return seconds == null ? null : Duration.ofMillis(seconds.movePointRight(3).longValue());
+    }
+
+    private record LagCheck(Duration lag, long checkedAtNanos) {
+
+        boolean isOlderThan(long intervalNanos) {
+            return System.nanoTime() - checkedAtNanos >= intervalNanos;
+        }
+    }
+}
@@ -26,6 +26,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import javax.sql.DataSource;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
 import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenantConnection;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
@@ -34,12 +35,16 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.ApplicationListener;
 import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * Implementation that returns a new or existing connection pool datasource based on the tenant details stored in a
  * {@link ThreadLocal} variable for this request.
  *
  * {@link ThreadLocalContextUtil} is used to retrieve the {@link FineractPlatformTenant} for the request.
+ *
+ * When <code>fineract.tenant.read-replica.enabled</code> is set on a read-write instance, read-only transactions are
+ * served by the read-only connection of the tenant as long as its replication lag is acceptable.
  */
 @Slf4j
 @Service
@@ -47,11 +52,14 @@ import org.springframework.stereotype.Service;
 public class TomcatJdbcDataSourcePerTenantService implements RoutingDataSourceService, ApplicationListener<ContextRefreshedEvent> {
 
     private static final Map<Long, DataSource> TENANT_TO_DATA_SOURCE_MAP = new ConcurrentHashMap<>();
+    private static final Map<Long, DataSource> TENANT_TO_READ_REPLICA_DATA_SOURCE_MAP = new ConcurrentHashMap<>();
     @Qualifier("hikariTenantDataSource")
     private final DataSource tenantDataSource;
     private final TenantDetailsService tenantDetailsService;
 
     private final DataSourcePerTenantServiceFactory dataSourcePerTenantServiceFactory;
+    private final FineractProperties fineractProperties;
+    private final ReadReplicaLagGuard readReplicaLagGuard;
 
     @Override
     public DataSource retrieveDataSource() {
@@ -62,6 +70,13 @@ public class TomcatJdbcDataSourcePerTenantService implements RoutingDataSourceSe
         if (tenant != null) {
             final FineractPlatformTenantConnection tenantConnection = tenant.getConnection();
             Long tenantConnectionKey = tenantConnection.getConnectionId();
+            if (isReadReplicaRoutingApplicable(tenantConnection)) {
+                DataSource readReplicaDataSource = TENANT_TO_READ_REPLICA_DATA_SOURCE_MAP.computeIfAbsent(tenantConnectionKey,
+                        (key) -> dataSourcePerTenantServiceFactory.createNewReadReplicaDataSourceFor(tenant, tenantConnection));
+                if (readReplicaLagGuard.isWithinMaxLag(tenantConnectionKey, readReplicaDataSource)) {
+                    return readReplicaDataSource;
+                }
+            }
             // if tenantConnection information available switch to the
             // appropriate datasource for that tenant.
             actualDataSource = TENANT_TO_DATA_SOURCE_MAP.computeIfAbsent(tenantConnectionKey,
@@ -72,6 +87,13 @@ public class TomcatJdbcDataSourcePerTenantService implements RoutingDataSourceSe
         return actualDataSource;
     }
 
+    private boolean isReadReplicaRoutingApplicable(FineractPlatformTenantConnection tenantConnection) {
+        FineractProperties.FineractReadReplicaProperties readReplica = fineractProperties.getTenant().getReadReplica();
+        return readReplica != null && readReplica.isEnabled() && !fineractProperties.getMode().isReadOnlyMode()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && dataSourcePerTenantServiceFactory.hasReadReplica(tenantConnection);
+    }
+
     @Override
     public void onApplicationEvent(ContextRefreshedEvent event) {
         final List<FineractPlatformTenant> allTenants = tenantDetailsService.findAllTenants();
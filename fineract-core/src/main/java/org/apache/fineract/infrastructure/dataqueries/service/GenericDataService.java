@@ -18,6 +18,7 @@
  */
 package org.apache.fineract.infrastructure.dataqueries.service;
 
+import java.io.IOException;
 import java.util.List;
 import org.apache.fineract.infrastructure.dataqueries.data.GenericResultsetData;
 import org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData;
@@ -27,6 +28,24 @@ public interface GenericDataService {
 
     GenericResultsetData fillGenericResultSet(String sql);
 
+    /**
+     * Reads the result of the sql through a forward-only cursor and hands over every row to the handler as soon as it is
+     * fetched.
+     *
+     * @param sql
+     *            the query to run
+     * @param fetchSize
+     *            number of rows the driver fetches from the database in one round trip
+     * @param maxRows
+     *            maximum number of rows to read, 0 means no limit
+     * @param handler
+     *            receives the column headers and the rows
+     * @return number of rows handed over
+     * @throws IOException
+     *             if the handler fails to write a row, the query is cancelled in that case
+     */
+    long streamGenericResultSet(String sql, int fetchSize, int maxRows, GenericResultsetStreamHandler handler) throws IOException;
+
     List<ResultsetColumnHeaderData> fillResultsetColumnHeaders(String tableName);
 
     List<ResultsetRowData> fillResultsetRowData(String sql, List<ResultsetColumnHeaderData> columnHeaders);
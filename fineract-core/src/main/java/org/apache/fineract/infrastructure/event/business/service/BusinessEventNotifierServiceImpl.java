@@ -23,9 +23,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Stack;
-import lombok.Getter;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
-import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.domain.FineractContext;
@@ -33,6 +32,7 @@ import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.infrastructure.event.business.BusinessEventListener;
 import org.apache.fineract.infrastructure.event.business.domain.BulkBusinessEvent;
 import org.apache.fineract.infrastructure.event.business.domain.BusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.BusinessEventWithContext;
 import org.apache.fineract.infrastructure.event.business.domain.NoExternalEvent;
 import org.apache.fineract.infrastructure.event.external.service.ExternalEventService;
 import org.springframework.beans.factory.InitializingBean;
@@ -51,6 +51,10 @@ public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierSe
 
     private final Map<Class, List<BusinessEventListener>> preListeners = new HashMap<>();
     private final Map<Class, List<BusinessEventListener>> postListeners = new HashMap<>();
+    // listeners of every raised event class including the ones registered for its super types, rebuilt lazily after a
+    // listener is added
+    private final Map<Class, List<BusinessEventListener>> preListenerDispatchTable = new ConcurrentHashMap<>();
+    private final Map<Class, List<BusinessEventListener>> postListenerDispatchTable = new ConcurrentHashMap<>();
 
     private final ThreadLocal<Boolean> eventRecordingEnabled = ThreadLocal.withInitial(() -> false);
     private final ThreadLocal<List<BusinessEvent<?>>> recordedEvents = ThreadLocal.withInitial(ArrayList::new);
@@ -73,7 +77,8 @@ public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierSe
     @Override
     public void notifyPreBusinessEvent(BusinessEvent<?> businessEvent) {
         throwExceptionIfBulkEvent(businessEvent);
-        List<BusinessEventListener> businessEventListeners = findSuitableListeners(preListeners, businessEvent.getClass());
+        List<BusinessEventListener> businessEventListeners = findSuitableListeners(preListeners, preListenerDispatchTable,
+                businessEvent.getClass());
         for (BusinessEventListener eventListener : businessEventListeners) {
             eventListener.onBusinessEvent(businessEvent);
         }
@@ -87,6 +92,7 @@ public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierSe
             preListeners.put(eventType, businessEventListeners);
         }
         businessEventListeners.add(listener);
+        preListenerDispatchTable.clear();
     }
 
     @Override
@@ -94,7 +100,8 @@ public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierSe
     public void notifyPostBusinessEvent(BusinessEvent<?> businessEvent) {
         throwExceptionIfBulkEvent(businessEvent);
         boolean isExternalEvent = !(businessEvent instanceof NoExternalEvent);
-        List<BusinessEventListener> businessEventListeners = findSuitableListeners(postListeners, businessEvent.getClass());
+        List<BusinessEventListener> businessEventListeners = findSuitableListeners(postListeners, postListenerDispatchTable,
+                businessEvent.getClass());
         for (BusinessEventListener eventListener : businessEventListeners) {
             eventListener.onBusinessEvent(businessEvent);
         }
@@ -114,7 +121,12 @@ public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierSe
         }
     }
 
-    private List<BusinessEventListener> findSuitableListeners(Map<Class, List<BusinessEventListener>> listeners, Class<?> eventClazz) {
+    private List<BusinessEventListener> findSuitableListeners(Map<Class, List<BusinessEventListener>> listeners,
+            Map<Class, List<BusinessEventListener>> dispatchTable, Class<?> eventClazz) {
+        return dispatchTable.computeIfAbsent(eventClazz, clazz -> collectSuitableListeners(listeners, clazz));
+    }
+
+    private List<BusinessEventListener> collectSuitableListeners(Map<Class, List<BusinessEventListener>> listeners, Class<?> eventClazz) {
         List<BusinessEventListener> result = new ArrayList<>();
         for (Map.Entry<Class, List<BusinessEventListener>> entry : listeners.entrySet()) {
             Class<?> registeredClazz = entry.getKey();
@@ -122,7 +134,7 @@ public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierSe
                 result.addAll(entry.getValue());
             }
         }
-        return result;
+        return List.copyOf(result);
     }
 
     @Override
@@ -133,6 +145,7 @@ public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierSe
             postListeners.put(eventType, businessEventListeners);
         }
         businessEventListeners.add(listener);
+        postListenerDispatchTable.clear();
     }
 
     private boolean isExternalEventRecordingEnabled() {
@@ -204,24 +217,7 @@ public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierSe
         if (businessEventWithContexts.isEmpty()) {
             return;
         }
-        final FineractContext originalContext = ThreadLocalContextUtil.getContext();
-        businessEventWithContexts.forEach(businessEventWithContext -> {
-            final FineractContext currentContext = businessEventWithContext.getFineractContext();
-            boolean swappedContext = false;
-            try {
-                if (!originalContext.equals(currentContext)) {
-                    swappedContext = true;
-                    ThreadLocalContextUtil.init(currentContext);
-                }
-                externalEventService.postEvent(businessEventWithContext.getEvent());
-            } finally {
-                // Back to original context if we swapped it. We should restore the original context rather than reset
-                // it completely
-                if (swappedContext) {
-                    ThreadLocalContextUtil.init(originalContext);
-                }
-            }
-        });
+        externalEventService.postEvents(businessEventWithContexts);
     }
 
     @Override
@@ -233,17 +229,4 @@ public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierSe
     public void afterRollback(TransactionExecution transaction, Throwable rollbackFailure) {
         cleanup();
     }
-
-    @Getter
-    @Setter
-    private static final class BusinessEventWithContext {
-
-        private BusinessEvent<?> event;
-        private FineractContext fineractContext;
-
-        BusinessEventWithContext(BusinessEvent<?> event, FineractContext fineractContext) {
-            this.event = event;
-            this.fineractContext = fineractContext;
-        }
-    }
 }
@@ -0,0 +1,47 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.data;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventStatus;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventView;
+
+/**
+ * Detached copy of a queued external event, read with a constructor expression so no managed entity or lazily loaded
+ * payload is handed to other threads.
+ */
+@Getter
+@AllArgsConstructor
+public class ExternalEventData implements ExternalEventView {
+
+    private final Long id;
+    private final String type;
+    private final String category;
+    private final String schema;
+    private final byte[] data;
+    private final OffsetDateTime createdAt;
+    private final ExternalEventStatus status;
+    private final OffsetDateTime sentAt;
+    private final String idempotencyKey;
+    private final LocalDate businessDate;
+    private final Long aggregateRootId;
+}
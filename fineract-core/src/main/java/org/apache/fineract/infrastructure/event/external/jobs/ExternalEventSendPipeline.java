@@ -0,0 +1,182 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.jobs;
+
+import static java.util.stream.Collectors.groupingBy;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.domain.FineractContext;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.event.external.data.ExternalEventData;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Sends the queued external events through overlapping stages: while a batch is being produced, the next batches are
+ * already read and serialized (in parallel per aggregate root) and the previous batch is marked as sent. The stages
+ * are connected by a bounded window of in-flight batches.
+ *
+ * Batches are produced strictly one after the other, which keeps the order of the events of an aggregate root. Once a
+ * batch could not be produced none of the later batches is produced either, they stay queued for the next run.
+ *
+ * The reader runs on the calling thread and must return detached {@link ExternalEventData}, the serialization threads
+ * only see plain values and never touch the persistence context of the caller.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ExternalEventSendPipeline {
+
+    private final int batchSize;
+    private final int maxInFlightBatches;
+    private final int serializationParallelism;
+    /**
+     * Reads the batch following the given event, or the first batch when it is <code>null</code>, as detached data
+     */
+    private final Function<ExternalEventData, List<ExternalEventData>> batchReader;
+    private final Function<List<ExternalEventData>, List<byte[]>> serializer;
+    private final Consumer<Map<Long, List<byte[]>>> producer;
+    private final Consumer<List<Long>> markAsSent;
+    private final Executor serializationExecutor;
+    private final ExternalEventSendPipelineMetrics metrics;
+
+    /**
+     * @return the number of events sent and marked as sent
+     */
+    public long run() {
+        final long startedAt = System.nanoTime();
+        final FineractContext context = ThreadLocalContextUtil.getContext();
+        final ThreadPoolTaskExecutor sendExecutor = singleThreadExecutor("external-events-send-");
+        final ThreadPoolTaskExecutor markExecutor = singleThreadExecutor("external-events-mark-");
+        final Deque<CompletableFuture<Integer>> inFlight = new ArrayDeque<>();
+        long sentEvents = 0;
+        try {
+            CompletableFuture<Void> previousSend = CompletableFuture.completedFuture(null);
+            ExternalEventData lastRead = null;
+            while (!previousSend.isCompletedExceptionally()) {
+                while (inFlight.size() >= maxInFlightBatches) {
+                    sentEvents += awaitBatch(inFlight.removeFirst());
+                }
+                final List<ExternalEventData> batch = batchReader.apply(lastRead);
+                if (batch.isEmpty()) {
+                    break;
+                }
+                lastRead = batch.get(batch.size() - 1);
+                metrics.batchStarted();
+
+                final CompletableFuture<Map<Long, List<byte[]>>> serialized = serialize(batch, context);
+                final CompletableFuture<Void> send = previousSend.thenCombineAsync(serialized, (ignored, partitions) -> {
+                    runWithContext(context, () -> producer.accept(partitions));
+                    return null;
+                }, sendExecutor);
+                final List<Long> eventIds = batch.stream().map(ExternalEventData::getId).toList();
+                final ExternalEventData latestEvent = lastRead;
+                inFlight.addLast(send.thenApplyAsync(ignored -> {
+                    runWithContext(context, () -> markAsSent.accept(eventIds));
+                    metrics.eventsSent(eventIds.size(), latestEvent.getCreatedAt());
+                    return eventIds.size();
+                }, markExecutor).whenComplete((count, error) -> metrics.batchFinished()));
+                previousSend = send;
+
+                if (batch.size() < batchSize) {
+                    break;
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                sentEvents += awaitBatch(inFlight.removeFirst());
+            }
+        } finally {
+            sendExecutor.shutdown();
+            markExecutor.shutdown();
+        }
+        metrics.runFinished(sentEvents, Duration.ofNanos(System.nanoTime() - startedAt));
+        return sentEvents;
+    }
+
+    private CompletableFuture<Map<Long, List<byte[]>>> serialize(List<ExternalEventData> batch, FineractContext context) {
+        final Map<Long, List<ExternalEventData>> partitions = batch.stream()
+                .collect(groupingBy(event -> event.getAggregateRootId() == null ? -1L : event.getAggregateRootId()));
+        // one task per slice of aggregate roots keeps the number of tasks bounded regardless of the batch
+        final List<List<Long>> slices = new ArrayList<>();
+        int i = 0;
+        for (Long aggregateRootId : partitions.keySet()) {
+            if (slices.size() < serializationParallelism) {
+                slices.add(new ArrayList<>());
+            }
+            slices.get(i++ % serializationParallelism).add(aggregateRootId);
+        }
+        final List<CompletableFuture<Map<Long, List<byte[]>>>> tasks = slices.stream()
+                .map(slice -> CompletableFuture.supplyAsync(() -> withContext(context, () -> {
+                    final Map<Long, List<byte[]>> messages = new HashMap<>();
+                    slice.forEach(aggregateRootId -> messages.put(aggregateRootId, serializer.apply(partitions.get(aggregateRootId))));
+                    return messages;
+                }), serializationExecutor)).toList();
+        return CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new)).thenApply(ignored -> {
+            final Map<Long, List<byte[]>> messages = new HashMap<>();
+            tasks.forEach(task -> messages.putAll(task.join()));
+            return messages;
+        });
+    }
+
+    private long awaitBatch(CompletableFuture<Integer> batch) {
+        try {
+            return batch.join();
+        } catch (CompletionException e) {
+            log.error("Error occurred while sending a batch of events, the remaining events are sent on the next run", e.getCause());
+            return 0;
+        }
+    }
+
+    private static void runWithContext(FineractContext context, Runnable task) {
+        withContext(context, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    private static <T> T withContext(FineractContext context, Supplier<T> task) {
+        try {
+            ThreadLocalContextUtil.init(context);
+            return task.get();
+        } finally {
+            ThreadLocalContextUtil.reset();
+        }
+    }
+
+    private static ThreadPoolTaskExecutor singleThreadExecutor(String threadNamePrefix) {
+        final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.initialize();
+        return executor;
+    }
+}
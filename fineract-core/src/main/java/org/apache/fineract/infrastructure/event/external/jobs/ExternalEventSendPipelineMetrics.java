@@ -0,0 +1,75 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.jobs;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * Gauges of the pipelined external event sending: the in-flight batches, the events sent, the throughput of the
+ * latest run and the lag between the creation of the latest sent event and its acknowledgement.
+ */
+@Component
+public class ExternalEventSendPipelineMetrics {
+
+    private final AtomicInteger inFlightBatches = new AtomicInteger();
+    private final AtomicLong sentEvents = new AtomicLong();
+    private final AtomicLong throughput = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    public ExternalEventSendPipelineMetrics(Optional<MeterRegistry> meterRegistry) {
+        meterRegistry.ifPresent(registry -> {
+            Gauge.builder("fineract.external.events.pipeline.in.flight.batches", inFlightBatches, AtomicInteger::get)
+                    .description("Batches of external events read but not yet marked as sent").register(registry);
+            FunctionCounter.builder("fineract.external.events.pipeline.sent", sentEvents, AtomicLong::get)
+                    .description("External events sent and marked as sent by the pipeline").register(registry);
+            Gauge.builder("fineract.external.events.pipeline.throughput", throughput, AtomicLong::get).baseUnit("events/s")
+                    .description("Events per second sent by the latest pipeline run").register(registry);
+            Gauge.builder("fineract.external.events.pipeline.lag", lagMillis, value -> value.get() / 1000.0).baseUnit("seconds")
+                    .description("Time between the creation and the acknowledgement of the latest sent event").register(registry);
+        });
+    }
+
+    void batchStarted() {
+        inFlightBatches.incrementAndGet();
+    }
+
+    void batchFinished() {
+        inFlightBatches.decrementAndGet();
+    }
+
+    void eventsSent(int count, OffsetDateTime latestCreatedAt) {
+        sentEvents.addAndGet(count);
+        if (latestCreatedAt != null) {
+            lagMillis.set(Duration.between(latestCreatedAt, DateUtils.getAuditOffsetDateTime()).toMillis());
+        }
+    }
+
+    void runFinished(long events, Duration elapsed) {
+        throughput.set(elapsed.toMillis() == 0 ? events : events * 1000 / elapsed.toMillis());
+    }
+}
@@ -23,6 +23,8 @@ import static java.util.stream.Collectors.toMap;
 import static org.apache.fineract.infrastructure.core.diagnostics.performance.MeasuringUtil.measure;
 
 import com.google.common.collect.Lists;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.time.OffsetDateTime;
@@ -40,6 +42,7 @@ import org.apache.fineract.infrastructure.core.domain.FineractContext;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.infrastructure.event.external.config.TaskExecutorConstant;
+import org.apache.fineract.infrastructure.event.external.data.ExternalEventData;
 import org.apache.fineract.infrastructure.event.external.producer.ExternalEventProducer;
 import org.apache.fineract.infrastructure.event.external.repository.ExternalEventRepository;
 import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventStatus;
@@ -71,14 +74,22 @@ public class SendAsynchronousEventsTasklet implements Tasklet {
     private final TransactionTemplate transactionTemplate;
     @Qualifier(TaskExecutorConstant.EVENT_MARKS_AS_SENT_EXECUTOR_BEAN_NAME)
     private final ThreadPoolTaskExecutor threadPoolTaskExecutor;
+    private final ExternalEventSendPipelineMetrics pipelineMetrics;
+
+    private EntityManager entityManager;
 
     @Override
     public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
         try {
             if (isDownstreamChannelEnabled()) {
-                List<ExternalEventView> events = getQueuedEventsBatch();
-                log.debug("Queued events size: {}", events.size());
-                sendEvents(events);
+                if (isPipelineEnabled()) {
+                    long sentEvents = createPipeline().run();
+                    log.debug("Sent events size: {}", sentEvents);
+                } else {
+                    List<ExternalEventView> events = getQueuedEventsBatch();
+                    log.debug("Queued events size: {}", events.size());
+                    sendEvents(events);
+                }
             }
         } catch (Exception e) {
             log.error("Error occurred while processing events: ", e);
@@ -91,6 +102,31 @@ public class SendAsynchronousEventsTasklet implements Tasklet {
                 || fineractProperties.getEvents().getExternal().getProducer().getKafka().isEnabled();
     }
 
+    private boolean isPipelineEnabled() {
+        FineractProperties.FineractExternalEventsPipelineProperties pipeline = fineractProperties.getEvents().getExternal().getPipeline();
+        return pipeline != null && pipeline.isEnabled();
+    }
+
+    private ExternalEventSendPipeline createPipeline() {
+        FineractProperties.FineractExternalEventsPipelineProperties pipeline = fineractProperties.getEvents().getExternal().getPipeline();
+        int readBatchSize = getBatchSize();
+        Pageable batchSize = PageRequest.ofSize(readBatchSize);
+        return new ExternalEventSendPipeline(readBatchSize, pipeline.getMaxInFlightBatches(), pipeline.getSerializationParallelism(),
+                lastRead -> readQueuedEventsData(lastRead, batchSize), this::createMessages, this::sendEventsToProducer,
+                this::markEventsAsSent, threadPoolTaskExecutor, pipelineMetrics);
+    }
+
+    private List<ExternalEventData> readQueuedEventsData(ExternalEventData lastRead, Pageable batchSize) {
+        List<ExternalEventData> events = measure(() -> lastRead == null
+                ? repository.findDataByStatusOrderByBusinessDateAscIdAsc(ExternalEventStatus.TO_BE_SENT, batchSize)
+                : repository.findDataByStatusAfterOrderByBusinessDateAscIdAsc(ExternalEventStatus.TO_BE_SENT, lastRead.getBusinessDate(),
+                        lastRead.getId(), batchSize),
+                (batch, timeTaken) -> log.debug("Loaded {} events in {}ms", batch.size(), timeTaken.toMillis()));
+        // the whole backlog is read in the step transaction, nothing may pile up in its persistence context
+        entityManager.clear();
+        return events;
+    }
+
     private List<ExternalEventView> getQueuedEventsBatch() {
         int readBatchSize = getBatchSize();
         Pageable batchSize = PageRequest.ofSize(readBatchSize);
@@ -161,7 +197,7 @@ public class SendAsynchronousEventsTasklet implements Tasklet {
         return partitions;
     }
 
-    private List<byte[]> createMessages(List<ExternalEventView> events) {
+    private List<byte[]> createMessages(List<? extends ExternalEventView> events) {
         try {
             List<byte[]> messages = new ArrayList<>();
             for (ExternalEventView event : events) {
@@ -183,4 +219,8 @@ public class SendAsynchronousEventsTasklet implements Tasklet {
         return externalEventBatchSize.intValue();
     }
 
+    @PersistenceContext
+    public void setEntityManager(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
 }
@@ -21,6 +21,7 @@ package org.apache.fineract.infrastructure.event.external.repository;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.util.List;
+import org.apache.fineract.infrastructure.event.external.data.ExternalEventData;
 import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEvent;
 import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventStatus;
 import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventView;
@@ -35,6 +36,23 @@ public interface ExternalEventRepository extends JpaRepository<ExternalEvent, Lo
 
     List<ExternalEventView> findByStatusOrderByBusinessDateAscIdAsc(ExternalEventStatus status, Pageable batchSize);
 
+    @Query("""
+            select new org.apache.fineract.infrastructure.event.external.data.ExternalEventData(e.id, e.type, e.category, e.schema,
+                e.data, e.createdAt, e.status, e.sentAt, e.idempotencyKey, e.businessDate, e.aggregateRootId)
+            from ExternalEvent e where e.status = :status order by e.businessDate asc, e.id asc
+            """)
+    List<ExternalEventData> findDataByStatusOrderByBusinessDateAscIdAsc(@Param("status") ExternalEventStatus status, Pageable batchSize);
+
+    @Query("""
+            select new org.apache.fineract.infrastructure.event.external.data.ExternalEventData(e.id, e.type, e.category, e.schema,
+                e.data, e.createdAt, e.status, e.sentAt, e.idempotencyKey, e.businessDate, e.aggregateRootId)
+            from ExternalEvent e where e.status = :status
+                and (e.businessDate > :businessDate or (e.businessDate = :businessDate and e.id > :id))
+            order by e.businessDate asc, e.id asc
+            """)
+    List<ExternalEventData> findDataByStatusAfterOrderByBusinessDateAscIdAsc(@Param("status") ExternalEventStatus status,
+            @Param("businessDate") LocalDate businessDate, @Param("id") Long id, Pageable batchSize);
+
     @Modifying(flushAutomatically = true)
     @Query("delete from ExternalEvent e where e.status = :status and e.businessDate <= :dateForPurgeCriteria")
     void deleteOlderEventsWithSentStatus(@Param("status") ExternalEventStatus status,
@@ -22,6 +22,8 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.sql.PreparedStatement;
+import java.sql.Types;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -29,9 +31,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.avro.BulkMessageItemV1;
 import org.apache.fineract.avro.BulkMessagePayloadV1;
 import org.apache.fineract.avro.generator.ByteBufferSerializable;
+import org.apache.fineract.infrastructure.core.domain.FineractContext;
 import org.apache.fineract.infrastructure.core.service.DataEnricherProcessor;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
 import org.apache.fineract.infrastructure.event.business.domain.BulkBusinessEvent;
 import org.apache.fineract.infrastructure.event.business.domain.BusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.BusinessEventWithContext;
 import org.apache.fineract.infrastructure.event.external.repository.ExternalEventRepository;
 import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEvent;
 import org.apache.fineract.infrastructure.event.external.service.idempotency.ExternalEventIdempotencyKeyGenerator;
@@ -39,6 +45,7 @@ import org.apache.fineract.infrastructure.event.external.service.message.BulkMes
 import org.apache.fineract.infrastructure.event.external.service.serialization.serializer.BusinessEventSerializer;
 import org.apache.fineract.infrastructure.event.external.service.serialization.serializer.BusinessEventSerializerFactory;
 import org.apache.fineract.infrastructure.event.external.service.support.ByteBufferConverter;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -54,6 +61,8 @@ public class ExternalEventService {
     private final ByteBufferConverter byteBufferConverter;
     private final BulkMessageItemFactory bulkMessageItemFactory;
     private final DataEnricherProcessor dataEnricherProcessor;
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseSpecificSQLGenerator sqlGenerator;
 
     private EntityManager entityManager;
 
@@ -62,21 +71,71 @@ public class ExternalEventService {
             throw new IllegalArgumentException("event cannot be null");
         }
 
+        flushChangesBeforeSerialization();
+        ExternalEvent externalEvent = createExternalEvent(event);
+        repository.save(externalEvent);
+        log.debug("Saved message with idempotency key: [{}] of type [{}] and category [{}]", externalEvent.getIdempotencyKey(),
+                externalEvent.getType(), externalEvent.getCategory());
+    }
+
+    /**
+     * Stores the events queued by a transaction in one go: pending changes are flushed once, every event is serialized
+     * in the context it was raised in and the rows are inserted with a single JDBC batch.
+     */
+    public void postEvents(List<BusinessEventWithContext> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        flushChangesBeforeSerialization();
+        final FineractContext originalContext = ThreadLocalContextUtil.getContext();
+        final List<ExternalEvent> externalEvents = new ArrayList<>(events.size());
+        for (BusinessEventWithContext eventWithContext : events) {
+            final FineractContext currentContext = eventWithContext.fineractContext();
+            boolean swappedContext = false;
+            try {
+                if (!originalContext.equals(currentContext)) {
+                    swappedContext = true;
+                    ThreadLocalContextUtil.init(currentContext);
+                }
+                externalEvents.add(createExternalEvent(eventWithContext.event()));
+            } finally {
+                // Back to original context if we swapped it. We should restore the original context rather than reset
+                // it completely
+                if (swappedContext) {
+                    ThreadLocalContextUtil.init(originalContext);
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate(getInsertSql(), externalEvents, externalEvents.size(), (PreparedStatement ps, ExternalEvent event) -> {
+            ps.setString(1, event.getType());
+            ps.setString(2, event.getCategory());
+            ps.setString(3, event.getSchema());
+            ps.setBytes(4, event.getData());
+            ps.setObject(5, event.getCreatedAt());
+            ps.setString(6, event.getStatus().name());
+            ps.setString(7, event.getIdempotencyKey());
+            ps.setObject(8, event.getBusinessDate());
+            ps.setObject(9, event.getAggregateRootId(), Types.BIGINT);
+        });
+        log.debug("Saved {} messages with a single batch", externalEvents.size());
+    }
+
+    private ExternalEvent createExternalEvent(BusinessEvent<?> event) {
         try {
-            flushChangesBeforeSerialization();
-            ExternalEvent externalEvent;
             if (event instanceof BulkBusinessEvent) {
-                externalEvent = handleBulkBusinessEvent((BulkBusinessEvent) event);
+                return handleBulkBusinessEvent((BulkBusinessEvent) event);
             } else {
-                externalEvent = handleRegularBusinessEvent(event);
+                return handleRegularBusinessEvent(event);
             }
-            repository.save(externalEvent);
-            log.debug("Saved message with idempotency key: [{}] of type [{}] and category [{}]", externalEvent.getIdempotencyKey(),
-                    externalEvent.getType(), externalEvent.getCategory());
         } catch (IOException e) {
             throw new RuntimeException("Error while serializing event " + event.getClass().getSimpleName(), e);
         }
+    }
 
+    private String getInsertSql() {
+        return "INSERT INTO m_external_event (type, category, " + sqlGenerator.escape("schema")
+                + ", data, created_at, status, idempotency_key, business_date, aggregate_root_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
     }
 
     private ExternalEvent handleBulkBusinessEvent(BulkBusinessEvent bulkBusinessEvent) throws IOException {
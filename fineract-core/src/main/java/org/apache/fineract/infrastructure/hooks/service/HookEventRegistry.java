@@ -0,0 +1,33 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.hooks.service;
+
+/**
+ * Knows which entity/action pairs the active hooks of the current tenant are listening to, so the hook payload of a
+ * command is only built when somebody is going to receive it.
+ */
+public interface HookEventRegistry {
+
+    boolean hasHooksListeningTo(String entityName, String actionName);
+
+    /**
+     * Forgets the registered events of the current tenant, they are reloaded on the next lookup.
+     */
+    void invalidate();
+}
@@ -0,0 +1,210 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.organisation.holiday.service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import net.fortuna.ical4j.model.Recur;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.organisation.holiday.domain.Holiday;
+import org.apache.fineract.organisation.workingdays.domain.WorkingDays;
+import org.apache.fineract.organisation.workingdays.service.WorkingDaysUtil;
+import org.apache.fineract.portfolio.calendar.service.CalendarUtils;
+
+/**
+ * Precomputed business calendar of one office: which dates of a horizon are non-working days and which active holiday
+ * applies to them. Answers the same questions as {@link WorkingDaysUtil#isNonWorkingDay(WorkingDays, LocalDate)} and
+ * {@link HolidayUtil#getApplicableHoliday(LocalDate, List)} without evaluating the working day recurrence rule or
+ * scanning the holidays for every date. Dates outside of the horizon fall back to those methods.
+ * <p>
+ * Instances are immutable and shared between threads. The holidays and working days they hold are detached copies, they
+ * are never part of a persistence context.
+ */
+public final class BusinessCalendarIndex {
+
+    private final LocalDate horizonStart;
+    private final int horizonDays;
+    private final WorkingDays workingDays;
+    private final boolean sevenDayWeek;
+    private final BitSet nonWorkingDays;
+    private final List<Holiday> holidays;
+    // position + 1 of the applicable holiday for every date of the horizon, 0 if none applies
+    private final int[] holidayByDay;
+
+    private BusinessCalendarIndex(LocalDate horizonStart, int horizonDays, WorkingDays workingDays, boolean sevenDayWeek,
+            BitSet nonWorkingDays, List<Holiday> holidays) {
+        this.horizonStart = horizonStart;
+        this.horizonDays = horizonDays;
+        this.workingDays = workingDays;
+        this.sevenDayWeek = sevenDayWeek;
+        this.nonWorkingDays = nonWorkingDays;
+        this.holidays = holidays;
+        this.holidayByDay = holidays.isEmpty() ? null : indexHolidays(horizonStart, horizonDays, holidays);
+    }
+
+    /**
+     * Builds the calendar of one office.
+     *
+     * @param workingDays
+     *            the working days of the tenant, a detached copy as returned by {@link WorkingDaysCalendar#workingDays()}
+     * @param activeHolidays
+     *            the active holidays of the office, they are copied
+     */
+    public static BusinessCalendarIndex build(WorkingDaysCalendar workingDays, List<Holiday> activeHolidays) {
+        List<Holiday> holidays = new ArrayList<>(activeHolidays.size());
+        for (Holiday holiday : activeHolidays) {
+            holidays.add(copyOf(holiday));
+        }
+        // the repository query is not ordered, ids keep overlapping holidays resolving the same way on every build
+        holidays.sort(Comparator.comparing(Holiday::getId, Comparator.nullsLast(Comparator.naturalOrder())));
+        return new BusinessCalendarIndex(workingDays.horizonStart(), workingDays.horizonDays(), workingDays.workingDays(),
+                workingDays.sevenDayWeek(), workingDays.nonWorkingDays(), List.copyOf(holidays));
+    }
+
+    /**
+     * Evaluates the working day recurrence rule of the tenant once for every date of the horizon.
+     */
+    public static WorkingDaysCalendar buildWorkingDays(WorkingDays workingDays, LocalDate horizonStart, int horizonDays) {
+        WorkingDays copy = copyOf(workingDays);
+        Recur recur = CalendarUtils.getICalRecur(copy.getRecurrence());
+        boolean sevenDayWeek = recur != null && recur.getDayList().size() == 7;
+        BitSet nonWorkingDays = new BitSet(horizonDays);
+        if (recur != null && Recur.Frequency.WEEKLY.equals(recur.getFrequency()) && recur.getInterval() <= 1) {
+            // every week looks the same, evaluate the rule once per day of the week
+            boolean[] nonWorkingDayOfWeek = new boolean[7];
+            for (int i = 0; i < 7; i++) {
+                LocalDate date = horizonStart.plusDays(i);
+                nonWorkingDayOfWeek[date.getDayOfWeek().getValue() - 1] = WorkingDaysUtil.isNonWorkingDay(copy, date);
+            }
+            for (int i = 0; i < horizonDays; i++) {
+                if (nonWorkingDayOfWeek[horizonStart.plusDays(i).getDayOfWeek().getValue() - 1]) {
+                    nonWorkingDays.set(i);
+                }
+            }
+        } else {
+            for (int i = 0; i < horizonDays; i++) {
+                if (WorkingDaysUtil.isNonWorkingDay(copy, horizonStart.plusDays(i))) {
+                    nonWorkingDays.set(i);
+                }
+            }
+        }
+        return new WorkingDaysCalendar(horizonStart, horizonDays, copy, sevenDayWeek, nonWorkingDays);
+    }
+
+    public boolean isNonWorkingDay(LocalDate date) {
+        int day = dayOf(date);
+        return day < 0 ? WorkingDaysUtil.isNonWorkingDay(workingDays, date) : nonWorkingDays.get(day);
+    }
+
+    public Holiday getApplicableHoliday(LocalDate date) {
+        if (holidayByDay == null) {
+            return null;
+        }
+        int day = dayOf(date);
+        if (day < 0) {
+            return HolidayUtil.getApplicableHoliday(date, holidays);
+        }
+        int position = holidayByDay[day];
+        return position == 0 ? null : holidays.get(position - 1);
+    }
+
+    public boolean isSevenDayWeek() {
+        return sevenDayWeek;
+    }
+
+    /**
+     * @return the holidays which end on or after the given date, the same selection as
+     *         {@code HolidayRepository#findByOfficeIdAndGreaterThanDate}
+     */
+    public List<Holiday> getHolidaysFrom(LocalDate date) {
+        List<Holiday> result = new ArrayList<>();
+        if (date == null) {
+            return result;
+        }
+        for (Holiday holiday : holidays) {
+            if (!DateUtils.isBefore(holiday.getToDate(), date)) {
+                result.add(holiday);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return a new copy of the working days, schedule generators may change the rescheduling type of it
+     */
+    public WorkingDays newWorkingDays() {
+        return copyOf(workingDays);
+    }
+
+    public LocalDate getHorizonStart() {
+        return horizonStart;
+    }
+
+    public int getHolidayCount() {
+        return holidays.size();
+    }
+
+    private int dayOf(LocalDate date) {
+        if (date == null) {
+            return -1;
+        }
+        long day = ChronoUnit.DAYS.between(horizonStart, date);
+        return day < 0 || day >= horizonDays ? -1 : (int) day;
+    }
+
+    private static int[] indexHolidays(LocalDate horizonStart, int horizonDays, List<Holiday> holidays) {
+        int[] holidayByDay = new int[horizonDays];
+        // walk backwards so the first holiday of the list wins, like HolidayUtil#getApplicableHoliday
+        for (int position = holidays.size(); position > 0; position--) {
+            Holiday holiday = holidays.get(position - 1);
+            long from = Math.max(0L, ChronoUnit.DAYS.between(horizonStart, holiday.getFromDate()));
+            long to = Math.min(horizonDays - 1L, ChronoUnit.DAYS.between(horizonStart, holiday.getToDate()));
+            for (long day = from; day <= to; day++) {
+                holidayByDay[(int) day] = position;
+            }
+        }
+        return holidayByDay;
+    }
+
+    private static Holiday copyOf(Holiday holiday) {
+        Holiday copy = new Holiday().setName(holiday.getName()).setFromDate(holiday.getFromDate()).setToDate(holiday.getToDate())
+                .setRepaymentsRescheduledTo(holiday.getRepaymentsRescheduledTo()).setReschedulingType(holiday.getReschedulingType())
+                .setStatus(holiday.getStatus()).setProcessed(holiday.isProcessed()).setDescription(holiday.getDescription());
+        copy.setId(holiday.getId());
+        return copy;
+    }
+
+    private static WorkingDays copyOf(WorkingDays workingDays) {
+        WorkingDays copy = new WorkingDays(workingDays.getRecurrence(), workingDays.getRepaymentReschedulingType(),
+                workingDays.getExtendTermForDailyRepayments(), workingDays.getExtendTermForRepaymentsOnHolidays());
+        copy.setId(workingDays.getId());
+        return copy;
+    }
+
+    /**
+     * The non-working days of a tenant over a horizon, shared by the calendars of all of its offices.
+     */
+    public record WorkingDaysCalendar(LocalDate horizonStart, int horizonDays, WorkingDays workingDays, boolean sevenDayWeek,
+            BitSet nonWorkingDays) {
+    }
+}
@@ -19,6 +19,7 @@
 package org.apache.fineract.organisation.workingdays.service;
 
 import java.time.LocalDate;
+import java.util.function.Predicate;
 import org.apache.fineract.organisation.workingdays.data.AdjustedDateDetailsDTO;
 import org.apache.fineract.organisation.workingdays.domain.RepaymentRescheduleType;
 import org.apache.fineract.organisation.workingdays.domain.WorkingDays;
@@ -32,9 +33,18 @@ public final class WorkingDaysUtil {
 
     public static LocalDate getOffSetDateIfNonWorkingDay(final LocalDate date, final LocalDate nextMeetingDate,
             final WorkingDays workingDays) {
+        return getOffSetDateIfNonWorkingDay(date, nextMeetingDate, workingDays, d -> isNonWorkingDay(workingDays, d));
+    }
+
+    /**
+     * Same as {@link #getOffSetDateIfNonWorkingDay(LocalDate, LocalDate, WorkingDays)}, with non-working days decided by
+     * the given predicate, e.g. a precomputed business calendar.
+     */
+    public static LocalDate getOffSetDateIfNonWorkingDay(final LocalDate date, final LocalDate nextMeetingDate,
+            final WorkingDays workingDays, final Predicate<LocalDate> nonWorkingDay) {
 
         // If date is a working day then return date.
-        if (isWorkingDay(workingDays, date)) {
+        if (!nonWorkingDay.test(date)) {
             return date;
         }
 
@@ -46,11 +56,11 @@ public final class WorkingDaysUtil {
             case SAME_DAY:
                 return date;
             case MOVE_TO_NEXT_WORKING_DAY:
-                return getOffSetDateIfNonWorkingDay(date.plusDays(1), nextMeetingDate, workingDays);
+                return getOffSetDateIfNonWorkingDay(date.plusDays(1), nextMeetingDate, workingDays, nonWorkingDay);
             case MOVE_TO_NEXT_REPAYMENT_MEETING_DAY:
                 return nextMeetingDate;
             case MOVE_TO_PREVIOUS_WORKING_DAY:
-                return getOffSetDateIfNonWorkingDay(date.minusDays(1), nextMeetingDate, workingDays);
+                return getOffSetDateIfNonWorkingDay(date.minusDays(1), nextMeetingDate, workingDays, nonWorkingDay);
             default:
                 return date;
         }
@@ -66,8 +76,13 @@ public final class WorkingDaysUtil {
 
     public static void updateWorkingDayIfRepaymentDateIsNonWorkingDay(final AdjustedDateDetailsDTO adjustedDateDetailsDTO,
             final WorkingDays workingDays) {
+        updateWorkingDayIfRepaymentDateIsNonWorkingDay(adjustedDateDetailsDTO, workingDays, d -> isNonWorkingDay(workingDays, d));
+    }
+
+    public static void updateWorkingDayIfRepaymentDateIsNonWorkingDay(final AdjustedDateDetailsDTO adjustedDateDetailsDTO,
+            final WorkingDays workingDays, final Predicate<LocalDate> nonWorkingDay) {
         final LocalDate changedScheduleDate = getOffSetDateIfNonWorkingDay(adjustedDateDetailsDTO.getChangedScheduleDate(),
-                adjustedDateDetailsDTO.getNextRepaymentPeriodDueDate(), workingDays);
+                adjustedDateDetailsDTO.getNextRepaymentPeriodDueDate(), workingDays, nonWorkingDay);
         adjustedDateDetailsDTO.setChangedScheduleDate(changedScheduleDate);
     }
 
@@ -34,19 +34,24 @@ import io.github.resilience4j.retry.RetryRegistry;
 import jakarta.persistence.EntityManager;
 import jakarta.ws.rs.core.UriInfo;
 import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.apache.fineract.batch.command.CommandStrategy;
 import org.apache.fineract.batch.command.CommandStrategyProvider;
 import org.apache.fineract.batch.domain.BatchRequest;
 import org.apache.fineract.batch.domain.BatchResponse;
 import org.apache.fineract.batch.exception.ErrorInfo;
 import org.apache.fineract.commands.configuration.RetryConfigurationAssembler;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.domain.FineractRequestContextHolder;
 import org.apache.fineract.infrastructure.core.exception.ErrorHandler;
 import org.apache.fineract.infrastructure.core.filters.BatchRequestPreprocessor;
 import org.apache.fineract.infrastructure.core.persistence.ExtendedJpaTransactionManager;
 import org.apache.fineract.infrastructure.core.serialization.FromJsonHelper;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -56,6 +61,7 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.support.DefaultTransactionStatus;
 
 @ExtendWith(MockitoExtension.class)
@@ -88,6 +94,7 @@ class BatchApiServiceImplTest {
 
     private final ResolutionHelper resolutionHelper = Mockito.spy(new ResolutionHelper(new FromJsonHelper()));
     private final List<BatchRequestPreprocessor> batchPreprocessors = Mockito.spy(List.of());
+    private ThreadPoolTaskExecutor parallelExecutor;
 
     @InjectMocks
     private BatchApiServiceImpl batchApiService;
@@ -96,8 +103,12 @@ class BatchApiServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        parallelExecutor = new ThreadPoolTaskExecutor();
+        parallelExecutor.setCorePoolSize(2);
+        parallelExecutor.setMaxPoolSize(2);
+        parallelExecutor.initialize();
         batchApiService = new BatchApiServiceImpl(strategyProvider, resolutionHelper, transactionManager, errorHandler, List.of(),
-                batchPreprocessors, retryConfigurationAssembler);
+                batchPreprocessors, retryConfigurationAssembler, parallelExecutor);
         batchApiService.setEntityManager(entityManager);
         request = new BatchRequest();
         request.setRequestId(1L);
@@ -114,8 +125,8 @@ class BatchApiServiceImplTest {
         settings.getInstances().getExecuteCommand().setWaitDuration(Duration.ofMillis(2));
         settings.getInstances().getExecuteCommand().setEnableExponentialBackoff(false);
         settings.getInstances().getExecuteCommand().setRetryExceptions(new Class[] { RetryException.class });
-        when(fineractProperties.getRetry()).thenReturn(settings);
-        when(registry.retry(anyString(), any(RetryConfig.class)))
+        Mockito.lenient().when(fineractProperties.getRetry()).thenReturn(settings);
+        Mockito.lenient().when(registry.retry(anyString(), any(RetryConfig.class)))
                 .thenAnswer(i -> Retry.of((String) i.getArgument(0), (RetryConfig) i.getArgument(1)));
     }
 
@@ -127,6 +138,7 @@ class BatchApiServiceImplTest {
         Mockito.reset(commandStrategy);
         Mockito.reset(strategyProvider);
         Mockito.reset(transactionManager);
+        parallelExecutor.shutdown();
     }
 
     @Test
@@ -227,6 +239,35 @@ class BatchApiServiceImplTest {
         Mockito.verifyNoInteractions(entityManager);
     }
 
+    @Test
+    void testHandleBatchRequestsInParallelWithoutEnclosingTransaction() {
+        BatchRequest secondRequest = new BatchRequest();
+        secondRequest.setRequestId(2L);
+        secondRequest.setMethod("POST");
+        secondRequest.setRelativeUrl("/random_api");
+        List<BatchRequest> requestList = List.of(secondRequest, request);
+        when(strategyProvider.getCommandStrategy(any())).thenReturn(commandStrategy);
+        when(commandStrategy.execute(any(), any())).thenAnswer(i -> {
+            BatchRequest batchRequest = i.getArgument(0);
+            BatchResponse batchResponse = new BatchResponse();
+            batchResponse.setRequestId(batchRequest.getRequestId());
+            batchResponse.setStatusCode(200);
+            batchResponse.setBody("Success");
+            return batchResponse;
+        });
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.now())));
+        try {
+            List<BatchResponse> result = batchApiService.handleBatchRequestsInParallelWithoutEnclosingTransaction(requestList, uriInfo);
+            assertEquals(2, result.size());
+            assertEquals(1L, result.get(0).getRequestId());
+            assertEquals(2L, result.get(1).getRequestId());
+            assertTrue(result.stream().allMatch(r -> r.getStatusCode() == 200));
+            Mockito.verifyNoInteractions(entityManager);
+        } finally {
+            ThreadLocalContextUtil.reset();
+        }
+    }
+
     private static final class RetryException extends RuntimeException {}
 
 }
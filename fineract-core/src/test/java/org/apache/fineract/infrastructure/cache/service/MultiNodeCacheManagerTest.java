@@ -0,0 +1,181 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.cache.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import org.apache.fineract.infrastructure.cache.data.CacheInvalidationMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class MultiNodeCacheManagerTest {
+
+    private static final String CACHE_NAME = "users";
+
+    private InMemoryTransport transport;
+    private MultiNodeCacheManager nodeA;
+    private MultiNodeCacheManager nodeB;
+
+    @BeforeEach
+    void setUp() {
+        transport = new InMemoryTransport();
+        nodeA = new MultiNodeCacheManager(new ConcurrentMapCacheManager(CACHE_NAME), transport, "node-a", Optional.empty());
+        nodeB = new MultiNodeCacheManager(new ConcurrentMapCacheManager(CACHE_NAME), transport, "node-b", Optional.empty());
+        nodeA.activate();
+        nodeB.activate();
+    }
+
+    @Test
+    void testEvictIsBroadcastToOtherNodes() {
+        nodeA.getCache(CACHE_NAME).put("mifos", "A");
+        nodeB.getCache(CACHE_NAME).put("mifos", "B");
+        nodeB.getCache(CACHE_NAME).put("other", "B");
+
+        nodeA.getCache(CACHE_NAME).evict("mifos");
+
+        assertNull(nodeA.getCache(CACHE_NAME).get("mifos"));
+        assertNull(nodeB.getCache(CACHE_NAME).get("mifos"));
+        assertNotNull(nodeB.getCache(CACHE_NAME).get("other"));
+    }
+
+    @Test
+    void testNonStringKeyClearsCacheOnOtherNodes() {
+        nodeB.getCache(CACHE_NAME).put(1L, "B");
+        nodeB.getCache(CACHE_NAME).put("other", "B");
+
+        nodeA.getCache(CACHE_NAME).evict(1L);
+
+        assertEquals(1, transport.published.size());
+        assertNull(transport.published.get(0).cacheKey());
+        assertNull(nodeB.getCache(CACHE_NAME).get(1L));
+        assertNull(nodeB.getCache(CACHE_NAME).get("other"));
+    }
+
+    @Test
+    void testOwnMessagesAndPutsAreNotApplied() {
+        final Cache cacheA = nodeA.getCache(CACHE_NAME);
+        cacheA.put("mifos", "A");
+        assertEquals(0, transport.published.size());
+
+        transport.publish(new CacheInvalidationMessage("node-a", CACHE_NAME, "mifos"));
+
+        assertEquals("A", cacheA.get("mifos").get());
+    }
+
+    @Test
+    void testInactiveNodeDoesNotBroadcast() {
+        nodeA.deactivate();
+        nodeB.getCache(CACHE_NAME).put("mifos", "B");
+
+        nodeA.getCache(CACHE_NAME).evict("mifos");
+
+        assertEquals(0, transport.published.size());
+        assertEquals("B", nodeB.getCache(CACHE_NAME).get("mifos").get());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testValueLoaderGetIsDelegatedInOneLookup() {
+        final Cache delegate = mock(Cache.class);
+        when(delegate.get(eq("mifos"), any(Callable.class))).thenReturn("A");
+        final Cache cache = new InvalidationBroadcastingCache(delegate, (cacheName, key) -> {}, Optional.empty());
+
+        assertEquals("A", cache.get("mifos", () -> "B"));
+
+        verify(delegate).get(eq("mifos"), any(Callable.class));
+        verifyNoMoreInteractions(delegate);
+    }
+
+    @Test
+    void testValueLoaderResultIsCachedLocally() {
+        final Cache cache = nodeA.getCache(CACHE_NAME);
+
+        assertEquals("A", cache.get("mifos", () -> "A"));
+        assertEquals("A", cache.get("mifos", () -> "B"));
+        assertNull(nodeB.getCache(CACHE_NAME).get("mifos"));
+        assertEquals(0, transport.published.size());
+    }
+
+    @Test
+    void testExternalCacheInvalidationIsBroadcastToOtherNodes() {
+        final List<String> evictedOnA = new CopyOnWriteArrayList<>();
+        final List<String> evictedOnB = new CopyOnWriteArrayList<>();
+        nodeA.registerExternalCache("external", evictedOnA::add);
+        nodeB.registerExternalCache("external", evictedOnB::add);
+
+        nodeA.broadcastInvalidation("external", "default");
+
+        assertEquals(List.of(), evictedOnA);
+        assertEquals(List.of("default"), evictedOnB);
+    }
+
+    @Test
+    void testExternalCacheInvalidationIsBroadcastAfterCommit() {
+        final List<String> evictedOnB = new CopyOnWriteArrayList<>();
+        nodeB.registerExternalCache("external", evictedOnB::add);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            nodeA.broadcastInvalidation("external", "default");
+            assertEquals(0, transport.published.size());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(List.of("default"), evictedOnB);
+    }
+
+    private static final class InMemoryTransport implements CacheInvalidationTransport {
+
+        private final List<Consumer<CacheInvalidationMessage>> listeners = new CopyOnWriteArrayList<>();
+        private final List<CacheInvalidationMessage> published = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void start(final Consumer<CacheInvalidationMessage> listener) {
+            listeners.add(listener);
+        }
+
+        @Override
+        public void publish(final CacheInvalidationMessage message) {
+            published.add(message);
+            listeners.forEach(listener -> listener.accept(message));
+        }
+
+        @Override
+        public void stop() {}
+    }
+}
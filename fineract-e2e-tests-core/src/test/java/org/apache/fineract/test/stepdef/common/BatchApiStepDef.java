@@ -204,7 +204,7 @@ public class BatchApiStepDef extends AbstractStepDef {
         requestList.add(batchRequest2);
         requestList.add(batchRequest3);
         requestList.add(batchRequest4);
-        Response<List<BatchResponse>> batchResponseList = batchApiApi.handleBatchRequests(requestList, false).execute();
+        Response<List<BatchResponse>> batchResponseList = batchApiApi.handleBatchRequests(requestList, false, false).execute();
         testContext().set(TestContextKey.BATCH_API_CALL_RESPONSE, batchResponseList);
     }
 
@@ -296,7 +296,7 @@ public class BatchApiStepDef extends AbstractStepDef {
         requestList.add(batchRequest4);
         requestList.add(batchRequest5);
         requestList.add(batchRequest6);
-        Response<List<BatchResponse>> batchResponseList = batchApiApi.handleBatchRequests(requestList, false).execute();
+        Response<List<BatchResponse>> batchResponseList = batchApiApi.handleBatchRequests(requestList, false, false).execute();
         testContext().set(TestContextKey.BATCH_API_CALL_RESPONSE, batchResponseList);
     }
 
@@ -314,7 +314,7 @@ public class BatchApiStepDef extends AbstractStepDef {
         requestList.add(getLoanDetailsByExternalId(4L, 2L, idempotencyKey));
 
         Boolean isEnclosingTransaction = Boolean.valueOf(enclosingTransaction);
-        Response<List<BatchResponse>> batchResponseList = batchApiApi.handleBatchRequests(requestList, isEnclosingTransaction).execute();
+        Response<List<BatchResponse>> batchResponseList = batchApiApi.handleBatchRequests(requestList, isEnclosingTransaction, false).execute();
         testContext().set(TestContextKey.BATCH_API_CALL_RESPONSE, batchResponseList);
         testContext().set(TestContextKey.BATCH_API_CALL_IDEMPOTENCY_KEY, idempotencyKey);
         testContext().set(TestContextKey.BATCH_API_CALL_CLIENT_EXTERNAL_ID, clientExternalId);
@@ -335,7 +335,7 @@ public class BatchApiStepDef extends AbstractStepDef {
         requestList.add(getLoanDetailsByExternalId(4L, 2L, idempotencyKey));
 
         Boolean isEnclosingTransaction = Boolean.valueOf(enclosingTransaction);
-        Response<List<BatchResponse>> batchResponseList = batchApiApi.handleBatchRequests(requestList, isEnclosingTransaction).execute();
+        Response<List<BatchResponse>> batchResponseList = batchApiApi.handleBatchRequests(requestList, isEnclosingTransaction, false).execute();
         testContext().set(TestContextKey.BATCH_API_CALL_RESPONSE, batchResponseList);
         testContext().set(TestContextKey.BATCH_API_CALL_IDEMPOTENCY_KEY, idempotencyKey);
         testContext().set(TestContextKey.BATCH_API_CALL_CLIENT_EXTERNAL_ID, clientExternalId);
@@ -363,7 +363,7 @@ public class BatchApiStepDef extends AbstractStepDef {
         requestList.add(getLoanDetailsByExternalId(8L, 6L, idempotencyKey2));
 
         Boolean isEnclosingTransaction = Boolean.valueOf(enclosingTransaction);
-        Response<List<BatchResponse>> batchResponseList = batchApiApi.handleBatchRequests(requestList, isEnclosingTransaction).execute();
+        Response<List<BatchResponse>> batchResponseList = batchApiApi.handleBatchRequests(requestList, isEnclosingTransaction, false).execute();
         testContext().set(TestContextKey.BATCH_API_CALL_RESPONSE, batchResponseList);
         testContext().set(TestContextKey.BATCH_API_CALL_IDEMPOTENCY_KEY, idempotencyKey);
         testContext().set(TestContextKey.BATCH_API_CALL_CLIENT_EXTERNAL_ID, clientExternalId);
@@ -394,7 +394,7 @@ public class BatchApiStepDef extends AbstractStepDef {
         requestList.add(getLoanDetailsByExternalId(8L, 6L, idempotencyKey2));
 
         Boolean isEnclosingTransaction = Boolean.valueOf(enclosingTransaction);
-        Response<List<BatchResponse>> batchResponseList = batchApiApi.handleBatchRequests(requestList, isEnclosingTransaction).execute();
+        Response<List<BatchResponse>> batchResponseList = batchApiApi.handleBatchRequests(requestList, isEnclosingTransaction, false).execute();
 
         testContext().set(TestContextKey.BATCH_API_CALL_RESPONSE, batchResponseList);
         testContext().set(TestContextKey.BATCH_API_CALL_IDEMPOTENCY_KEY, idempotencyKey);
@@ -420,7 +420,7 @@ public class BatchApiStepDef extends AbstractStepDef {
         requestList.add(getLoanDetailsByExternalId(5L, 2L, idempotencyKey));
 
         Boolean isEnclosingTransaction = Boolean.valueOf(enclosingTransaction);
-        Response<List<BatchResponse>> batchResponseList = batchApiApi.handleBatchRequests(requestList, isEnclosingTransaction).execute();
+        Response<List<BatchResponse>> batchResponseList = batchApiApi.handleBatchRequests(requestList, isEnclosingTransaction, false).execute();
         testContext().set(TestContextKey.BATCH_API_CALL_RESPONSE, batchResponseList);
         testContext().set(TestContextKey.BATCH_API_CALL_IDEMPOTENCY_KEY, idempotencyKey);
         testContext().set(TestContextKey.BATCH_API_CALL_CLIENT_EXTERNAL_ID, clientExternalId);
@@ -441,7 +441,7 @@ public class BatchApiStepDef extends AbstractStepDef {
         requestList.add(approveLoanReschedule(2L, idempotencyKey, approvedOnDate, 1L));
 
         Boolean isEnclosingTransaction = Boolean.valueOf(enclosingTransaction);
-        Response<List<BatchResponse>> batchResponseList = batchApiApi.handleBatchRequests(requestList, isEnclosingTransaction).execute();
+        Response<List<BatchResponse>> batchResponseList = batchApiApi.handleBatchRequests(requestList, isEnclosingTransaction, false).execute();
         testContext().set(TestContextKey.BATCH_API_CALL_RESPONSE, batchResponseList);
         testContext().set(TestContextKey.BATCH_API_CALL_IDEMPOTENCY_KEY, idempotencyKey);
         eventAssertion.assertEvent(LoanRescheduledDueAdjustScheduleEvent.class, loanId).extractingData(loanAccountDataV1 -> {
@@ -481,7 +481,7 @@ public class BatchApiStepDef extends AbstractStepDef {
         requestList.add(approveLoanReschedule(2L, idempotencyKey, approvedOnDate, 1L));
 
         Boolean isEnclosingTransaction = Boolean.valueOf(enclosingTransaction);
-        Response<List<BatchResponse>> batchResponseList = batchApiApi.handleBatchRequests(requestList, isEnclosingTransaction, headerMap)
+        Response<List<BatchResponse>> batchResponseList = batchApiApi.handleBatchRequests(requestList, isEnclosingTransaction, false, headerMap)
                 .execute();
 
         if (batchResponseList.errorBody() != null) {
@@ -540,7 +540,7 @@ public class BatchApiStepDef extends AbstractStepDef {
         requestList.add(approveLoanReschedule(2L, idempotencyKey, approvedOnDate, 1L));
 
         Boolean isEnclosingTransaction = Boolean.valueOf(enclosingTransaction);
-        Response<List<BatchResponse>> batchResponseList = batchApiApi.handleBatchRequests(requestList, isEnclosingTransaction, headerMap)
+        Response<List<BatchResponse>> batchResponseList = batchApiApi.handleBatchRequests(requestList, isEnclosingTransaction, false, headerMap)
                 .execute();
         String errorToString = batchResponseList.errorBody().string();
         ErrorResponse errorResponse = GSON.fromJson(errorToString, ErrorResponse.class);
@@ -585,7 +585,7 @@ public class BatchApiStepDef extends AbstractStepDef {
         requestList.add(approveLoanReschedule(2L, idempotencyKey, approvedOnDate, 1L));
 
         Boolean isEnclosingTransaction = Boolean.valueOf(enclosingTransaction);
-        Response<List<BatchResponse>> batchResponseList = batchApiApi.handleBatchRequests(requestList, isEnclosingTransaction, headerMap)
+        Response<List<BatchResponse>> batchResponseList = batchApiApi.handleBatchRequests(requestList, isEnclosingTransaction, false, headerMap)
                 .execute();
         BatchResponse lastBatchResponse = batchResponseList.body().get(batchResponseList.body().size() - 1);
         assertThat(httpCodeExpected).isEqualTo(lastBatchResponse.getStatusCode());
@@ -601,7 +601,7 @@ public class BatchApiStepDef extends AbstractStepDef {
         requestList.add(queryDatatable(1L));
         requestList.add(updateDatatable(2L, 1L));
 
-        Response<List<BatchResponse>> batchResponseList = batchApiApi.handleBatchRequests(requestList, false).execute();
+        Response<List<BatchResponse>> batchResponseList = batchApiApi.handleBatchRequests(requestList, false, false).execute();
         testContext().set(TestContextKey.BATCH_API_CALL_RESPONSE, batchResponseList);
         testContext().set(TestContextKey.BATCH_API_CALL_IDEMPOTENCY_KEY, idempotencyKey);
     }
@@ -941,7 +941,7 @@ public class BatchApiStepDef extends AbstractStepDef {
 
         requestList.add(createChargeOffRequest(1L, loanId, idempotencyKey, chargeOffDate));
 
-        Response<List<BatchResponse>> batchResponseList = batchApiApi.handleBatchRequests(requestList, false).execute();
+        Response<List<BatchResponse>> batchResponseList = batchApiApi.handleBatchRequests(requestList, false, false).execute();
         testContext().set(TestContextKey.BATCH_API_CALL_RESPONSE, batchResponseList);
         testContext().set(TestContextKey.BATCH_API_CALL_IDEMPOTENCY_KEY, idempotencyKey);
 
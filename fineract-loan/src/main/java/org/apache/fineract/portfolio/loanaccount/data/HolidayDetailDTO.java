@@ -18,9 +18,15 @@
  */
 package org.apache.fineract.portfolio.loanaccount.data;
 
+import java.time.LocalDate;
 import java.util.List;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.organisation.holiday.domain.Holiday;
+import org.apache.fineract.organisation.holiday.service.BusinessCalendarIndex;
+import org.apache.fineract.organisation.holiday.service.HolidayUtil;
 import org.apache.fineract.organisation.workingdays.domain.WorkingDays;
+import org.apache.fineract.organisation.workingdays.service.WorkingDaysUtil;
+import org.apache.fineract.portfolio.calendar.service.CalendarUtils;
 
 public class HolidayDetailDTO {
 
@@ -29,13 +35,11 @@ public class HolidayDetailDTO {
     final WorkingDays workingDays;
     final boolean allowTransactionsOnHoliday;
     final boolean allowTransactionsOnNonWorkingDay;
+    final BusinessCalendarIndex calendarIndex;
+    final LocalDate holidaysFrom;
 
     public HolidayDetailDTO(final boolean isHolidayEnabled, final List<Holiday> holidays, final WorkingDays workingDays) {
-        this.isHolidayEnabled = isHolidayEnabled;
-        this.holidays = holidays;
-        this.workingDays = workingDays;
-        this.allowTransactionsOnHoliday = false;
-        this.allowTransactionsOnNonWorkingDay = false;
+        this(isHolidayEnabled, holidays, workingDays, false, false);
     }
 
     public HolidayDetailDTO(final boolean isHolidayEnabled, final List<Holiday> holidays, final WorkingDays workingDays,
@@ -45,6 +49,23 @@ public class HolidayDetailDTO {
         this.workingDays = workingDays;
         this.allowTransactionsOnHoliday = allowTransactionsOnHoliday;
         this.allowTransactionsOnNonWorkingDay = allowTransactionsOnNonWorkingDay;
+        this.calendarIndex = null;
+        this.holidaysFrom = null;
+    }
+
+    /**
+     * Holiday details backed by the precomputed calendar of the office. The holidays are the ones ending on or after
+     * {@code holidaysFrom}, the working days are a private copy.
+     */
+    public HolidayDetailDTO(final boolean isHolidayEnabled, final BusinessCalendarIndex calendarIndex, final LocalDate holidaysFrom,
+            final boolean allowTransactionsOnHoliday, final boolean allowTransactionsOnNonWorkingDay) {
+        this.isHolidayEnabled = isHolidayEnabled;
+        this.holidays = calendarIndex.getHolidaysFrom(holidaysFrom);
+        this.workingDays = calendarIndex.newWorkingDays();
+        this.allowTransactionsOnHoliday = allowTransactionsOnHoliday;
+        this.allowTransactionsOnNonWorkingDay = allowTransactionsOnNonWorkingDay;
+        this.calendarIndex = calendarIndex;
+        this.holidaysFrom = holidaysFrom;
     }
 
     public boolean isHolidayEnabled() {
@@ -66,4 +87,36 @@ public class HolidayDetailDTO {
     public boolean isAllowTransactionsOnNonWorkingDay() {
         return this.allowTransactionsOnNonWorkingDay;
     }
+
+    /**
+     * Same as {@link HolidayUtil#getApplicableHoliday(LocalDate, List)} on {@link #getHolidays()}.
+     */
+    public Holiday getApplicableHoliday(final LocalDate date) {
+        if (this.calendarIndex == null) {
+            return HolidayUtil.getApplicableHoliday(date, this.holidays);
+        }
+        final Holiday holiday = this.calendarIndex.getApplicableHoliday(date);
+        if (holiday != null && (this.holidaysFrom == null || DateUtils.isBefore(holiday.getToDate(), this.holidaysFrom))) {
+            // the index knows holidays which are not part of this selection
+            return HolidayUtil.getApplicableHoliday(date, this.holidays);
+        }
+        return holiday;
+    }
+
+    /**
+     * Same as {@link WorkingDaysUtil#isNonWorkingDay(WorkingDays, LocalDate)} on {@link #getWorkingDays()}.
+     */
+    public boolean isNonWorkingDay(final LocalDate date) {
+        if (this.calendarIndex == null) {
+            return WorkingDaysUtil.isNonWorkingDay(this.workingDays, date);
+        }
+        return this.calendarIndex.isNonWorkingDay(date);
+    }
+
+    public boolean isSevenDaysWeek() {
+        if (this.calendarIndex == null) {
+            return CalendarUtils.getICalRecur(this.workingDays.getRecurrence()).getDayList().size() == 7;
+        }
+        return this.calendarIndex.isSevenDayWeek();
+    }
 }
@@ -18,6 +18,10 @@
  */
 package org.apache.fineract.portfolio.loanaccount.domain;
 
+import static org.eclipse.persistence.config.QueryHints.BATCH;
+import static org.eclipse.persistence.config.QueryHints.BATCH_TYPE;
+
+import jakarta.persistence.QueryHint;
 import java.time.LocalDate;
 import java.util.Collection;
 import java.util.List;
@@ -28,9 +32,12 @@ import org.apache.fineract.cob.data.LoanIdAndExternalIdAndAccountNo;
 import org.apache.fineract.cob.data.LoanIdAndLastClosedBusinessDate;
 import org.apache.fineract.infrastructure.core.domain.ExternalId;
 import org.apache.fineract.portfolio.accountdetails.domain.AccountType;
+import org.apache.fineract.portfolio.loanaccount.data.LoanIdAndVersion;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 public interface LoanRepository extends JpaRepository<Loan, Long>, JpaSpecificationExecutor<Loan> {
@@ -105,7 +112,11 @@ public interface LoanRepository extends JpaRepository<Loan, Long>, JpaSpecificat
 
     String FIND_ALL_LOAN_IDS_BY_STATUS = "SELECT loan.id FROM Loan loan WHERE loan.loanStatus = :loanStatus";
 
-    String LOANS_FOR_ACCRUAL = "select l from Loan l left join l.loanInterestRecalculationDetails recalcDetails "
+    String FIND_MIN_LOAN_ID_BY_STATUS = "SELECT min(loan.id) FROM Loan loan WHERE loan.loanStatus = :loanStatus";
+
+    String FIND_MAX_LOAN_ID_BY_STATUS = "SELECT max(loan.id) FROM Loan loan WHERE loan.loanStatus = :loanStatus";
+
+    String LOANS_FOR_ACCRUAL_FILTER = "from Loan l left join l.loanInterestRecalculationDetails recalcDetails "
             + "where l.loanStatus = :loanStatus and l.isNpa = false and l.chargedOff = false "
             + "and l.loanProduct.accountingRule = :accountingType "
             + "and (recalcDetails.isCompoundingToBePostedAsTransaction is null or recalcDetails.isCompoundingToBePostedAsTransaction = false) "
@@ -113,12 +124,19 @@ public interface LoanRepository extends JpaRepository<Loan, Long>, JpaSpecificat
             + "and ((coalesce(ls.interestCharged, 0) - coalesce(ls.interestWaived, 0)) <> coalesce(ls.interestAccrued, 0) "
             + "or (coalesce(ls.feeChargesCharged, 0) - coalesce(ls.feeChargesWaived, 0)) <> coalesce(ls.feeAccrued, 0) "
             + "or (coalesce(ls.penaltyCharges, 0) - coalesce(ls.penaltyChargesWaived, 0)) <> coalesce(ls.penaltyAccrued, 0)) ";
-    String FIND_LOANS_FOR_PERIODIC_ACCRUAL = LOANS_FOR_ACCRUAL
-            + "and (:futureCharges = true or ls.fromDate < :tillDate or (ls.installmentNumber = (select min(lsi.installmentNumber) from LoanRepaymentScheduleInstallment lsi where lsi.loan.id = l.id and lsi.isDownPayment = false) and ls.fromDate = :tillDate))))";
+    String LOANS_FOR_ACCRUAL = "select l " + LOANS_FOR_ACCRUAL_FILTER;
+    String PERIODIC_ACCRUAL_FILTER = "and (:futureCharges = true or ls.fromDate < :tillDate or (ls.installmentNumber = (select min(lsi.installmentNumber) from LoanRepaymentScheduleInstallment lsi where lsi.loan.id = l.id and lsi.isDownPayment = false) and ls.fromDate = :tillDate))))";
+    String FIND_LOANS_FOR_PERIODIC_ACCRUAL = LOANS_FOR_ACCRUAL + PERIODIC_ACCRUAL_FILTER;
+    String FIND_LOAN_IDS_FOR_PERIODIC_ACCRUAL = "select l.id " + LOANS_FOR_ACCRUAL_FILTER + PERIODIC_ACCRUAL_FILTER
+            + " and l.id > :afterLoanId and l.id <= :maxLoanId order by l.id";
     String FIND_LOANS_FOR_ADD_ACCRUAL = LOANS_FOR_ACCRUAL + "and (:futureCharges = true or ls.dueDate <= :tillDate)))";
 
     String FIND_LOAN_BY_EXTERNAL_ID = "SELECT loan FROM Loan loan WHERE loan.externalId = :externalId";
 
+    String FIND_ALL_BY_IDS_FOR_COB = "SELECT loan FROM Loan loan WHERE loan.id IN :loanIds";
+
+    String FIND_VERSIONS_BY_IDS = "SELECT loan.id, loan.version FROM Loan loan WHERE loan.id IN :loanIds";
+
     @Query(FIND_GROUP_LOANS_DISBURSED_AFTER)
     List<Loan> getGroupLoansDisbursedAfter(@Param("disbursementDate") LocalDate disbursementDate, @Param("groupId") Long groupId,
             @Param("loanType") AccountType loanType);
@@ -262,10 +280,34 @@ public interface LoanRepository extends JpaRepository<Loan, Long>, JpaSpecificat
             @Param("tillDate") LocalDate tillDate, @Param("futureCharges") boolean futureCharges,
             @Param("loanStatus") LoanStatus loanStatus);
 
+    @Query(FIND_LOAN_IDS_FOR_PERIODIC_ACCRUAL)
+    List<Long> findLoanIdsForPeriodicAccrual(@Param("accountingType") AccountingRuleType accountingType,
+            @Param("tillDate") LocalDate tillDate, @Param("futureCharges") boolean futureCharges,
+            @Param("loanStatus") LoanStatus loanStatus, @Param("afterLoanId") Long afterLoanId, @Param("maxLoanId") Long maxLoanId,
+            Pageable pageable);
+
+    @Query(FIND_MIN_LOAN_ID_BY_STATUS)
+    Long findMinLoanIdByStatus(@Param("loanStatus") LoanStatus loanStatus);
+
+    @Query(FIND_MAX_LOAN_ID_BY_STATUS)
+    Long findMaxLoanIdByStatus(@Param("loanStatus") LoanStatus loanStatus);
+
     @Query(FIND_LOANS_FOR_ADD_ACCRUAL)
     List<Loan> findLoansForAddAccrual(@Param("accountingType") AccountingRuleType accountingType, @Param("tillDate") LocalDate tillDate,
             @Param("futureCharges") boolean futureCharges, @Param("loanStatus") LoanStatus loanStatus);
 
     @Query(FIND_LOAN_BY_EXTERNAL_ID)
     Optional<Loan> findByExternalId(@Param("externalId") ExternalId externalId);
+
+    /**
+     * Loads a window of loans for COB processing. The repayment schedule, the transactions and the charges of the whole
+     * window are fetched with one IN-batched query per association instead of one lazy load per loan.
+     */
+    @Query(FIND_ALL_BY_IDS_FOR_COB)
+    @QueryHints({ @QueryHint(name = BATCH_TYPE, value = "IN"), @QueryHint(name = BATCH, value = "loan.repaymentScheduleInstallments"),
+            @QueryHint(name = BATCH, value = "loan.loanTransactions"), @QueryHint(name = BATCH, value = "loan.charges") })
+    List<Loan> findAllByIdInForCOB(@Param("loanIds") Collection<Long> loanIds);
+
+    @Query(FIND_VERSIONS_BY_IDS)
+    List<LoanIdAndVersion> findVersionsByIdIn(@Param("loanIds") Collection<Long> loanIds);
 }
@@ -30,6 +30,7 @@ import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.domain.ExternalId;
 import org.apache.fineract.portfolio.accountdetails.domain.AccountType;
 import org.apache.fineract.portfolio.loanaccount.exception.LoanNotFoundException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -298,6 +299,20 @@ public class LoanRepositoryWrapper {
         return repository.findLoansForPeriodicAccrual(accountingType, tillDate, futureCharges, LoanStatus.ACTIVE);
     }
 
+    public List<Long> findLoanIdsForPeriodicAccrual(AccountingRuleType accountingType, LocalDate tillDate, boolean futureCharges,
+            Long afterLoanId, Long maxLoanId, int limit) {
+        return repository.findLoanIdsForPeriodicAccrual(accountingType, tillDate, futureCharges, LoanStatus.ACTIVE, afterLoanId,
+                maxLoanId, PageRequest.of(0, limit));
+    }
+
+    public Long findMinLoanIdByStatus(LoanStatus loanStatus) {
+        return repository.findMinLoanIdByStatus(loanStatus);
+    }
+
+    public Long findMaxLoanIdByStatus(LoanStatus loanStatus) {
+        return repository.findMaxLoanIdByStatus(loanStatus);
+    }
+
     public List<Loan> findLoansForAddAccrual(AccountingRuleType accountingType, LocalDate tillDate, boolean futureCharges) {
         return repository.findLoansForAddAccrual(accountingType, tillDate, futureCharges, LoanStatus.ACTIVE);
     }
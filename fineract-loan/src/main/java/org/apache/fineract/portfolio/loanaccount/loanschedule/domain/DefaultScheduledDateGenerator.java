@@ -26,7 +26,6 @@ import java.time.temporal.ChronoUnit;
 import java.time.temporal.Temporal;
 import java.util.ArrayList;
 import java.util.List;
-import net.fortuna.ical4j.model.Recur;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.organisation.holiday.domain.Holiday;
 import org.apache.fineract.organisation.holiday.service.HolidayUtil;
@@ -217,8 +216,7 @@ public class DefaultScheduledDateGenerator implements ScheduledDateGenerator {
             final AdjustedDateDetailsDTO adjustedDateDetailsDTO, final LoanApplicationTerms loanApplicationTerms,
             final HolidayDetailDTO holidayDetailDTO, final boolean isFirstRepayment) {
         if (holidayDetailDTO != null) {
-            final Recur recur = CalendarUtils.getICalRecur(holidayDetailDTO.getWorkingDays().getRecurrence());
-            final boolean isSevenDaysWeek = (recur.getDayList().size() == 7); // 7 Seven days in the week
+            final boolean isSevenDaysWeek = holidayDetailDTO.isSevenDaysWeek();
             // If Workings days are not seven day week
             if (!isSevenDaysWeek) {
                 checkAndUpdateWorkingDayIfRepaymentDateIsNonWorkingDay(adjustedDateDetailsDTO, holidayDetailDTO, loanApplicationTerms,
@@ -232,10 +230,9 @@ public class DefaultScheduledDateGenerator implements ScheduledDateGenerator {
              * Check Changed Schedule Date is holiday or is not a working day Then re-call this method to get the non
              * holiday and working day
              */
-            if ((holidayDetailDTO.isHolidayEnabled() && HolidayUtil.getApplicableHoliday(adjustedDateDetailsDTO.getChangedScheduleDate(),
-                    holidayDetailDTO.getHolidays()) != null)
-                    || WorkingDaysUtil.isNonWorkingDay(holidayDetailDTO.getWorkingDays(),
-                            adjustedDateDetailsDTO.getChangedScheduleDate())) {
+            if ((holidayDetailDTO.isHolidayEnabled()
+                    && holidayDetailDTO.getApplicableHoliday(adjustedDateDetailsDTO.getChangedScheduleDate()) != null)
+                    || holidayDetailDTO.isNonWorkingDay(adjustedDateDetailsDTO.getChangedScheduleDate())) {
                 recursivelyCheckNonWorkingDaysAndHolidaysAndWorkingDaysExemptionToGenerateNextRepaymentPeriodDate(adjustedDateDetailsDTO,
                         loanApplicationTerms, holidayDetailDTO, isFirstRepayment);
             }
@@ -255,8 +252,8 @@ public class DefaultScheduledDateGenerator implements ScheduledDateGenerator {
             final HolidayDetailDTO holidayDetailDTO, final LoanApplicationTerms loanApplicationTerms, final boolean isFirstRepayment) {
         if (holidayDetailDTO.isHolidayEnabled()) {
             Holiday applicableHolidayForNewAdjustedDate = null;
-            while ((applicableHolidayForNewAdjustedDate = HolidayUtil.getApplicableHoliday(adjustedDateDetailsDTO.getChangedScheduleDate(),
-                    holidayDetailDTO.getHolidays())) != null) {
+            while ((applicableHolidayForNewAdjustedDate = holidayDetailDTO
+                    .getApplicableHoliday(adjustedDateDetailsDTO.getChangedScheduleDate())) != null) {
                 if (applicableHolidayForNewAdjustedDate.getReScheduleType().isResheduleToNextRepaymentDate()) {
                     LocalDate nextRepaymentPeriodDueDate = adjustedDateDetailsDTO.getChangedActualRepaymentDate();
                     while (!DateUtils.isAfter(nextRepaymentPeriodDueDate, adjustedDateDetailsDTO.getChangedScheduleDate())) {
@@ -285,20 +282,21 @@ public class DefaultScheduledDateGenerator implements ScheduledDateGenerator {
     private void checkAndUpdateWorkingDayIfRepaymentDateIsNonWorkingDay(final AdjustedDateDetailsDTO adjustedDateDetailsDTO,
             final HolidayDetailDTO holidayDetailDTO, final LoanApplicationTerms loanApplicationTerms, final boolean isFirstRepayment) {
 
-        while (WorkingDaysUtil.isNonWorkingDay(holidayDetailDTO.getWorkingDays(), adjustedDateDetailsDTO.getChangedScheduleDate())) {
+        while (holidayDetailDTO.isNonWorkingDay(adjustedDateDetailsDTO.getChangedScheduleDate())) {
             final RepaymentRescheduleType repaymentRescheduleType = WorkingDaysUtil
                     .getRepaymentRescheduleType(holidayDetailDTO.getWorkingDays());
 
             if (repaymentRescheduleType.isMoveToNextRepaymentDay()) {
                 LocalDate nextRepaymentPeriodDueDate = adjustedDateDetailsDTO.getNextRepaymentPeriodDueDate();
-                while (WorkingDaysUtil.isNonWorkingDay(holidayDetailDTO.getWorkingDays(), nextRepaymentPeriodDueDate)
+                while (holidayDetailDTO.isNonWorkingDay(nextRepaymentPeriodDueDate)
                         || DateUtils.isAfter(adjustedDateDetailsDTO.getChangedScheduleDate(), nextRepaymentPeriodDueDate)) {
                     nextRepaymentPeriodDueDate = generateNextRepaymentDate(nextRepaymentPeriodDueDate, loanApplicationTerms,
                             isFirstRepayment);
                 }
                 adjustedDateDetailsDTO.setNextRepaymentPeriodDueDate(nextRepaymentPeriodDueDate);
             }
-            WorkingDaysUtil.updateWorkingDayIfRepaymentDateIsNonWorkingDay(adjustedDateDetailsDTO, holidayDetailDTO.getWorkingDays());
+            WorkingDaysUtil.updateWorkingDayIfRepaymentDateIsNonWorkingDay(adjustedDateDetailsDTO, holidayDetailDTO.getWorkingDays(),
+                    holidayDetailDTO::isNonWorkingDay);
         }
     }
 
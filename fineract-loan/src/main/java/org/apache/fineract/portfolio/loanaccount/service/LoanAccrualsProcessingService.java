@@ -32,6 +32,9 @@ public interface LoanAccrualsProcessingService {
 
     void addPeriodicAccruals(@NotNull LocalDate tillDate, @NotNull Loan loan) throws MultiException;
 
+    List<Long> retrieveLoanIdsForPeriodicAccrual(@NotNull LocalDate tillDate, @NotNull Long afterLoanId, @NotNull Long maxLoanId,
+            int limit);
+
     void addAccruals(@NotNull LocalDate tillDate) throws MultiException;
 
     void reprocessExistingAccruals(@NotNull Loan loan);
@@ -0,0 +1,32 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.loanschedule.data;
+
+import java.math.BigDecimal;
+import org.apache.fineract.organisation.monetary.data.CurrencyData;
+
+/**
+ * Headline figures of a generated schedule for comparing offers without materializing the period list of a
+ * {@link LoanSchedulePlan}. The annual percentage rate is the effective yearly rate (actual days / 365) at which the
+ * repayments discount to the disbursed amount net of the down payment, expressed in percent.
+ */
+public record LoanScheduleSummary(CurrencyData currency, int numberOfRepayments, int loanTermInDays, BigDecimal emi,
+        BigDecimal totalDisbursedAmount, BigDecimal totalInterestAmount, BigDecimal totalRepaymentAmount,
+        BigDecimal annualPercentageRate) {
+}
@@ -0,0 +1,95 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.loanschedule.domain;
+
+import java.math.MathContext;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.data.LoanSchedulePlan;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.data.LoanScheduleSummary;
+
+/**
+ * Generates the schedules of many offers in parallel on its own worker pool. Every worker thread keeps its own
+ * generator and calculators, while all of them share a memo of repayment due dates, so offers with the same start date,
+ * frequency and term only walk the calendar once. Results are returned in the order of the offers.
+ */
+public class EmbeddableProgressiveLoanScheduleBulkGenerator implements AutoCloseable {
+
+    public static final int DEFAULT_MAX_MEMOIZED_SCHEDULES = 4096;
+
+    private final ForkJoinPool pool;
+    private final MemoizingScheduledDateGenerator scheduledDateGenerator;
+    private final ThreadLocal<EmbeddableProgressiveLoanScheduleGenerator> generators;
+
+    public EmbeddableProgressiveLoanScheduleBulkGenerator() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public EmbeddableProgressiveLoanScheduleBulkGenerator(final int parallelism) {
+        this(parallelism, DEFAULT_MAX_MEMOIZED_SCHEDULES);
+    }
+
+    public EmbeddableProgressiveLoanScheduleBulkGenerator(final int parallelism, final int maxMemoizedSchedules) {
+        this.pool = new ForkJoinPool(parallelism);
+        this.scheduledDateGenerator = new MemoizingScheduledDateGenerator(new DefaultScheduledDateGenerator(), maxMemoizedSchedules);
+        this.generators = ThreadLocal.withInitial(() -> new EmbeddableProgressiveLoanScheduleGenerator(scheduledDateGenerator));
+    }
+
+    public List<LoanSchedulePlan> generate(final MathContext mc, final List<LoanRepaymentScheduleModelData> offers) {
+        return generate(mc, offers.stream());
+    }
+
+    public List<LoanSchedulePlan> generate(final MathContext mc, final LoanRepaymentScheduleModelData[] offers) {
+        return generate(mc, Arrays.stream(offers));
+    }
+
+    public List<LoanSchedulePlan> generate(final MathContext mc, final Stream<LoanRepaymentScheduleModelData> offers) {
+        return process(offers, modelData -> generators.get().generate(mc, modelData));
+    }
+
+    public List<LoanScheduleSummary> summarize(final MathContext mc, final List<LoanRepaymentScheduleModelData> offers) {
+        return summarize(mc, offers.stream());
+    }
+
+    public List<LoanScheduleSummary> summarize(final MathContext mc, final LoanRepaymentScheduleModelData[] offers) {
+        return summarize(mc, Arrays.stream(offers));
+    }
+
+    public List<LoanScheduleSummary> summarize(final MathContext mc, final Stream<LoanRepaymentScheduleModelData> offers) {
+        return process(offers, modelData -> generators.get().summarize(mc, modelData));
+    }
+
+    int memoizedSchedules() {
+        return scheduledDateGenerator.size();
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    private <T> List<T> process(final Stream<LoanRepaymentScheduleModelData> offers,
+            final Function<LoanRepaymentScheduleModelData, T> generator) {
+        // a parallel stream started from a task of the pool forks its subtasks into the same pool
+        return pool.submit(() -> offers.parallel().map(generator).toList()).join();
+    }
+}
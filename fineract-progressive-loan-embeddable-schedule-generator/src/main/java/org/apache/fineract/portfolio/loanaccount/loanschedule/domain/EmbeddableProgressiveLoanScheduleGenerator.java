@@ -18,28 +18,45 @@
  */
 package org.apache.fineract.portfolio.loanaccount.loanschedule.domain;
 
+import java.math.BigDecimal;
 import java.math.MathContext;
+import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.Optional;
+import org.apache.fineract.infrastructure.core.service.MathUtil;
+import org.apache.fineract.organisation.monetary.domain.Money;
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
 import org.apache.fineract.portfolio.loanaccount.domain.ProgressiveLoanModel;
 import org.apache.fineract.portfolio.loanaccount.loanschedule.data.LoanSchedulePlan;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.data.LoanScheduleSummary;
 import org.apache.fineract.portfolio.loanaccount.service.InterestScheduleModelRepositoryWrapper;
 import org.apache.fineract.portfolio.loanproduct.calc.EMICalculator;
 import org.apache.fineract.portfolio.loanproduct.calc.ProgressiveEMICalculator;
 import org.apache.fineract.portfolio.loanproduct.calc.data.ProgressiveLoanInterestScheduleModel;
+import org.apache.fineract.portfolio.loanproduct.calc.data.RepaymentPeriod;
 import org.apache.fineract.portfolio.loanproduct.domain.LoanProductMinimumRepaymentScheduleRelatedDetail;
+import org.apache.fineract.portfolio.loanproduct.domain.RepaymentStartDateType;
 
 @SuppressWarnings("unused")
 public class EmbeddableProgressiveLoanScheduleGenerator {
 
+    private static final double DAYS_IN_YEAR = 365.0;
+    private static final int MAX_APR_ITERATIONS = 100;
+    private static final double APR_TOLERANCE = 1e-12;
+
     private final ProgressiveLoanScheduleGenerator scheduleGenerator;
     private final ScheduledDateGenerator scheduledDateGenerator;
     private final EMICalculator emiCalculator;
 
     public EmbeddableProgressiveLoanScheduleGenerator() {
+        this(new DefaultScheduledDateGenerator());
+    }
+
+    EmbeddableProgressiveLoanScheduleGenerator(final ScheduledDateGenerator scheduledDateGenerator) {
         this.emiCalculator = new ProgressiveEMICalculator();
-        this.scheduledDateGenerator = new DefaultScheduledDateGenerator();
+        this.scheduledDateGenerator = scheduledDateGenerator;
         this.scheduleGenerator = new ProgressiveLoanScheduleGenerator(scheduledDateGenerator, emiCalculator,
                 new NoopInterestScheduleModelRepositoryWrapper());
     }
@@ -48,6 +65,92 @@ public class EmbeddableProgressiveLoanScheduleGenerator {
         return scheduleGenerator.generate(mc, modelData);
     }
 
+    /**
+     * Calculates the same EMI and totals as {@link #generate(MathContext, LoanRepaymentScheduleModelData)} for a single
+     * disbursement without charges, but stops at the interest schedule model instead of building the plan periods.
+     */
+    public LoanScheduleSummary summarize(final MathContext mc, final LoanRepaymentScheduleModelData modelData) {
+        final LoanApplicationTerms loanApplicationTerms = LoanApplicationTerms.assembleFrom(modelData, mc);
+        final LocalDate periodStartDate = RepaymentStartDateType.DISBURSEMENT_DATE.equals(loanApplicationTerms.getRepaymentStartDateType())
+                ? loanApplicationTerms.getExpectedDisbursementDate()
+                : loanApplicationTerms.getSubmittedOnDate();
+        final List<LoanScheduleModelRepaymentPeriod> expectedRepaymentPeriods = scheduledDateGenerator.generateRepaymentPeriods(mc,
+                periodStartDate, loanApplicationTerms, null);
+        final ProgressiveLoanInterestScheduleModel interestScheduleModel = emiCalculator.generatePeriodInterestScheduleModel(
+                expectedRepaymentPeriods, loanApplicationTerms.toLoanProductRelatedDetailMinimumData(), null,
+                loanApplicationTerms.getInstallmentAmountInMultiplesOf(), mc);
+
+        final LocalDate disbursementDate = loanApplicationTerms.getExpectedDisbursementDate();
+        Money disbursedAmount = loanApplicationTerms.getPrincipal().zero(mc);
+        Money downPaymentAmount = disbursedAmount;
+        if (!interestScheduleModel.isEmpty() && !disbursementDate.isBefore(interestScheduleModel.getStartDate())
+                && disbursementDate.isBefore(interestScheduleModel.getMaturityDate())) {
+            disbursedAmount = loanApplicationTerms.getPrincipal();
+            if (loanApplicationTerms.isDownPaymentEnabled()) {
+                downPaymentAmount = Money.of(loanApplicationTerms.getCurrency(), MathUtil.percentageOf(disbursedAmount.getAmount(),
+                        loanApplicationTerms.getDisbursedAmountPercentageForDownPayment(), mc), mc);
+                if (loanApplicationTerms.getInstallmentAmountInMultiplesOf() != null) {
+                    downPaymentAmount = Money.roundToMultiplesOf(downPaymentAmount,
+                            loanApplicationTerms.getInstallmentAmountInMultiplesOf(), mc);
+                }
+            }
+            emiCalculator.addDisbursement(interestScheduleModel, disbursementDate, disbursedAmount.minus(downPaymentAmount, mc));
+        }
+
+        final List<RepaymentPeriod> repaymentPeriods = interestScheduleModel.repaymentPeriods();
+        Money totalInterest = disbursedAmount.zero(mc);
+        Money totalRepayment = downPaymentAmount;
+        final double[] payments = new double[repaymentPeriods.size()];
+        final double[] years = new double[repaymentPeriods.size()];
+        for (int i = 0; i < repaymentPeriods.size(); i++) {
+            final RepaymentPeriod repaymentPeriod = repaymentPeriods.get(i);
+            final Money interestDue = repaymentPeriod.getDueInterest();
+            final Money totalDue = repaymentPeriod.getDuePrincipal().plus(interestDue, mc);
+            totalInterest = totalInterest.plus(interestDue, mc);
+            totalRepayment = totalRepayment.plus(totalDue, mc);
+            payments[i] = totalDue.getAmount().doubleValue();
+            years[i] = ChronoUnit.DAYS.between(disbursementDate, repaymentPeriod.getDueDate()) / DAYS_IN_YEAR;
+        }
+
+        final BigDecimal emi = repaymentPeriods.isEmpty() ? BigDecimal.ZERO : repaymentPeriods.getFirst().getEmi().getAmount();
+        final double advance = disbursedAmount.minus(downPaymentAmount, mc).getAmount().doubleValue();
+        return new LoanScheduleSummary(loanApplicationTerms.getCurrency(), repaymentPeriods.size(),
+                interestScheduleModel.getLoanTermInDays(), emi, disbursedAmount.getAmount(), totalInterest.getAmount(),
+                totalRepayment.getAmount(), annualPercentageRate(advance, payments, years));
+    }
+
+    /**
+     * Solves {@code sum(payment / (1 + rate) ^ years) = advance} with Newton's method. The present value is convex and
+     * decreasing in the rate, so starting from zero converges for every schedule that repays more than it advances.
+     */
+    static BigDecimal annualPercentageRate(final double advance, final double[] payments, final double[] years) {
+        if (advance <= 0 || payments.length == 0) {
+            return BigDecimal.ZERO;
+        }
+        double rate = 0;
+        for (int iteration = 0; iteration < MAX_APR_ITERATIONS; iteration++) {
+            double presentValue = -advance;
+            double derivative = 0;
+            for (int i = 0; i < payments.length; i++) {
+                final double discounted = payments[i] * Math.pow(1 + rate, -years[i]);
+                presentValue += discounted;
+                derivative -= years[i] * discounted / (1 + rate);
+            }
+            if (derivative == 0) {
+                break;
+            }
+            final double step = presentValue / derivative;
+            rate -= step;
+            if (rate <= -1 || !Double.isFinite(rate)) {
+                return BigDecimal.ZERO;
+            }
+            if (Math.abs(step) < APR_TOLERANCE) {
+                break;
+            }
+        }
+        return BigDecimal.valueOf(rate * 100).setScale(4, RoundingMode.HALF_UP);
+    }
+
     private static final class NoopInterestScheduleModelRepositoryWrapper implements InterestScheduleModelRepositoryWrapper {
 
         @Override
@@ -0,0 +1,155 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.loanschedule.domain;
+
+import java.math.MathContext;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.fineract.organisation.monetary.domain.Money;
+import org.apache.fineract.organisation.workingdays.data.AdjustedDateDetailsDTO;
+import org.apache.fineract.portfolio.calendar.domain.Calendar;
+import org.apache.fineract.portfolio.common.domain.DayOfWeekType;
+import org.apache.fineract.portfolio.common.domain.PeriodFrequencyType;
+import org.apache.fineract.portfolio.loanaccount.data.HolidayDetailDTO;
+
+/**
+ * Remembers the due dates of generated repayment periods so that offers sharing start date, frequency and term only walk
+ * the calendar once. Terms with holidays, a loan calendar or due date variations are always delegated, because their
+ * dates depend on more than the key. The memo is cleared once it holds {@code maxEntries} schedules.
+ */
+final class MemoizingScheduledDateGenerator implements ScheduledDateGenerator {
+
+    private final ScheduledDateGenerator delegate;
+    private final int maxEntries;
+    private final Map<PeriodDatesKey, LocalDate[]> dueDates = new ConcurrentHashMap<>();
+
+    MemoizingScheduledDateGenerator(final ScheduledDateGenerator delegate, final int maxEntries) {
+        this.delegate = delegate;
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public List<LoanScheduleModelRepaymentPeriod> generateRepaymentPeriods(final MathContext mc, final LocalDate scheduleStartDate,
+            final LoanApplicationTerms loanApplicationTerms, final HolidayDetailDTO holidayDetailDTO) {
+        if (!isMemoizable(loanApplicationTerms, holidayDetailDTO)) {
+            return delegate.generateRepaymentPeriods(mc, scheduleStartDate, loanApplicationTerms, holidayDetailDTO);
+        }
+        final PeriodDatesKey key = PeriodDatesKey.of(scheduleStartDate, loanApplicationTerms);
+        LocalDate[] memoized = dueDates.get(key);
+        if (memoized == null) {
+            final List<LoanScheduleModelRepaymentPeriod> periods = delegate.generateRepaymentPeriods(mc, scheduleStartDate,
+                    loanApplicationTerms, null);
+            if (dueDates.size() >= maxEntries) {
+                dueDates.clear();
+            }
+            dueDates.putIfAbsent(key, periods.stream().map(LoanScheduleModelRepaymentPeriod::getDueDate).toArray(LocalDate[]::new));
+            return periods;
+        }
+        final Money zeroAmount = Money.zero(loanApplicationTerms.getCurrency(), mc);
+        final List<LoanScheduleModelRepaymentPeriod> periods = new ArrayList<>(memoized.length);
+        LocalDate fromDate = scheduleStartDate;
+        for (int i = 0; i < memoized.length; i++) {
+            periods.add(LoanScheduleModelRepaymentPeriod.repayment(i + 1, fromDate, memoized[i], zeroAmount, zeroAmount, zeroAmount,
+                    zeroAmount, zeroAmount, zeroAmount, false, mc));
+            fromDate = memoized[i];
+        }
+        return periods;
+    }
+
+    int size() {
+        return dueDates.size();
+    }
+
+    private static boolean isMemoizable(final LoanApplicationTerms loanApplicationTerms, final HolidayDetailDTO holidayDetailDTO) {
+        return holidayDetailDTO == null && loanApplicationTerms.getLoanCalendar() == null
+                && (loanApplicationTerms.getLoanTermVariations() == null
+                        || loanApplicationTerms.getLoanTermVariations().getDueDateVariation().isEmpty());
+    }
+
+    @Override
+    public LocalDate getLastRepaymentDate(final LoanApplicationTerms loanApplicationTerms, final HolidayDetailDTO holidayDetailDTO) {
+        return delegate.getLastRepaymentDate(loanApplicationTerms, holidayDetailDTO);
+    }
+
+    @Override
+    public LocalDate idealDisbursementDateBasedOnFirstRepaymentDate(final PeriodFrequencyType repaymentPeriodFrequencyType,
+            final int repaidEvery, final LocalDate firstRepaymentDate, final Calendar loanCalendar, final HolidayDetailDTO holidayDetailDTO,
+            final LoanApplicationTerms loanApplicationTerms) {
+        return delegate.idealDisbursementDateBasedOnFirstRepaymentDate(repaymentPeriodFrequencyType, repaidEvery, firstRepaymentDate,
+                loanCalendar, holidayDetailDTO, loanApplicationTerms);
+    }
+
+    @Override
+    public LocalDate generateNextRepaymentDate(final LocalDate lastRepaymentDate, final LoanApplicationTerms loanApplicationTerms,
+            final boolean isFirstRepayment) {
+        return delegate.generateNextRepaymentDate(lastRepaymentDate, loanApplicationTerms, isFirstRepayment);
+    }
+
+    @Override
+    public LocalDate generateNextRepaymentDate(final LocalDate lastRepaymentDate, final LoanApplicationTerms loanApplicationTerms,
+            final boolean isFirstRepayment, final Integer periodNumber) {
+        return delegate.generateNextRepaymentDate(lastRepaymentDate, loanApplicationTerms, isFirstRepayment, periodNumber);
+    }
+
+    @Override
+    public AdjustedDateDetailsDTO adjustRepaymentDate(final LocalDate dueRepaymentPeriodDate,
+            final LoanApplicationTerms loanApplicationTerms, final HolidayDetailDTO holidayDetailDTO) {
+        return delegate.adjustRepaymentDate(dueRepaymentPeriodDate, loanApplicationTerms, holidayDetailDTO);
+    }
+
+    @Override
+    public LocalDate getRepaymentPeriodDate(final PeriodFrequencyType frequency, final int repaidEvery, final LocalDate startDate) {
+        return delegate.getRepaymentPeriodDate(frequency, repaidEvery, startDate);
+    }
+
+    @Override
+    public Boolean isDateFallsInSchedule(final PeriodFrequencyType frequency, final int repaidEvery, final LocalDate startDate,
+            final LocalDate date) {
+        return delegate.isDateFallsInSchedule(frequency, repaidEvery, startDate, date);
+    }
+
+    @Override
+    public LocalDate generateNextScheduleDateStartingFromDisburseDate(final LocalDate lastRepaymentDate,
+            final LoanApplicationTerms loanApplicationTerms, final HolidayDetailDTO holidayDetailDTO) {
+        return delegate.generateNextScheduleDateStartingFromDisburseDate(lastRepaymentDate, loanApplicationTerms, holidayDetailDTO);
+    }
+
+    @Override
+    public LocalDate generateNextScheduleDateStartingFromDisburseDateOrRescheduleDate(final LocalDate lastRepaymentDate,
+            final LoanApplicationTerms loanApplicationTerms, final HolidayDetailDTO holidayDetailDTO) {
+        return delegate.generateNextScheduleDateStartingFromDisburseDateOrRescheduleDate(lastRepaymentDate, loanApplicationTerms,
+                holidayDetailDTO);
+    }
+
+    private record PeriodDatesKey(LocalDate scheduleStartDate, LocalDate expectedDisbursementDate, LocalDate repaymentsStartingFromDate,
+            LocalDate calculatedRepaymentsStartingFromDate, LocalDate seedDate, LocalDate submittedOnDate,
+            PeriodFrequencyType repaymentPeriodFrequencyType, Integer repaymentEvery, Integer numberOfRepayments, Integer fixedLength,
+            Integer nthDay, DayOfWeekType weekDayType) {
+
+        static PeriodDatesKey of(final LocalDate scheduleStartDate, final LoanApplicationTerms terms) {
+            return new PeriodDatesKey(scheduleStartDate, terms.getExpectedDisbursementDate(), terms.getRepaymentsStartingFromLocalDate(),
+                    terms.getCalculatedRepaymentsStartingFromLocalDate(), terms.getSeedDate(), terms.getSubmittedOnDate(),
+                    terms.getRepaymentPeriodFrequencyType(), terms.getRepaymentEvery(), terms.getNumberOfRepayments(),
+                    terms.getFixedLength(), terms.getNthDay(), terms.getWeekDayType());
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.loanschedule.domain;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.fineract.organisation.monetary.data.CurrencyData;
+import org.apache.fineract.portfolio.common.domain.DaysInMonthType;
+import org.apache.fineract.portfolio.common.domain.DaysInYearType;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.data.LoanSchedulePlan;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.data.LoanScheduleSummary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Compares generating the plans of a batch of 36 month offers one by one with the bulk generator, and with the summary
+ * only output of the bulk generator. The offers share 12 start dates, so most of their due dates come from the memo.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EmbeddableProgressiveLoanScheduleBulkGeneratorBenchmark {
+
+    private static final CurrencyData CURRENCY = new CurrencyData("USD", "USD", 2, 1, "$", "USD");
+    private static final int NUMBER_OF_REPAYMENTS = 36;
+    private static final int DISTINCT_START_DATES = 12;
+
+    private final MathContext mc = new MathContext(12, RoundingMode.HALF_EVEN);
+
+    @Param({ "1000" })
+    private int numberOfOffers;
+
+    private List<LoanRepaymentScheduleModelData> offers;
+    private EmbeddableProgressiveLoanScheduleGenerator singleGenerator;
+    private EmbeddableProgressiveLoanScheduleBulkGenerator bulkGenerator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        offers = new ArrayList<>(numberOfOffers);
+        for (int i = 0; i < numberOfOffers; i++) {
+            final LocalDate startDate = LocalDate.of(2024, 1, 1).plusMonths(i % DISTINCT_START_DATES);
+            offers.add(new LoanRepaymentScheduleModelData(startDate, CURRENCY, BigDecimal.valueOf(1_000L + 10L * i), startDate,
+                    NUMBER_OF_REPAYMENTS, 1, "MONTHS", BigDecimal.valueOf(4 + i % 9), false, DaysInMonthType.DAYS_30,
+                    DaysInYearType.DAYS_360, BigDecimal.ZERO, null, null, false, null));
+        }
+        singleGenerator = new EmbeddableProgressiveLoanScheduleGenerator();
+        bulkGenerator = new EmbeddableProgressiveLoanScheduleBulkGenerator();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        bulkGenerator.close();
+    }
+
+    @Benchmark
+    public List<LoanSchedulePlan> sequentialPlans() {
+        final List<LoanSchedulePlan> plans = new ArrayList<>(offers.size());
+        for (LoanRepaymentScheduleModelData offer : offers) {
+            plans.add(singleGenerator.generate(mc, offer));
+        }
+        return plans;
+    }
+
+    @Benchmark
+    public List<LoanSchedulePlan> bulkPlans() {
+        return bulkGenerator.generate(mc, offers);
+    }
+
+    @Benchmark
+    public List<LoanScheduleSummary> bulkSummaries() {
+        return bulkGenerator.summarize(mc, offers);
+    }
+}
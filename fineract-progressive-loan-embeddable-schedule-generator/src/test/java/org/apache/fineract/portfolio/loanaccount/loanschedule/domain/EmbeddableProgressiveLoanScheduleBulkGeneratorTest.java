@@ -0,0 +1,119 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.loanschedule.domain;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.fineract.organisation.monetary.data.CurrencyData;
+import org.apache.fineract.portfolio.common.domain.DaysInMonthType;
+import org.apache.fineract.portfolio.common.domain.DaysInYearType;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.data.LoanSchedulePlan;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.data.LoanScheduleSummary;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class EmbeddableProgressiveLoanScheduleBulkGeneratorTest {
+
+    private static final MathContext MC = new MathContext(12, RoundingMode.HALF_UP);
+    private static final CurrencyData CURRENCY = new CurrencyData("usd", "US Dollar", 2, null, "usd", "$");
+
+    @Test
+    void testGenerateKeepsOrderAndMatchesSingleGeneration() {
+        final List<LoanRepaymentScheduleModelData> offers = offers(40, 4);
+        final EmbeddableProgressiveLoanScheduleGenerator single = new EmbeddableProgressiveLoanScheduleGenerator();
+
+        try (EmbeddableProgressiveLoanScheduleBulkGenerator bulk = new EmbeddableProgressiveLoanScheduleBulkGenerator(4)) {
+            final List<LoanSchedulePlan> plans = bulk.generate(MC, offers);
+
+            Assertions.assertEquals(offers.size(), plans.size());
+            for (int i = 0; i < offers.size(); i++) {
+                final LoanSchedulePlan expected = single.generate(MC, offers.get(i));
+                Assertions.assertEquals(expected.getTotalInterestAmount(), plans.get(i).getTotalInterestAmount());
+                Assertions.assertEquals(expected.getTotalRepaymentAmount(), plans.get(i).getTotalRepaymentAmount());
+                Assertions.assertEquals(expected.getLoanTermInDays(), plans.get(i).getLoanTermInDays());
+                Assertions.assertEquals(expected.getPeriods().size(), plans.get(i).getPeriods().size());
+                for (int p = 0; p < expected.getPeriods().size(); p++) {
+                    Assertions.assertEquals(expected.getPeriods().get(p).periodDueDate(), plans.get(i).getPeriods().get(p).periodDueDate());
+                }
+            }
+            // 4 distinct start dates with the same frequency and term
+            Assertions.assertEquals(4, bulk.memoizedSchedules());
+        }
+    }
+
+    @Test
+    void testSummarizeMatchesGeneratedPlan() {
+        final List<LoanRepaymentScheduleModelData> offers = offers(12, 3);
+        final EmbeddableProgressiveLoanScheduleGenerator single = new EmbeddableProgressiveLoanScheduleGenerator();
+
+        try (EmbeddableProgressiveLoanScheduleBulkGenerator bulk = new EmbeddableProgressiveLoanScheduleBulkGenerator(2)) {
+            final List<LoanScheduleSummary> summaries = bulk.summarize(MC, offers.toArray(LoanRepaymentScheduleModelData[]::new));
+
+            Assertions.assertEquals(offers.size(), summaries.size());
+            for (int i = 0; i < offers.size(); i++) {
+                final LoanSchedulePlan plan = single.generate(MC, offers.get(i));
+                final LoanScheduleSummary summary = summaries.get(i);
+                Assertions.assertEquals(0, plan.getTotalDisbursedAmount().compareTo(summary.totalDisbursedAmount()));
+                Assertions.assertEquals(0, plan.getTotalInterestAmount().compareTo(summary.totalInterestAmount()));
+                Assertions.assertEquals(0, plan.getTotalRepaymentAmount().compareTo(summary.totalRepaymentAmount()));
+                Assertions.assertEquals(plan.getLoanTermInDays(), summary.loanTermInDays());
+                Assertions.assertEquals(plan.getPeriods().size() - 1, summary.numberOfRepayments());
+            }
+        }
+    }
+
+    @Test
+    void testSummarize() {
+        final LoanScheduleSummary summary = new EmbeddableProgressiveLoanScheduleGenerator().summarize(MC,
+                offer(LocalDate.of(2024, 1, 1), BigDecimal.valueOf(100), BigDecimal.valueOf(7.0)));
+
+        Assertions.assertEquals(6, summary.numberOfRepayments());
+        Assertions.assertEquals(182, summary.loanTermInDays());
+        Assertions.assertEquals(0, BigDecimal.valueOf(17.01).compareTo(summary.emi()));
+        Assertions.assertEquals(0, BigDecimal.valueOf(2.05).compareTo(summary.totalInterestAmount()));
+        Assertions.assertEquals(0, BigDecimal.valueOf(102.05).compareTo(summary.totalRepaymentAmount()));
+        Assertions.assertEquals(new BigDecimal("7.2444"), summary.annualPercentageRate());
+    }
+
+    @Test
+    void testAnnualPercentageRateWithoutInterest() {
+        final BigDecimal apr = EmbeddableProgressiveLoanScheduleGenerator.annualPercentageRate(100, new double[] { 50, 50 },
+                new double[] { 0.5, 1 });
+
+        Assertions.assertEquals(0, BigDecimal.ZERO.compareTo(apr));
+    }
+
+    private static List<LoanRepaymentScheduleModelData> offers(final int count, final int distinctStartDates) {
+        final List<LoanRepaymentScheduleModelData> offers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final LocalDate startDate = LocalDate.of(2024, 1, 1).plusMonths(i % distinctStartDates);
+            offers.add(offer(startDate, BigDecimal.valueOf(100L + 25L * i), BigDecimal.valueOf(5 + i % 7)));
+        }
+        return offers;
+    }
+
+    private static LoanRepaymentScheduleModelData offer(final LocalDate startDate, final BigDecimal amount, final BigDecimal rate) {
+        return new LoanRepaymentScheduleModelData(startDate, CURRENCY, amount, startDate, 6, 1, "MONTHS", rate, false,
+                DaysInMonthType.DAYS_30, DaysInYearType.DAYS_360, BigDecimal.ZERO, null, null, false, null);
+    }
+}
@@ -43,9 +43,12 @@ public class ProgressiveLoanModel extends AbstractPersistableCustom<Long> {
     @JoinColumn(name = "loan_id", nullable = false)
     private Loan loan;
 
-    @Column(name = "json_model", columnDefinition = "text", nullable = false)
+    @Column(name = "json_model", columnDefinition = "text")
     private String jsonModel;
 
+    @Column(name = "binary_model")
+    private byte[] binaryModel;
+
     @Column(name = "business_date", nullable = false)
     private LocalDate businessDate;
 
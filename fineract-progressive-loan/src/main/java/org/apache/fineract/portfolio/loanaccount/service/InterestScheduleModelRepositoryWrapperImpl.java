@@ -24,6 +24,7 @@ import java.time.LocalDate;
 import java.util.Optional;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.persistence.FlushModeHandler;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
@@ -47,6 +48,8 @@ public class InterestScheduleModelRepositoryWrapperImpl implements InterestSched
     private final ProgressiveLoanInterestScheduleModelParserService progressiveLoanInterestScheduleModelParserService;
     private final AdvancedPaymentScheduleTransactionProcessor advancedPaymentScheduleTransactionProcessor;
     private final FlushModeHandler flushModeHandler;
+    private final ProgressiveLoanInterestScheduleModelBinaryCodec progressiveLoanInterestScheduleModelBinaryCodec;
+    private final FineractProperties fineractProperties;
 
     @Transactional
     @Override
@@ -54,7 +57,9 @@ public class InterestScheduleModelRepositoryWrapperImpl implements InterestSched
         if (model == null) {
             return null;
         }
-        String jsonModel = progressiveLoanInterestScheduleModelParserService.toJson(model);
+        boolean binary = isBinaryModelEnabled();
+        String jsonModel = binary ? null : progressiveLoanInterestScheduleModelParserService.toJson(model);
+        byte[] binaryModel = binary ? progressiveLoanInterestScheduleModelBinaryCodec.encode(model) : null;
         flushModeHandler.withFlushMode(FlushModeType.COMMIT, () -> {
             ProgressiveLoanModel progressiveLoanModel = loanModelRepository.findOneByLoanId(loan.getId()).orElseGet(() -> {
                 ProgressiveLoanModel plm = new ProgressiveLoanModel();
@@ -63,7 +68,9 @@ public class InterestScheduleModelRepositoryWrapperImpl implements InterestSched
             });
             progressiveLoanModel.setBusinessDate(ThreadLocalContextUtil.getBusinessDate());
             progressiveLoanModel.setLastModifiedDate(DateUtils.getAuditOffsetDateTime());
+            // Existing JSON rows are migrated to the binary format (and back) on their next write
             progressiveLoanModel.setJsonModel(jsonModel);
+            progressiveLoanModel.setBinaryModel(binaryModel);
             loanModelRepository.save(progressiveLoanModel);
         });
         return model;
@@ -80,10 +87,8 @@ public class InterestScheduleModelRepositoryWrapperImpl implements InterestSched
 
     @Override
     public Optional<ProgressiveLoanInterestScheduleModel> extractModel(Optional<ProgressiveLoanModel> progressiveLoanModel) {
-        return progressiveLoanModel.map(ProgressiveLoanModel::getJsonModel) //
-                .map(jsonModel -> progressiveLoanInterestScheduleModelParserService.fromJson(jsonModel,
-                        progressiveLoanModel.get().getLoan().getLoanProductRelatedDetail(), MoneyHelper.getMathContext(),
-                        progressiveLoanModel.get().getLoan().getLoanProductRelatedDetail().getInstallmentAmountInMultiplesOf()));
+        return progressiveLoanModel.map(plm -> parseModel(plm, plm.getLoan().getLoanProductRelatedDetail(),
+                plm.getLoan().getLoanProductRelatedDetail().getInstallmentAmountInMultiplesOf()));
     }
 
     @Override
@@ -116,8 +121,21 @@ public class InterestScheduleModelRepositoryWrapperImpl implements InterestSched
     public Optional<ProgressiveLoanInterestScheduleModel> readProgressiveLoanInterestScheduleModel(final Long loanId,
             final LoanProductMinimumRepaymentScheduleRelatedDetail detail, final Integer installmentAmountInMultipliesOf) {
         return loanModelRepository.findOneByLoanId(loanId) //
-                .map(ProgressiveLoanModel::getJsonModel) //
-                .map(jsonModel -> progressiveLoanInterestScheduleModelParserService.fromJson(jsonModel, detail,
-                        MoneyHelper.getMathContext(), installmentAmountInMultipliesOf)); //
+                .map(plm -> parseModel(plm, detail, installmentAmountInMultipliesOf)); //
+    }
+
+    private ProgressiveLoanInterestScheduleModel parseModel(final ProgressiveLoanModel progressiveLoanModel,
+            final LoanProductMinimumRepaymentScheduleRelatedDetail detail, final Integer installmentAmountInMultipliesOf) {
+        if (progressiveLoanModel.getBinaryModel() != null) {
+            return progressiveLoanInterestScheduleModelBinaryCodec.decode(progressiveLoanModel.getBinaryModel(), detail,
+                    MoneyHelper.getMathContext(), installmentAmountInMultipliesOf);
+        }
+        return progressiveLoanInterestScheduleModelParserService.fromJson(progressiveLoanModel.getJsonModel(), detail,
+                MoneyHelper.getMathContext(), installmentAmountInMultipliesOf);
+    }
+
+    private boolean isBinaryModelEnabled() {
+        FineractProperties.FineractProgressiveModelProperties progressiveModel = fineractProperties.getLoan().getProgressiveModel();
+        return progressiveModel != null && progressiveModel.isBinaryEnabled();
     }
 }
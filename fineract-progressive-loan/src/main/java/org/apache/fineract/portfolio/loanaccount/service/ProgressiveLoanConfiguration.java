@@ -18,6 +18,7 @@
  */
 package org.apache.fineract.portfolio.loanaccount.service;
 
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.portfolio.loanaccount.starter.AdvancedPaymentScheduleTransactionProcessorCondition;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
@@ -33,4 +34,11 @@ public class ProgressiveLoanConfiguration {
     public ProgressiveLoanInterestScheduleModelParserService interestScheduleModelService() {
         return new ProgressiveLoanInterestScheduleModelParserServiceGsonImpl();
     }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ProgressiveLoanInterestScheduleModelBinaryCodec interestScheduleModelBinaryCodec(FineractProperties fineractProperties) {
+        FineractProperties.FineractProgressiveModelProperties progressiveModel = fineractProperties.getLoan().getProgressiveModel();
+        return new ProgressiveLoanInterestScheduleModelBinaryCodec(progressiveModel == null || progressiveModel.isCompressionEnabled());
+    }
 }
@@ -0,0 +1,371 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.service;
+
+import jakarta.validation.constraints.NotNull;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.data.EnumOptionData;
+import org.apache.fineract.organisation.monetary.data.CurrencyData;
+import org.apache.fineract.organisation.monetary.domain.Money;
+import org.apache.fineract.portfolio.loanaccount.data.LoanTermVariationsData;
+import org.apache.fineract.portfolio.loanproduct.calc.data.InterestPeriod;
+import org.apache.fineract.portfolio.loanproduct.calc.data.InterestRate;
+import org.apache.fineract.portfolio.loanproduct.calc.data.LoanInterestScheduleModelModifiers;
+import org.apache.fineract.portfolio.loanproduct.calc.data.ProgressiveLoanInterestScheduleModel;
+import org.apache.fineract.portfolio.loanproduct.calc.data.RepaymentPeriod;
+import org.apache.fineract.portfolio.loanproduct.domain.LoanProductMinimumRepaymentScheduleRelatedDetail;
+
+/**
+ * Compact, versioned binary format of {@link ProgressiveLoanInterestScheduleModel}.
+ * <p>
+ * Layout: 2 magic bytes, 1 format version byte and 1 flags byte, followed by the (optionally deflated) body. Dates are
+ * stored as zig-zag varint epoch days and amounts as scale + unscaled value, which keeps a money amount to 2-4 bytes
+ * instead of its decimal text. The body is decoded straight into the model objects without building any intermediate
+ * tree, which is where the JSON format spends most of its allocations.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ProgressiveLoanInterestScheduleModelBinaryCodec {
+
+    public static final int FORMAT_VERSION = 1;
+
+    private static final byte MAGIC_1 = 'P';
+    private static final byte MAGIC_2 = 'M';
+    private static final int HEADER_LENGTH = 4;
+    private static final int FLAG_DEFLATED = 1;
+    private static final int COMPRESSION_THRESHOLD = 512;
+
+    private static final int NULL = 0;
+    private static final int SMALL = 1;
+    private static final int BIG = 2;
+
+    private final boolean compressionEnabled;
+
+    /**
+     * Returns whether the given payload is in this binary format (as opposed to the legacy JSON format).
+     */
+    public static boolean isBinaryModel(byte[] payload) {
+        return payload != null && payload.length >= HEADER_LENGTH && payload[0] == MAGIC_1 && payload[1] == MAGIC_2;
+    }
+
+    public byte[] encode(@NotNull ProgressiveLoanInterestScheduleModel model) {
+        try {
+            ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream(256 + model.repaymentPeriods().size() * 64);
+            writeModel(new DataOutputStream(bodyBytes), model);
+
+            boolean deflate = compressionEnabled && bodyBytes.size() > COMPRESSION_THRESHOLD;
+            ByteArrayOutputStream result = new ByteArrayOutputStream(HEADER_LENGTH + bodyBytes.size());
+            result.write(MAGIC_1);
+            result.write(MAGIC_2);
+            result.write(FORMAT_VERSION);
+            result.write(deflate ? FLAG_DEFLATED : 0);
+            if (deflate) {
+                Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+                try (DeflaterOutputStream out = new DeflaterOutputStream(result, deflater)) {
+                    bodyBytes.writeTo(out);
+                } finally {
+                    deflater.end();
+                }
+            } else {
+                bodyBytes.writeTo(result);
+            }
+            return result.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public ProgressiveLoanInterestScheduleModel decode(byte[] payload,
+            @NotNull LoanProductMinimumRepaymentScheduleRelatedDetail loanProductRelatedDetail, @NotNull MathContext mc,
+            Integer installmentAmountInMultipliesOf) {
+        if (!isBinaryModel(payload)) {
+            return null;
+        }
+        int version = payload[2];
+        if (version != FORMAT_VERSION) {
+            log.warn("Unsupported ProgressiveLoanInterestScheduleModel binary format version {}. Falling back to default value.", version);
+            return null;
+        }
+        InputStream body = new ByteArrayInputStream(payload, HEADER_LENGTH, payload.length - HEADER_LENGTH);
+        if ((payload[3] & FLAG_DEFLATED) != 0) {
+            body = new InflaterInputStream(body);
+        }
+        try (DataInputStream in = new DataInputStream(body)) {
+            return readModel(in, loanProductRelatedDetail, mc, installmentAmountInMultipliesOf);
+        } catch (Exception e) {
+            log.warn("Failed to decode ProgressiveLoanInterestScheduleModel binary. Falling back to default value.", e);
+            return null;
+        }
+    }
+
+    private void writeModel(DataOutputStream out, ProgressiveLoanInterestScheduleModel model) throws IOException {
+        writeDate(out, model.lastOverdueBalanceChange());
+
+        writeVarInt(out, model.modifiers().size());
+        for (Map.Entry<LoanInterestScheduleModelModifiers, Boolean> modifier : model.modifiers().entrySet()) {
+            out.writeUTF(modifier.getKey().name());
+            out.writeBoolean(Boolean.TRUE.equals(modifier.getValue()));
+        }
+
+        writeVarInt(out, model.interestRates().size());
+        for (InterestRate interestRate : model.interestRates()) {
+            writeDate(out, interestRate.effectiveFrom());
+            writeDecimal(out, interestRate.interestRate());
+        }
+
+        List<LoanTermVariationsData> loanTermVariations = new ArrayList<>();
+        if (model.loanTermVariations() != null) {
+            model.loanTermVariations().values().forEach(loanTermVariations::addAll);
+        }
+        writeVarInt(out, loanTermVariations.size());
+        for (LoanTermVariationsData loanTermVariation : loanTermVariations) {
+            writeLoanTermVariation(out, loanTermVariation);
+        }
+
+        writeVarInt(out, model.repaymentPeriods().size());
+        for (RepaymentPeriod repaymentPeriod : model.repaymentPeriods()) {
+            writeDate(out, repaymentPeriod.getFromDate());
+            writeDate(out, repaymentPeriod.getDueDate());
+            writeMoney(out, repaymentPeriod.getEmi());
+            writeMoney(out, repaymentPeriod.getOriginalEmi());
+            writeMoney(out, repaymentPeriod.getPaidPrincipal());
+            writeMoney(out, repaymentPeriod.getPaidInterest());
+            writeMoney(out, repaymentPeriod.getFutureUnrecognizedInterest());
+            out.writeBoolean(repaymentPeriod.isInterestMoved());
+
+            writeVarInt(out, repaymentPeriod.getInterestPeriods().size());
+            for (InterestPeriod interestPeriod : repaymentPeriod.getInterestPeriods()) {
+                writeDate(out, interestPeriod.getFromDate());
+                writeDate(out, interestPeriod.getDueDate());
+                writeDecimal(out, interestPeriod.getRateFactor());
+                writeDecimal(out, interestPeriod.getRateFactorTillPeriodDueDate());
+                writeMoney(out, interestPeriod.getCreditedPrincipal());
+                writeMoney(out, interestPeriod.getCreditedInterest());
+                writeMoney(out, interestPeriod.getDisbursementAmount());
+                writeMoney(out, interestPeriod.getBalanceCorrectionAmount());
+                writeMoney(out, interestPeriod.getOutstandingLoanBalance());
+                writeMoney(out, interestPeriod.getCapitalizedIncomePrincipal());
+                out.writeBoolean(interestPeriod.isPaused());
+            }
+        }
+        out.flush();
+    }
+
+    private ProgressiveLoanInterestScheduleModel readModel(DataInputStream in,
+            LoanProductMinimumRepaymentScheduleRelatedDetail loanProductRelatedDetail, MathContext mc,
+            Integer installmentAmountInMultipliesOf) throws IOException {
+        CurrencyData currency = loanProductRelatedDetail.getCurrencyData();
+        LocalDate lastOverdueBalanceChange = readDate(in);
+
+        int modifierCount = readVarInt(in);
+        List<Map.Entry<LoanInterestScheduleModelModifiers, Boolean>> modifiers = new ArrayList<>(modifierCount);
+        for (int i = 0; i < modifierCount; i++) {
+            modifiers.add(Map.entry(LoanInterestScheduleModelModifiers.valueOf(in.readUTF()), in.readBoolean()));
+        }
+
+        int interestRateCount = readVarInt(in);
+        List<InterestRate> interestRates = new ArrayList<>(interestRateCount);
+        for (int i = 0; i < interestRateCount; i++) {
+            interestRates.add(new InterestRate(readDate(in), readDecimal(in)));
+        }
+
+        int loanTermVariationCount = readVarInt(in);
+        List<LoanTermVariationsData> loanTermVariations = new ArrayList<>(loanTermVariationCount);
+        for (int i = 0; i < loanTermVariationCount; i++) {
+            loanTermVariations.add(readLoanTermVariation(in));
+        }
+
+        int repaymentPeriodCount = readVarInt(in);
+        List<RepaymentPeriod> repaymentPeriods = new ArrayList<>(repaymentPeriodCount);
+        RepaymentPeriod previous = null;
+        for (int i = 0; i < repaymentPeriodCount; i++) {
+            RepaymentPeriod repaymentPeriod = RepaymentPeriod.restore(previous, readDate(in), readDate(in), readMoney(in, currency, mc),
+                    readMoney(in, currency, mc), readMoney(in, currency, mc), readMoney(in, currency, mc), readMoney(in, currency, mc),
+                    in.readBoolean(), mc);
+            int interestPeriodCount = readVarInt(in);
+            for (int j = 0; j < interestPeriodCount; j++) {
+                repaymentPeriod.getInterestPeriods()
+                        .add(InterestPeriod.restore(repaymentPeriod, readDate(in), readDate(in), readDecimal(in), readDecimal(in),
+                                readMoney(in, currency, mc), readMoney(in, currency, mc), readMoney(in, currency, mc),
+                                readMoney(in, currency, mc), readMoney(in, currency, mc), readMoney(in, currency, mc), mc,
+                                in.readBoolean()));
+            }
+            repaymentPeriods.add(repaymentPeriod);
+            previous = repaymentPeriod;
+        }
+
+        ProgressiveLoanInterestScheduleModel model = new ProgressiveLoanInterestScheduleModel(repaymentPeriods, loanProductRelatedDetail,
+                loanTermVariations, installmentAmountInMultipliesOf, mc);
+        interestRates.forEach(interestRate -> model.addInterestRate(interestRate.effectiveFrom(), interestRate.interestRate()));
+        modifiers.forEach(modifier -> model.modifiers().put(modifier.getKey(), modifier.getValue()));
+        model.lastOverdueBalanceChange(lastOverdueBalanceChange);
+        return model;
+    }
+
+    private void writeLoanTermVariation(DataOutputStream out, LoanTermVariationsData loanTermVariation) throws IOException {
+        writeNullableLong(out, loanTermVariation.getId());
+        EnumOptionData termType = loanTermVariation.getTermType();
+        writeNullableLong(out, termType.getId());
+        writeNullableString(out, termType.getCode());
+        writeNullableString(out, termType.getValue());
+        writeDate(out, loanTermVariation.getTermVariationApplicableFrom());
+        writeDecimal(out, loanTermVariation.getDecimalValue());
+        writeDate(out, loanTermVariation.getDateValue());
+        out.writeBoolean(loanTermVariation.isSpecificToInstallment());
+        out.writeBoolean(loanTermVariation.isProcessed());
+    }
+
+    private LoanTermVariationsData readLoanTermVariation(DataInputStream in) throws IOException {
+        Long id = readNullableLong(in);
+        EnumOptionData termType = new EnumOptionData(readNullableLong(in), readNullableString(in), readNullableString(in));
+        LoanTermVariationsData loanTermVariation = new LoanTermVariationsData(id, termType, readDate(in), readDecimal(in), readDate(in),
+                in.readBoolean());
+        loanTermVariation.setProcessed(in.readBoolean());
+        return loanTermVariation;
+    }
+
+    private static void writeMoney(DataOutputStream out, Money money) throws IOException {
+        writeDecimal(out, money == null ? null : money.getAmount());
+    }
+
+    private static Money readMoney(DataInputStream in, CurrencyData currency, MathContext mc) throws IOException {
+        BigDecimal amount = readDecimal(in);
+        return amount == null ? null : Money.of(currency, amount, mc);
+    }
+
+    private static void writeDecimal(DataOutputStream out, BigDecimal value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+            return;
+        }
+        BigInteger unscaled = value.unscaledValue();
+        if (unscaled.bitLength() < Long.SIZE) {
+            out.writeByte(SMALL);
+            writeVarLong(out, zigZag(value.scale()));
+            writeVarLong(out, zigZag(unscaled.longValue()));
+        } else {
+            out.writeByte(BIG);
+            writeVarLong(out, zigZag(value.scale()));
+            byte[] bytes = unscaled.toByteArray();
+            writeVarInt(out, bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    private static BigDecimal readDecimal(DataInputStream in) throws IOException {
+        int kind = in.readUnsignedByte();
+        if (kind == NULL) {
+            return null;
+        }
+        int scale = (int) unZigZag(readVarLong(in));
+        if (kind == SMALL) {
+            return BigDecimal.valueOf(unZigZag(readVarLong(in)), scale);
+        }
+        byte[] bytes = new byte[readVarInt(in)];
+        in.readFully(bytes);
+        return new BigDecimal(new BigInteger(bytes), scale);
+    }
+
+    private static void writeDate(DataOutputStream out, LocalDate date) throws IOException {
+        out.writeBoolean(date != null);
+        if (date != null) {
+            writeVarLong(out, zigZag(date.toEpochDay()));
+        }
+    }
+
+    private static LocalDate readDate(DataInputStream in) throws IOException {
+        return in.readBoolean() ? LocalDate.ofEpochDay(unZigZag(readVarLong(in))) : null;
+    }
+
+    private static void writeNullableLong(DataOutputStream out, Long value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            writeVarLong(out, zigZag(value));
+        }
+    }
+
+    private static Long readNullableLong(DataInputStream in) throws IOException {
+        return in.readBoolean() ? unZigZag(readVarLong(in)) : null;
+    }
+
+    private static void writeNullableString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullableString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        writeVarLong(out, value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        return Math.toIntExact(readVarLong(in));
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long result = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = in.readUnsignedByte();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IOException("Malformed variable length number");
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -46,6 +46,7 @@ import org.apache.fineract.portfolio.loanaccount.domain.LoanTermVariationType;
 import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanScheduleModelRepaymentPeriod;
 import org.apache.fineract.portfolio.loanproduct.calc.data.EmiAdjustment;
 import org.apache.fineract.portfolio.loanproduct.calc.data.EmiChangeOperation;
+import org.apache.fineract.portfolio.loanproduct.calc.data.FixedPointMoney;
 import org.apache.fineract.portfolio.loanproduct.calc.data.InterestPeriod;
 import org.apache.fineract.portfolio.loanproduct.calc.data.OutstandingDetails;
 import org.apache.fineract.portfolio.loanproduct.calc.data.PeriodDueDetails;
@@ -479,20 +480,21 @@ public final class ProgressiveEMICalculator implements EMICalculator {
             });
 
             MathContext mc = scheduleModel.mc();
-            Money totalDueInterest = scheduleModel.repaymentPeriods().stream().map(RepaymentPeriod::getDueInterest)
-                    .reduce(scheduleModel.zero(), (m1, m2) -> m1.plus(m2, mc)); // 1.46
-            Money totalEMI = scheduleModel.repaymentPeriods().stream()
-                    .map(RepaymentPeriod::getEmiPlusCreditedAmountsPlusFutureUnrecognizedInterest)
-                    .reduce(scheduleModel.zero(), (m1, m2) -> m1.plus(m2, mc)); // 101.48
-            Money totalDisbursedAmount = scheduleModel.repaymentPeriods().stream()
-                    .flatMap(rp -> rp.getInterestPeriods().stream().map(InterestPeriod::getDisbursementAmount))
-                    .reduce(scheduleModel.zero(), (m1, m2) -> m1.plus(m2, mc)); // 100
-            Money totalCapitalizedIncome = scheduleModel.repaymentPeriods().stream()
-                    .flatMap(rp -> rp.getInterestPeriods().stream().map(InterestPeriod::getCapitalizedIncomePrincipal))
-                    .reduce(scheduleModel.zero(), (m1, m2) -> m1.plus(m2, mc)); // 100
-
-            Money diff = totalDisbursedAmount.plus(totalCapitalizedIncome, mc).plus(scheduleModel.getTotalCreditedPrincipal(), mc)
-                    .plus(totalDueInterest, mc).minus(totalEMI, mc);
+            final FixedPointMoney totalDueInterest = FixedPointMoney.of(scheduleModel.zero(), mc); // 1.46
+            final FixedPointMoney totalEMI = FixedPointMoney.of(scheduleModel.zero(), mc); // 101.48
+            final FixedPointMoney totalDisbursedAmount = FixedPointMoney.of(scheduleModel.zero(), mc); // 100
+            final FixedPointMoney totalCapitalizedIncome = FixedPointMoney.of(scheduleModel.zero(), mc); // 100
+            for (RepaymentPeriod rp : scheduleModel.repaymentPeriods()) {
+                totalDueInterest.plus(rp.getDueInterest());
+                totalEMI.plus(rp.getEmiPlusCreditedAmountsPlusFutureUnrecognizedInterest());
+                for (InterestPeriod ip : rp.getInterestPeriods()) {
+                    totalDisbursedAmount.plus(ip.getDisbursementAmount());
+                    totalCapitalizedIncome.plus(ip.getCapitalizedIncomePrincipal());
+                }
+            }
+
+            Money diff = totalDisbursedAmount.plus(totalCapitalizedIncome).plus(scheduleModel.getTotalCreditedPrincipal())
+                    .plus(totalDueInterest).minus(totalEMI).toMoney();
 
             repaymentPeriod.setEmi(repaymentPeriod.getEmi().add(diff, mc));
             if (repaymentPeriod.getEmi()
@@ -1134,10 +1136,10 @@ public final class ProgressiveEMICalculator implements EMICalculator {
      */
     @Override
     public Money getSumOfDueInterestsOnDate(ProgressiveLoanInterestScheduleModel scheduleModel, LocalDate subjectDate) {
-        return scheduleModel.repaymentPeriods().stream().map(RepaymentPeriod::getDueDate) //
-                .map(repaymentPeriodDueDate -> getDueAmounts(scheduleModel, repaymentPeriodDueDate, subjectDate) //
-                        .getDueInterest()) //
-                .reduce(scheduleModel.zero(), Money::add); //
+        final FixedPointMoney sumOfDueInterests = FixedPointMoney.of(scheduleModel.zero(), scheduleModel.mc());
+        scheduleModel.repaymentPeriods().forEach(repaymentPeriod -> sumOfDueInterests
+                .plus(getDueAmounts(scheduleModel, repaymentPeriod.getDueDate(), subjectDate).getDueInterest()));
+        return sumOfDueInterests.toMoney();
     }
 
     @Override
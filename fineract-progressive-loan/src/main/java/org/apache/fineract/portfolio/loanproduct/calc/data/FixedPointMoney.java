@@ -0,0 +1,185 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanproduct.calc.data;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.function.Supplier;
+import org.apache.fineract.organisation.monetary.data.CurrencyData;
+import org.apache.fineract.organisation.monetary.domain.Money;
+
+/**
+ * Mutable accumulator that adds and subtracts {@link Money} amounts as a long scaled to the decimal places of the
+ * currency, and builds a single {@link Money} at the end instead of one per operation.
+ * <p>
+ * Every step gives the same amount as the equivalent {@code Money#plus(Money, MathContext)} or
+ * {@code Money#minus(Money, MathContext)} call: amounts of the currency scale add up exactly, and positive results are
+ * rounded to {@code inMultiplesOf} the way the {@link Money} constructor does. When an operand has an unexpected scale,
+ * a step overflows or a rounding falls outside the range where the double arithmetic of {@link Money} is exact, the
+ * accumulator switches to {@link Money} arithmetic for the rest of its operations.
+ * <p>
+ * Accumulators can be combined with each other without creating an intermediate {@link Money}.
+ * {@link #withMoneyArithmetic(Supplier)} runs a calculation with plain {@link Money} arithmetic, the way the calculator
+ * worked before, so both versions can be compared.
+ * <p>
+ * Instances are not thread safe and are meant to live inside a single calculation.
+ */
+public final class FixedPointMoney {
+
+    // Money rounds to multiples through double; below these bounds that rounding is exact and matches the long version
+    private static final long MAX_VALUE_ROUNDED_TO_MULTIPLES = 1L << 40;
+    private static final int MAX_IN_MULTIPLES_OF = 1 << 12;
+    // any unscaled value with at most 18 digits fits into a long
+    private static final int MAX_LONG_PRECISION = 18;
+    private static final ThreadLocal<Boolean> MONEY_ARITHMETIC = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private final CurrencyData currency;
+    private final MathContext mc;
+    private final int decimalPlaces;
+    private final int inMultiplesOf;
+    private long unscaledAmount;
+    private Money fallback;
+
+    private FixedPointMoney(final Money initial, final MathContext mc) {
+        this.currency = initial.getCurrencyData();
+        this.mc = mc;
+        this.decimalPlaces = currency.getDecimalPlaces();
+        final Integer multiples = currency.getInMultiplesOf();
+        this.inMultiplesOf = multiples != null && decimalPlaces == 0 && multiples > 0 ? multiples : 0;
+        if (!MONEY_ARITHMETIC.get() && isScaledLong(initial.getAmount())) {
+            this.unscaledAmount = scaledLongValueOf(initial.getAmount());
+        } else {
+            this.fallback = initial;
+        }
+    }
+
+    public static FixedPointMoney of(final Money initial, final MathContext mc) {
+        return new FixedPointMoney(initial, mc);
+    }
+
+    /**
+     * Runs the calculation with every accumulator of the current thread on {@link Money} arithmetic.
+     */
+    public static <T> T withMoneyArithmetic(final Supplier<T> calculation) {
+        final Boolean previous = MONEY_ARITHMETIC.get();
+        MONEY_ARITHMETIC.set(Boolean.TRUE);
+        try {
+            return calculation.get();
+        } finally {
+            MONEY_ARITHMETIC.set(previous);
+        }
+    }
+
+    public FixedPointMoney plus(final Money amount) {
+        return apply(amount, false);
+    }
+
+    public FixedPointMoney minus(final Money amount) {
+        return apply(amount, true);
+    }
+
+    public FixedPointMoney plus(final FixedPointMoney amount) {
+        return apply(amount, false);
+    }
+
+    public FixedPointMoney minus(final FixedPointMoney amount) {
+        return apply(amount, true);
+    }
+
+    public FixedPointMoney negativeToZero() {
+        if (fallback != null) {
+            if (!fallback.isGreaterThanZero(mc)) {
+                fallback = Money.zero(currency, mc);
+            }
+        } else if (unscaledAmount < 0) {
+            unscaledAmount = 0;
+        }
+        return this;
+    }
+
+    public Money toMoney() {
+        return fallback != null ? fallback : Money.of(currency, BigDecimal.valueOf(unscaledAmount, decimalPlaces), mc);
+    }
+
+    private FixedPointMoney apply(final Money operand, final boolean subtract) {
+        if (operand == null) {
+            return this;
+        }
+        if (fallback == null && currency.getCode().equals(operand.getCurrencyCode()) && isScaledLong(operand.getAmount())
+                && applyScaled(scaledLongValueOf(operand.getAmount()), subtract)) {
+            return this;
+        }
+        return applyMoney(operand, subtract);
+    }
+
+    private FixedPointMoney apply(final FixedPointMoney operand, final boolean subtract) {
+        if (fallback == null && operand.fallback == null && currency.getCode().equals(operand.currency.getCode())
+                && applyScaled(operand.unscaledAmount, subtract)) {
+            return this;
+        }
+        return applyMoney(operand.toMoney(), subtract);
+    }
+
+    private boolean applyScaled(final long operandAmount, final boolean subtract) {
+        try {
+            final long result = subtract ? Math.subtractExact(unscaledAmount, operandAmount) : Math.addExact(unscaledAmount, operandAmount);
+            if (inMultiplesOf == 0 || result <= 0) {
+                unscaledAmount = result;
+                return true;
+            }
+            if (result <= MAX_VALUE_ROUNDED_TO_MULTIPLES && inMultiplesOf <= MAX_IN_MULTIPLES_OF) {
+                unscaledAmount = roundToMultiplesOf(result);
+                return true;
+            }
+        } catch (ArithmeticException e) {
+            // overflow, continue with Money arithmetic
+        }
+        return false;
+    }
+
+    private FixedPointMoney applyMoney(final Money operand, final boolean subtract) {
+        if (fallback == null) {
+            fallback = toMoney();
+        }
+        fallback = subtract ? fallback.minus(operand, mc) : fallback.plus(operand, mc);
+        return this;
+    }
+
+    private boolean isScaledLong(final BigDecimal amount) {
+        return amount.scale() == decimalPlaces && amount.precision() <= MAX_LONG_PRECISION;
+    }
+
+    // the unscaled value of a compact BigDecimal is read without allocating a BigInteger
+    private long scaledLongValueOf(final BigDecimal amount) {
+        return amount.movePointRight(decimalPlaces).longValueExact();
+    }
+
+    /**
+     * Same as {@link Money#roundToMultiplesOf(double, Integer)} for a positive amount: the nearer multiple wins and a tie
+     * rounds up.
+     */
+    private long roundToMultiplesOf(final long amount) {
+        final long floor = amount - amount % inMultiplesOf;
+        if (floor == amount) {
+            return amount;
+        }
+        final long ceiling = floor + inMultiplesOf;
+        return ceiling - amount > amount - floor ? floor : ceiling;
+    }
+}
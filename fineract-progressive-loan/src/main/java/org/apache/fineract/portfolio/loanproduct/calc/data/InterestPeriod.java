@@ -75,6 +75,18 @@ public class InterestPeriod implements Comparable<InterestPeriod> {
                 interestPeriod.getOutstandingLoanBalance(), interestPeriod.getCapitalizedIncomePrincipal(), mc, interestPeriod.isPaused());
     }
 
+    /**
+     * Rebuilds an interest period from its persisted state.
+     */
+    public static InterestPeriod restore(@NotNull RepaymentPeriod repaymentPeriod, LocalDate fromDate, LocalDate dueDate,
+            BigDecimal rateFactor, BigDecimal rateFactorTillPeriodDueDate, Money creditedPrincipal, Money creditedInterest,
+            Money disbursementAmount, Money balanceCorrectionAmount, Money outstandingLoanBalance, Money capitalizedIncomePrincipal,
+            MathContext mc, boolean isPaused) {
+        return new InterestPeriod(repaymentPeriod, fromDate, dueDate, rateFactor, rateFactorTillPeriodDueDate, creditedPrincipal,
+                creditedInterest, disbursementAmount, balanceCorrectionAmount, outstandingLoanBalance, capitalizedIncomePrincipal, mc,
+                isPaused);
+    }
+
     public static InterestPeriod empty(@NotNull RepaymentPeriod repaymentPeriod, MathContext mc) {
         return new InterestPeriod(repaymentPeriod, null, null, null, null, null, null, null, null, null, null, mc, false);
     }
@@ -161,20 +173,22 @@ public class InterestPeriod implements Comparable<InterestPeriod> {
             Optional<RepaymentPeriod> previousRepaymentPeriod = getRepaymentPeriod().getPrevious();
             if (previousRepaymentPeriod.isPresent()) {
                 InterestPeriod previousInterestPeriod = previousRepaymentPeriod.get().getLastInterestPeriod();
-                this.outstandingLoanBalance = MathUtil.negativeToZero(previousInterestPeriod.getOutstandingLoanBalance()//
-                        .plus(previousInterestPeriod.getDisbursementAmount(), mc)//
-                        .plus(previousInterestPeriod.getCapitalizedIncomePrincipal(), mc)//
-                        .plus(previousInterestPeriod.getBalanceCorrectionAmount(), mc)//
-                        .minus(previousRepaymentPeriod.get().getDuePrincipal(), mc)//
-                        .plus(previousRepaymentPeriod.get().getPaidPrincipal(), mc), mc);//
+                this.outstandingLoanBalance = FixedPointMoney.of(previousInterestPeriod.getOutstandingLoanBalance(), mc)//
+                        .plus(previousInterestPeriod.getDisbursementAmount())//
+                        .plus(previousInterestPeriod.getCapitalizedIncomePrincipal())//
+                        .plus(previousInterestPeriod.getBalanceCorrectionAmount())//
+                        .minus(previousRepaymentPeriod.get().getDuePrincipal())//
+                        .plus(previousRepaymentPeriod.get().getPaidPrincipal())//
+                        .negativeToZero().toMoney();//
             }
         } else {
             int index = getRepaymentPeriod().getInterestPeriods().indexOf(this);
             InterestPeriod previousInterestPeriod = getRepaymentPeriod().getInterestPeriods().get(index - 1);
-            this.outstandingLoanBalance = MathUtil.negativeToZero(previousInterestPeriod.getOutstandingLoanBalance() //
-                    .plus(previousInterestPeriod.getBalanceCorrectionAmount(), mc) //
-                    .plus(previousInterestPeriod.getCapitalizedIncomePrincipal(), mc) //
-                    .plus(previousInterestPeriod.getDisbursementAmount(), mc)); //
+            this.outstandingLoanBalance = FixedPointMoney.of(previousInterestPeriod.getOutstandingLoanBalance(), mc) //
+                    .plus(previousInterestPeriod.getBalanceCorrectionAmount()) //
+                    .plus(previousInterestPeriod.getCapitalizedIncomePrincipal()) //
+                    .plus(previousInterestPeriod.getDisbursementAmount()) //
+                    .negativeToZero().toMoney(); //
         }
     }
 
@@ -182,7 +196,7 @@ public class InterestPeriod implements Comparable<InterestPeriod> {
      * Include principal like amounts (all disbursement amount + credited principal)
      */
     public Money getCreditedAmounts() {
-        return getDisbursementAmount().plus(getCreditedPrincipal(), mc).plus(getCapitalizedIncomePrincipal(), mc);
+        return FixedPointMoney.of(getDisbursementAmount(), mc).plus(getCreditedPrincipal()).plus(getCapitalizedIncomePrincipal()).toMoney();
     }
 
     public boolean isFirstInterestPeriod() {
@@ -38,6 +38,7 @@ import java.util.TreeSet;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -314,7 +315,7 @@ public class ProgressiveLoanInterestScheduleModel {
      * @return
      */
     public Money getTotalDueInterest() {
-        return MathUtil.negativeToZero(repaymentPeriods().stream().map(RepaymentPeriod::getDueInterest).reduce(zero(), Money::plus), mc);
+        return sumOf(RepaymentPeriod::getDueInterest);
     }
 
     /**
@@ -324,7 +325,7 @@ public class ProgressiveLoanInterestScheduleModel {
      * @return
      */
     public Money getTotalDuePrincipal() {
-        return MathUtil.negativeToZero(repaymentPeriods.stream().map(RepaymentPeriod::getCreditedAmounts).reduce(zero(), Money::plus), mc);
+        return sumOf(RepaymentPeriod::getCreditedAmounts);
     }
 
     /**
@@ -333,7 +334,7 @@ public class ProgressiveLoanInterestScheduleModel {
      * @return
      */
     public Money getTotalPaidInterest() {
-        return MathUtil.negativeToZero(repaymentPeriods().stream().map(RepaymentPeriod::getPaidInterest).reduce(zero, Money::plus), mc);
+        return sumOf(RepaymentPeriod::getPaidInterest);
     }
 
     /**
@@ -342,7 +343,7 @@ public class ProgressiveLoanInterestScheduleModel {
      * @return
      */
     public Money getTotalPaidPrincipal() {
-        return MathUtil.negativeToZero(repaymentPeriods().stream().map(RepaymentPeriod::getPaidPrincipal).reduce(zero, Money::plus), mc);
+        return sumOf(RepaymentPeriod::getPaidPrincipal);
     }
 
     /**
@@ -351,8 +352,13 @@ public class ProgressiveLoanInterestScheduleModel {
      * @return
      */
     public Money getTotalCreditedPrincipal() {
-        return MathUtil.negativeToZero(repaymentPeriods().stream().map(RepaymentPeriod::getCreditedPrincipal).reduce(zero, Money::plus),
-                mc);
+        return sumOf(RepaymentPeriod::getCreditedPrincipal);
+    }
+
+    private Money sumOf(final Function<RepaymentPeriod, Money> amount) {
+        final FixedPointMoney total = FixedPointMoney.of(zero, mc);
+        repaymentPeriods.forEach(repaymentPeriod -> total.plus(amount.apply(repaymentPeriod)));
+        return total.negativeToZero().toMoney();
     }
 
     public Money getTotalOutstandingPrincipal() {
@@ -106,6 +106,17 @@ public final class RepaymentPeriod {
         return newRepaymentPeriod;
     }
 
+    /**
+     * Rebuilds a repayment period from its persisted state. Interest periods are expected to be added afterwards.
+     */
+    public static RepaymentPeriod restore(RepaymentPeriod previous, LocalDate fromDate, LocalDate dueDate, Money emi, Money originalEmi,
+            Money paidPrincipal, Money paidInterest, Money futureUnrecognizedInterest, boolean isInterestMoved, MathContext mc) {
+        final RepaymentPeriod restoredRepaymentPeriod = new RepaymentPeriod(previous, fromDate, dueDate, new ArrayList<>(), emi,
+                originalEmi, paidPrincipal, paidInterest, futureUnrecognizedInterest, mc);
+        restoredRepaymentPeriod.isInterestMoved = isInterestMoved;
+        return restoredRepaymentPeriod;
+    }
+
     public static RepaymentPeriod copy(RepaymentPeriod previous, RepaymentPeriod repaymentPeriod, MathContext mc) {
         final RepaymentPeriod newRepaymentPeriod = new RepaymentPeriod(previous, repaymentPeriod.fromDate, repaymentPeriod.dueDate,
                 new ArrayList<>(), repaymentPeriod.emi, repaymentPeriod.originalEmi, repaymentPeriod.paidPrincipal,
@@ -167,17 +178,18 @@ public final class RepaymentPeriod {
     }
 
     private Money calculateCalculatedDueInterest() {
-        Money calculatedDueInterest = getZero(mc);
+        // the interest of the periods is summed on the full precision and rounded to the currency once
+        final FixedPointMoney calculatedDueInterest = FixedPointMoney.of(getZero(mc), mc);
         if (!isInterestMoved) {
-            calculatedDueInterest = Money.of(emi.getCurrencyData(),
+            calculatedDueInterest.plus(Money.of(emi.getCurrencyData(),
                     getInterestPeriods().stream().map(InterestPeriod::getCalculatedDueInterest).reduce(BigDecimal.ZERO, BigDecimal::add),
-                    mc);
+                    mc));
         }
-        calculatedDueInterest = calculatedDueInterest.add(getFutureUnrecognizedInterest(), mc);
+        calculatedDueInterest.plus(getFutureUnrecognizedInterest());
         if (getPrevious().isPresent()) {
-            calculatedDueInterest = calculatedDueInterest.add(getPrevious().get().getUnrecognizedInterest(), mc);
+            calculatedDueInterest.plus(getPrevious().get().getUnrecognizedInterest());
         }
-        return MathUtil.negativeToZero(calculatedDueInterest, mc);
+        return calculatedDueInterest.negativeToZero().toMoney();
     }
 
     /**
@@ -203,7 +215,7 @@ public final class RepaymentPeriod {
      * @return
      */
     public Money getEmiPlusCreditedAmountsPlusFutureUnrecognizedInterest() {
-        return getEmi().plus(getTotalCreditedAmount(), mc).plus(getFutureUnrecognizedInterest(), mc); //
+        return FixedPointMoney.of(getEmi(), mc).plus(getTotalCreditedAmount()).plus(getFutureUnrecognizedInterest()).toMoney();
     }
 
     /**
@@ -221,9 +233,13 @@ public final class RepaymentPeriod {
      * @return
      */
     public Money getCreditedPrincipal() {
-        return MathUtil.negativeToZero(interestPeriods.stream() //
-                .map(InterestPeriod::getCreditedPrincipal) //
-                .reduce(getZero(mc), (value, previous) -> value.plus(previous, mc)), mc); //
+        return sumOfCreditedPrincipal().toMoney();
+    }
+
+    private FixedPointMoney sumOfCreditedPrincipal() {
+        final FixedPointMoney creditedPrincipal = FixedPointMoney.of(getZero(mc), mc);
+        interestPeriods.forEach(interestPeriod -> creditedPrincipal.plus(interestPeriod.getCreditedPrincipal()));
+        return creditedPrincipal.negativeToZero();
     }
 
     /**
@@ -232,9 +248,13 @@ public final class RepaymentPeriod {
      * @return
      */
     public Money getCreditedInterest() {
-        return MathUtil.negativeToZero(interestPeriods.stream() //
-                .map(InterestPeriod::getCreditedInterest) //
-                .reduce(getZero(mc), (value, previous) -> value.plus(previous, mc)), mc); //
+        return sumOfCreditedInterest().toMoney();
+    }
+
+    private FixedPointMoney sumOfCreditedInterest() {
+        final FixedPointMoney creditedInterest = FixedPointMoney.of(getZero(mc), mc);
+        interestPeriods.forEach(interestPeriod -> creditedInterest.plus(interestPeriod.getCreditedInterest()));
+        return creditedInterest.negativeToZero();
     }
 
     /**
@@ -243,9 +263,9 @@ public final class RepaymentPeriod {
      * @return
      */
     public Money getCapitalizedIncomePrincipal() {
-        return MathUtil.negativeToZero(interestPeriods.stream() //
-                .map(InterestPeriod::getCapitalizedIncomePrincipal) //
-                .reduce(getZero(mc), (value, previous) -> value.plus(previous, mc)), mc); //
+        final FixedPointMoney capitalizedIncomePrincipal = FixedPointMoney.of(getZero(mc), mc);
+        interestPeriods.forEach(interestPeriod -> capitalizedIncomePrincipal.plus(interestPeriod.getCapitalizedIncomePrincipal()));
+        return capitalizedIncomePrincipal.negativeToZero().toMoney();
     }
 
     /**
@@ -266,7 +286,7 @@ public final class RepaymentPeriod {
      * @return
      */
     public Money getTotalCreditedAmount() {
-        return getCreditedPrincipal().plus(getCreditedInterest(), mc);
+        return sumOfCreditedPrincipal().plus(sumOfCreditedInterest()).toMoney();
     }
 
     /**
@@ -293,20 +313,22 @@ public final class RepaymentPeriod {
     }
 
     public Money getCreditedAmounts() {
-        return interestPeriods.stream().map(InterestPeriod::getCreditedAmounts).reduce(getZero(mc), (m1, m2) -> m1.plus(m2, mc));
+        final FixedPointMoney creditedAmounts = FixedPointMoney.of(getZero(mc), mc);
+        interestPeriods.forEach(interestPeriod -> creditedAmounts.plus(interestPeriod.getCreditedAmounts()));
+        return creditedAmounts.toMoney();
     }
 
     public Money getOutstandingLoanBalance() {
         if (outstandingBalanceCalculation == null) {
             outstandingBalanceCalculation = Memo.of(() -> {
                 InterestPeriod lastInterestPeriod = getInterestPeriods().get(getInterestPeriods().size() - 1);
-                Money calculatedOutStandingLoanBalance = lastInterestPeriod.getOutstandingLoanBalance() //
-                        .plus(lastInterestPeriod.getBalanceCorrectionAmount(), mc) //
-                        .plus(lastInterestPeriod.getCapitalizedIncomePrincipal(), mc) //
-                        .plus(lastInterestPeriod.getDisbursementAmount(), mc) //
-                        .minus(getDuePrincipal(), mc)//
-                        .plus(getPaidPrincipal(), mc);//
-                return MathUtil.negativeToZero(calculatedOutStandingLoanBalance, mc);
+                return FixedPointMoney.of(lastInterestPeriod.getOutstandingLoanBalance(), mc) //
+                        .plus(lastInterestPeriod.getBalanceCorrectionAmount()) //
+                        .plus(lastInterestPeriod.getCapitalizedIncomePrincipal()) //
+                        .plus(lastInterestPeriod.getDisbursementAmount()) //
+                        .minus(getDuePrincipal())//
+                        .plus(getPaidPrincipal())//
+                        .negativeToZero().toMoney();
             }, () -> new Object[] { paidPrincipal, paidInterest, interestPeriods });
         }
         return outstandingBalanceCalculation.get();
@@ -327,13 +349,13 @@ public final class RepaymentPeriod {
         } else {
             initialBalance = getZero(mc);
         }
-        Money totalDisbursedAmount = getInterestPeriods().stream() //
-                .map(InterestPeriod::getDisbursementAmount) //
-                .reduce(getZero(mc), (m1, m2) -> m1.plus(m2, mc)); //
-        Money totalCapitalizedIncomeAmount = getInterestPeriods().stream() //
-                .map(InterestPeriod::getCapitalizedIncomePrincipal) //
-                .reduce(getZero(mc), (m1, m2) -> m1.plus(m2, mc)); //
-        return initialBalance.add(totalDisbursedAmount, mc).add(totalCapitalizedIncomeAmount, mc);
+        final FixedPointMoney totalDisbursedAmount = FixedPointMoney.of(getZero(mc), mc);
+        final FixedPointMoney totalCapitalizedIncomeAmount = FixedPointMoney.of(getZero(mc), mc);
+        getInterestPeriods().forEach(interestPeriod -> {
+            totalDisbursedAmount.plus(interestPeriod.getDisbursementAmount());
+            totalCapitalizedIncomeAmount.plus(interestPeriod.getCapitalizedIncomePrincipal());
+        });
+        return FixedPointMoney.of(initialBalance, mc).plus(totalDisbursedAmount).plus(totalCapitalizedIncomeAmount).toMoney();
     }
 
     private Money getZero(MathContext mc) {
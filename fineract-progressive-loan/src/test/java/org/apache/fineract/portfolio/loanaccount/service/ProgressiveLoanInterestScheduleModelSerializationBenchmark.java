@@ -0,0 +1,156 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.service;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.organisation.monetary.data.CurrencyData;
+import org.apache.fineract.organisation.monetary.domain.Money;
+import org.apache.fineract.organisation.monetary.domain.MoneyHelper;
+import org.apache.fineract.portfolio.common.domain.DaysInMonthType;
+import org.apache.fineract.portfolio.common.domain.DaysInYearType;
+import org.apache.fineract.portfolio.common.domain.PeriodFrequencyType;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanScheduleModelRepaymentPeriod;
+import org.apache.fineract.portfolio.loanproduct.calc.ProgressiveEMICalculator;
+import org.apache.fineract.portfolio.loanproduct.calc.data.ProgressiveLoanInterestScheduleModel;
+import org.apache.fineract.portfolio.loanproduct.domain.LoanProductMinimumRepaymentScheduleRelatedDetail;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Compares the Gson based JSON format of the progressive loan interest schedule model with the binary format (plain
+ * and deflated) for a 36 period loan with a disbursement and 12 repaid periods. Payload sizes are logged on setup.
+ */
+@Slf4j
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread) // static mocks are bound to the thread that creates them
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProgressiveLoanInterestScheduleModelSerializationBenchmark {
+
+    private static final int NUMBER_OF_PERIODS = 36;
+    private static final CurrencyData CURRENCY = new CurrencyData("USD", "USD", 2, 1, "$", "USD");
+
+    private final MathContext mc = new MathContext(12, RoundingMode.HALF_EVEN);
+    private final ProgressiveLoanInterestScheduleModelParserService gsonParser = //
+            new ProgressiveLoanInterestScheduleModelParserServiceGsonImpl();
+    private final ProgressiveLoanInterestScheduleModelBinaryCodec binaryCodec = new ProgressiveLoanInterestScheduleModelBinaryCodec(false);
+    private final ProgressiveLoanInterestScheduleModelBinaryCodec deflatingCodec = //
+            new ProgressiveLoanInterestScheduleModelBinaryCodec(true);
+
+    private MockedStatic<ThreadLocalContextUtil> threadLocalContextUtil;
+    private MockedStatic<MoneyHelper> moneyHelper;
+    private LoanProductMinimumRepaymentScheduleRelatedDetail loanProductRelatedDetail;
+    private ProgressiveLoanInterestScheduleModel model;
+    private String json;
+    private byte[] binary;
+    private byte[] compressedBinary;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        threadLocalContextUtil = Mockito.mockStatic(ThreadLocalContextUtil.class);
+        moneyHelper = Mockito.mockStatic(MoneyHelper.class);
+        moneyHelper.when(MoneyHelper::getRoundingMode).thenReturn(RoundingMode.HALF_EVEN);
+        moneyHelper.when(MoneyHelper::getMathContext).thenReturn(mc);
+
+        loanProductRelatedDetail = Mockito.mock(LoanProductMinimumRepaymentScheduleRelatedDetail.class);
+        Mockito.when(loanProductRelatedDetail.getAnnualNominalInterestRate()).thenReturn(BigDecimal.valueOf(9.99));
+        Mockito.when(loanProductRelatedDetail.getDaysInYearType()).thenReturn(DaysInYearType.ACTUAL.getValue());
+        Mockito.when(loanProductRelatedDetail.getDaysInMonthType()).thenReturn(DaysInMonthType.ACTUAL.getValue());
+        Mockito.when(loanProductRelatedDetail.getRepaymentPeriodFrequencyType()).thenReturn(PeriodFrequencyType.MONTHS);
+        Mockito.when(loanProductRelatedDetail.getRepayEvery()).thenReturn(1);
+        Mockito.when(loanProductRelatedDetail.getCurrencyData()).thenReturn(CURRENCY);
+
+        ProgressiveEMICalculator emiCalculator = new ProgressiveEMICalculator();
+        LocalDate startDate = LocalDate.of(2024, 1, 1);
+        Money zero = Money.zero(CURRENCY, mc);
+        List<LoanScheduleModelRepaymentPeriod> expectedRepaymentPeriods = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_PERIODS; i++) {
+            expectedRepaymentPeriods.add(LoanScheduleModelRepaymentPeriod.repayment(i + 1, startDate.plusMonths(i),
+                    startDate.plusMonths(i + 1), zero, zero, zero, zero, zero, zero, false, mc));
+        }
+        model = emiCalculator.generatePeriodInterestScheduleModel(expectedRepaymentPeriods, loanProductRelatedDetail, List.of(), null, mc);
+        emiCalculator.addDisbursement(model, startDate, Money.of(CURRENCY, BigDecimal.valueOf(25000), mc));
+        for (int i = 0; i < 12; i++) {
+            LocalDate dueDate = startDate.plusMonths(i + 1);
+            // pay a bit late to split the interest periods
+            LocalDate transactionDate = dueDate.plusDays(3);
+            emiCalculator.payPrincipal(model, dueDate, transactionDate, Money.of(CURRENCY, BigDecimal.valueOf(600), mc));
+            emiCalculator.payInterest(model, dueDate, transactionDate, Money.of(CURRENCY, BigDecimal.valueOf(150), mc));
+        }
+
+        json = gsonParser.toJson(model);
+        binary = binaryCodec.encode(model);
+        compressedBinary = deflatingCodec.encode(model);
+        log.info("Progressive loan model size - json: {} bytes, binary: {} bytes, deflated binary: {} bytes",
+                json.getBytes(StandardCharsets.UTF_8).length, binary.length, compressedBinary.length);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        threadLocalContextUtil.close();
+        moneyHelper.close();
+    }
+
+    @Benchmark
+    public String encodeJson() {
+        return gsonParser.toJson(model);
+    }
+
+    @Benchmark
+    public ProgressiveLoanInterestScheduleModel decodeJson() {
+        return gsonParser.fromJson(json, loanProductRelatedDetail, mc, null);
+    }
+
+    @Benchmark
+    public byte[] encodeBinary() {
+        return binaryCodec.encode(model);
+    }
+
+    @Benchmark
+    public ProgressiveLoanInterestScheduleModel decodeBinary() {
+        return binaryCodec.decode(binary, loanProductRelatedDetail, mc, null);
+    }
+
+    @Benchmark
+    public byte[] encodeCompressedBinary() {
+        return deflatingCodec.encode(model);
+    }
+
+    @Benchmark
+    public ProgressiveLoanInterestScheduleModel decodeCompressedBinary() {
+        return deflatingCodec.decode(compressedBinary, loanProductRelatedDetail, mc, null);
+    }
+}
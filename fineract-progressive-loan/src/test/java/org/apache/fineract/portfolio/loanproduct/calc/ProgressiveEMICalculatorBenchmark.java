@@ -0,0 +1,128 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanproduct.calc;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.organisation.monetary.data.CurrencyData;
+import org.apache.fineract.organisation.monetary.domain.Money;
+import org.apache.fineract.organisation.monetary.domain.MoneyHelper;
+import org.apache.fineract.portfolio.common.domain.DaysInMonthType;
+import org.apache.fineract.portfolio.common.domain.DaysInYearType;
+import org.apache.fineract.portfolio.common.domain.PeriodFrequencyType;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanScheduleModelRepaymentPeriod;
+import org.apache.fineract.portfolio.loanproduct.calc.data.FixedPointMoney;
+import org.apache.fineract.portfolio.loanproduct.calc.data.ProgressiveLoanInterestScheduleModel;
+import org.apache.fineract.portfolio.loanproduct.calc.data.RepaymentPeriod;
+import org.apache.fineract.portfolio.loanproduct.domain.LoanProductMinimumRepaymentScheduleRelatedDetail;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Compares the progressive EMI calculator on fixed point money arithmetic with the same calculator on {@link Money}
+ * arithmetic for a 360 period mortgage with a disbursement, 12 repaid periods and an early repayment.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread) // static mocks are bound to the thread that creates them
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ProgressiveEMICalculatorBenchmark {
+
+    private static final int NUMBER_OF_PERIODS = 360;
+    private static final CurrencyData CURRENCY = new CurrencyData("USD", "USD", 2, 1, "$", "USD");
+
+    private final MathContext mc = new MathContext(12, RoundingMode.HALF_EVEN);
+    private final ProgressiveEMICalculator emiCalculator = new ProgressiveEMICalculator();
+
+    @Param({ "false", "true" })
+    private boolean moneyArithmetic;
+
+    private MockedStatic<ThreadLocalContextUtil> threadLocalContextUtil;
+    private MockedStatic<MoneyHelper> moneyHelper;
+    private LoanProductMinimumRepaymentScheduleRelatedDetail loanProductRelatedDetail;
+    private List<LoanScheduleModelRepaymentPeriod> expectedRepaymentPeriods;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        threadLocalContextUtil = Mockito.mockStatic(ThreadLocalContextUtil.class);
+        moneyHelper = Mockito.mockStatic(MoneyHelper.class);
+        moneyHelper.when(MoneyHelper::getRoundingMode).thenReturn(RoundingMode.HALF_EVEN);
+        moneyHelper.when(MoneyHelper::getMathContext).thenReturn(mc);
+
+        loanProductRelatedDetail = Mockito.mock(LoanProductMinimumRepaymentScheduleRelatedDetail.class);
+        Mockito.when(loanProductRelatedDetail.getAnnualNominalInterestRate()).thenReturn(BigDecimal.valueOf(6.5));
+        Mockito.when(loanProductRelatedDetail.getDaysInYearType()).thenReturn(DaysInYearType.ACTUAL.getValue());
+        Mockito.when(loanProductRelatedDetail.getDaysInMonthType()).thenReturn(DaysInMonthType.ACTUAL.getValue());
+        Mockito.when(loanProductRelatedDetail.getRepaymentPeriodFrequencyType()).thenReturn(PeriodFrequencyType.MONTHS);
+        Mockito.when(loanProductRelatedDetail.getRepayEvery()).thenReturn(1);
+        Mockito.when(loanProductRelatedDetail.getCurrencyData()).thenReturn(CURRENCY);
+
+        final LocalDate startDate = LocalDate.of(2024, 1, 1);
+        final Money zero = Money.zero(CURRENCY, mc);
+        expectedRepaymentPeriods = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_PERIODS; i++) {
+            expectedRepaymentPeriods.add(LoanScheduleModelRepaymentPeriod.repayment(i + 1, startDate.plusMonths(i),
+                    startDate.plusMonths(i + 1), zero, zero, zero, zero, zero, zero, false, mc));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        threadLocalContextUtil.close();
+        moneyHelper.close();
+    }
+
+    @Benchmark
+    public Money calculateMortgage() {
+        return moneyArithmetic ? FixedPointMoney.withMoneyArithmetic(this::calculate) : calculate();
+    }
+
+    private Money calculate() {
+        final LocalDate startDate = LocalDate.of(2024, 1, 1);
+        final ProgressiveLoanInterestScheduleModel model = emiCalculator.generatePeriodInterestScheduleModel(expectedRepaymentPeriods,
+                loanProductRelatedDetail, List.of(), null, mc);
+        emiCalculator.addDisbursement(model, startDate, Money.of(CURRENCY, BigDecimal.valueOf(250_000), mc));
+        for (int i = 0; i < 12; i++) {
+            final RepaymentPeriod repaymentPeriod = model.repaymentPeriods().get(i);
+            final Money dueInterest = repaymentPeriod.getDueInterest();
+            final Money duePrincipal = repaymentPeriod.getDuePrincipal();
+            emiCalculator.payInterest(model, repaymentPeriod.getDueDate(), repaymentPeriod.getDueDate(), dueInterest);
+            emiCalculator.payPrincipal(model, repaymentPeriod.getDueDate(), repaymentPeriod.getDueDate(), duePrincipal);
+        }
+        // early repayment, the EMI of the remaining periods is recalculated
+        emiCalculator.payPrincipal(model, LocalDate.of(2025, 2, 1), LocalDate.of(2025, 1, 20),
+                Money.of(CURRENCY, BigDecimal.valueOf(5_000), mc));
+        return model.getTotalDueInterest();
+    }
+}
@@ -0,0 +1,331 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanproduct.calc.data;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.function.Function;
+import org.apache.fineract.infrastructure.core.service.MathUtil;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.organisation.monetary.data.CurrencyData;
+import org.apache.fineract.organisation.monetary.domain.Money;
+import org.apache.fineract.organisation.monetary.domain.MoneyHelper;
+import org.apache.fineract.portfolio.common.domain.DaysInMonthType;
+import org.apache.fineract.portfolio.common.domain.DaysInYearType;
+import org.apache.fineract.portfolio.common.domain.PeriodFrequencyType;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanScheduleModelRepaymentPeriod;
+import org.apache.fineract.portfolio.loanproduct.calc.ProgressiveEMICalculator;
+import org.apache.fineract.portfolio.loanproduct.domain.LoanProductMinimumRepaymentScheduleRelatedDetail;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+/**
+ * Differential tests of {@link FixedPointMoney}: random operation chains against {@link Money} arithmetic, the amounts
+ * of a 360 period mortgage model against the {@link Money} based formulas the calculator used before, and whole
+ * calculator runs against the same runs on {@link Money} arithmetic.
+ */
+class FixedPointMoneyTest {
+
+    private static final MathContext MC = new MathContext(12, RoundingMode.HALF_EVEN);
+    private static final CurrencyData USD = new CurrencyData("USD", "USD", 2, 1, "$", "USD");
+    private static final List<CurrencyData> CURRENCIES = List.of(USD, new CurrencyData("KWD", "KWD", 3, null, "KD", "KWD"),
+            new CurrencyData("HUF", "HUF", 0, 50, "Ft", "HUF"), new CurrencyData("XOF", "XOF", 0, 7, "F", "XOF"),
+            new CurrencyData("JPY", "JPY", 0, null, "Y", "JPY"));
+
+    private static MockedStatic<ThreadLocalContextUtil> threadLocalContextUtil;
+    private static MockedStatic<MoneyHelper> moneyHelper;
+
+    @BeforeAll
+    public static void init() {
+        threadLocalContextUtil = Mockito.mockStatic(ThreadLocalContextUtil.class);
+        moneyHelper = Mockito.mockStatic(MoneyHelper.class);
+        moneyHelper.when(MoneyHelper::getRoundingMode).thenReturn(RoundingMode.HALF_EVEN);
+        moneyHelper.when(MoneyHelper::getMathContext).thenReturn(MC);
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        threadLocalContextUtil.close();
+        moneyHelper.close();
+    }
+
+    @Test
+    public void testRandomOperationsMatchMoneyArithmetic() {
+        final Random random = new Random(20241017L);
+        final long[] ranges = { 100L, 1_000_000L, 2_000_000_000_000L, Long.MAX_VALUE / 3 };
+        for (int chain = 0; chain < 20_000; chain++) {
+            final CurrencyData currency = CURRENCIES.get(random.nextInt(CURRENCIES.size()));
+            final long range = ranges[random.nextInt(ranges.length)];
+            Money expected = money(currency, random, range);
+            final FixedPointMoney actual = FixedPointMoney.of(expected, MC);
+            for (int step = 0; step < 8; step++) {
+                final Money operand = random.nextInt(10) == 0 ? null : money(currency, random, range);
+                switch (random.nextInt(5)) {
+                    case 0, 1 -> {
+                        expected = expected.plus(operand, MC);
+                        actual.plus(operand);
+                    }
+                    case 2, 3 -> {
+                        expected = expected.minus(operand, MC);
+                        actual.minus(operand);
+                    }
+                    default -> {
+                        expected = MathUtil.negativeToZero(expected, MC);
+                        actual.negativeToZero();
+                    }
+                }
+                Assertions.assertEquals(expected.getAmount(), actual.toMoney().getAmount());
+            }
+        }
+    }
+
+    @Test
+    public void testRoundsPositiveResultsToMultiplesLikeMoney() {
+        final CurrencyData huf = new CurrencyData("HUF", "HUF", 0, 50, "Ft", "HUF");
+        final Money negative = Money.of(huf, BigDecimal.valueOf(-15), MC);
+        final Money hundred = Money.of(huf, BigDecimal.valueOf(100), MC);
+
+        Assertions.assertEquals(negative.plus(hundred, MC).getAmount(),
+                FixedPointMoney.of(negative, MC).plus(hundred).toMoney().getAmount());
+        Assertions.assertEquals(BigDecimal.valueOf(100), FixedPointMoney.of(negative, MC).plus(hundred).toMoney().getAmount());
+        Assertions.assertEquals(BigDecimal.valueOf(-115), FixedPointMoney.of(negative, MC).minus(hundred).toMoney().getAmount());
+    }
+
+    @Test
+    public void testContinuesWithMoneyArithmeticAfterOverflow() {
+        final Money large = Money.of(USD, BigDecimal.valueOf(Long.MAX_VALUE - 1, 2), MC);
+        final Money one = Money.of(USD, BigDecimal.ONE, MC);
+
+        final Money result = FixedPointMoney.of(large, MC).plus(one).plus(one).minus(large).toMoney();
+
+        Assertions.assertEquals(new BigDecimal("2.00"), result.getAmount());
+    }
+
+    @Test
+    public void testMortgageModelMatchesMoneyFormulas() {
+        final ProgressiveEMICalculator emiCalculator = new ProgressiveEMICalculator();
+        final LocalDate startDate = LocalDate.of(2024, 1, 1);
+        final ProgressiveLoanInterestScheduleModel model = emiCalculator.generatePeriodInterestScheduleModel(
+                repaymentPeriods(USD, startDate, 360), loanProductRelatedDetail(USD, DaysInYearType.DAYS_365, 6.5), List.of(), null, MC);
+
+        emiCalculator.addDisbursement(model, startDate, Money.of(USD, BigDecimal.valueOf(250_000), MC));
+        for (int i = 0; i < 12; i++) {
+            final RepaymentPeriod repaymentPeriod = model.repaymentPeriods().get(i);
+            final Money dueInterest = repaymentPeriod.getDueInterest();
+            final Money duePrincipal = repaymentPeriod.getDuePrincipal();
+            emiCalculator.payInterest(model, repaymentPeriod.getDueDate(), repaymentPeriod.getDueDate(), dueInterest);
+            emiCalculator.payPrincipal(model, repaymentPeriod.getDueDate(), repaymentPeriod.getDueDate(), duePrincipal);
+        }
+        emiCalculator.creditPrincipal(model, LocalDate.of(2025, 3, 10), Money.of(USD, BigDecimal.valueOf(500.25), MC));
+        emiCalculator.addDisbursement(model, LocalDate.of(2025, 6, 15), Money.of(USD, BigDecimal.valueOf(20_000), MC));
+
+        for (RepaymentPeriod repaymentPeriod : model.repaymentPeriods()) {
+            for (InterestPeriod interestPeriod : repaymentPeriod.getInterestPeriods()) {
+                final Money expectedBalance = outstandingBalanceByMoney(interestPeriod);
+                interestPeriod.updateOutstandingLoanBalance();
+                assertAmount(expectedBalance, interestPeriod.getOutstandingLoanBalance());
+                assertAmount(interestPeriod.getDisbursementAmount().plus(interestPeriod.getCreditedPrincipal(), MC)
+                        .plus(interestPeriod.getCapitalizedIncomePrincipal(), MC), interestPeriod.getCreditedAmounts());
+            }
+        }
+        for (RepaymentPeriod repaymentPeriod : model.repaymentPeriods()) {
+            assertAmount(sumByMoney(repaymentPeriod, InterestPeriod::getCreditedPrincipal, true), repaymentPeriod.getCreditedPrincipal());
+            assertAmount(sumByMoney(repaymentPeriod, InterestPeriod::getCreditedInterest, true), repaymentPeriod.getCreditedInterest());
+            assertAmount(sumByMoney(repaymentPeriod, InterestPeriod::getCapitalizedIncomePrincipal, true),
+                    repaymentPeriod.getCapitalizedIncomePrincipal());
+            assertAmount(sumByMoney(repaymentPeriod, InterestPeriod::getCreditedAmounts, false), repaymentPeriod.getCreditedAmounts());
+            assertAmount(repaymentPeriod.getEmi().plus(repaymentPeriod.getTotalCreditedAmount(), MC)
+                    .plus(repaymentPeriod.getFutureUnrecognizedInterest(), MC),
+                    repaymentPeriod.getEmiPlusCreditedAmountsPlusFutureUnrecognizedInterest());
+            assertAmount(initialBalanceByMoney(repaymentPeriod), repaymentPeriod.getInitialBalanceForEmiRecalculation());
+            final InterestPeriod last = repaymentPeriod.getLastInterestPeriod();
+            assertAmount(MathUtil.negativeToZero(last.getOutstandingLoanBalance().plus(last.getBalanceCorrectionAmount(), MC)
+                    .plus(last.getCapitalizedIncomePrincipal(), MC).plus(last.getDisbursementAmount(), MC)
+                    .minus(repaymentPeriod.getDuePrincipal(), MC).plus(repaymentPeriod.getPaidPrincipal(), MC), MC),
+                    repaymentPeriod.getOutstandingLoanBalance());
+        }
+        assertAmount(totalByMoney(model, RepaymentPeriod::getDueInterest), model.getTotalDueInterest());
+        assertAmount(totalByMoney(model, RepaymentPeriod::getCreditedAmounts), model.getTotalDuePrincipal());
+        assertAmount(totalByMoney(model, RepaymentPeriod::getPaidInterest), model.getTotalPaidInterest());
+        assertAmount(totalByMoney(model, RepaymentPeriod::getPaidPrincipal), model.getTotalPaidPrincipal());
+        assertAmount(totalByMoney(model, RepaymentPeriod::getCreditedPrincipal), model.getTotalCreditedPrincipal());
+    }
+
+    @Test
+    public void testCalculatorMatchesMoneyArithmeticCalculator() {
+        for (CurrencyData currency : CURRENCIES) {
+            for (Integer installmentAmountInMultiplesOf : Arrays.asList(null, 10)) {
+                final List<BigDecimal> expected = FixedPointMoney
+                        .withMoneyArithmetic(() -> calculateLoan(currency, installmentAmountInMultiplesOf));
+                final List<BigDecimal> actual = calculateLoan(currency, installmentAmountInMultiplesOf);
+                Assertions.assertEquals(expected, actual, currency.getCode() + " in multiples of " + installmentAmountInMultiplesOf);
+            }
+        }
+    }
+
+    @Test
+    public void testCombinesAccumulatorsLikeMoney() {
+        final CurrencyData huf = new CurrencyData("HUF", "HUF", 0, 50, "Ft", "HUF");
+        final Money first = Money.of(huf, BigDecimal.valueOf(-180), MC);
+        final Money second = Money.of(huf, BigDecimal.valueOf(230), MC);
+
+        final FixedPointMoney sum = FixedPointMoney.of(first, MC).plus(FixedPointMoney.of(second, MC));
+
+        Assertions.assertEquals(first.plus(second, MC).getAmount(), sum.toMoney().getAmount());
+        Assertions.assertEquals(first.plus(second, MC).minus(second, MC).getAmount(),
+                sum.minus(FixedPointMoney.of(second, MC)).toMoney().getAmount());
+    }
+
+    /**
+     * Runs disbursements, on time and early repayments, a credit, an interest rate change and an interest pause on a 24
+     * period loan and gives back every amount of the resulting model.
+     */
+    private static List<BigDecimal> calculateLoan(final CurrencyData currency, final Integer installmentAmountInMultiplesOf) {
+        final ProgressiveEMICalculator emiCalculator = new ProgressiveEMICalculator();
+        final LocalDate startDate = LocalDate.of(2024, 1, 1);
+        final ProgressiveLoanInterestScheduleModel model = emiCalculator.generatePeriodInterestScheduleModel(
+                repaymentPeriods(currency, startDate, 24), loanProductRelatedDetail(currency, DaysInYearType.ACTUAL, 9.99), List.of(),
+                installmentAmountInMultiplesOf, MC);
+
+        emiCalculator.addDisbursement(model, startDate, Money.of(currency, BigDecimal.valueOf(10_000), MC));
+        for (int i = 0; i < 3; i++) {
+            final RepaymentPeriod repaymentPeriod = model.repaymentPeriods().get(i);
+            final Money dueInterest = repaymentPeriod.getDueInterest();
+            final Money duePrincipal = repaymentPeriod.getDuePrincipal();
+            emiCalculator.payInterest(model, repaymentPeriod.getDueDate(), repaymentPeriod.getDueDate(), dueInterest);
+            emiCalculator.payPrincipal(model, repaymentPeriod.getDueDate(), repaymentPeriod.getDueDate(), duePrincipal);
+        }
+        emiCalculator.payPrincipal(model, LocalDate.of(2024, 5, 1), LocalDate.of(2024, 4, 20),
+                Money.of(currency, new BigDecimal("1500.55"), MC));
+        emiCalculator.creditPrincipal(model, LocalDate.of(2024, 6, 10), Money.of(currency, new BigDecimal("250.25"), MC));
+        emiCalculator.addDisbursement(model, LocalDate.of(2024, 7, 15), Money.of(currency, BigDecimal.valueOf(2_000), MC));
+        emiCalculator.changeInterestRate(model, LocalDate.of(2024, 9, 1), BigDecimal.valueOf(7.5));
+        emiCalculator.applyInterestPause(model, LocalDate.of(2024, 10, 5), LocalDate.of(2024, 10, 20));
+
+        final List<BigDecimal> amounts = new ArrayList<>();
+        for (RepaymentPeriod repaymentPeriod : model.repaymentPeriods()) {
+            for (InterestPeriod interestPeriod : repaymentPeriod.getInterestPeriods()) {
+                amounts.add(interestPeriod.getOutstandingLoanBalance().getAmount());
+                amounts.add(interestPeriod.getCreditedAmounts().getAmount());
+            }
+            amounts.add(repaymentPeriod.getEmi().getAmount());
+            amounts.add(repaymentPeriod.getOriginalEmi().getAmount());
+            amounts.add(repaymentPeriod.getCalculatedDueInterest().getAmount());
+            amounts.add(repaymentPeriod.getDueInterest().getAmount());
+            amounts.add(repaymentPeriod.getDuePrincipal().getAmount());
+            amounts.add(repaymentPeriod.getUnrecognizedInterest().getAmount());
+            amounts.add(repaymentPeriod.getTotalCreditedAmount().getAmount());
+            amounts.add(repaymentPeriod.getInitialBalanceForEmiRecalculation().getAmount());
+            amounts.add(repaymentPeriod.getOutstandingLoanBalance().getAmount());
+        }
+        amounts.add(model.getTotalDueInterest().getAmount());
+        amounts.add(model.getTotalDuePrincipal().getAmount());
+        amounts.add(model.getTotalPaidInterest().getAmount());
+        amounts.add(model.getTotalPaidPrincipal().getAmount());
+        amounts.add(emiCalculator.getSumOfDueInterestsOnDate(model, LocalDate.of(2024, 11, 15)).getAmount());
+        final OutstandingDetails outstandingDetails = emiCalculator.getOutstandingAmountsTillDate(model, LocalDate.of(2024, 12, 15));
+        amounts.add(outstandingDetails.getOutstandingPrincipal().getAmount());
+        amounts.add(outstandingDetails.getOutstandingInterest().getAmount());
+        return amounts;
+    }
+
+    private static LoanProductMinimumRepaymentScheduleRelatedDetail loanProductRelatedDetail(final CurrencyData currency,
+            final DaysInYearType daysInYearType, final double annualNominalInterestRate) {
+        final LoanProductMinimumRepaymentScheduleRelatedDetail loanProductRelatedDetail = Mockito
+                .mock(LoanProductMinimumRepaymentScheduleRelatedDetail.class);
+        Mockito.when(loanProductRelatedDetail.getAnnualNominalInterestRate()).thenReturn(BigDecimal.valueOf(annualNominalInterestRate));
+        Mockito.when(loanProductRelatedDetail.getDaysInYearType()).thenReturn(daysInYearType.getValue());
+        Mockito.when(loanProductRelatedDetail.getDaysInMonthType()).thenReturn(DaysInMonthType.ACTUAL.getValue());
+        Mockito.when(loanProductRelatedDetail.getRepaymentPeriodFrequencyType()).thenReturn(PeriodFrequencyType.MONTHS);
+        Mockito.when(loanProductRelatedDetail.getRepayEvery()).thenReturn(1);
+        Mockito.when(loanProductRelatedDetail.getCurrencyData()).thenReturn(currency);
+        return loanProductRelatedDetail;
+    }
+
+    private static List<LoanScheduleModelRepaymentPeriod> repaymentPeriods(final CurrencyData currency, final LocalDate startDate,
+            final int numberOfPeriods) {
+        final Money zero = Money.zero(currency, MC);
+        final List<LoanScheduleModelRepaymentPeriod> periods = new ArrayList<>();
+        for (int i = 0; i < numberOfPeriods; i++) {
+            periods.add(LoanScheduleModelRepaymentPeriod.repayment(i + 1, startDate.plusMonths(i), startDate.plusMonths(i + 1), zero, zero,
+                    zero, zero, zero, zero, false, MC));
+        }
+        return periods;
+    }
+
+    private static Money money(final CurrencyData currency, final Random random, final long range) {
+        final long unscaled = (long) ((random.nextDouble() * 2 - 1) * range);
+        return Money.of(currency, BigDecimal.valueOf(unscaled, currency.getDecimalPlaces()), MC);
+    }
+
+    private static void assertAmount(final Money expected, final Money actual) {
+        Assertions.assertEquals(expected.getAmount(), actual.getAmount());
+    }
+
+    private static Money outstandingBalanceByMoney(final InterestPeriod interestPeriod) {
+        final RepaymentPeriod repaymentPeriod = interestPeriod.getRepaymentPeriod();
+        if (interestPeriod.isFirstInterestPeriod()) {
+            final Optional<RepaymentPeriod> previous = repaymentPeriod.getPrevious();
+            if (previous.isEmpty()) {
+                return interestPeriod.getOutstandingLoanBalance();
+            }
+            final InterestPeriod previousInterestPeriod = previous.get().getLastInterestPeriod();
+            return MathUtil.negativeToZero(previousInterestPeriod.getOutstandingLoanBalance()
+                    .plus(previousInterestPeriod.getDisbursementAmount(), MC)
+                    .plus(previousInterestPeriod.getCapitalizedIncomePrincipal(), MC)
+                    .plus(previousInterestPeriod.getBalanceCorrectionAmount(), MC).minus(previous.get().getDuePrincipal(), MC)
+                    .plus(previous.get().getPaidPrincipal(), MC), MC);
+        }
+        final List<InterestPeriod> interestPeriods = repaymentPeriod.getInterestPeriods();
+        final InterestPeriod previousInterestPeriod = interestPeriods.get(interestPeriods.indexOf(interestPeriod) - 1);
+        return MathUtil.negativeToZero(previousInterestPeriod.getOutstandingLoanBalance()
+                .plus(previousInterestPeriod.getBalanceCorrectionAmount(), MC)
+                .plus(previousInterestPeriod.getCapitalizedIncomePrincipal(), MC)
+                .plus(previousInterestPeriod.getDisbursementAmount(), MC), MC);
+    }
+
+    private static Money sumByMoney(final RepaymentPeriod repaymentPeriod, final Function<InterestPeriod, Money> amount,
+            final boolean negativeToZero) {
+        final Money sum = repaymentPeriod.getInterestPeriods().stream().map(amount).reduce(Money.zero(USD, MC),
+                (value, next) -> value.plus(next, MC));
+        return negativeToZero ? MathUtil.negativeToZero(sum, MC) : sum;
+    }
+
+    private static Money initialBalanceByMoney(final RepaymentPeriod repaymentPeriod) {
+        final Money initialBalance = repaymentPeriod.getPrevious().map(RepaymentPeriod::getOutstandingLoanBalance)
+                .orElse(Money.zero(USD, MC));
+        return initialBalance.add(sumByMoney(repaymentPeriod, InterestPeriod::getDisbursementAmount, false), MC)
+                .add(sumByMoney(repaymentPeriod, InterestPeriod::getCapitalizedIncomePrincipal, false), MC);
+    }
+
+    private static Money totalByMoney(final ProgressiveLoanInterestScheduleModel model, final Function<RepaymentPeriod, Money> amount) {
+        return MathUtil.negativeToZero(model.repaymentPeriods().stream().map(amount).reduce(model.zero(), Money::plus), MC);
+    }
+}
@@ -35,7 +35,6 @@ import org.apache.fineract.accounting.common.AccountingConstants.CashAccountsFor
 import org.apache.fineract.accounting.common.AccountingConstants.CashAccountsForSavings;
 import org.apache.fineract.accounting.common.AccountingConstants.CashAccountsForShares;
 import org.apache.fineract.accounting.common.AccountingConstants.FinancialActivity;
-import org.apache.fineract.accounting.financialactivityaccount.domain.FinancialActivityAccount;
 import org.apache.fineract.accounting.financialactivityaccount.domain.FinancialActivityAccountRepositoryWrapper;
 import org.apache.fineract.accounting.glaccount.domain.GLAccount;
 import org.apache.fineract.accounting.glaccount.domain.GLAccountRepository;
@@ -95,6 +94,7 @@ public class AccountingProcessorHelper {
     private final AccountTransfersReadPlatformService accountTransfersReadPlatformService;
     private final ChargeRepositoryWrapper chargeRepositoryWrapper;
     private final BusinessEventNotifierService businessEventNotifierService;
+    private final AccountingMappingCache accountingMappingCache;
 
     public LoanDTO populateLoanDtoFromDTO(
             final org.apache.fineract.portfolio.loanaccount.data.AccountingBridgeDataDTO accountingBridgeData) {
@@ -175,7 +175,11 @@ public class AccountingProcessorHelper {
 
     public ProductToGLAccountMapping getChargeOffMappingByCodeValue(Long loanProductId, PortfolioProductType productType,
             Long chargeOffReasonId) {
-        return accountMappingRepository.findChargeOffReasonMapping(loanProductId, productType.getValue(), chargeOffReasonId);
+        final AccountingMappingIndex index = accountingMappingCache.getIndex(loanProductId, productType.getValue());
+        if (index == null) {
+            return accountMappingRepository.findChargeOffReasonMapping(loanProductId, productType.getValue(), chargeOffReasonId);
+        }
+        return toAccountMapping(index.findChargeOffMapping(loanProductId, productType.getValue(), chargeOffReasonId));
     }
 
     public SavingsDTO populateSavingsDtoFromMap(final Map<String, Object> accountingBridgeData, final boolean cashBasedAccountingEnabled,
@@ -501,7 +505,13 @@ public class AccountingProcessorHelper {
     }
 
     public GLClosure getLatestClosureByBranch(final long officeId) {
-        return this.closureRepository.getLatestGLClosureByBranch(officeId);
+        final AccountingMappingIndex index = accountingMappingCache.getIndex();
+        if (index == null) {
+            return this.closureRepository.getLatestGLClosureByBranch(officeId);
+        }
+        final AccountingMappingIndex.LatestClosure latestClosure = index.findLatestClosure(officeId);
+        // the index holds no entities, the closure is read in the current transaction
+        return latestClosure == null ? null : this.closureRepository.findById(latestClosure.closureId()).orElse(null);
     }
 
     private void createJournalEntriesForLoan(final Office office, final String currencyCode, final int accountTypeToDebitId,
@@ -1059,21 +1069,18 @@ public class AccountingProcessorHelper {
     public GLAccount getLinkedGLAccountForLoanProduct(final Long loanProductId, final int accountMappingTypeId, final Long paymentTypeId) {
         GLAccount glAccount;
         if (isOrganizationAccount(accountMappingTypeId)) {
-            FinancialActivityAccount financialActivityAccount = this.financialActivityAccountRepository
-                    .findByFinancialActivityTypeWithNotFoundDetection(accountMappingTypeId);
-            glAccount = financialActivityAccount.getGlAccount();
+            glAccount = getFinancialActivityGLAccount(accountMappingTypeId);
         } else {
-            ProductToGLAccountMapping accountMapping = this.accountMappingRepository.findCoreProductToFinAccountMapping(loanProductId,
-                    PortfolioProductType.LOAN.getValue(), accountMappingTypeId);
+            ProductToGLAccountMapping accountMapping = findCoreMapping(loanProductId, PortfolioProductType.LOAN.getValue(),
+                    accountMappingTypeId);
 
             /****
              * Get more specific mapping for FUND source accounts (based on payment channels). Note that fund source
              * placeholder ID would be same for both cash and accrual accounts
              ***/
             if (accountMappingTypeId == CashAccountsForLoan.FUND_SOURCE.getValue()) {
-                final ProductToGLAccountMapping paymentChannelSpecificAccountMapping = this.accountMappingRepository
-                        .findByProductIdAndProductTypeAndFinancialAccountTypeAndPaymentTypeId(loanProductId,
-                                PortfolioProductType.LOAN.getValue(), accountMappingTypeId, paymentTypeId);
+                final ProductToGLAccountMapping paymentChannelSpecificAccountMapping = findPaymentTypeMapping(loanProductId,
+                        PortfolioProductType.LOAN.getValue(), accountMappingTypeId, paymentTypeId);
                 if (paymentChannelSpecificAccountMapping != null) {
                     accountMapping = paymentChannelSpecificAccountMapping;
                 }
@@ -1090,8 +1097,8 @@ public class AccountingProcessorHelper {
     }
 
     private GLAccount getLinkedGLAccountForLoanCharges(final Long loanProductId, final int accountMappingTypeId, final Long chargeId) {
-        ProductToGLAccountMapping accountMapping = this.accountMappingRepository.findCoreProductToFinAccountMapping(loanProductId,
-                PortfolioProductType.LOAN.getValue(), accountMappingTypeId);
+        ProductToGLAccountMapping accountMapping = findCoreMapping(loanProductId, PortfolioProductType.LOAN.getValue(),
+                accountMappingTypeId);
         /*****
          * Get more specific mappings for Charges and penalties (based on the actual charge /penalty coupled with the
          * loan product). Note the income from fees and income from penalties placeholder ID would be the same for both
@@ -1101,9 +1108,8 @@ public class AccountingProcessorHelper {
         // Vishwas TODO: remove this condition as it should always be true
         if (accountMappingTypeId == CashAccountsForLoan.INCOME_FROM_FEES.getValue()
                 || accountMappingTypeId == CashAccountsForLoan.INCOME_FROM_PENALTIES.getValue()) {
-            final ProductToGLAccountMapping chargeSpecificIncomeAccountMapping = this.accountMappingRepository
-                    .findProductIdAndProductTypeAndFinancialAccountTypeAndChargeId(loanProductId, PortfolioProductType.LOAN.getValue(),
-                            accountMappingTypeId, chargeId);
+            final ProductToGLAccountMapping chargeSpecificIncomeAccountMapping = findChargeMapping(loanProductId,
+                    PortfolioProductType.LOAN.getValue(), accountMappingTypeId, chargeId);
             if (chargeSpecificIncomeAccountMapping != null) {
                 accountMapping = chargeSpecificIncomeAccountMapping;
             }
@@ -1114,8 +1120,8 @@ public class AccountingProcessorHelper {
     private GLAccount getLinkedGLAccountForSavingsCharges(final Long savingsProductId, final int accountMappingTypeId,
             final Long chargeId) {
 
-        ProductToGLAccountMapping accountMapping = this.accountMappingRepository.findCoreProductToFinAccountMapping(savingsProductId,
-                PortfolioProductType.SAVING.getValue(), accountMappingTypeId);
+        ProductToGLAccountMapping accountMapping = findCoreMapping(savingsProductId, PortfolioProductType.SAVING.getValue(),
+                accountMappingTypeId);
         /*****
          * Get more specific mappings for Charges and penalties (based on the actual charge /penalty coupled with the
          * loan product). Note the income from fees and income from penalties placeholder ID would be the same for both
@@ -1130,9 +1136,8 @@ public class AccountingProcessorHelper {
             if (glAccount != null) {
                 return glAccount;
             }
-            final ProductToGLAccountMapping chargeSpecificIncomeAccountMapping = this.accountMappingRepository
-                    .findProductIdAndProductTypeAndFinancialAccountTypeAndChargeId(savingsProductId, PortfolioProductType.SAVING.getValue(),
-                            accountMappingTypeId, chargeId);
+            final ProductToGLAccountMapping chargeSpecificIncomeAccountMapping = findChargeMapping(savingsProductId,
+                    PortfolioProductType.SAVING.getValue(), accountMappingTypeId, chargeId);
             if (chargeSpecificIncomeAccountMapping != null) {
 
                 accountMapping = chargeSpecificIncomeAccountMapping;
@@ -1146,20 +1151,17 @@ public class AccountingProcessorHelper {
             final Long paymentTypeId) {
         GLAccount glAccount;
         if (isOrganizationAccount(accountMappingTypeId)) {
-            FinancialActivityAccount financialActivityAccount = this.financialActivityAccountRepository
-                    .findByFinancialActivityTypeWithNotFoundDetection(accountMappingTypeId);
-            glAccount = financialActivityAccount.getGlAccount();
+            glAccount = getFinancialActivityGLAccount(accountMappingTypeId);
         } else {
-            ProductToGLAccountMapping accountMapping = this.accountMappingRepository.findCoreProductToFinAccountMapping(savingsProductId,
-                    PortfolioProductType.SAVING.getValue(), accountMappingTypeId);
+            ProductToGLAccountMapping accountMapping = findCoreMapping(savingsProductId, PortfolioProductType.SAVING.getValue(),
+                    accountMappingTypeId);
             /****
              * Get more specific mapping for FUND source accounts (based on payment channels). Note that fund source
              * placeholder ID would be same for both cash and accrual accounts
              ***/
             if (accountMappingTypeId == CashAccountsForSavings.SAVINGS_REFERENCE.getValue()) {
-                final ProductToGLAccountMapping paymentChannelSpecificAccountMapping = this.accountMappingRepository
-                        .findByProductIdAndProductTypeAndFinancialAccountTypeAndPaymentTypeId(savingsProductId,
-                                PortfolioProductType.SAVING.getValue(), accountMappingTypeId, paymentTypeId);
+                final ProductToGLAccountMapping paymentChannelSpecificAccountMapping = findPaymentTypeMapping(savingsProductId,
+                        PortfolioProductType.SAVING.getValue(), accountMappingTypeId, paymentTypeId);
                 if (paymentChannelSpecificAccountMapping != null) {
                     accountMapping = paymentChannelSpecificAccountMapping;
                 }
@@ -1173,17 +1175,14 @@ public class AccountingProcessorHelper {
             final Long paymentTypeId) {
         GLAccount glAccount;
         if (isOrganizationAccount(accountMappingTypeId)) {
-            FinancialActivityAccount financialActivityAccount = this.financialActivityAccountRepository
-                    .findByFinancialActivityTypeWithNotFoundDetection(accountMappingTypeId);
-            glAccount = financialActivityAccount.getGlAccount();
+            glAccount = getFinancialActivityGLAccount(accountMappingTypeId);
         } else {
-            ProductToGLAccountMapping accountMapping = this.accountMappingRepository.findCoreProductToFinAccountMapping(shareProductId,
-                    PortfolioProductType.SHARES.getValue(), accountMappingTypeId);
+            ProductToGLAccountMapping accountMapping = findCoreMapping(shareProductId, PortfolioProductType.SHARES.getValue(),
+                    accountMappingTypeId);
 
             if (accountMappingTypeId == CashAccountsForShares.SHARES_REFERENCE.getValue()) {
-                final ProductToGLAccountMapping paymentChannelSpecificAccountMapping = this.accountMappingRepository
-                        .findByProductIdAndProductTypeAndFinancialAccountTypeAndPaymentTypeId(shareProductId,
-                                PortfolioProductType.SHARES.getValue(), accountMappingTypeId, paymentTypeId);
+                final ProductToGLAccountMapping paymentChannelSpecificAccountMapping = findPaymentTypeMapping(shareProductId,
+                        PortfolioProductType.SHARES.getValue(), accountMappingTypeId, paymentTypeId);
                 if (paymentChannelSpecificAccountMapping != null) {
                     accountMapping = paymentChannelSpecificAccountMapping;
                 }
@@ -1194,23 +1193,73 @@ public class AccountingProcessorHelper {
     }
 
     private GLAccount getLinkedGLAccountForShareCharges(final Long shareProductId, final int accountMappingTypeId, final Long chargeId) {
-        ProductToGLAccountMapping accountMapping = this.accountMappingRepository.findCoreProductToFinAccountMapping(shareProductId,
-                PortfolioProductType.SHARES.getValue(), accountMappingTypeId);
+        ProductToGLAccountMapping accountMapping = findCoreMapping(shareProductId, PortfolioProductType.SHARES.getValue(),
+                accountMappingTypeId);
         /*****
          * Get more specific mappings for Charges and penalties (based on the actual charge /penalty coupled with the
          * loan product). Note the income from fees and income from penalties placeholder ID would be the same for both
          * cash and accrual based accounts
          *****/
 
-        final ProductToGLAccountMapping chargeSpecificIncomeAccountMapping = this.accountMappingRepository
-                .findProductIdAndProductTypeAndFinancialAccountTypeAndChargeId(shareProductId, PortfolioProductType.SHARES.getValue(),
-                        accountMappingTypeId, chargeId);
+        final ProductToGLAccountMapping chargeSpecificIncomeAccountMapping = findChargeMapping(shareProductId,
+                PortfolioProductType.SHARES.getValue(), accountMappingTypeId, chargeId);
         if (chargeSpecificIncomeAccountMapping != null) {
             accountMapping = chargeSpecificIncomeAccountMapping;
         }
         return accountMapping.getGlAccount();
     }
 
+    private ProductToGLAccountMapping findCoreMapping(final Long productId, final Integer productType, final int accountMappingTypeId) {
+        final AccountingMappingIndex index = accountingMappingCache.getIndex(productId, productType);
+        if (index == null) {
+            return this.accountMappingRepository.findCoreProductToFinAccountMapping(productId, productType, accountMappingTypeId);
+        }
+        return toAccountMapping(index.findCoreMapping(productId, productType, accountMappingTypeId));
+    }
+
+    private ProductToGLAccountMapping findPaymentTypeMapping(final Long productId, final Integer productType,
+            final int accountMappingTypeId, final Long paymentTypeId) {
+        final AccountingMappingIndex index = accountingMappingCache.getIndex(productId, productType);
+        if (index == null) {
+            return this.accountMappingRepository.findByProductIdAndProductTypeAndFinancialAccountTypeAndPaymentTypeId(productId,
+                    productType, accountMappingTypeId, paymentTypeId);
+        }
+        return toAccountMapping(index.findPaymentTypeMapping(productId, productType, accountMappingTypeId, paymentTypeId));
+    }
+
+    private ProductToGLAccountMapping findChargeMapping(final Long productId, final Integer productType, final int accountMappingTypeId,
+            final Long chargeId) {
+        final AccountingMappingIndex index = accountingMappingCache.getIndex(productId, productType);
+        if (index == null) {
+            return this.accountMappingRepository.findProductIdAndProductTypeAndFinancialAccountTypeAndChargeId(productId, productType,
+                    accountMappingTypeId, chargeId);
+        }
+        return toAccountMapping(index.findChargeMapping(productId, productType, accountMappingTypeId, chargeId));
+    }
+
+    /**
+     * The mappings resolved from the index are only read for their GL account, which is a reference within the current
+     * persistence context.
+     */
+    private ProductToGLAccountMapping toAccountMapping(final AccountingMappingIndex.ResolvedMapping resolvedMapping) {
+        if (resolvedMapping == null) {
+            return null;
+        }
+        final Long glAccountId = resolvedMapping.glAccountId();
+        return new ProductToGLAccountMapping().setGlAccount(glAccountId == null ? null : getGLAccountById(glAccountId));
+    }
+
+    private GLAccount getFinancialActivityGLAccount(final int financialActivityType) {
+        final AccountingMappingIndex index = accountingMappingCache.getIndex();
+        final Long glAccountId = index == null ? null : index.findFinancialActivityGLAccountId(financialActivityType);
+        if (glAccountId == null) {
+            // fails with the usual error when the financial activity is not mapped
+            return this.financialActivityAccountRepository.findByFinancialActivityTypeWithNotFoundDetection(financialActivityType)
+                    .getGlAccount();
+        }
+        return getGLAccountById(glAccountId);
+    }
+
     private boolean isOrganizationAccount(final int accountMappingTypeId) {
         return FinancialActivity.fromInt(accountMappingTypeId) != null;
     }
@@ -1254,8 +1303,7 @@ public class AccountingProcessorHelper {
     public void createDebitJournalEntryOrReversalForClientChargePayments(final Office office, final String currencyCode,
             final Long clientId, final Long transactionId, final LocalDate transactionDate, final BigDecimal amount,
             final Boolean isReversal) {
-        final GLAccount account = financialActivityAccountRepository
-                .findByFinancialActivityTypeWithNotFoundDetection(FinancialActivity.ASSET_FUND_SOURCE.getValue()).getGlAccount();
+        final GLAccount account = getFinancialActivityGLAccount(FinancialActivity.ASSET_FUND_SOURCE.getValue());
         if (isReversal) {
             createCreditJournalEntryForClientPayments(office, currencyCode, account, clientId, transactionId, transactionDate, amount);
         } else {
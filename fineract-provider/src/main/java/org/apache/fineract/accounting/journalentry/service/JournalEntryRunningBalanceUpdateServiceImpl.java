@@ -22,38 +22,74 @@ import java.math.BigDecimal;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.fineract.accounting.common.AccountingEnumerations;
 import org.apache.fineract.accounting.glaccount.domain.GLAccountType;
 import org.apache.fineract.accounting.journalentry.api.JournalEntryJsonInputParams;
-import org.apache.fineract.accounting.journalentry.data.JournalEntryData;
 import org.apache.fineract.accounting.journalentry.data.JournalEntryDataValidator;
 import org.apache.fineract.accounting.journalentry.domain.JournalEntryType;
 import org.apache.fineract.infrastructure.core.api.JsonCommand;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.data.CommandProcessingResult;
 import org.apache.fineract.infrastructure.core.data.CommandProcessingResultBuilder;
-import org.apache.fineract.infrastructure.core.data.EnumOptionData;
+import org.apache.fineract.infrastructure.core.domain.FineractContext;
 import org.apache.fineract.infrastructure.core.domain.JdbcSupport;
+import org.apache.fineract.infrastructure.core.exception.PlatformInternalServerException;
 import org.apache.fineract.infrastructure.core.serialization.FromJsonHelper;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
 import org.apache.fineract.organisation.office.domain.OfficeRepositoryWrapper;
-import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+/**
+ * Recalculates the organization and office running balances of journal entries.
+ *
+ * <p>
+ * Running balances only depend on the entries of the same GL account, so the work is split into one partition per GL
+ * account (per GL account and office when a single office is recalculated). Each partition starts at its oldest
+ * uncalculated entry, is seeded from the last balance calculated before that date and is walked forward in keyset
+ * pages of {@code fineract.accounting.running-balance.page-size} entries. Every page is updated with JDBC batches and
+ * committed on its own, so the {@code is_running_balance_calculated} flags act as the checkpoint: a run interrupted by a
+ * crash continues where the committed pages end.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class JournalEntryRunningBalanceUpdateServiceImpl implements JournalEntryRunningBalanceUpdateService {
 
+    public static final String RUNNING_BALANCE_UPDATE_EXECUTOR_BEAN_NAME = "runningBalanceUpdateExecutor";
+
+    private static final String ORGANIZATION_PARTITIONS_QUERY = "select je.account_id as accountId, MIN(je.entry_date) as fromDate "
+            + "from acc_gl_journal_entry je where je.is_running_balance_calculated=false group by je.account_id";
+
+    private static final String OFFICE_PARTITIONS_QUERY = "select je.account_id as accountId, MIN(je.entry_date) as fromDate "
+            + "from acc_gl_journal_entry je where je.is_running_balance_calculated=false and je.office_id=? group by je.account_id";
+
+    private static final String ORGANIZATION_SEED_QUERY = "select je.organization_running_balance from acc_gl_journal_entry je "
+            + "where je.account_id=? and je.entry_date < ? order by je.entry_date DESC, je.id DESC ";
+
+    private static final String ORGANIZATION_UPDATE_SQL = "UPDATE acc_gl_journal_entry SET is_running_balance_calculated=?, organization_running_balance=?,"
+            + "office_running_balance=?, last_modified_by=?, last_modified_on_utc=?  WHERE  id=?";
+
+    private static final String OFFICE_UPDATE_SQL = "UPDATE acc_gl_journal_entry SET office_running_balance=?, last_modified_by=?, last_modified_on_utc=? WHERE id=?";
+
     private final JdbcTemplate jdbcTemplate;
 
     private final OfficeRepositoryWrapper officeRepositoryWrapper;
@@ -63,20 +99,26 @@ public class JournalEntryRunningBalanceUpdateServiceImpl implements JournalEntry
     private final FromJsonHelper fromApiJsonHelper;
     private final DatabaseSpecificSQLGenerator sqlGenerator;
 
-    private final GLJournalEntryMapper entryMapper = new GLJournalEntryMapper();
-
     private final PlatformSecurityContext platformSecurityContext;
 
+    private final FineractProperties fineractProperties;
+
+    private final TransactionTemplate transactionTemplate;
+
+    @Qualifier(RUNNING_BALANCE_UPDATE_EXECUTOR_BEAN_NAME)
+    private final ThreadPoolTaskExecutor runningBalanceUpdateExecutor;
+
+    private final RunningBalanceEntryMapper entryMapper = new RunningBalanceEntryMapper();
+
     @Override
     public void updateRunningBalance() {
-        String dateFinder = "select MIN(je.entry_date) as entityDate from acc_gl_journal_entry  je "
-                + "where je.is_running_balance_calculated=false ";
-        try {
-            LocalDate entityDate = this.jdbcTemplate.queryForObject(dateFinder, LocalDate.class);
-            updateOrganizationRunningBalance(entityDate);
-        } catch (EmptyResultDataAccessException e) {
+        List<RunningBalancePartition> partitions = jdbcTemplate.query(ORGANIZATION_PARTITIONS_QUERY,
+                (rs, rowNum) -> new RunningBalancePartition(rs.getLong("accountId"), null, JdbcSupport.getLocalDate(rs, "fromDate")));
+        if (partitions.isEmpty()) {
             log.debug("No results found for updation of running balance ");
+            return;
         }
+        updatePartitions(partitions);
     }
 
     @Override
@@ -90,195 +132,216 @@ public class JournalEntryRunningBalanceUpdateServiceImpl implements JournalEntry
             updateRunningBalance();
         } else {
             this.officeRepositoryWrapper.findOneWithNotFoundDetection(officeId);
-            String dateFinder = "select MIN(je.entry_date) as entityDate " + "from acc_gl_journal_entry  je "
-                    + "where je.is_running_balance_calculated=false  and je.office_id=?";
-            try {
-                LocalDate entityDate = this.jdbcTemplate.queryForObject(dateFinder, LocalDate.class, officeId);
-                updateRunningBalance(officeId, entityDate);
-            } catch (EmptyResultDataAccessException e) {
+            List<RunningBalancePartition> partitions = jdbcTemplate.query(OFFICE_PARTITIONS_QUERY,
+                    (rs, rowNum) -> new RunningBalancePartition(rs.getLong("accountId"), officeId,
+                            JdbcSupport.getLocalDate(rs, "fromDate")),
+                    officeId);
+            if (partitions.isEmpty()) {
                 log.debug("No results found for updation of office running balance with office id: {}", officeId);
+            } else {
+                updatePartitions(partitions);
             }
             commandProcessingResultBuilder.withOfficeId(officeId);
         }
         return commandProcessingResultBuilder.build();
     }
 
-    private void updateOrganizationRunningBalance(LocalDate entityDate) {
-        Map<Long, BigDecimal> runningBalanceMap = new HashMap<>(5);
-        Map<Long, Map<Long, BigDecimal>> officesRunningBalance = new HashMap<>();
-
-        final String organizationRunningBalanceQuery = "select je.organization_running_balance as runningBalance,je.account_id as accountId from acc_gl_journal_entry je "
-                + "inner join (select max(id) as id from acc_gl_journal_entry where entry_date < ? group by account_id,entry_date) je2 ON je2.id = je.id "
-                + "inner join (select max(entry_date) as date from acc_gl_journal_entry where entry_date < ? group by account_id) je3 ON je.entry_date = je3.date "
-                + "group by je.id order by je.entry_date DESC " + sqlGenerator.limit(10000, 0);
-
-        List<Map<String, Object>> list = jdbcTemplate.queryForList(organizationRunningBalanceQuery, // NOSONAR
-                entityDate, entityDate);
-
-        for (Map<String, Object> entries : list) {
-            Long accountId = Long.parseLong(entries.get("accountId").toString()); // Drizzle
-                                                                                  // is
-                                                                                  // returning
-                                                                                  // Big
-                                                                                  // Integer
-                                                                                  // where
-                                                                                  // as
-                                                                                  // MySQL
-                                                                                  // returns
-                                                                                  // Long.
-            if (!runningBalanceMap.containsKey(accountId)) {
-                runningBalanceMap.put(accountId, (BigDecimal) entries.get("runningBalance"));
-            }
+    private void updatePartitions(List<RunningBalancePartition> partitions) {
+        final Long userId = platformSecurityContext.authenticatedUser().getId();
+        final FineractContext context = ThreadLocalContextUtil.getContext();
+        final Queue<RunningBalancePartition> remainingPartitions = new ConcurrentLinkedQueue<>(partitions);
+        final AtomicBoolean failed = new AtomicBoolean(false);
+        int workerCount = Math.min(partitions.size(), Math.max(1, runningBalanceUpdateExecutor.getMaxPoolSize()));
+        log.debug("Updating running balance of {} partitions with {} workers", partitions.size(), workerCount);
+
+        List<Future<?>> workers = new ArrayList<>(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            workers.add(runningBalanceUpdateExecutor.submit(() -> {
+                try {
+                    ThreadLocalContextUtil.init(context);
+                    RunningBalancePartition partition;
+                    while (!failed.get() && (partition = remainingPartitions.poll()) != null) {
+                        updatePartition(partition, userId);
+                    }
+                } catch (RuntimeException e) {
+                    failed.set(true);
+                    throw e;
+                } finally {
+                    ThreadLocalContextUtil.reset();
+                }
+            }));
         }
 
-        final String offlineRunningBalanceQuery = "select je.office_running_balance as runningBalance,je.account_id as accountId,je.office_id as officeId "
-                + "from acc_gl_journal_entry je "
-                + "inner join (select max(id) as id from acc_gl_journal_entry where entry_date < ? group by office_id,account_id,entry_date) je2 ON je2.id = je.id "
-                + "inner join (select max(entry_date) as date from acc_gl_journal_entry where entry_date < ? group by office_id,account_id) je3 ON je.entry_date = je3.date "
-                + "group by je.id order by je.entry_date DESC " + sqlGenerator.limit(10000, 0);
-
-        List<Map<String, Object>> officesRunningBalanceList = jdbcTemplate.queryForList(offlineRunningBalanceQuery, // NOSONAR
-                entityDate, entityDate);
-        for (Map<String, Object> entries : officesRunningBalanceList) {
-            Long accountId = Long.parseLong(entries.get("accountId").toString());
-            Long officeId = Long.parseLong(entries.get("officeId").toString());
-            Map<Long, BigDecimal> runningBalance;
-            if (officesRunningBalance.containsKey(officeId)) {
-                runningBalance = officesRunningBalance.get(officeId);
-            } else {
-                runningBalance = new HashMap<>();
-                officesRunningBalance.put(officeId, runningBalance);
-            }
-            if (!runningBalance.containsKey(accountId)) {
-                runningBalance.put(accountId, (BigDecimal) entries.get("runningBalance"));
+        List<Throwable> errors = new ArrayList<>();
+        for (Future<?> worker : workers) {
+            try {
+                worker.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                errors.add(e);
+            } catch (ExecutionException e) {
+                log.error("Running balance update failed", e.getCause());
+                errors.add(e.getCause());
             }
         }
+        if (!errors.isEmpty()) {
+            throw new PlatformInternalServerException("error.msg.running.balance.update.failed",
+                    "Running balance update failed, the already committed entries are kept and the update resumes from them on the next run",
+                    errors.get(0));
+        }
+    }
 
-        List<JournalEntryData> entryDataList = jdbcTemplate.query(entryMapper.organizationRunningBalanceSchema(), entryMapper, entityDate);
-        if (entryDataList.size() > 0) {
-            // run a batch update of 1000 SQL statements at a time
-            final int batchUpdateSize = 1000;
-            List<Object[]> params = new ArrayList<>();
-            int batchIndex = 0;
-            String sql = "UPDATE acc_gl_journal_entry SET is_running_balance_calculated=?, organization_running_balance=?,"
-                    + "office_running_balance=?, last_modified_by=?, last_modified_on_utc=?  WHERE  id=?";
-            for (int index = 0; index < entryDataList.size(); index++) {
-                JournalEntryData entryData = entryDataList.get(index);
-                Map<Long, BigDecimal> officeRunningBalanceMap;
-                if (officesRunningBalance.containsKey(entryData.getOfficeId())) {
-                    officeRunningBalanceMap = officesRunningBalance.get(entryData.getOfficeId());
-                } else {
-                    officeRunningBalanceMap = new HashMap<>();
-                    officesRunningBalance.put(entryData.getOfficeId(), officeRunningBalanceMap);
-                }
-                BigDecimal officeRunningBalance = calculateRunningBalance(entryData, officeRunningBalanceMap);
-                BigDecimal runningBalance = calculateRunningBalance(entryData, runningBalanceMap);
-
-                params.add(new Object[] { Boolean.TRUE, runningBalance, officeRunningBalance,
-                        platformSecurityContext.authenticatedUser().getId(), DateUtils.getAuditOffsetDateTime(), entryData.getId() });
-                batchIndex++;
-                if (batchIndex == batchUpdateSize || index == entryDataList.size() - 1) {
-                    this.jdbcTemplate.batchUpdate(sql, params);
-                    // reset counter and string array
-                    batchIndex = 0;
-                    params.clear();
-                }
-            }
+    private void updatePartition(RunningBalancePartition partition, Long userId) {
+        final GLAccountType accountType = GLAccountType.fromInt(jdbcTemplate
+                .queryForObject("select glAccount.classification_enum from acc_gl_account glAccount where glAccount.id=?", Integer.class,
+                        partition.accountId()));
+        final RunningBalanceCursor cursor = new RunningBalanceCursor(partition, accountType);
+        if (!partition.isOfficeOnly()) {
+            List<BigDecimal> seed = jdbcTemplate.queryForList(ORGANIZATION_SEED_QUERY + sqlGenerator.limit(1), BigDecimal.class,
+                    partition.accountId(), partition.fromDate());
+            cursor.organizationRunningBalance = seed.isEmpty() || seed.get(0) == null ? BigDecimal.ZERO : seed.get(0);
         }
+        seedOfficeRunningBalances(cursor);
 
+        final int pageSize = Math.max(1, fineractProperties.getAccounting().getRunningBalance().getPageSize());
+        boolean hasMore = true;
+        while (hasMore) {
+            hasMore = Boolean.TRUE.equals(transactionTemplate.execute(status -> updateNextPage(cursor, pageSize, userId)));
+        }
+        log.debug("Updated running balance of {} entries for GL account {}", cursor.updatedEntries, partition.accountId());
     }
 
-    private void updateRunningBalance(Long officeId, LocalDate entityDate) {
-        Map<Long, BigDecimal> runningBalanceMap = new HashMap<>(5);
+    private void seedOfficeRunningBalances(RunningBalanceCursor cursor) {
+        RunningBalancePartition partition = cursor.partition;
+        String officeCondition = partition.isOfficeOnly() ? " and office_id=?" : "";
+        String sql = "select je.office_id as officeId, je.office_running_balance as runningBalance from acc_gl_journal_entry je "
+                + "inner join (select office_id, max(entry_date) as lastDate from acc_gl_journal_entry where account_id=? and entry_date < ?"
+                + officeCondition + " group by office_id) lastEntry ON lastEntry.office_id = je.office_id and lastEntry.lastDate = je.entry_date "
+                + "where je.account_id=? order by je.id DESC";
+        Object[] params = partition.isOfficeOnly()
+                ? new Object[] { partition.accountId(), partition.fromDate(), partition.officeId(), partition.accountId() }
+                : new Object[] { partition.accountId(), partition.fromDate(), partition.accountId() };
+        jdbcTemplate.query(sql, rs -> {
+            BigDecimal runningBalance = rs.getBigDecimal("runningBalance");
+            cursor.officeRunningBalances.putIfAbsent(rs.getLong("officeId"), runningBalance == null ? BigDecimal.ZERO : runningBalance);
+        }, params);
+    }
 
-        final String offlineRunningBalanceQuery = "select je.office_running_balance as runningBalance,je.account_id as accountId from acc_gl_journal_entry je "
-                + "inner join (select max(id) as id from acc_gl_journal_entry where office_id=?  and entry_date < ? group by account_id,entry_date) je2 ON je2.id = je.id "
-                + "inner join (select max(entry_date) as date from acc_gl_journal_entry where office_id=? and entry_date < ? group by account_id) je3 ON je.entry_date = je3.date "
-                + "group by je.id order by je.entry_date DESC " + sqlGenerator.limit(10000, 0);
+    private boolean updateNextPage(RunningBalanceCursor cursor, int pageSize, Long userId) {
+        RunningBalancePartition partition = cursor.partition;
+        String officeCondition = partition.isOfficeOnly() ? "and je.office_id=? " : "";
+        String sql = entryMapper.schema() + "where je.account_id=? " + officeCondition
+                + "and (je.entry_date > ? or (je.entry_date = ? and je.id > ?)) order by je.entry_date, je.id " + sqlGenerator.limit(pageSize);
+        Object[] params = partition.isOfficeOnly()
+                ? new Object[] { partition.accountId(), partition.officeId(), cursor.lastEntryDate, cursor.lastEntryDate, cursor.lastEntryId }
+                : new Object[] { partition.accountId(), cursor.lastEntryDate, cursor.lastEntryDate, cursor.lastEntryId };
+        List<RunningBalanceEntry> entries = jdbcTemplate.query(sql, entryMapper, params);
+        if (entries.isEmpty()) {
+            return false;
+        }
 
-        List<Map<String, Object>> list = jdbcTemplate.queryForList(offlineRunningBalanceQuery, // NOSONAR
-                officeId, entityDate, officeId, entityDate);
-        for (Map<String, Object> entries : list) {
-            Long accountId = (Long) entries.get("accountId");
-            if (!runningBalanceMap.containsKey(accountId)) {
-                runningBalanceMap.put(accountId, (BigDecimal) entries.get("runningBalance"));
+        final int batchSize = Math.max(1, fineractProperties.getAccounting().getRunningBalance().getBatchSize());
+        final OffsetDateTime modifiedOn = DateUtils.getAuditOffsetDateTime();
+        List<Object[]> batch = new ArrayList<>(Math.min(batchSize, entries.size()));
+        for (RunningBalanceEntry entry : entries) {
+            BigDecimal officeRunningBalance = cursor.officeRunningBalances.getOrDefault(entry.officeId(), BigDecimal.ZERO);
+            officeRunningBalance = applyEntry(cursor.accountType, entry, officeRunningBalance);
+            cursor.officeRunningBalances.put(entry.officeId(), officeRunningBalance);
+            if (partition.isOfficeOnly()) {
+                batch.add(new Object[] { officeRunningBalance, userId, modifiedOn, entry.id() });
+            } else {
+                cursor.organizationRunningBalance = applyEntry(cursor.accountType, entry, cursor.organizationRunningBalance);
+                batch.add(new Object[] { Boolean.TRUE, cursor.organizationRunningBalance, officeRunningBalance, userId, modifiedOn,
+                        entry.id() });
+            }
+            if (batch.size() == batchSize) {
+                flushBatch(partition, batch);
             }
         }
-        List<JournalEntryData> entryDataList = jdbcTemplate.query(entryMapper.officeRunningBalanceSchema(), entryMapper, officeId,
-                entityDate);
-        List<Object[]> params = new ArrayList<>();
-
-        String sql = "UPDATE acc_gl_journal_entry SET office_running_balance=?, last_modified_by=?, last_modified_on_utc=? WHERE id=?";
-        for (JournalEntryData entryData : entryDataList) {
-            BigDecimal runningBalance = calculateRunningBalance(entryData, runningBalanceMap);
-            params.add(new Object[] { runningBalance, platformSecurityContext.authenticatedUser().getId(),
-                    DateUtils.getAuditOffsetDateTime(), entryData.getId() });
-        }
-        this.jdbcTemplate.batchUpdate(sql, params);
+        flushBatch(partition, batch);
+
+        RunningBalanceEntry lastEntry = entries.get(entries.size() - 1);
+        cursor.lastEntryDate = lastEntry.entryDate();
+        cursor.lastEntryId = lastEntry.id();
+        cursor.updatedEntries += entries.size();
+        return entries.size() == pageSize;
     }
 
-    private BigDecimal calculateRunningBalance(JournalEntryData entry, Map<Long, BigDecimal> runningBalanceMap) {
-        BigDecimal runningBalance = BigDecimal.ZERO;
-        if (runningBalanceMap.containsKey(entry.getGlAccountId())) {
-            runningBalance = runningBalanceMap.get(entry.getGlAccountId());
+    private void flushBatch(RunningBalancePartition partition, List<Object[]> batch) {
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(partition.isOfficeOnly() ? OFFICE_UPDATE_SQL : ORGANIZATION_UPDATE_SQL, batch);
+            batch.clear();
         }
-        GLAccountType accountType = GLAccountType.fromInt(entry.getGlAccountType().getId().intValue());
-        JournalEntryType entryType = JournalEntryType.fromInt(entry.getEntryType().getId().intValue());
+    }
+
+    private BigDecimal applyEntry(GLAccountType accountType, RunningBalanceEntry entry, BigDecimal runningBalance) {
         boolean isIncrease = false;
         switch (accountType) {
             case ASSET:
             case EXPENSE:
-                if (entryType.isDebitType()) {
+                if (entry.entryType().isDebitType()) {
                     isIncrease = true;
                 }
             break;
             case EQUITY:
             case INCOME:
             case LIABILITY:
-                if (entryType.isCreditType()) {
+                if (entry.entryType().isCreditType()) {
                     isIncrease = true;
                 }
             break;
         }
         if (isIncrease) {
-            runningBalance = runningBalance.add(entry.getAmount());
-        } else {
-            runningBalance = runningBalance.subtract(entry.getAmount());
+            return runningBalance.add(entry.amount());
+        }
+        return runningBalance.subtract(entry.amount());
+    }
+
+    private record RunningBalancePartition(Long accountId, Long officeId, LocalDate fromDate) {
+
+        private boolean isOfficeOnly() {
+            return officeId != null;
         }
-        runningBalanceMap.put(entry.getGlAccountId(), runningBalance);
-        return runningBalance;
     }
 
-    private static final class GLJournalEntryMapper implements RowMapper<JournalEntryData> {
+    private record RunningBalanceEntry(Long id, LocalDate entryDate, Long officeId, JournalEntryType entryType, BigDecimal amount) {
+    }
+
+    /**
+     * Position and running balances of one partition, carried over from page to page.
+     */
+    private static final class RunningBalanceCursor {
+
+        private final RunningBalancePartition partition;
+        private final GLAccountType accountType;
+        private final Map<Long, BigDecimal> officeRunningBalances = new HashMap<>();
+        private BigDecimal organizationRunningBalance = BigDecimal.ZERO;
+        private LocalDate lastEntryDate;
+        private Long lastEntryId = 0L;
+        private long updatedEntries;
 
-        public String officeRunningBalanceSchema() {
-            return "select je.id as id,je.account_id as glAccountId,je.type_enum as entryType,je.amount as amount, "
-                    + "glAccount.classification_enum as classification,je.office_id as officeId "
-                    + "from acc_gl_journal_entry je , acc_gl_account glAccount " + "where je.account_id = glAccount.id "
-                    + "and je.office_id=? and je.entry_date >= ? order by je.entry_date,je.id";
+        private RunningBalanceCursor(RunningBalancePartition partition, GLAccountType accountType) {
+            this.partition = partition;
+            this.accountType = accountType;
+            this.lastEntryDate = partition.fromDate();
         }
+    }
 
-        public String organizationRunningBalanceSchema() {
-            return "select je.id as id,je.account_id as glAccountId," + "je.type_enum as entryType,je.amount as amount, "
-                    + "glAccount.classification_enum as classification,je.office_id as officeId  "
-                    + "from acc_gl_journal_entry je , acc_gl_account glAccount " + "where je.account_id = glAccount.id "
-                    + "and je.entry_date >= ? order by je.entry_date,je.id";
+    private static final class RunningBalanceEntryMapper implements RowMapper<RunningBalanceEntry> {
+
+        public String schema() {
+            return "select je.id as id, je.entry_date as entryDate, je.office_id as officeId, je.type_enum as entryType, je.amount as amount "
+                    + "from acc_gl_journal_entry je ";
         }
 
         @Override
-        public JournalEntryData mapRow(final ResultSet rs, @SuppressWarnings("unused") final int rowNum) throws SQLException {
-
+        public RunningBalanceEntry mapRow(final ResultSet rs, @SuppressWarnings("unused") final int rowNum) throws SQLException {
             final Long id = rs.getLong("id");
-            final Long glAccountId = rs.getLong("glAccountId");
+            final LocalDate entryDate = JdbcSupport.getLocalDate(rs, "entryDate");
             final Long officeId = rs.getLong("officeId");
-            final int accountTypeId = JdbcSupport.getInteger(rs, "classification");
-            final EnumOptionData accountType = AccountingEnumerations.gLAccountType(accountTypeId);
+            final JournalEntryType entryType = JournalEntryType.fromInt(JdbcSupport.getInteger(rs, "entryType"));
             final BigDecimal amount = rs.getBigDecimal("amount");
-            final int entryTypeId = JdbcSupport.getInteger(rs, "entryType");
-            final EnumOptionData entryType = AccountingEnumerations.journalEntryType(entryTypeId);
-
-            return new JournalEntryData(id, officeId, null, null, glAccountId, null, accountType, null, entryType, amount, null, null, null,
-                    null, null, null, null, null, null, null, null, null, null, null, null);
+            return new RunningBalanceEntry(id, entryDate, officeId, entryType, amount);
         }
     }
 
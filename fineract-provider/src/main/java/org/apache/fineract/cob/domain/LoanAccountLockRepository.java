@@ -24,13 +24,20 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface LoanAccountLockRepository
         extends CustomLoanAccountLockRepository, JpaRepository<LoanAccountLock, Long>, JpaSpecificationExecutor<LoanAccountLock> {
 
     Optional<LoanAccountLock> findByLoanIdAndLockOwner(Long loanId, LockOwner lockOwner);
 
-    void deleteByLoanIdInAndLockOwner(List<Long> loanIds, LockOwner lockOwner);
+    @Query("delete from LoanAccountLock lck where lck.loanId in :loanIds and lck.lockOwner = :lockOwner")
+    @Modifying(flushAutomatically = true)
+    void deleteByLoanIdInAndLockOwner(@Param("loanIds") List<Long> loanIds, @Param("lockOwner") LockOwner lockOwner);
+
+    @Query("delete from LoanAccountLock lck where lck.lockOwner = :lockOwner")
+    @Modifying(flushAutomatically = true)
+    void deleteByLockOwner(@Param("lockOwner") LockOwner lockOwner);
 
     List<LoanAccountLock> findAllByLoanIdIn(List<Long> loanIds);
 
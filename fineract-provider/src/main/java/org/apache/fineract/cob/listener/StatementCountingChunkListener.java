@@ -0,0 +1,49 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.listener;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.core.diagnostics.jpa.StatementCountingSessionEventListener;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+
+@RequiredArgsConstructor
+public class StatementCountingChunkListener implements ChunkListener {
+
+    private final DistributionSummary statementsPerChunk;
+    private final DistributionSummary roundTripsPerChunk;
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        StatementCountingSessionEventListener.start();
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        StatementCountingSessionEventListener.StatementCounts counts = StatementCountingSessionEventListener.stop();
+        statementsPerChunk.record(counts.statements());
+        roundTripsPerChunk.record(counts.roundTrips());
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        StatementCountingSessionEventListener.stop();
+    }
+}
@@ -18,7 +18,15 @@
  */
 package org.apache.fineract.cob.loan;
 
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
@@ -32,6 +40,8 @@ import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.annotation.AfterStep;
 import org.springframework.batch.item.ItemReader;
 import org.springframework.lang.NonNull;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -42,15 +52,30 @@ public abstract class AbstractLoanItemReader implements ItemReader<Loan> {
     @Setter(AccessLevel.PROTECTED)
     private LinkedBlockingQueue<Long> remainingData;
 
+    /**
+     * Maximum number of loans loaded by one window query. Values below 2 keep the one-by-one {@code findById} reading.
+     */
+    @Setter
+    private int prefetchWindowSize;
+
+    /**
+     * Number of items Spring Batch reads per chunk transaction. A window never loads more loans than the running chunk
+     * can still take, so no loan is handed out outside the transaction (and persistence context) that loaded it.
+     */
+    @Setter
+    private int chunkSize;
+
+    @Setter
+    private Timer windowFetchTimer;
+
     @Override
     public Loan read() throws Exception {
+        if (isPrefetchEnabled()) {
+            return readFromWindow();
+        }
         final Long loanId = remainingData.poll();
         if (loanId != null) {
-            try {
-                return loanRepository.findById(loanId).orElseThrow(() -> new LoanNotFoundException(loanId));
-            } catch (Exception e) {
-                throw new LoanReadException(loanId, e);
-            }
+            return readLoan(loanId);
         }
         return null;
     }
@@ -60,4 +85,84 @@ public abstract class AbstractLoanItemReader implements ItemReader<Loan> {
         return ExitStatus.COMPLETED;
     }
 
+    private boolean isPrefetchEnabled() {
+        return prefetchWindowSize > 1 && chunkSize > 0 && TransactionSynchronizationManager.isSynchronizationActive();
+    }
+
+    private Loan readLoan(Long loanId) throws LoanReadException {
+        try {
+            return loanRepository.findById(loanId).orElseThrow(() -> new LoanNotFoundException(loanId));
+        } catch (Exception e) {
+            throw new LoanReadException(loanId, e);
+        }
+    }
+
+    private Loan readFromWindow() throws LoanReadException {
+        PrefetchWindow window = (PrefetchWindow) TransactionSynchronizationManager.getResource(this);
+        if (window == null) {
+            window = new PrefetchWindow();
+            TransactionSynchronizationManager.bindResource(this, window);
+            TransactionSynchronizationManager.registerSynchronization(new PrefetchWindowSynchronization(window));
+        }
+        if (window.pendingLoanIds.isEmpty()) {
+            fetchWindow(window);
+        }
+        final Long loanId = window.pendingLoanIds.poll();
+        if (loanId == null) {
+            return null;
+        }
+        window.handedOut++;
+        Loan loan = window.loans.remove(loanId);
+        // loans missing from the window (deleted meanwhile or a failed window query) go through the single-loan path
+        return loan != null ? loan : readLoan(loanId);
+    }
+
+    private void fetchWindow(PrefetchWindow window) {
+        int size = Math.min(prefetchWindowSize, chunkSize - window.handedOut);
+        if (size <= 0) {
+            return;
+        }
+        List<Long> loanIds = new ArrayList<>(size);
+        remainingData.drainTo(loanIds, size);
+        if (loanIds.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            for (Loan loan : loanRepository.findAllByIdInForCOB(loanIds)) {
+                window.loans.put(loan.getId(), loan);
+            }
+        } catch (Exception e) {
+            log.warn("Loading loan window of {} loans failed, falling back to single loan reads", loanIds.size(), e);
+        }
+        long elapsed = System.nanoTime() - start;
+        if (windowFetchTimer != null) {
+            windowFetchTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        }
+        log.debug("Loaded loan window of {} loans (first id: {}) in {} ms", loanIds.size(), loanIds.get(0),
+                TimeUnit.NANOSECONDS.toMillis(elapsed));
+        window.pendingLoanIds.addAll(loanIds);
+    }
+
+    private static final class PrefetchWindow {
+
+        private final Deque<Long> pendingLoanIds = new ArrayDeque<>();
+        private final Map<Long, Loan> loans = new HashMap<>();
+        private int handedOut;
+    }
+
+    @RequiredArgsConstructor
+    private final class PrefetchWindowSynchronization implements TransactionSynchronization {
+
+        private final PrefetchWindow window;
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(AbstractLoanItemReader.this);
+            if (!window.pendingLoanIds.isEmpty()) {
+                // loans of an unfinished window are detached now, they must be loaded again by a later chunk
+                remainingData.addAll(window.pendingLoanIds);
+            }
+        }
+    }
 }
@@ -49,6 +49,9 @@ import org.springframework.transaction.support.TransactionTemplate;
 public class ApplyLoanLockTasklet implements Tasklet {
 
     private static final long NUMBER_OF_RETRIES = 3;
+    private static final int NUMBER_OF_CLAIM_RETRIES = 3;
+    private static final long CLAIM_RETRY_PAUSE_MILLIS = 50L;
+    private static final LockOwner TAKEN_OVER_LOCK_OWNER = LockOwner.LOAN_PERIODIC_ACCRUAL_PROCESSING;
     private final FineractProperties fineractProperties;
     private final LoanLockingService loanLockingService;
     private final RetrieveLoanIdService retrieveLoanIdService;
@@ -75,15 +78,23 @@ public class ApplyLoanLockTasklet implements Tasklet {
                                     .map(Boolean::parseBoolean).orElse(false)));
         }
         List<List<Long>> loanIdPartitions = Lists.partition(loanIds, getInClauseParameterSizeLimit());
-        List<LoanAccountLock> accountLocks = new ArrayList<>();
-        loanIdPartitions.forEach(loanIdPartition -> accountLocks.addAll(loanLockingService.findAllByLoanIdIn(loanIdPartition)));
-
+        boolean claimLocks = fineractProperties.getJob().getLoanCobLock().isSkipLockedClaimEnabled();
         List<Long> toBeProcessedLoanIds = new ArrayList<>(loanIds);
-        List<Long> alreadyLockedAccountIds = accountLocks.stream().map(LoanAccountLock::getLoanId).toList();
-
-        toBeProcessedLoanIds.removeAll(alreadyLockedAccountIds);
+        List<Long> accrualLockedLoanIds = new ArrayList<>();
+        if (!claimLocks) {
+            List<LoanAccountLock> accountLocks = new ArrayList<>();
+            loanIdPartitions.forEach(loanIdPartition -> accountLocks.addAll(loanLockingService.findAllByLoanIdIn(loanIdPartition)));
+            List<Long> alreadyLockedAccountIds = accountLocks.stream().map(LoanAccountLock::getLoanId).toList();
+            toBeProcessedLoanIds.removeAll(alreadyLockedAccountIds);
+            accountLocks.stream().filter(accountLock -> TAKEN_OVER_LOCK_OWNER.equals(accountLock.getLockOwner()))
+                    .map(LoanAccountLock::getLoanId).forEach(accrualLockedLoanIds::add);
+        }
         try {
-            applyLocks(toBeProcessedLoanIds);
+            if (claimLocks) {
+                claimLocks(loanIdPartitions);
+            } else {
+                applyLocks(toBeProcessedLoanIds, accrualLockedLoanIds);
+            }
         } catch (Exception e) {
             if (numberOfExecutions > NUMBER_OF_RETRIES) {
                 String message = "There was an error applying lock to loan accounts.";
@@ -97,17 +108,58 @@ public class ApplyLoanLockTasklet implements Tasklet {
         return RepeatStatus.FINISHED;
     }
 
-    private void applyLocks(List<Long> toBeProcessedLoanIds) {
+    private void applyLocks(List<Long> toBeProcessedLoanIds, List<Long> accrualLockedLoanIds) {
         transactionTemplate.setPropagationBehavior(PROPAGATION_REQUIRES_NEW);
         transactionTemplate.execute(new TransactionCallbackWithoutResult() {
 
             @Override
             protected void doInTransactionWithoutResult(@NonNull TransactionStatus status) {
                 loanLockingService.applyLock(toBeProcessedLoanIds, LockOwner.LOAN_COB_CHUNK_PROCESSING);
+                takeOverLocks(accrualLockedLoanIds);
             }
         });
     }
 
+    /**
+     * The periodic accrual job locks the loans it is accruing, COB accrues them as well so it takes those locks over
+     * instead of leaving the loans out (or leaving them out until the next accrual run when that job crashed).
+     */
+    private void takeOverLocks(List<Long> accrualLockedLoanIds) {
+        if (!accrualLockedLoanIds.isEmpty()) {
+            log.debug("Taking over the periodic accrual locks of {} loans", accrualLockedLoanIds.size());
+            loanLockingService.upgradeLock(accrualLockedLoanIds, LockOwner.LOAN_COB_CHUNK_PROCESSING);
+        }
+    }
+
+    /**
+     * Claims every partition in its own short transaction, so online writers are only held up on one partition at a
+     * time. Loans skipped because a concurrent transaction was modifying them are claimed again, and if they are still
+     * held after the retries the step fails instead of leaving them out of COB.
+     */
+    private void claimLocks(List<List<Long>> loanIdPartitions) throws InterruptedException {
+        for (List<Long> loanIdPartition : loanIdPartitions) {
+            List<Long> skippedLoanIds = claimLocksInNewTransaction(loanIdPartition);
+            for (int retry = 1; !skippedLoanIds.isEmpty() && retry <= NUMBER_OF_CLAIM_RETRIES; retry++) {
+                log.debug("{} loans were held by concurrent transactions, claiming them again (retry {})", skippedLoanIds.size(), retry);
+                Thread.sleep(CLAIM_RETRY_PAUSE_MILLIS * retry);
+                skippedLoanIds = claimLocksInNewTransaction(skippedLoanIds);
+            }
+            if (!skippedLoanIds.isEmpty()) {
+                throw new IllegalStateException("Loans held by concurrent transactions could not be locked: " + skippedLoanIds);
+            }
+        }
+    }
+
+    private List<Long> claimLocksInNewTransaction(List<Long> loanIds) {
+        transactionTemplate.setPropagationBehavior(PROPAGATION_REQUIRES_NEW);
+        return transactionTemplate.execute(status -> {
+            List<Long> skippedLoanIds = loanLockingService.claimLocks(loanIds, LockOwner.LOAN_COB_CHUNK_PROCESSING);
+            takeOverLocks(loanLockingService.findAllByLoanIdInAndLockOwner(loanIds, TAKEN_OVER_LOCK_OWNER).stream()
+                    .map(LoanAccountLock::getLoanId).toList());
+            return skippedLoanIds;
+        });
+    }
+
     private int getInClauseParameterSizeLimit() {
         return fineractProperties.getQuery().getInClauseParameterSizeLimit();
     }
@@ -37,6 +37,10 @@ public final class LoanCOBConstant {
 
     public static final Long NUMBER_OF_DAYS_BEHIND = 1L;
 
+    public static final String READER_WINDOW_FETCH_TIMER_NAME = "fineract.cob.loan.reader.window.fetch";
+    public static final String CHUNK_STATEMENTS_SUMMARY_NAME = "fineract.cob.loan.chunk.statements";
+    public static final String CHUNK_ROUND_TRIPS_SUMMARY_NAME = "fineract.cob.loan.chunk.round-trips";
+
     private LoanCOBConstant() {
 
     }
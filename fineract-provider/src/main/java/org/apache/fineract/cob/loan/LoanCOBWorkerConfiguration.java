@@ -18,12 +18,17 @@
  */
 package org.apache.fineract.cob.loan;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Optional;
 import org.apache.fineract.cob.COBBusinessStepService;
 import org.apache.fineract.cob.common.CustomJobParameterResolver;
 import org.apache.fineract.cob.common.InitialisationTasklet;
 import org.apache.fineract.cob.common.ResetContextTasklet;
 import org.apache.fineract.cob.conditions.BatchWorkerCondition;
 import org.apache.fineract.cob.listener.ChunkProcessingLoanItemListener;
+import org.apache.fineract.cob.listener.StatementCountingChunkListener;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.jobs.service.JobName;
 import org.apache.fineract.infrastructure.springbatch.PropertyService;
@@ -84,6 +89,9 @@ public class LoanCOBWorkerConfiguration {
     @Autowired
     private CustomJobParameterResolver customJobParameterResolver;
 
+    @Autowired
+    private Optional<MeterRegistry> meterRegistry;
+
     @Bean(name = LoanCOBConstant.LOAN_COB_WORKER_STEP)
     public Step loanCOBWorkerStep() {
         return stepBuilderFactory.get("Loan COB worker - Step").inputChannel(inboundRequests).flow(flow()).build();
@@ -138,6 +146,14 @@ public class LoanCOBWorkerConfiguration {
             stepBuilder.taskExecutor(cobTaskExecutor);
         }
 
+        meterRegistry.ifPresent(registry -> stepBuilder.listener(new StatementCountingChunkListener(
+                DistributionSummary.builder(LoanCOBConstant.CHUNK_STATEMENTS_SUMMARY_NAME) //
+                        .description("JDBC statements executed per Loan COB chunk") //
+                        .register(registry),
+                DistributionSummary.builder(LoanCOBConstant.CHUNK_ROUND_TRIPS_SUMMARY_NAME) //
+                        .description("JDBC round trips per Loan COB chunk, an executed statement batch counts once") //
+                        .register(registry))));
+
         return stepBuilder.build();
     }
 
@@ -177,7 +193,13 @@ public class LoanCOBWorkerConfiguration {
     @Bean
     @StepScope
     public LoanItemReader cobWorkerItemReader() {
-        return new LoanItemReader(loanRepository, retrieveLoanIdService, customJobParameterResolver, loanLockingService);
+        LoanItemReader reader = new LoanItemReader(loanRepository, retrieveLoanIdService, customJobParameterResolver,
+                loanLockingService);
+        reader.setPrefetchWindowSize(propertyService.getPrefetchWindowSize(LoanCOBConstant.JOB_NAME));
+        reader.setChunkSize(propertyService.getChunkSize(LoanCOBConstant.JOB_NAME));
+        meterRegistry.ifPresent(registry -> reader.setWindowFetchTimer(Timer.builder(LoanCOBConstant.READER_WINDOW_FETCH_TIMER_NAME)
+                .description("Time spent loading one window of loans").tag("job", LoanCOBConstant.JOB_NAME).register(registry)));
+        return reader;
     }
 
     @Bean
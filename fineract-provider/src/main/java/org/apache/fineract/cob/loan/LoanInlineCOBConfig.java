@@ -18,6 +18,9 @@
  */
 package org.apache.fineract.cob.loan;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Optional;
 import org.apache.fineract.cob.COBBusinessStepService;
 import org.apache.fineract.cob.common.CustomJobParameterResolver;
 import org.apache.fineract.cob.common.ResetContextTasklet;
@@ -69,6 +72,9 @@ public class LoanInlineCOBConfig {
     @Autowired
     private LoanLockingService loanLockingService;
 
+    @Autowired
+    private Optional<MeterRegistry> meterRegistry;
+
     @Bean
     public InlineLoanCOBBuildExecutionContextTasklet inlineLoanCOBBuildExecutionContextTasklet() {
         return new InlineLoanCOBBuildExecutionContextTasklet(cobBusinessStepService, customJobParameterRepository,
@@ -100,7 +106,13 @@ public class LoanInlineCOBConfig {
     @JobScope
     @Bean
     public InlineCOBLoanItemReader inlineCobWorkerItemReader() {
-        return new InlineCOBLoanItemReader(loanRepository);
+        InlineCOBLoanItemReader reader = new InlineCOBLoanItemReader(loanRepository);
+        reader.setPrefetchWindowSize(propertyService.getPrefetchWindowSize(LoanCOBConstant.JOB_NAME));
+        reader.setChunkSize(propertyService.getChunkSize(LoanCOBConstant.JOB_NAME));
+        meterRegistry.ifPresent(registry -> reader.setWindowFetchTimer(Timer.builder(LoanCOBConstant.READER_WINDOW_FETCH_TIMER_NAME)
+                .description("Time spent loading one window of loans").tag("job", LoanCOBConstant.INLINE_LOAN_COB_JOB_NAME)
+                .register(registry)));
+        return reader;
     }
 
     @JobScope
@@ -20,6 +20,7 @@ package org.apache.fineract.cob.loan;
 
 import org.apache.fineract.cob.domain.LoanAccountLockRepository;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseTypeResolver;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
@@ -35,10 +36,15 @@ public class LoanLockingConfiguration {
     private FineractProperties fineractProperties;
     @Autowired
     private LoanAccountLockRepository loanAccountLockRepository;
+    @Autowired
+    private DatabaseTypeResolver databaseTypeResolver;
 
     @Bean
     @ConditionalOnMissingBean
     public LoanLockingService retrieveLoanLockingService() {
+        if (fineractProperties.getJob().getLoanCobLock().isSkipLockedClaimEnabled()) {
+            return new SkipLockedLoanLockingServiceImpl(jdbcTemplate, fineractProperties, loanAccountLockRepository, databaseTypeResolver);
+        }
         return new LoanLockingServiceImpl(jdbcTemplate, fineractProperties, loanAccountLockRepository);
     }
 }
@@ -28,6 +28,8 @@ public interface LoanLockingService {
 
     void deleteByLoanIdInAndLockOwner(List<Long> loanIds, LockOwner lockOwner);
 
+    void deleteByLockOwner(LockOwner lockOwner);
+
     List<LoanAccountLock> findAllByLoanIdIn(List<Long> loanIds);
 
     LoanAccountLock findByLoanIdAndLockOwner(Long loanId, LockOwner lockOwner);
@@ -35,4 +37,15 @@ public interface LoanLockingService {
     List<LoanAccountLock> findAllByLoanIdInAndLockOwner(List<Long> loanIds, LockOwner lockOwner);
 
     void applyLock(List<Long> loanIds, LockOwner lockOwner);
+
+    /**
+     * Places locks on the given loans that have no lock yet, loans that already have a lock are left out. Returns the
+     * ids of the loans that were skipped because a concurrent transaction was modifying them, the caller has to claim
+     * those again. Must run inside a transaction.
+     *
+     * Unless the SKIP LOCKED implementation is enabled, a lock placed concurrently by another transaction fails the
+     * claim with a {@link org.springframework.dao.DataIntegrityViolationException}, the caller has to claim again in a
+     * new transaction.
+     */
+    List<Long> claimLocks(List<Long> loanIds, LockOwner lockOwner);
 }
@@ -20,6 +20,7 @@ package org.apache.fineract.cob.loan;
 
 import java.sql.PreparedStatement;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -102,11 +103,28 @@ public class LoanLockingServiceImpl implements LoanLockingService {
         });
     }
 
+    @Override
+    public List<Long> claimLocks(List<Long> loanIds, LockOwner lockOwner) {
+        List<Long> toBeLockedLoanIds = new ArrayList<>(loanIds);
+        toBeLockedLoanIds.removeAll(findAllByLoanIdIn(loanIds).stream().map(LoanAccountLock::getLoanId).toList());
+        if (!toBeLockedLoanIds.isEmpty()) {
+            applyLock(toBeLockedLoanIds, lockOwner);
+        }
+        // the lock rows are inserted without looking at the loan rows, so a concurrent transaction never causes a skip,
+        // a lock it inserted after the read above fails the insert with a duplicate key instead
+        return List.of();
+    }
+
     @Override
     public void deleteByLoanIdInAndLockOwner(List<Long> loanIds, LockOwner lockOwner) {
         loanAccountLockRepository.deleteByLoanIdInAndLockOwner(loanIds, lockOwner);
     }
 
+    @Override
+    public void deleteByLockOwner(LockOwner lockOwner) {
+        loanAccountLockRepository.deleteByLockOwner(lockOwner);
+    }
+
     private int getInClauseParameterSizeLimit() {
         return fineractProperties.getQuery().getInClauseParameterSizeLimit();
     }
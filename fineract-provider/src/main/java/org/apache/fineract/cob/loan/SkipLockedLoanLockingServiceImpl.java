@@ -0,0 +1,107 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.loan;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.cob.domain.LoanAccountLockRepository;
+import org.apache.fineract.cob.domain.LockOwner;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseTypeResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Claims COB locks with row level {@code FOR UPDATE SKIP LOCKED} on the loans instead of reading the lock table first.
+ * Loans held by a concurrent transaction are skipped rather than waited for and handed back to the caller to claim
+ * again, and loans that already have a lock row are left out by the conflict handling of the insert, so concurrent
+ * claimers never block on or fail with each other.
+ * Requires PostgreSQL or MySQL 8 (MariaDB 10.6+).
+ */
+@Slf4j
+public class SkipLockedLoanLockingServiceImpl extends LoanLockingServiceImpl {
+
+    private static final String SELECT_LOANS_FOR_CLAIM = "SELECT loan.id FROM m_loan loan WHERE loan.id IN (%s) FOR UPDATE SKIP LOCKED";
+
+    private static final String POSTGRESQL_CLAIM_INSERT = """
+                INSERT INTO m_loan_account_locks (loan_id, version, lock_owner, lock_placed_on, lock_placed_on_cob_business_date)
+                VALUES (?,?,?,?,?) ON CONFLICT (loan_id) DO NOTHING
+            """;
+
+    private static final String MYSQL_CLAIM_INSERT = """
+                INSERT INTO m_loan_account_locks (loan_id, version, lock_owner, lock_placed_on, lock_placed_on_cob_business_date)
+                VALUES (?,?,?,?,?) ON DUPLICATE KEY UPDATE loan_id = loan_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseTypeResolver databaseTypeResolver;
+
+    public SkipLockedLoanLockingServiceImpl(JdbcTemplate jdbcTemplate, FineractProperties fineractProperties,
+            LoanAccountLockRepository loanAccountLockRepository, DatabaseTypeResolver databaseTypeResolver) {
+        super(jdbcTemplate, fineractProperties, loanAccountLockRepository);
+        this.jdbcTemplate = jdbcTemplate;
+        this.databaseTypeResolver = databaseTypeResolver;
+    }
+
+    /**
+     * Must run inside a transaction, the row locks taken by the select are what keeps concurrent claimers apart until
+     * the lock rows are inserted. Returns the loans whose rows were held by a concurrent transaction.
+     */
+    @Override
+    public List<Long> claimLocks(List<Long> loanIds, LockOwner lockOwner) {
+        if (loanIds.isEmpty()) {
+            return List.of();
+        }
+        String placeholders = String.join(",", Collections.nCopies(loanIds.size(), "?"));
+        List<Long> candidateIds = jdbcTemplate.queryForList(SELECT_LOANS_FOR_CLAIM.formatted(placeholders), Long.class,
+                loanIds.toArray());
+        if (!candidateIds.isEmpty()) {
+            LocalDate cobBusinessDate = ThreadLocalContextUtil.getBusinessDateByType(BusinessDateType.COB_DATE);
+            // a conflict means the loan already has a lock, those loans are left out like in applyLock callers
+            jdbcTemplate.batchUpdate(getClaimInsert(), candidateIds, candidateIds.size(), (PreparedStatement ps, Long loanId) -> {
+                ps.setLong(1, loanId);
+                ps.setLong(2, 1);
+                ps.setString(3, lockOwner.name());
+                ps.setObject(4, DateUtils.getAuditOffsetDateTime());
+                ps.setObject(5, cobBusinessDate);
+            });
+        }
+        Set<Long> candidates = new HashSet<>(candidateIds);
+        List<Long> skippedIds = loanIds.stream().filter(loanId -> !candidates.contains(loanId)).toList();
+        log.debug("Claimed locks on {} of {} loans, {} were held by a concurrent transaction", candidateIds.size(), loanIds.size(),
+                skippedIds.size());
+        return skippedIds;
+    }
+
+    private String getClaimInsert() {
+        if (databaseTypeResolver.isMySQL()) {
+            return MYSQL_CLAIM_INSERT;
+        } else if (databaseTypeResolver.isPostgreSQL()) {
+            return POSTGRESQL_CLAIM_INSERT;
+        }
+        throw new IllegalStateException("Database type is not supported for claiming loan locks " + databaseTypeResolver.databaseType());
+    }
+}
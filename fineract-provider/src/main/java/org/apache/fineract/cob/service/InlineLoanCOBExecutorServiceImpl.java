@@ -238,7 +238,7 @@ public class InlineLoanCOBExecutorServiceImpl implements InlineExecutorService<L
     }
 
     private boolean isLockOverrulable(LoanAccountLock loanAccountLock) {
-        if (isBypassUser()) {
+        if (isBypassUser() || LockOwner.LOAN_PERIODIC_ACCRUAL_PROCESSING.equals(loanAccountLock.getLockOwner())) {
             return true;
         } else {
             return StringUtils.isNotBlank(loanAccountLock.getError());
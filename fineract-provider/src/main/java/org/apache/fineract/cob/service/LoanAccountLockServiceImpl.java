@@ -43,6 +43,10 @@ public class LoanAccountLockServiceImpl implements LoanAccountLockService {
         return loanAccountLocks.getContent();
     }
 
+    /**
+     * Periodic accrual locks are not hard locks: the accrual job gives way to API writes and to (inline) COB, which take
+     * the lock over.
+     */
     @Override
     public boolean isLoanHardLocked(Long loanId) {
         return loanAccountLockRepository.existsByLoanIdAndLockOwner(loanId, LockOwner.LOAN_COB_CHUNK_PROCESSING) //
@@ -52,7 +56,8 @@ public class LoanAccountLockServiceImpl implements LoanAccountLockService {
     @Override
     public boolean isLockOverrulable(Long loanId) {
         return loanAccountLockRepository.existsByLoanIdAndLockOwnerAndErrorIsNotNull(loanId, LockOwner.LOAN_COB_CHUNK_PROCESSING) //
-                || loanAccountLockRepository.existsByLoanIdAndLockOwnerAndErrorIsNotNull(loanId, LockOwner.LOAN_INLINE_COB_PROCESSING);
+                || loanAccountLockRepository.existsByLoanIdAndLockOwnerAndErrorIsNotNull(loanId, LockOwner.LOAN_INLINE_COB_PROCESSING)
+                || loanAccountLockRepository.existsByLoanIdAndLockOwner(loanId, LockOwner.LOAN_PERIODIC_ACCRUAL_PROCESSING);
     }
 
     @Override
@@ -19,19 +19,27 @@
 
 package org.apache.fineract.infrastructure.core.config.cache;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import java.lang.reflect.Method;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.cache.CacheManager;
 import javax.cache.Caching;
 import javax.cache.spi.CachingProvider;
+import javax.sql.DataSource;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.fineract.infrastructure.cache.service.CacheInvalidationTransport;
+import org.apache.fineract.infrastructure.cache.service.MultiNodeCacheManager;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractMultiNodeCacheProperties;
 import org.ehcache.config.builders.CacheConfigurationBuilder;
 import org.ehcache.config.builders.ExpiryPolicyBuilder;
 import org.ehcache.config.builders.ResourcePoolsBuilder;
@@ -41,11 +49,13 @@ import org.reflections.scanners.Scanners;
 import org.reflections.util.ClasspathHelper;
 import org.reflections.util.ConfigurationBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.jcache.JCacheCacheManager;
 import org.springframework.cache.support.NoOpCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 @Configuration
 @Slf4j
@@ -71,6 +81,23 @@ public class CacheConfig {
         return jCacheCacheManager;
     }
 
+    @Bean
+    public CacheInvalidationTransport cacheInvalidationTransport(@Qualifier("hikariTenantDataSource") DataSource tenantDataSource) {
+        FineractMultiNodeCacheProperties multiNodeProperties = fineractProperties.getCache().getMultiNode();
+        return switch (multiNodeProperties.getTransport()) {
+            case JMS -> new JmsCacheInvalidationTransport(multiNodeProperties.getJms());
+            case JDBC -> new JdbcCacheInvalidationTransport(new JdbcTemplate(tenantDataSource), multiNodeProperties.getPollInterval(),
+                    multiNodeProperties.getRetention());
+        };
+    }
+
+    @Bean(destroyMethod = "deactivate")
+    public MultiNodeCacheManager multiNodeCacheManager(JCacheCacheManager ehCacheManager,
+            CacheInvalidationTransport cacheInvalidationTransport, Optional<MeterRegistry> meterRegistry) {
+        String nodeId = StringUtils.defaultIfBlank(fineractProperties.getCache().getMultiNode().getNodeId(), UUID.randomUUID().toString());
+        return new MultiNodeCacheManager(ehCacheManager, cacheInvalidationTransport, nodeId, meterRegistry);
+    }
+
     private CacheManager getInternalEhCacheManager() {
         CachingProvider provider = Caching.getCachingProvider();
         CacheManager cacheManager = provider.getCacheManager();
@@ -0,0 +1,138 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.config.cache;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.cache.data.CacheInvalidationMessage;
+import org.apache.fineract.infrastructure.cache.service.CacheInvalidationTransport;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * Broadcasts the cache invalidations through the <code>cache_invalidation</code> table of the tenant store database,
+ * which every node shares. Each node polls the rows written after the last row it has seen.
+ *
+ * Ids are not guaranteed to become visible in order, a row with a smaller id may be committed after a larger one was
+ * already read. Skipped ids are therefore polled again until they show up or {@link #GAP_TIMEOUT} passes.
+ */
+@Slf4j
+public class JdbcCacheInvalidationTransport implements CacheInvalidationTransport {
+
+    private static final Duration GAP_TIMEOUT = Duration.ofSeconds(30);
+    private static final int MAX_TRACKED_GAP = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration pollInterval;
+    private final Duration retention;
+    private final Map<Long, LocalDateTime> gaps = new HashMap<>();
+    private ThreadPoolTaskScheduler scheduler;
+    private ScheduledFuture<?> pollTask;
+    private Consumer<CacheInvalidationMessage> listener;
+    private long lastSeenId;
+    private LocalDateTime nextPurge;
+
+    public JdbcCacheInvalidationTransport(final JdbcTemplate jdbcTemplate, final Duration pollInterval, final Duration retention) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.pollInterval = pollInterval;
+        this.retention = retention;
+    }
+
+    @Override
+    public synchronized void start(final Consumer<CacheInvalidationMessage> listener) {
+        this.listener = listener;
+        final Long maxId = jdbcTemplate.queryForObject("select max(id) from cache_invalidation", Long.class);
+        this.lastSeenId = maxId == null ? 0L : maxId;
+        this.gaps.clear();
+        this.nextPurge = DateUtils.getAuditLocalDateTime();
+
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("cache-invalidation-");
+        scheduler.setDaemon(true);
+        scheduler.initialize();
+        pollTask = scheduler.scheduleWithFixedDelay(this::poll, pollInterval);
+    }
+
+    @Override
+    public void publish(final CacheInvalidationMessage message) {
+        jdbcTemplate.update("insert into cache_invalidation (node_id, cache_name, cache_key, created_date) values (?, ?, ?, ?)",
+                message.nodeId(), message.cacheName(), message.cacheKey(), DateUtils.getAuditLocalDateTime());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (pollTask != null) {
+            pollTask.cancel(false);
+            pollTask = null;
+        }
+        if (scheduler != null) {
+            scheduler.shutdown();
+            scheduler = null;
+        }
+    }
+
+    synchronized void poll() {
+        try {
+            final LocalDateTime now = DateUtils.getAuditLocalDateTime();
+            readNewRows(now).forEach(listener);
+            gaps.values().removeIf(seenAt -> seenAt.isBefore(now.minus(GAP_TIMEOUT)));
+            if (!now.isBefore(nextPurge)) {
+                jdbcTemplate.update("delete from cache_invalidation where created_date < ?", now.minus(retention));
+                nextPurge = now.plus(retention.dividedBy(2));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Polling the cache invalidations failed: {}", e.getMessage());
+        }
+    }
+
+    private List<CacheInvalidationMessage> readNewRows(final LocalDateTime now) {
+        final StringBuilder sql = new StringBuilder("select id, node_id, cache_name, cache_key from cache_invalidation where id > ?");
+        final Object[] params = new Object[gaps.size() + 1];
+        params[0] = lastSeenId;
+        if (!gaps.isEmpty()) {
+            sql.append(" or id in (").append("?,".repeat(gaps.size() - 1)).append("?)");
+            int i = 1;
+            for (Long gap : gaps.keySet()) {
+                params[i++] = gap;
+            }
+        }
+        sql.append(" order by id");
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> {
+            final long id = rs.getLong("id");
+            gaps.remove(id);
+            if (id > lastSeenId) {
+                if (id - lastSeenId <= MAX_TRACKED_GAP) {
+                    for (long missing = lastSeenId + 1; missing < id; missing++) {
+                        gaps.put(missing, now);
+                    }
+                }
+                lastSeenId = id;
+            }
+            return new CacheInvalidationMessage(rs.getString("node_id"), rs.getString("cache_name"), rs.getString("cache_key"));
+        }, params);
+    }
+}
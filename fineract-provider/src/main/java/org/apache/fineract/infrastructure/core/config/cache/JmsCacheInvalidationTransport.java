@@ -0,0 +1,130 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.config.cache;
+
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSException;
+import jakarta.jms.MapMessage;
+import jakarta.jms.Message;
+import jakarta.jms.MessageListener;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.activemq.ActiveMQConnectionFactory;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.fineract.infrastructure.cache.data.CacheInvalidationMessage;
+import org.apache.fineract.infrastructure.cache.service.CacheInvalidationTransport;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractMultiNodeCacheJmsProperties;
+import org.springframework.jms.connection.CachingConnectionFactory;
+import org.springframework.jms.core.JmsTemplate;
+import org.springframework.jms.listener.DefaultMessageListenerContainer;
+
+/**
+ * Broadcasts the cache invalidations over a JMS topic, every node subscribes to the same topic.
+ */
+@Slf4j
+public class JmsCacheInvalidationTransport implements CacheInvalidationTransport {
+
+    static final String NODE_ID = "nodeId";
+    static final String CACHE_NAME = "cacheName";
+    static final String CACHE_KEY = "cacheKey";
+
+    private final ConnectionFactory targetConnectionFactory;
+    private final String topicName;
+    private CachingConnectionFactory connectionFactory;
+    private volatile JmsTemplate jmsTemplate;
+    private DefaultMessageListenerContainer listenerContainer;
+
+    public JmsCacheInvalidationTransport(final FineractMultiNodeCacheJmsProperties properties) {
+        this(createConnectionFactory(properties), properties.getTopicName());
+    }
+
+    JmsCacheInvalidationTransport(final ConnectionFactory targetConnectionFactory, final String topicName) {
+        this.targetConnectionFactory = targetConnectionFactory;
+        this.topicName = topicName;
+    }
+
+    private static ConnectionFactory createConnectionFactory(final FineractMultiNodeCacheJmsProperties properties) {
+        final ActiveMQConnectionFactory activeMqConnectionFactory = new ActiveMQConnectionFactory();
+        activeMqConnectionFactory.setBrokerURL(properties.getBrokerUrl());
+        if (StringUtils.isNotBlank(properties.getBrokerUsername())) {
+            activeMqConnectionFactory.setUserName(properties.getBrokerUsername());
+            activeMqConnectionFactory.setPassword(properties.getBrokerPassword());
+        }
+        return activeMqConnectionFactory;
+    }
+
+    @Override
+    public synchronized void start(final Consumer<CacheInvalidationMessage> listener) {
+        connectionFactory = new CachingConnectionFactory(targetConnectionFactory);
+        connectionFactory.setReconnectOnException(true);
+
+        jmsTemplate = new JmsTemplate(connectionFactory);
+        jmsTemplate.setPubSubDomain(true);
+        jmsTemplate.setDefaultDestinationName(topicName);
+
+        listenerContainer = new DefaultMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.setPubSubDomain(true);
+        listenerContainer.setDestinationName(topicName);
+        listenerContainer.setMessageListener((MessageListener) message -> onMessage(message, listener));
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+    }
+
+    @Override
+    public void publish(final CacheInvalidationMessage message) {
+        final JmsTemplate template = this.jmsTemplate;
+        if (template == null) {
+            return;
+        }
+        template.send(session -> {
+            final MapMessage mapMessage = session.createMapMessage();
+            mapMessage.setString(NODE_ID, message.nodeId());
+            mapMessage.setString(CACHE_NAME, message.cacheName());
+            mapMessage.setString(CACHE_KEY, message.cacheKey());
+            return mapMessage;
+        });
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (listenerContainer != null) {
+            listenerContainer.shutdown();
+            listenerContainer = null;
+        }
+        jmsTemplate = null;
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+            connectionFactory = null;
+        }
+    }
+
+    private static void onMessage(final Message message, final Consumer<CacheInvalidationMessage> listener) {
+        if (!(message instanceof MapMessage mapMessage)) {
+            log.warn("Unexpected cache invalidation message type {}", message.getClass().getName());
+            return;
+        }
+        try {
+            listener.accept(new CacheInvalidationMessage(mapMessage.getString(NODE_ID), mapMessage.getString(CACHE_NAME),
+                    mapMessage.getString(CACHE_KEY)));
+        } catch (JMSException e) {
+            log.warn("Could not read cache invalidation message", e);
+        }
+    }
+}
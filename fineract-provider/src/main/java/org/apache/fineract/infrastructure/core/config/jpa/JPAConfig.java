@@ -26,6 +26,8 @@ import java.util.Map;
 import java.util.Set;
 import javax.sql.DataSource;
 import org.apache.fineract.infrastructure.core.auditing.JpaAuditingHandlerRegistrar;
+import org.apache.fineract.infrastructure.core.diagnostics.jpa.RoundTripCountingSessionProfiler;
+import org.apache.fineract.infrastructure.core.diagnostics.jpa.StatementCountingSessionEventListener;
 import org.apache.fineract.infrastructure.core.domain.AuditorAwareImpl;
 import org.apache.fineract.infrastructure.core.persistence.DatabaseSelectingPersistenceUnitPostProcessor;
 import org.apache.fineract.infrastructure.core.service.database.DatabaseTypeResolver;
@@ -92,6 +94,8 @@ public class JPAConfig extends JpaBaseConfiguration {
         vendorProperties.put(PersistenceUnitProperties.WEAVING, "static");
         vendorProperties.put(PersistenceUnitProperties.PERSISTENCE_CONTEXT_CLOSE_ON_COMMIT, "true");
         vendorProperties.put(PersistenceUnitProperties.CACHE_SHARED_DEFAULT, "false");
+        vendorProperties.put(PersistenceUnitProperties.SESSION_EVENT_LISTENER_CLASS, StatementCountingSessionEventListener.class.getName());
+        vendorProperties.put(PersistenceUnitProperties.PROFILER, RoundTripCountingSessionProfiler.class.getName());
         emFactoryCustomizers.forEach(c -> vendorProperties.putAll(c.additionalVendorProperties()));
         return vendorProperties;
     }
@@ -0,0 +1,55 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.config.jpa;
+
+import java.util.Map;
+import org.apache.fineract.cob.conditions.BatchWorkerCondition;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.eclipse.persistence.config.BatchWriting;
+import org.eclipse.persistence.config.PersistenceUnitProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.stereotype.Component;
+
+/**
+ * Switches EclipseLink to JDBC batch writing, so the updates and inserts flushed at commit are sent as batches of
+ * {@code fineract.jpa.batch-writing.size} statements.
+ *
+ * EclipseLink keeps the setting on the database platform of the persistence unit, it cannot be switched on for the COB
+ * steps alone. It is therefore only applied on instances running as batch worker; other units of work on such an
+ * instance are batched too. Versioned updates whose row count cannot be checked within a batch are still executed one
+ * by one, so optimistic locking keeps working.
+ */
+@Component
+@ConditionalOnProperty("fineract.jpa.batch-writing.enabled")
+@Conditional(BatchWorkerCondition.class)
+public class JdbcBatchWritingCustomizer implements EntityManagerFactoryCustomizer {
+
+    private final int batchSize;
+
+    public JdbcBatchWritingCustomizer(FineractProperties fineractProperties) {
+        this.batchSize = fineractProperties.getJpa().getBatchWriting().getSize();
+    }
+
+    @Override
+    public Map<String, Object> additionalVendorProperties() {
+        return Map.of(PersistenceUnitProperties.BATCH_WRITING, BatchWriting.JDBC, //
+                PersistenceUnitProperties.BATCH_WRITING_SIZE, String.valueOf(batchSize));
+    }
+}
@@ -0,0 +1,46 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.config.jpa;
+
+import java.util.HashSet;
+import java.util.Map;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.eclipse.persistence.config.PersistenceUnitProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Opt-in, tenant partitioned shared (second level) cache for the reference entities listed in
+ * {@code fineract.jpa.shared-cache.entities}.
+ */
+@Component
+@ConditionalOnProperty("fineract.jpa.shared-cache.enabled")
+public class SharedEntityCacheCustomizer implements EntityManagerFactoryCustomizer {
+
+    public SharedEntityCacheCustomizer(FineractProperties fineractProperties) {
+        FineractProperties.FineractJpaSharedCacheProperties sharedCache = fineractProperties.getJpa().getSharedCache();
+        SharedEntityCacheSessionCustomizer.configure(new HashSet<>(sharedCache.getEntities()), sharedCache.getMaxEntriesPerTenant(),
+                sharedCache.getTimeToLive());
+    }
+
+    @Override
+    public Map<String, Object> additionalVendorProperties() {
+        return Map.of(PersistenceUnitProperties.SESSION_CUSTOMIZER, SharedEntityCacheSessionCustomizer.class.getName());
+    }
+}
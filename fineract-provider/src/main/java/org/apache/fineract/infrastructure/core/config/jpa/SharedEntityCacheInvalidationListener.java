@@ -0,0 +1,87 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.config.jpa;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.commands.service.CommandProcessedListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Evicts the shared cache of a reference entity (for the tenant of the command) when a write command on that entity
+ * has been processed, so changes which did not go through the entity manager of this node become visible before the
+ * time-to-live expires. When the command is still in a transaction the cache is evicted after it committed, otherwise
+ * a concurrent read could cache the old state again.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty("fineract.jpa.shared-cache.enabled")
+public class SharedEntityCacheInvalidationListener implements CommandProcessedListener {
+
+    // command entity names (see CommandWrapperBuilder) affecting the cached entities
+    private static final Map<String, Set<String>> COMMAND_ENTITIES = Map.of( //
+            "LoanProduct", Set.of("LOANPRODUCT"), //
+            "Charge", Set.of("CHARGE"), //
+            "GLAccount", Set.of("GLACCOUNT"), //
+            "Office", Set.of("OFFICE"), //
+            "ApplicationCurrency", Set.of("CURRENCY"), //
+            "PaymentType", Set.of("PAYMENTTYPE"), //
+            "CodeValue", Set.of("CODEVALUE", "CODE"));
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void onCommandProcessed(String entityName, String actionName) {
+        final List<Class<?>> entityClasses = SharedEntityCacheSessionCustomizer.getCachedEntityClasses().stream()
+                .filter(entityClass -> COMMAND_ENTITIES
+                        .getOrDefault(entityClass.getSimpleName(), Set.of(entityClass.getSimpleName().toUpperCase(Locale.ROOT)))
+                        .contains(entityName))
+                .toList();
+        if (entityClasses.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    evict(entityClasses, entityName);
+                }
+            });
+        } else {
+            evict(entityClasses, entityName);
+        }
+    }
+
+    private void evict(List<Class<?>> entityClasses, String commandEntityName) {
+        for (Class<?> entityClass : entityClasses) {
+            entityManagerFactory.getCache().evict(entityClass);
+            log.debug("Evicted shared cache of {} after {} command", entityClass.getSimpleName(), commandEntityName);
+        }
+    }
+}
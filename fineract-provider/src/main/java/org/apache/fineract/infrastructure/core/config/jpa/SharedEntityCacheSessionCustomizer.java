@@ -0,0 +1,77 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.config.jpa;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.persistence.config.CacheIsolationType;
+import org.eclipse.persistence.config.SessionCustomizer;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.invalidation.TimeToLiveCacheInvalidationPolicy;
+import org.eclipse.persistence.sessions.Session;
+
+/**
+ * Turns on the EclipseLink shared cache for the allow-listed reference entities while everything else stays isolated
+ * ({@code eclipselink.cache.shared.default=false}).
+ * <p>
+ * EclipseLink instantiates session customizers by class name, hence the configuration is handed over statically by
+ * {@link SharedEntityCacheCustomizer} before the entity manager factory is built.
+ */
+@Slf4j
+public class SharedEntityCacheSessionCustomizer implements SessionCustomizer {
+
+    private static final Set<Class<?>> CACHED_ENTITY_CLASSES = ConcurrentHashMap.newKeySet();
+
+    private static volatile Set<String> entityNames = Set.of();
+    private static volatile int maxEntriesPerTenant;
+    private static volatile Duration timeToLive;
+
+    static void configure(Set<String> entityNames, int maxEntriesPerTenant, Duration timeToLive) {
+        SharedEntityCacheSessionCustomizer.entityNames = Set.copyOf(entityNames);
+        SharedEntityCacheSessionCustomizer.maxEntriesPerTenant = maxEntriesPerTenant;
+        SharedEntityCacheSessionCustomizer.timeToLive = timeToLive;
+    }
+
+    /**
+     * @return the entity classes the shared cache has been enabled for
+     */
+    static Set<Class<?>> getCachedEntityClasses() {
+        return Set.copyOf(CACHED_ENTITY_CLASSES);
+    }
+
+    @Override
+    public void customize(Session session) {
+        for (ClassDescriptor descriptor : session.getDescriptors().values()) {
+            if (!entityNames.contains(descriptor.getJavaClass().getSimpleName())) {
+                continue;
+            }
+            descriptor.setCacheIsolation(CacheIsolationType.SHARED);
+            descriptor.setIdentityMapClass(TenantPartitionedIdentityMap.class);
+            descriptor.setIdentityMapSize(maxEntriesPerTenant);
+            if (timeToLive != null && !timeToLive.isZero()) {
+                descriptor.setCacheInvalidationPolicy(new TimeToLiveCacheInvalidationPolicy(timeToLive.toMillis()));
+            }
+            CACHED_ENTITY_CLASSES.add(descriptor.getJavaClass());
+            log.info("Shared cache enabled for entity {} with {} entries per tenant", descriptor.getJavaClass().getName(),
+                    maxEntriesPerTenant);
+        }
+    }
+}
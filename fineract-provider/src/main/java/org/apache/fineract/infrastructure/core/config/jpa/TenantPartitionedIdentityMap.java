@@ -0,0 +1,40 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.config.jpa;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.identitymaps.FullIdentityMap;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+
+/**
+ * EclipseLink identity map for the shared (second level) cache which keeps the cached entities of each tenant apart.
+ * <p>
+ * All tenants share a single persistence unit on top of the tenant routing data source, so the primary keys of
+ * different tenants overlap. The cache keys are therefore stored in a {@link TenantPartitionedMap} keyed by the tenant
+ * of the current thread - the same tenant the routing data source reads from - and the identity map size is applied as
+ * the per-tenant budget.
+ */
+public class TenantPartitionedIdentityMap extends FullIdentityMap {
+
+    public TenantPartitionedIdentityMap(int size, ClassDescriptor descriptor, AbstractSession session, boolean isolated) {
+        super(size, descriptor, session, isolated);
+        this.cacheKeys = new TenantPartitionedMap<Object, CacheKey>(size);
+    }
+}
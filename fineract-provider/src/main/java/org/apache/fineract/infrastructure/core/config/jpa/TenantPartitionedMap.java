@@ -0,0 +1,126 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.config.jpa;
+
+import java.util.AbstractMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+
+/**
+ * {@link ConcurrentMap} that keeps a separate partition per tenant and always operates on the partition of the tenant
+ * bound to the current thread, so entries stored for one tenant are never visible to another one. Each partition holds
+ * at most {@code maxEntriesPerPartition} entries; when it is full an arbitrary entry is dropped to make room.
+ */
+public class TenantPartitionedMap<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+
+    // threads without a tenant (e.g. application startup) get their own partition
+    static final String NO_TENANT = "";
+
+    private final ConcurrentHashMap<String, ConcurrentHashMap<K, V>> partitions = new ConcurrentHashMap<>();
+    private final int maxEntriesPerPartition;
+
+    public TenantPartitionedMap(int maxEntriesPerPartition) {
+        this.maxEntriesPerPartition = Math.max(1, maxEntriesPerPartition);
+    }
+
+    private ConcurrentHashMap<K, V> partition() {
+        FineractPlatformTenant tenant = ThreadLocalContextUtil.getTenant();
+        String tenantIdentifier = tenant == null ? NO_TENANT : tenant.getTenantIdentifier();
+        return partitions.computeIfAbsent(tenantIdentifier, t -> new ConcurrentHashMap<>());
+    }
+
+    private ConcurrentHashMap<K, V> partitionForInsert() {
+        ConcurrentHashMap<K, V> partition = partition();
+        if (partition.size() >= maxEntriesPerPartition) {
+            Iterator<K> keys = partition.keySet().iterator();
+            if (keys.hasNext()) {
+                partition.remove(keys.next());
+            }
+        }
+        return partition;
+    }
+
+    @Override
+    public V get(Object key) {
+        return partition().get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return partition().containsKey(key);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        ConcurrentHashMap<K, V> partition = partition();
+        return partition.containsKey(key) ? partition.put(key, value) : partitionForInsert().put(key, value);
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        ConcurrentHashMap<K, V> partition = partition();
+        V existing = partition.get(key);
+        return existing != null ? existing : partitionForInsert().putIfAbsent(key, value);
+    }
+
+    @Override
+    public V remove(Object key) {
+        return partition().remove(key);
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        return partition().remove(key, value);
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue) {
+        return partition().replace(key, oldValue, newValue);
+    }
+
+    @Override
+    public V replace(K key, V value) {
+        return partition().replace(key, value);
+    }
+
+    @Override
+    public int size() {
+        return partition().size();
+    }
+
+    @Override
+    public void clear() {
+        partition().clear();
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return partition().keySet();
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        return partition().entrySet();
+    }
+}
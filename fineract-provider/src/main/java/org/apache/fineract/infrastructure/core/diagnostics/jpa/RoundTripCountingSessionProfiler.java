@@ -0,0 +1,44 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.diagnostics.jpa;
+
+import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.sessions.SessionProfiler;
+import org.eclipse.persistence.sessions.SessionProfilerAdapter;
+
+/**
+ * Counts the JDBC executions of EclipseLink for {@link StatementCountingSessionEventListener}. EclipseLink profiles
+ * every execution of a statement, and every execution of a JDBC batch, as one {@link SessionProfiler#StatementExecute}
+ * operation.
+ */
+public class RoundTripCountingSessionProfiler extends SessionProfilerAdapter {
+
+    @Override
+    public void startOperationProfile(String operationName, DatabaseQuery query, int weight) {
+        if (SessionProfiler.StatementExecute.equals(operationName)) {
+            StatementCountingSessionEventListener.countRoundTrip();
+        }
+    }
+
+    @Override
+    public int getProfileWeight() {
+        // EclipseLink profiles the statement executions with the highest weight only
+        return SessionProfiler.ALL;
+    }
+}
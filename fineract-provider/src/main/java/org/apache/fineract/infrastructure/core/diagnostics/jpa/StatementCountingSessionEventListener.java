@@ -0,0 +1,61 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.diagnostics.jpa;
+
+import org.eclipse.persistence.sessions.SessionEvent;
+import org.eclipse.persistence.sessions.SessionEventAdapter;
+
+/**
+ * Counts the JDBC calls executed by EclipseLink on the current thread while counting is active. Every statement counts,
+ * also the ones EclipseLink only appends to a JDBC batch; the round trips actually made to the database, where a whole
+ * batch counts once, are counted by {@link RoundTripCountingSessionProfiler}. With batch writing enabled the difference
+ * between both shows how many round trips batching saved for a unit of work (e.g. a COB chunk).
+ */
+public class StatementCountingSessionEventListener extends SessionEventAdapter {
+
+    private static final ThreadLocal<long[]> COUNTER = new ThreadLocal<>();
+
+    public static void start() {
+        COUNTER.set(new long[2]);
+    }
+
+    public static StatementCounts stop() {
+        long[] counter = COUNTER.get();
+        COUNTER.remove();
+        return counter == null ? new StatementCounts(0L, 0L) : new StatementCounts(counter[0], counter[1]);
+    }
+
+    static void countRoundTrip() {
+        long[] counter = COUNTER.get();
+        if (counter != null) {
+            counter[1]++;
+        }
+    }
+
+    @Override
+    public void postExecuteCall(SessionEvent event) {
+        long[] counter = COUNTER.get();
+        if (counter != null) {
+            counter[0]++;
+        }
+    }
+
+    public record StatementCounts(long statements, long roundTrips) {
+    }
+}
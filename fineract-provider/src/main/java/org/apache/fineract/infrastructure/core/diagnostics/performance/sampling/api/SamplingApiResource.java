@@ -0,0 +1,92 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.diagnostics.performance.sampling.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.PUT;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.core.diagnostics.performance.sampling.core.SamplingConfiguration;
+import org.apache.fineract.infrastructure.core.diagnostics.performance.sampling.core.SamplingRules;
+import org.apache.fineract.infrastructure.core.diagnostics.performance.sampling.core.SamplingServiceFactory;
+import org.apache.fineract.infrastructure.core.diagnostics.performance.sampling.data.SampledMethodData;
+import org.apache.fineract.infrastructure.core.diagnostics.performance.sampling.data.SamplingReportData;
+import org.apache.fineract.infrastructure.core.diagnostics.performance.sampling.data.SamplingRulesData;
+import org.apache.fineract.infrastructure.core.diagnostics.performance.sampling.data.SamplingRulesRequest;
+import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
+import org.springframework.stereotype.Component;
+
+@Path("/v1/sampling")
+@Consumes({ MediaType.APPLICATION_JSON })
+@Produces({ MediaType.APPLICATION_JSON })
+@Component
+@Tag(name = "Sampling", description = "Latency histograms of the methods instrumented by the sampling profiler (fineract.sampling.*)"
+        + " and the rules deciding which of them are sampled. Rules and histograms are held per instance, they are not shared"
+        + " across the cluster and every instance, whatever its mode, has to be queried and updated on its own.")
+@RequiredArgsConstructor
+public class SamplingApiResource {
+
+    private static final String RESOURCE_NAME_FOR_PERMISSIONS = "SAMPLING";
+
+    private final PlatformSecurityContext context;
+    private final SamplingConfiguration samplingConfiguration;
+    private final SamplingServiceFactory samplingServiceFactory;
+
+    @GET
+    @Operation(summary = "Retrieve Sampling Data", description = "Returns the current sampling rules and the latency histogram summary"
+            + " of every sampled method since the last reset.")
+    public SamplingReportData retrieveSamplingData() {
+        context.authenticatedUser().validateHasReadPermission(RESOURCE_NAME_FOR_PERMISSIONS);
+        List<SampledMethodData> methods = new ArrayList<>();
+        samplingServiceFactory.doWithAll(serviceMap -> serviceMap.forEach((sampledClass, service) -> service.getSamplingData() //
+                .getTimings() //
+                .forEach((method, snapshot) -> methods.add(SampledMethodData.of(sampledClass, method, snapshot)))));
+        methods.sort(Comparator.comparing(SampledMethodData::className).thenComparing(SampledMethodData::method));
+        return new SamplingReportData(toData(samplingConfiguration.getRules()), methods);
+    }
+
+    @PUT
+    @Path("rules")
+    @Operation(summary = "Update Sampling Rules", description = "Changes the sampling rules of this instance without a restart. Omitted"
+            + " fields keep their current value, only classes instrumented at startup can be sampled. Other instances keep their rules.")
+    @RequestBody(required = true, content = @Content(schema = @Schema(implementation = SamplingRulesRequest.class)))
+    public SamplingRulesData updateSamplingRules(@Parameter(hidden = true) SamplingRulesRequest request) {
+        context.authenticatedUser().validateHasUpdatePermission(RESOURCE_NAME_FOR_PERMISSIONS);
+        SamplingRules rules = samplingConfiguration.updateRules(request.getEnabled(), request.getSamplingRate(),
+                request.getSampledClasses());
+        return toData(rules);
+    }
+
+    private SamplingRulesData toData(SamplingRules rules) {
+        List<String> instrumentedClasses = samplingConfiguration.getInstrumentedClasses().stream().map(Class::getName).sorted().toList();
+        return SamplingRulesData.of(rules, instrumentedClasses);
+    }
+}
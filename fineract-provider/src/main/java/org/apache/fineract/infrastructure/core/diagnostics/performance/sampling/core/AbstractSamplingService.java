@@ -25,16 +25,26 @@ import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 
 public abstract class AbstractSamplingService implements SamplingService {
 
     private final Map<String, AtomicInteger> sampleCounters = new ConcurrentHashMap<>();
-    private final int samplingRate;
+    private final IntSupplier samplingRate;
 
-    @SuppressFBWarnings("CT_CONSTRUCTOR_THROW")
     public AbstractSamplingService(int samplingRate) {
-        if (samplingRate < 1) {
+        this(() -> samplingRate);
+    }
+
+    /**
+     * @param samplingRate
+     *            supplies the current sampling rate, it is consulted on every invocation so the rate can be changed at
+     *            runtime
+     */
+    @SuppressFBWarnings("CT_CONSTRUCTOR_THROW")
+    public AbstractSamplingService(IntSupplier samplingRate) {
+        if (samplingRate.getAsInt() < 1) {
             throw new IllegalArgumentException("samplingRate cannot be less than 1");
         }
         this.samplingRate = samplingRate;
@@ -50,8 +60,12 @@ public abstract class AbstractSamplingService implements SamplingService {
 
     @Override
     public <T> T sample(String key, Supplier<T> s) {
+        if (!isSamplingActive()) {
+            return s.get();
+        }
+        int rate = samplingRate.getAsInt();
         AtomicInteger sampleCounter = sampleCounters.computeIfAbsent(key, k -> new AtomicInteger(0));
-        int sampleCount = sampleCounter.getAndAccumulate(1, (index, inc) -> ++index >= samplingRate ? 0 : index);
+        int sampleCount = sampleCounter.getAndAccumulate(1, (index, inc) -> ++index >= rate ? 0 : index);
         boolean shouldTakeSample = sampleCount == 0;
 
         if (shouldTakeSample) {
@@ -67,6 +81,13 @@ public abstract class AbstractSamplingService implements SamplingService {
         doReset();
     }
 
+    /**
+     * Subclasses can override this to skip sampling while it is switched off at runtime.
+     */
+    protected boolean isSamplingActive() {
+        return true;
+    }
+
     /**
      * Subclasses can override this to do specific cleanup.
      */
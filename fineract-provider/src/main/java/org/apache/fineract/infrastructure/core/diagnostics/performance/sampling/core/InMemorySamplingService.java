@@ -18,34 +18,55 @@
  */
 package org.apache.fineract.infrastructure.core.diagnostics.performance.sampling.core;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.time.Duration;
-import java.util.List;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class InMemorySamplingService extends AbstractSamplingService {
 
-    private final Map<String, List<Duration>> timings = new ConcurrentHashMap<>();
+    private static final String TIMER_NAME = "fineract.sampling.latency";
 
-    InMemorySamplingService(int samplingRate) {
-        super(samplingRate);
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Class<?> sampledClass;
+    private final SamplingConfiguration samplingConfiguration;
+    private final Optional<MeterRegistry> meterRegistry;
+
+    InMemorySamplingService(Class<?> sampledClass, SamplingConfiguration samplingConfiguration, Optional<MeterRegistry> meterRegistry) {
+        super(samplingConfiguration::getSamplingRate);
+        this.sampledClass = sampledClass;
+        this.samplingConfiguration = samplingConfiguration;
+        this.meterRegistry = meterRegistry;
     }
 
     @Override
     public SamplingData getSamplingData() {
-        return new SamplingData(timings);
+        Map<String, LatencySnapshot> snapshots = new HashMap<>();
+        histograms.forEach((key, histogram) -> {
+            LatencySnapshot snapshot = histogram.snapshot();
+            if (snapshot.count() > 0) {
+                snapshots.put(key, snapshot);
+            }
+        });
+        return new SamplingData(snapshots);
+    }
+
+    @Override
+    protected boolean isSamplingActive() {
+        return samplingConfiguration.isSamplingActiveFor(sampledClass);
     }
 
     @Override
     protected void takeSample(String key, Duration duration) {
         try {
-            timings.merge(key, new CopyOnWriteArrayList<>(List.of(duration)), (oldValues, newValue) -> {
-                oldValues.addAll(newValue);
-                return oldValues;
-            });
+            histograms.computeIfAbsent(key, k -> new LatencyHistogram()).record(duration);
+            meterRegistry.ifPresent(registry -> timers.computeIfAbsent(key, k -> createTimer(registry, k)).record(duration));
         } catch (RuntimeException e) {
             log.error("Error while sampling for key [{}]", key, e);
         }
@@ -53,6 +74,16 @@ public class InMemorySamplingService extends AbstractSamplingService {
 
     @Override
     protected void doReset() {
-        timings.clear();
+        // keep the histograms to avoid reallocating them on every reset period
+        histograms.values().forEach(LatencyHistogram::reset);
+    }
+
+    private Timer createTimer(MeterRegistry registry, String key) {
+        return Timer.builder(TIMER_NAME) //
+                .description("Latency of sampled method invocations") //
+                .tag("class", sampledClass.getName()) //
+                .tag("method", key) //
+                .publishPercentiles(0.5, 0.95, 0.99) //
+                .register(registry);
     }
 }
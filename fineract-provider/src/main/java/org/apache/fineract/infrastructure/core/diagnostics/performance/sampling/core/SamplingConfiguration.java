@@ -20,11 +20,17 @@ package org.apache.fineract.infrastructure.core.diagnostics.performance.sampling
 
 import com.google.common.base.Splitter;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.data.ApiParameterError;
+import org.apache.fineract.infrastructure.core.data.DataValidatorBuilder;
+import org.apache.fineract.infrastructure.core.exception.PlatformApiDataValidationException;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.stereotype.Component;
 
@@ -33,10 +39,14 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class SamplingConfiguration implements InitializingBean {
 
+    private static final String RESOURCE_NAME = "sampling";
+
     private final Set<Class<?>> classesToSample = ConcurrentHashMap.newKeySet();
 
     private final FineractProperties properties;
 
+    private volatile SamplingRules rules = new SamplingRules(false, 1, Set.of());
+
     @Override
     public void afterPropertiesSet() throws Exception {
         if (!properties.getSampling().isEnabled()) {
@@ -54,8 +64,14 @@ public class SamplingConfiguration implements InitializingBean {
                 log.info("Cannot load class for sampling [{}]", trimmedFqdn);
             }
         }
+        rules = new SamplingRules(true, properties.getSampling().getSamplingRate(), Set.copyOf(classesToSample));
     }
 
+    /**
+     * Whether beans of the given class are instrumented for sampling. Instrumentation happens at startup based on the
+     * configured properties, whether the instrumented beans are actually sampled is decided by the current
+     * {@link SamplingRules}.
+     */
     public boolean isSamplingConfiguredForClass(Class<?> contextClass) {
         return classesToSample.stream().anyMatch(c -> c.isAssignableFrom(contextClass));
     }
@@ -64,11 +80,66 @@ public class SamplingConfiguration implements InitializingBean {
         return properties.getSampling().isEnabled();
     }
 
+    public boolean isSamplingActiveFor(Class<?> contextClass) {
+        return rules.isSampled(contextClass);
+    }
+
     public int getSamplingRate() {
-        return properties.getSampling().getSamplingRate();
+        return rules.samplingRate();
     }
 
     public Duration getResetPeriod() {
         return Duration.ofSeconds(properties.getSampling().getResetPeriodSec());
     }
+
+    public Set<Class<?>> getInstrumentedClasses() {
+        return Set.copyOf(classesToSample);
+    }
+
+    public SamplingRules getRules() {
+        return rules;
+    }
+
+    /**
+     * Replaces the sampling rules without a restart. Parameters left null keep their current value. Only classes which
+     * were instrumented at startup can be sampled.
+     */
+    public synchronized SamplingRules updateRules(Boolean enabled, Integer samplingRate, String sampledClasses) {
+        final List<ApiParameterError> dataValidationErrors = new ArrayList<>();
+        final DataValidatorBuilder baseDataValidator = new DataValidatorBuilder(dataValidationErrors).resource(RESOURCE_NAME);
+        baseDataValidator.reset().parameter("samplingRate").value(samplingRate).ignoreIfNull().integerGreaterThanZero();
+
+        SamplingRules current = rules;
+        Set<Class<?>> newClasses = current.sampledClasses();
+        if (sampledClasses != null) {
+            newClasses = new HashSet<>();
+            for (String fqdn : Splitter.on(',').trimResults().omitEmptyStrings().split(sampledClasses)) {
+                Class<?> aClass = loadInstrumentedClass(fqdn);
+                if (aClass == null) {
+                    baseDataValidator.reset().parameter("sampledClasses").value(fqdn).failWithCode("not.instrumented");
+                } else {
+                    newClasses.add(aClass);
+                }
+            }
+        }
+        if (!dataValidationErrors.isEmpty()) {
+            throw new PlatformApiDataValidationException(dataValidationErrors);
+        }
+
+        boolean newEnabled = enabled == null ? current.enabled() : enabled;
+        int newSamplingRate = samplingRate == null ? current.samplingRate() : samplingRate;
+        SamplingRules newRules = new SamplingRules(newEnabled && isSamplingEnabled(), newSamplingRate, Set.copyOf(newClasses));
+        rules = newRules;
+        log.info("Sampling rules changed to {}", newRules);
+        return newRules;
+    }
+
+    private Class<?> loadInstrumentedClass(String fqdn) {
+        try {
+            Class<?> aClass = Class.forName(fqdn);
+            return isSamplingConfiguredForClass(aClass) ? aClass : null;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
 }
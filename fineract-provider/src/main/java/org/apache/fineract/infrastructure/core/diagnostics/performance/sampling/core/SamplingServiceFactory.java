@@ -18,7 +18,9 @@
  */
 package org.apache.fineract.infrastructure.core.diagnostics.performance.sampling.core;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
@@ -30,11 +32,12 @@ public class SamplingServiceFactory {
 
     private final Map<Class<?>, SamplingService> services = new ConcurrentHashMap<>();
     private final SamplingConfiguration samplingConfiguration;
+    private final Optional<MeterRegistry> meterRegistry;
 
     public SamplingService forClass(Class<?> contextClass) {
         return services.computeIfAbsent(contextClass, (cc) -> {
             if (samplingConfiguration.isSamplingEnabled() && samplingConfiguration.isSamplingConfiguredForClass(contextClass)) {
-                return new InMemorySamplingService(samplingConfiguration.getSamplingRate());
+                return new InMemorySamplingService(contextClass, samplingConfiguration, meterRegistry);
             } else {
                 return new NoopSamplingService();
             }
@@ -0,0 +1,36 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.diagnostics.performance.sampling.data;
+
+import java.time.Duration;
+import org.apache.fineract.infrastructure.core.diagnostics.performance.sampling.core.LatencySnapshot;
+
+public record SampledMethodData(String className, String method, long count, double maxMillis, double meanMillis,
+        double medianMillis, double percentile95Millis, double percentile99Millis) {
+
+    public static SampledMethodData of(Class<?> sampledClass, String method, LatencySnapshot snapshot) {
+        return new SampledMethodData(sampledClass.getName(), method, snapshot.count(), toMillis(snapshot.max()),
+                toMillis(snapshot.mean()), toMillis(snapshot.median()), toMillis(snapshot.percentile95()),
+                toMillis(snapshot.percentile99()));
+    }
+
+    private static double toMillis(Duration duration) {
+        return duration.toNanos() / 1_000_000.0;
+    }
+}
@@ -0,0 +1,30 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.diagnostics.performance.sampling.data;
+
+import java.util.List;
+import org.apache.fineract.infrastructure.core.diagnostics.performance.sampling.core.SamplingRules;
+
+public record SamplingRulesData(boolean enabled, int samplingRate, List<String> sampledClasses, List<String> instrumentedClasses) {
+
+    public static SamplingRulesData of(SamplingRules rules, List<String> instrumentedClasses) {
+        List<String> sampledClasses = rules.sampledClasses().stream().map(Class::getName).sorted().toList();
+        return new SamplingRulesData(rules.enabled(), rules.samplingRate(), sampledClasses, instrumentedClasses);
+    }
+}
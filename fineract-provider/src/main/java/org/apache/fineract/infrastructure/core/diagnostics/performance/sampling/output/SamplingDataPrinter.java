@@ -22,15 +22,13 @@ import static java.lang.System.lineSeparator;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.time.Duration;
-import java.util.Arrays;
-import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.math3.stat.StatUtils;
+import org.apache.fineract.infrastructure.core.diagnostics.performance.sampling.core.LatencySnapshot;
 import org.apache.fineract.infrastructure.core.diagnostics.performance.sampling.core.SamplingData;
 import org.springframework.stereotype.Component;
 
@@ -56,7 +54,7 @@ public class SamplingDataPrinter {
     @SuppressFBWarnings({ "VA_FORMAT_STRING_USES_NEWLINE" })
     private String getFormattedSamplingData(Class<?> clazz, SamplingData samplingData) {
         if (clazz != null && samplingData != null) {
-            Map<String, List<Duration>> timings = samplingData.getTimings();
+            Map<String, LatencySnapshot> timings = samplingData.getTimings();
             if (!timings.isEmpty()) {
                 return """
 
@@ -69,19 +67,19 @@ public class SamplingDataPrinter {
         return null;
     }
 
-    private String getTimingsLog(Map<String, List<Duration>> timings) {
+    private String getTimingsLog(Map<String, LatencySnapshot> timings) {
         return timings.entrySet().stream() //
                 .map(e -> getSingleTimingLog(e.getKey(), e.getValue())) //
                 .collect(Collectors.joining(lineSeparator())); //
     }
 
-    private String getSingleTimingLog(String key, List<Duration> durations) {
-        double[] millis = durations.stream().mapToLong(Duration::toMillis).asDoubleStream().toArray();
-        double percentile99 = StatUtils.percentile(millis, 99);
-        double average = Arrays.stream(millis).average().orElse(Double.NaN);
-        double median = StatUtils.percentile(millis, 50);
-        double lowest = StatUtils.min(millis);
-        return "%s with %d data points -> 99th percentile: %.0fms, average: %.0fms, median: %.0fms, lowest: %.0fms".formatted(key,
-                millis.length, percentile99, average, median, lowest);
+    private String getSingleTimingLog(String key, LatencySnapshot snapshot) {
+        return ("%s with %d data points -> 99th percentile: %.0fms, 95th percentile: %.0fms, average: %.0fms, median: %.0fms,"
+                + " highest: %.0fms").formatted(key, snapshot.count(), toMillis(snapshot.percentile99()), toMillis(snapshot.percentile95()),
+                toMillis(snapshot.mean()), toMillis(snapshot.median()), toMillis(snapshot.max()));
+    }
+
+    private double toMillis(Duration duration) {
+        return duration.toNanos() / 1_000_000.0;
     }
 }
@@ -0,0 +1,60 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.dataqueries.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+import org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData;
+
+/**
+ * Writes the streamed rows as an Excel flavoured CSV, the first record holds the column names.
+ */
+final class CsvResultsetStreamHandler implements GenericResultsetStreamHandler {
+
+    private final CSVPrinter printer;
+
+    CsvResultsetStreamHandler(final OutputStream out) throws IOException {
+        this.printer = new CSVPrinter(new OutputStreamWriter(out, StandardCharsets.UTF_8), CSVFormat.EXCEL);
+    }
+
+    @Override
+    public void start(final List<ResultsetColumnHeaderData> columnHeaders) throws IOException {
+        final List<String> header = new ArrayList<>(columnHeaders.size());
+        for (final ResultsetColumnHeaderData columnHeader : columnHeaders) {
+            header.add(columnHeader.getColumnName());
+        }
+        printer.printRecord(header);
+    }
+
+    @Override
+    public void row(final List<Object> columnValues) throws IOException {
+        printer.printRecord(columnValues);
+    }
+
+    @Override
+    public void finish() throws IOException {
+        printer.close(true);
+    }
+}
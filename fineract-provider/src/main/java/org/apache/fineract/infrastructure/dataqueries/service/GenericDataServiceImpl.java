@@ -18,20 +18,19 @@
  */
 package org.apache.fineract.infrastructure.dataqueries.service;
 
-import static java.lang.String.format;
 import static org.apache.fineract.infrastructure.core.service.database.JdbcJavaType.DATE;
 import static org.apache.fineract.infrastructure.core.service.database.JdbcJavaType.DATETIME;
 import static org.apache.fineract.infrastructure.core.service.database.JdbcJavaType.TIMESTAMP;
-import static org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData.DisplayType.CODELOOKUP;
-import static org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData.DisplayType.DECIMAL;
-import static org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData.DisplayType.INTEGER;
-import static org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData.DisplayType.TIME;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
 import java.sql.Timestamp;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -50,10 +49,12 @@ import org.apache.fineract.infrastructure.dataqueries.data.ResultsetRowData;
 import org.apache.fineract.infrastructure.dataqueries.exception.DatatableNotFoundException;
 import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
 import org.springframework.jdbc.support.rowset.SqlRowSet;
 import org.springframework.jdbc.support.rowset.SqlRowSetMetaData;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @Slf4j
@@ -65,6 +66,7 @@ public class GenericDataServiceImpl implements GenericDataService {
     private final DatabaseIndependentQueryService databaseIndependentQueryService;
     private final DatatableKeywordGenerator datatableKeywordGenerator;
     private final DatabaseTypeResolver databaseTypeResolver;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
     public GenericResultsetData fillGenericResultSet(final String sql) {
@@ -92,6 +94,69 @@ public class GenericDataServiceImpl implements GenericDataService {
         }
     }
 
+    @Override
+    public long streamGenericResultSet(final String sql, final int fetchSize, final int maxRows,
+            final GenericResultsetStreamHandler handler) throws IOException {
+        // PostgreSQL only honours the fetch size when the connection is not in auto-commit mode
+        final TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnlyTransaction.setReadOnly(true);
+        try {
+            final Long rows = readOnlyTransaction.execute(status -> jdbcTemplate.execute(con -> {
+                final PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY); // NOSONAR
+                ps.setFetchSize(fetchSize);
+                ps.setMaxRows(Math.max(maxRows, 0));
+                return ps;
+            }, (PreparedStatement ps) -> streamResultsetRows(ps, handler)));
+            return rows == null ? 0L : rows;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } catch (DataAccessException e) {
+            log.error("Reporting error: {}", e.getMessage());
+            throw ErrorHandler.getMappable(e, "error.msg.report.unknown.data.integrity.issue", e.getClass().getName(), null, e);
+        }
+    }
+
+    private long streamResultsetRows(final PreparedStatement ps, final GenericResultsetStreamHandler handler) throws SQLException {
+        final ResultSet rs = ps.executeQuery();
+        try {
+            final ResultSetMetaData rsmd = rs.getMetaData();
+            final int columnCount = rsmd.getColumnCount();
+            final List<ResultsetColumnHeaderData> columnHeaders = new ArrayList<>(columnCount);
+            for (int i = 0; i < columnCount; i++) {
+                columnHeaders.add(ResultsetColumnHeaderData.basic(rsmd.getColumnLabel(i + 1), rsmd.getColumnTypeName(i + 1),
+                        databaseTypeResolver.databaseType()));
+            }
+            handler.start(columnHeaders);
+
+            long rows = 0;
+            while (rs.next()) {
+                final List<Object> columnValues = new ArrayList<>(columnCount);
+                for (int i = 0; i < columnCount; i++) {
+                    columnValues.add(toColumnValue(columnHeaders.get(i).getColumnType(), rs.getObject(i + 1)));
+                }
+                handler.row(columnValues);
+                rows++;
+            }
+            handler.finish();
+            return rows;
+        } catch (IOException e) {
+            // the receiver is gone (e.g. the client disconnected), closing a streamed result set would read the remaining
+            // rows first so the query is cancelled before
+            cancelQuietly(ps);
+            throw new UncheckedIOException(e);
+        } finally {
+            JdbcUtils.closeResultSet(rs);
+        }
+    }
+
+    private static void cancelQuietly(final PreparedStatement ps) {
+        try {
+            ps.cancel();
+        } catch (SQLException e) {
+            log.debug("Could not cancel the streamed query: {}", e.getMessage());
+        }
+    }
+
     @Override
     public List<ResultsetColumnHeaderData> fillResultsetColumnHeaders(final String tableName) {
         final SqlRowSet columnDefinitions = getTableMetaData(tableName);
@@ -149,23 +214,26 @@ public class GenericDataServiceImpl implements GenericDataService {
             final List<Object> columnValues = new ArrayList<>();
             for (int i = 0; i < rsmd.getColumnCount(); i++) {
                 final String columnName = rsmd.getColumnName(i + 1);
-                final JdbcJavaType colType = columnHeaders.get(i).getColumnType();
-                if (colType == DATE) {
-                    Date tmpDate = (Date) rs.getObject(columnName);
-                    columnValues.add(tmpDate == null ? null : tmpDate.toLocalDate());
-                } else if (colType == DATETIME || colType == TIMESTAMP) {
-                    Object tmpDate = rs.getObject(columnName);
-                    columnValues.add(
-                            tmpDate == null ? null : (tmpDate instanceof Timestamp ? ((Timestamp) tmpDate).toLocalDateTime() : tmpDate));
-                } else {
-                    columnValues.add(rs.getObject(columnName));
-                }
+                columnValues.add(toColumnValue(columnHeaders.get(i).getColumnType(), rs.getObject(columnName)));
             }
             resultsetDataRows.add(ResultsetRowData.create(columnValues));
         }
         return resultsetDataRows;
     }
 
+    private static Object toColumnValue(final JdbcJavaType colType, final Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (colType == DATE) {
+            return ((Date) value).toLocalDate();
+        }
+        if ((colType == DATETIME || colType == TIMESTAMP) && value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return value;
+    }
+
     @Override
     public String replace(final String str, final String pattern, final String replace) {
         // JPW - this replace may / may not be any better or quicker than the
@@ -197,68 +265,18 @@ public class GenericDataServiceImpl implements GenericDataService {
 
     @Override
     public String generateJsonFromGenericResultsetData(final GenericResultsetData grs) {
-        final StringBuilder writer = new StringBuilder();
-
-        writer.append("[");
-
-        final List<ResultsetColumnHeaderData> columnHeaders = grs.getColumnHeaders();
-
-        final List<ResultsetRowData> data = grs.getData();
-        List<Object> row;
-        Integer rSize;
-        final String doubleQuote = "\"";
-        final String slashDoubleQuote = "\\\"";
-        ResultsetColumnHeaderData.DisplayType colDisplayType;
-        Object currVal;
-
-        for (int i = 0; i < data.size(); i++) {
-            writer.append("\n{");
-
-            row = data.get(i).getRow();
-            rSize = row.size();
-            for (int j = 0; j < rSize; j++) {
-                ResultsetColumnHeaderData columnHeader = columnHeaders.get(j);
-                writer.append(doubleQuote + columnHeader.getColumnName() + doubleQuote + ": ");
-                colDisplayType = columnHeader.getColumnDisplayType();
-                final JdbcJavaType colType = columnHeader.getColumnType();
-                if (colDisplayType == null) {
-                    colDisplayType = ResultsetColumnHeaderData.calcColumnDisplayType(colType);
-                }
-                currVal = row.get(j);
-                if (currVal != null && colDisplayType != null) {
-                    if (colDisplayType == ResultsetColumnHeaderData.DisplayType.DATE) {
-                        final LocalDate localDate = (LocalDate) currVal;
-                        writer.append(format("[%d,%d,%d]", localDate.getYear(), localDate.getMonthValue(), localDate.getDayOfMonth()));
-                    } else if (colDisplayType == ResultsetColumnHeaderData.DisplayType.DATETIME) {
-                        final LocalDateTime localDateTime = (LocalDateTime) currVal;
-                        writer.append(format("[%d,%d,%d,%d,%d,%d,%d]", localDateTime.getYear(), localDateTime.getMonthValue(),
-                                localDateTime.getDayOfMonth(), localDateTime.getHour(), localDateTime.getMinute(),
-                                localDateTime.getSecond(), localDateTime.getNano()));
-                    } else if (colDisplayType == TIME) {
-                        final LocalTime localTime = (LocalTime) currVal;
-                        writer.append(format("[%d,%d,%d,%d]", localTime.getHour(), localTime.getMinute(), localTime.getSecond(),
-                                localTime.getNano()));
-                    } else if (colDisplayType == DECIMAL || colDisplayType == INTEGER || colDisplayType == CODELOOKUP) {
-                        writer.append(currVal);
-                    } else {
-                        writer.append(doubleQuote + replace(String.valueOf(currVal), doubleQuote, slashDoubleQuote) + doubleQuote);
-                    }
-                } else {
-                    writer.append("null");
-                }
-                if (j < (rSize - 1)) {
-                    writer.append(",\n");
-                }
-            }
-
-            if (i < (data.size() - 1)) {
-                writer.append("},");
-            } else {
-                writer.append("}");
+        final StringWriter writer = new StringWriter();
+        final PlainJsonResultsetStreamHandler handler = new PlainJsonResultsetStreamHandler(writer);
+        try {
+            handler.start(grs.getColumnHeaders());
+            for (final ResultsetRowData row : grs.getData()) {
+                handler.row(row.getRow());
             }
+            handler.finish();
+        } catch (IOException e) {
+            // a StringWriter does not fail
+            throw new UncheckedIOException(e);
         }
-
-        writer.append("\n]");
         return writer.toString();
     }
 
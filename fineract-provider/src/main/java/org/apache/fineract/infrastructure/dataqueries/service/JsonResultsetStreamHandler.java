@@ -0,0 +1,79 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.dataqueries.service;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.apache.fineract.infrastructure.core.serialization.GoogleGsonSerializerHelper;
+import org.apache.fineract.infrastructure.dataqueries.data.GenericResultsetData;
+import org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData;
+import org.apache.fineract.infrastructure.dataqueries.data.ResultsetRowData;
+
+/**
+ * Writes the streamed rows in the same JSON shape as a serialized {@link GenericResultsetData}.
+ */
+final class JsonResultsetStreamHandler implements GenericResultsetStreamHandler {
+
+    private static final Gson GSON = GoogleGsonSerializerHelper.createSimpleGson();
+    private static final Type COLUMN_HEADERS_TYPE = new TypeToken<List<ResultsetColumnHeaderData>>() {}.getType();
+
+    private final JsonWriter writer;
+
+    JsonResultsetStreamHandler(final OutputStream out) throws IOException {
+        this.writer = GSON.newJsonWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void start(final List<ResultsetColumnHeaderData> columnHeaders) throws IOException {
+        writer.beginObject();
+        writer.name("columnHeaders");
+        write(columnHeaders, COLUMN_HEADERS_TYPE);
+        writer.name("data");
+        writer.beginArray();
+    }
+
+    @Override
+    public void row(final List<Object> columnValues) throws IOException {
+        write(ResultsetRowData.create(columnValues), ResultsetRowData.class);
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.endArray();
+        writer.endObject();
+        writer.close();
+    }
+
+    private void write(final Object value, final Type type) throws IOException {
+        try {
+            GSON.toJson(value, type, writer);
+        } catch (JsonIOException e) {
+            // Gson hides the write failure, the caller needs it to stop the query
+            throw e.getCause() instanceof IOException ioException ? ioException : new IOException(e);
+        }
+    }
+}
@@ -22,7 +22,11 @@ import com.lowagie.text.Document;
 import com.lowagie.text.PageSize;
 import com.lowagie.text.pdf.PdfPTable;
 import com.lowagie.text.pdf.PdfWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.ws.rs.core.StreamingOutput;
+import java.io.BufferedWriter;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
@@ -37,10 +41,11 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.csv.CSVFormat;
-import org.apache.commons.csv.CSVPrinter;
+import org.apache.commons.io.output.CountingOutputStream;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.domain.JdbcSupport;
@@ -70,38 +75,81 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class ReadReportingServiceImpl implements ReadReportingService {
 
+    private static final String REPORT_EXPORT_ROWS_METRIC_NAME = "fineract.report.export.rows";
+    private static final String REPORT_EXPORT_BYTES_METRIC_NAME = "fineract.report.export.bytes";
+    private static final String REPORT_EXPORT_TIMER_NAME = "fineract.report.export";
+
     private final JdbcTemplate jdbcTemplate;
     private final PlatformSecurityContext context;
     private final GenericDataService genericDataService;
     private final SqlInjectionPreventerService sqlInjectionPreventerService;
     private final DatabaseSpecificSQLGenerator sqlGenerator;
     private final FineractProperties fineractProperties;
+    private final Optional<MeterRegistry> meterRegistry;
 
     @Override
     public StreamingOutput retrieveReportCSV(final String name, final String type, final Map<String, String> queryParams,
             final boolean isSelfServiceUserReport) {
+        return streamReport(name, type, queryParams, isSelfServiceUserReport, "csv", CsvResultsetStreamHandler::new);
+    }
+
+    @Override
+    public StreamingOutput retrieveReportJSON(final String name, final String type, final Map<String, String> queryParams,
+            final boolean isSelfServiceUserReport, final boolean genericResultSet) {
+        if (genericResultSet) {
+            return streamReport(name, type, queryParams, isSelfServiceUserReport, "json", JsonResultsetStreamHandler::new);
+        }
+        return streamReport(name, type, queryParams, isSelfServiceUserReport, "json",
+                out -> new PlainJsonResultsetStreamHandler(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8))));
+    }
+
+    /**
+     * The report sql is resolved up front, so an unknown report or a missing parameter is reported before anything is
+     * written. The rows are then written to the response as they come from the database cursor.
+     */
+    private StreamingOutput streamReport(final String name, final String type, final Map<String, String> queryParams,
+            final boolean isSelfServiceUserReport, final String format, final StreamHandlerFactory handlerFactory) {
+        final String sql = getSQLtoRun(name, type, queryParams, isSelfServiceUserReport);
+        final FineractProperties.FineractExportStreamProperties streamProperties = fineractProperties.getReport().getExport().getStream();
+        final int maxRows = streamProperties.getMaxRows();
         return out -> {
+            final CountingOutputStream countingOut = new CountingOutputStream(out);
+            final RowCountingStreamHandler handler = new RowCountingStreamHandler(handlerFactory.create(countingOut));
+            final long startTime = System.nanoTime();
+            String outcome = "success";
             try {
-                final GenericResultsetData result = retrieveGenericResultset(name, type, queryParams, isSelfServiceUserReport);
-                generateCsvFileBuffer(result, out);
-            } catch (final Exception e) {
+                this.genericDataService.streamGenericResultSet(sql, streamProperties.getFetchSize(), maxRows, handler);
+                if (maxRows > 0 && handler.rows >= maxRows) {
+                    log.warn("Report {} export was truncated at {} rows", LogParameterEscapeUtil.escapeLogParameter(name), maxRows);
+                }
+            } catch (final IOException e) {
+                outcome = "cancelled";
+                log.info("Report {} export stopped after {} rows: {}", LogParameterEscapeUtil.escapeLogParameter(name), handler.rows,
+                        e.getMessage());
+                throw e;
+            } catch (final RuntimeException e) {
+                outcome = "failure";
                 throw ErrorHandler.getMappable(e);
+            } finally {
+                recordExport(name, format, outcome, handler.rows, countingOut.getByteCount(), System.nanoTime() - startTime);
             }
         };
     }
 
-    private void generateCsvFileBuffer(final GenericResultsetData result, OutputStream out) throws IOException {
-        try (CSVPrinter printer = new CSVPrinter(new OutputStreamWriter(out, StandardCharsets.UTF_8), CSVFormat.EXCEL)) {
-            final List<ResultsetColumnHeaderData> columnHeaders = result.getColumnHeaders();
-            final List<ResultsetRowData> data = result.getData();
-            final List<String> header = new ArrayList<>();
-            for (final ResultsetColumnHeaderData columnHeader : columnHeaders) {
-                header.add(columnHeader.getColumnName());
-            }
-            printer.printRecord(header);
-            for (final ResultsetRowData row : data) {
-                printer.printRecord(row.getRow());
-            }
+    private void recordExport(final String name, final String format, final String outcome, final long rows, final long bytes,
+            final long elapsedNanos) {
+        meterRegistry.ifPresent(registry -> {
+            Counter.builder(REPORT_EXPORT_ROWS_METRIC_NAME).tag("format", format).tag("outcome", outcome).register(registry)
+                    .increment(rows);
+            Counter.builder(REPORT_EXPORT_BYTES_METRIC_NAME).baseUnit("bytes").tag("format", format).tag("outcome", outcome)
+                    .register(registry).increment(bytes);
+            Timer.builder(REPORT_EXPORT_TIMER_NAME).tag("format", format).tag("outcome", outcome).register(registry)
+                    .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        });
+        if (log.isDebugEnabled()) {
+            final double seconds = Math.max(elapsedNanos, 1L) / 1_000_000_000d;
+            log.debug("Report {} export {}: {} rows, {} bytes in {} ms ({} rows/s)", LogParameterEscapeUtil.escapeLogParameter(name),
+                    outcome, rows, bytes, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), Math.round(rows / seconds));
         }
     }
 
@@ -513,4 +561,36 @@ public class ReadReportingServiceImpl implements ReadReportingService {
          */
         return null;
     }
+
+    @FunctionalInterface
+    private interface StreamHandlerFactory {
+
+        GenericResultsetStreamHandler create(OutputStream out) throws IOException;
+    }
+
+    private static final class RowCountingStreamHandler implements GenericResultsetStreamHandler {
+
+        private final GenericResultsetStreamHandler delegate;
+        private long rows;
+
+        private RowCountingStreamHandler(final GenericResultsetStreamHandler delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void start(final List<ResultsetColumnHeaderData> columnHeaders) throws IOException {
+            delegate.start(columnHeaders);
+        }
+
+        @Override
+        public void row(final List<Object> columnValues) throws IOException {
+            delegate.row(columnValues);
+            rows++;
+        }
+
+        @Override
+        public void finish() throws IOException {
+            delegate.finish();
+        }
+    }
 }
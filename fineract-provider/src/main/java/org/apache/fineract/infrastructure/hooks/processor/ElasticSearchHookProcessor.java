@@ -67,7 +67,7 @@ public class ElasticSearchHookProcessor implements HookProcessor {
             final String actionName, final FineractContext context) {
 
         final String fineractEndpointUrl = System.getProperty("baseUrl");
-        final WebHookService service = processorHelper.createWebHookService(url);
+        final WebHookService service = processorHelper.getWebHookService(url);
 
         @SuppressWarnings("rawtypes")
         final Callback callback = processorHelper.createCallback(url, payload);
@@ -18,11 +18,14 @@
  */
 package org.apache.fineract.infrastructure.hooks.processor;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
+import java.util.concurrent.TimeUnit;
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.TrustManager;
@@ -44,6 +47,10 @@ public final class ProcessorHelper {
 
     private static final Logger LOG = LoggerFactory.getLogger(ProcessorHelper.class);
 
+    // services of hook URLs which were changed or deleted are dropped once unused for a while
+    private static final int MAX_WEB_HOOK_SERVICES = 1_000;
+    private static final long WEB_HOOK_SERVICE_IDLE_HOURS = 1;
+
     @SuppressWarnings("unused")
     private static final X509TrustManager insecureX509TrustManager = new X509TrustManager() {
 
@@ -66,6 +73,12 @@ public final class ProcessorHelper {
      */
     private final boolean insecureHttpClient = Boolean.getBoolean("fineract.insecureHttpClient");
     private final SSLContext insecureSSLContext;
+    // one client for all hooks, so they share its connection pool and dispatcher threads
+    private final OkHttpClient client;
+    private final Cache<String, WebHookService> webHookServices = CacheBuilder.newBuilder() //
+            .maximumSize(MAX_WEB_HOOK_SERVICES) //
+            .expireAfterAccess(WEB_HOOK_SERVICE_IDLE_HOURS, TimeUnit.HOURS) //
+            .build();
 
     public ProcessorHelper() throws KeyManagementException, NoSuchAlgorithmException {
         if (insecureHttpClient) {
@@ -73,6 +86,7 @@ public final class ProcessorHelper {
         } else {
             insecureSSLContext = null;
         }
+        client = createClient();
     }
 
     private OkHttpClient createClient() {
@@ -112,8 +126,15 @@ public final class ProcessorHelper {
         };
     }
 
+    /**
+     * @return the service of a configured hook URL, it is created once and reused for every delivery until it has not
+     *         been used for an hour
+     */
+    public WebHookService getWebHookService(final String url) {
+        return webHookServices.asMap().computeIfAbsent(url, this::createWebHookService);
+    }
+
     public WebHookService createWebHookService(final String url) {
-        final OkHttpClient client = createClient();
         final Retrofit.Builder retrofitBuilder = new Retrofit.Builder();
         retrofitBuilder.baseUrl(url);
         retrofitBuilder.client(client);
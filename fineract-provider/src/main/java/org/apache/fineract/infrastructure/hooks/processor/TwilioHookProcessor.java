@@ -61,7 +61,7 @@ public class TwilioHookProcessor implements HookProcessor {
     private void sendRequest(final SmsProviderData smsProviderData, final String payload, String entityName, String actionName,
             final Hook hook, final FineractContext context) throws IOException {
 
-        final WebHookService service = processorHelper.createWebHookService(smsProviderData.getUrl());
+        final WebHookService service = processorHelper.getWebHookService(smsProviderData.getUrl());
 
         @SuppressWarnings("rawtypes")
         final Callback callback = processorHelper.createCallback(smsProviderData.getUrl());
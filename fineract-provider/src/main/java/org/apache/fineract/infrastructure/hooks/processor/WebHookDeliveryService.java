@@ -0,0 +1,157 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.hooks.processor;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import retrofit2.Call;
+import retrofit2.Response;
+
+/**
+ * Delivers web hook requests off the command thread. Requests wait in a bounded queue (they are dropped when it is
+ * full) and are sent by a small pool of workers. Connection failures, 5xx and 429 responses are retried with
+ * exponential backoff up to {@code fineract.hooks.delivery.max-attempts} times.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WebHookDeliveryService implements InitializingBean, DisposableBean {
+
+    private static final String METRIC_PREFIX = "fineract.hooks.delivery";
+
+    private final FineractProperties fineractProperties;
+    private final Optional<MeterRegistry> meterRegistry;
+
+    private ThreadPoolTaskExecutor deliveryExecutor;
+    private ScheduledExecutorService retryScheduler;
+
+    @Override
+    public void afterPropertiesSet() {
+        FineractProperties.FineractHookDeliveryProperties properties = getProperties();
+        deliveryExecutor = new ThreadPoolTaskExecutor();
+        deliveryExecutor.setCorePoolSize(properties.getThreadPoolSize());
+        deliveryExecutor.setMaxPoolSize(properties.getThreadPoolSize());
+        deliveryExecutor.setQueueCapacity(properties.getQueueCapacity());
+        deliveryExecutor.setThreadNamePrefix("webhook-delivery-");
+        deliveryExecutor.setWaitForTasksToCompleteOnShutdown(true);
+        deliveryExecutor.setAwaitTerminationSeconds(10);
+        deliveryExecutor.initialize();
+        retryScheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("webhook-retry-"));
+        meterRegistry.ifPresent(registry -> Gauge
+                .builder(METRIC_PREFIX + ".queue.size", deliveryExecutor,
+                        executor -> executor.getThreadPoolExecutor().getQueue().size())
+                .description("Web hook requests waiting for delivery").register(registry));
+    }
+
+    @Override
+    public void destroy() {
+        retryScheduler.shutdownNow();
+        deliveryExecutor.shutdown();
+    }
+
+    /**
+     * Queues the request for delivery. The call is never executed itself, every attempt runs a clone of it.
+     */
+    public void deliver(final String url, final Call<Void> call) {
+        submit(new Delivery(url, call, 1));
+    }
+
+    private void submit(final Delivery delivery) {
+        try {
+            deliveryExecutor.execute(() -> attempt(delivery));
+        } catch (RejectedExecutionException e) {
+            log.warn("Web hook delivery queue is full, request to {} dropped", delivery.url());
+            countFailure("rejected");
+        }
+    }
+
+    private void attempt(final Delivery delivery) {
+        final long start = System.nanoTime();
+        String failure;
+        try {
+            final Response<Void> response = delivery.call().clone().execute();
+            recordAttempt(start, response.isSuccessful() ? "success" : "error");
+            if (response.isSuccessful()) {
+                log.debug("URL: {} - Status: {}", delivery.url(), response.code());
+                return;
+            }
+            if (response.code() < 500 && response.code() != 429) {
+                log.warn("URL: {} - Status: {}, the request is not retried", delivery.url(), response.code());
+                countFailure("http");
+                return;
+            }
+            failure = "status " + response.code();
+        } catch (IOException | RuntimeException e) {
+            recordAttempt(start, "error");
+            failure = e.toString();
+        }
+        final FineractProperties.FineractHookDeliveryProperties properties = getProperties();
+        if (delivery.attempt() >= properties.getMaxAttempts()) {
+            log.error("URL: {} - Delivery failed after {} attempts, last failure: {}", delivery.url(), delivery.attempt(), failure);
+            countFailure("exhausted");
+            return;
+        }
+        final long backoffMillis = properties.getInitialBackoff().toMillis() << (delivery.attempt() - 1);
+        log.debug("URL: {} - Attempt {} failed ({}), retrying in {} ms", delivery.url(), delivery.attempt(), failure, backoffMillis);
+        meterRegistry.ifPresent(registry -> registry.counter(METRIC_PREFIX + ".retries").increment());
+        try {
+            retryScheduler.schedule(() -> submit(delivery.next()), backoffMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // shutting down
+            countFailure("rejected");
+        }
+    }
+
+    private void recordAttempt(final long start, final String outcome) {
+        meterRegistry.ifPresent(registry -> Timer.builder(METRIC_PREFIX).tag("outcome", outcome)
+                .description("Latency of web hook delivery attempts").register(registry)
+                .record(Duration.ofNanos(System.nanoTime() - start)));
+    }
+
+    private void countFailure(final String reason) {
+        meterRegistry.ifPresent(registry -> registry.counter(METRIC_PREFIX + ".failures", "reason", reason).increment());
+    }
+
+    private FineractProperties.FineractHookDeliveryProperties getProperties() {
+        return fineractProperties.getHooks().getDelivery();
+    }
+
+    private record Delivery(String url, Call<Void> call, int attempt) {
+
+        private Delivery next() {
+            return new Delivery(url, call, attempt + 1);
+        }
+    }
+}
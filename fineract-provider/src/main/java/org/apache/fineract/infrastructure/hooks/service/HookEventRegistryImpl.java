@@ -0,0 +1,98 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.hooks.service;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.hooks.domain.HookRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps the events of the active hooks per tenant for {@code fineract.hooks.registry-time-to-live}. Hook changes made
+ * on this node are visible right away, the ones made on other nodes of a cluster once the registered events expired. A
+ * time to live of zero reads the events from the database on every lookup.
+ */
+@Service
+@RequiredArgsConstructor
+public class HookEventRegistryImpl implements HookEventRegistry {
+
+    private final HookRepository hookRepository;
+    private final FineractProperties fineractProperties;
+
+    private final ConcurrentMap<String, RegisteredEvents> registeredEvents = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean hasHooksListeningTo(final String entityName, final String actionName) {
+        final String tenantIdentifier = ThreadLocalContextUtil.getTenant().getTenantIdentifier();
+        final Duration timeToLive = getTimeToLive();
+        RegisteredEvents events = registeredEvents.get(tenantIdentifier);
+        if (events == null || timeToLive == null || System.nanoTime() - events.loadedAt() >= timeToLive.toNanos()) {
+            events = new RegisteredEvents(loadEvents(), System.nanoTime());
+            if (timeToLive != null) {
+                registeredEvents.put(tenantIdentifier, events);
+            }
+        }
+        return events.events().contains(toKey(entityName, actionName));
+    }
+
+    @Override
+    public void invalidate() {
+        final String tenantIdentifier = ThreadLocalContextUtil.getTenant().getTenantIdentifier();
+        registeredEvents.remove(tenantIdentifier);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // lookups made before the commit would load the events of the previous hook state
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCompletion(int status) {
+                    registeredEvents.remove(tenantIdentifier);
+                }
+            });
+        }
+    }
+
+    private Set<String> loadEvents() {
+        return hookRepository.findAllActiveHookEvents().stream().map(event -> toKey(event.getEntityName(), event.getActionName()))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private Duration getTimeToLive() {
+        final FineractProperties.FineractHookProperties properties = fineractProperties.getHooks();
+        if (properties == null || properties.getRegistryTimeToLive() == null || properties.getRegistryTimeToLive().isZero()
+                || properties.getRegistryTimeToLive().isNegative()) {
+            return null;
+        }
+        return properties.getRegistryTimeToLive();
+    }
+
+    private static String toKey(final String entityName, final String actionName) {
+        return entityName + ":" + actionName;
+    }
+
+    private record RegisteredEvents(Set<String> events, long loadedAt) {
+    }
+}
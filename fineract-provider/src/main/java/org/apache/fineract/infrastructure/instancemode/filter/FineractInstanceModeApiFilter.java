@@ -45,6 +45,8 @@ public class FineractInstanceModeApiFilter extends OncePerRequestFilter {
             item(FineractProperties.FineractModeProperties::isBatchManagerEnabled, pi -> pi.startsWith("/v1/loans/catch-up")),
             item(FineractProperties.FineractModeProperties::isBatchManagerEnabled, pi -> pi.startsWith("/v1/loans/is-catch-up-running")),
             item(p -> true, pi -> pi.startsWith("/v1/instance-mode")),
+            // Sampling rules and histograms belong to the instance serving the request, batch workers included
+            item(p -> true, pi -> pi.startsWith("/v1/sampling")),
             // Batches with all GET requests need to be allowed in read-only instances, hence this check will be
             // moved
             // under the Api Resource.
@@ -129,9 +129,9 @@ public class TenantAwareTenantIdentifierFilter extends GenericFilterBean {
                             request.getContextPath() + API_URI);
                     System.setProperty("baseUrl", baseUrl);
 
-                    final boolean ehcacheEnabled = configurationDomainService.isEhcacheEnabled();
-                    if (ehcacheEnabled) {
-                        cacheWritePlatformService.switchToCache(CacheType.SINGLE_NODE);
+                    final CacheType cacheType = configurationDomainService.getCacheType();
+                    if (cacheType.isEhcache() || cacheType.isDistributedCache()) {
+                        cacheWritePlatformService.switchToCache(cacheType);
                     } else {
                         cacheWritePlatformService.switchToCache(CacheType.NO_CACHE);
                     }
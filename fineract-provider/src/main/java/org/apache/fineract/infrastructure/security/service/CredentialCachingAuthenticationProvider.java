@@ -0,0 +1,118 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.security.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * {@link DaoAuthenticationProvider} that remembers recently verified Basic auth credentials for a short time, so that
+ * repeated requests of the same client do not pay for the (deliberately slow) password hash verification every time.
+ * <p>
+ * Neither the principal nor the raw password is cached: the cache key is an HMAC of tenant, username and password
+ * keyed with a per-process random secret and the value is the encoded password the credentials were verified against.
+ * The user itself is still loaded and the pre- and post-authentication checks (enabled, locked, expired) still run on
+ * every request, so disabled or locked users and role changes take effect immediately, while a password change makes
+ * every remembered entry of that user stale because the stored encoded password no longer matches.
+ */
+public class CredentialCachingAuthenticationProvider extends DaoAuthenticationProvider {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final String METRIC_NAME = "fineract.security.basicauth.credential.cache";
+
+    private final Cache<String, byte[]> verifiedCredentials;
+    private final SecretKeySpec secret;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public CredentialCachingAuthenticationProvider(Duration ttl, long maximumEntries, Optional<MeterRegistry> meterRegistry) {
+        this.verifiedCredentials = CacheBuilder.newBuilder() //
+                .expireAfterWrite(ttl.toMillis(), TimeUnit.MILLISECONDS) //
+                .maximumSize(maximumEntries) //
+                .build();
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        this.secret = new SecretKeySpec(key, HMAC_ALGORITHM);
+        meterRegistry.ifPresent(registry -> {
+            FunctionCounter.builder(METRIC_NAME, hits, LongAdder::doubleValue).tag("result", "hit").register(registry);
+            FunctionCounter.builder(METRIC_NAME, misses, LongAdder::doubleValue).tag("result", "miss").register(registry);
+            Gauge.builder(METRIC_NAME + ".hit.ratio", this, CredentialCachingAuthenticationProvider::getHitRate).register(registry);
+            Gauge.builder(METRIC_NAME + ".size", verifiedCredentials, Cache::size).register(registry);
+        });
+    }
+
+    @Override
+    protected void additionalAuthenticationChecks(UserDetails userDetails, UsernamePasswordAuthenticationToken authentication)
+            throws AuthenticationException {
+        if (authentication.getCredentials() == null || userDetails.getPassword() == null) {
+            super.additionalAuthenticationChecks(userDetails, authentication);
+            return;
+        }
+        String cacheKey = cacheKey(userDetails.getUsername(), authentication.getCredentials().toString());
+        byte[] storedPassword = userDetails.getPassword().getBytes(StandardCharsets.UTF_8);
+        byte[] verifiedAgainst = verifiedCredentials.getIfPresent(cacheKey);
+        if (verifiedAgainst != null && MessageDigest.isEqual(verifiedAgainst, storedPassword)) {
+            hits.increment();
+            return;
+        }
+        misses.increment();
+        // throws on bad credentials, in which case nothing gets remembered
+        super.additionalAuthenticationChecks(userDetails, authentication);
+        verifiedCredentials.put(cacheKey, storedPassword);
+    }
+
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    private String cacheKey(String username, String password) {
+        FineractPlatformTenant tenant = ThreadLocalContextUtil.getTenant();
+        String tenantIdentifier = tenant == null ? "" : tenant.getTenantIdentifier();
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(secret);
+            byte[] digest = mac.doFinal((tenantIdentifier + '\0' + username + '\0' + password).getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to compute credential cache key", e);
+        }
+    }
+}
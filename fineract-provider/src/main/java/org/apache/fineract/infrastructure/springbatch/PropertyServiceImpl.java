@@ -45,6 +45,11 @@ public class PropertyServiceImpl implements PropertyService {
         return getProperty(jobName, FineractProperties.PartitionedJobProperty::getRetryLimit);
     }
 
+    @Override
+    public Integer getSkipLimit(String jobName) {
+        return getProperty(jobName, FineractProperties.PartitionedJobProperty::getSkipLimit);
+    }
+
     @Override
     public Integer getThreadPoolCorePoolSize(String jobName) {
         return getProperty(jobName, FineractProperties.PartitionedJobProperty::getThreadPoolCorePoolSize);
@@ -65,6 +70,11 @@ public class PropertyServiceImpl implements PropertyService {
         return getProperty(jobName, FineractProperties.PartitionedJobProperty::getPollInterval);
     }
 
+    @Override
+    public Integer getPrefetchWindowSize(String jobName) {
+        return getProperty(jobName, FineractProperties.PartitionedJobProperty::getPrefetchWindowSize);
+    }
+
     private Integer getProperty(String jobName, Function<? super FineractProperties.PartitionedJobProperty, Integer> function) {
         List<FineractProperties.PartitionedJobProperty> jobProperties = fineractProperties.getPartitionedJob()
                 .getPartitionedJobProperties();
@@ -0,0 +1,203 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.organisation.holiday.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.cache.service.MultiNodeCacheManager;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.organisation.holiday.domain.HolidayRepository;
+import org.apache.fineract.organisation.holiday.domain.HolidayStatusType;
+import org.apache.fineract.organisation.holiday.service.BusinessCalendarIndex.WorkingDaysCalendar;
+import org.apache.fineract.organisation.workingdays.domain.WorkingDaysRepositoryWrapper;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Holds the {@link BusinessCalendarIndex} of every office of every tenant. The non-working days of a tenant are computed
+ * once and shared by its offices, the holidays of an office are loaded on first use. Everything is rebuilt when it is
+ * older than {@code fineract.loan.business-calendar.time-to-live}, when the business date moved the horizon, or after
+ * {@link #invalidate()} was called by a command changing holidays or working days. A time to live of zero disables the
+ * cache.
+ *
+ * Invalidations are broadcast to the other nodes of a cluster through the {@link MultiNodeCacheManager} once the
+ * command committed, while the multi node cache is not active changes made on other nodes become visible here only once
+ * the calendar expired.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BusinessCalendarCache implements InitializingBean {
+
+    private static final String METRIC_PREFIX = "fineract.loan.business.calendar.cache";
+    public static final String CACHE_NAME = "businessCalendars";
+
+    private final HolidayRepository holidayRepository;
+    private final WorkingDaysRepositoryWrapper workingDaysRepository;
+    private final FineractProperties fineractProperties;
+    private final MultiNodeCacheManager multiNodeCacheManager;
+    private final Optional<MeterRegistry> meterRegistry;
+
+    private final ConcurrentMap<String, TenantCalendar> calendars = new ConcurrentHashMap<>();
+    // bumped on every invalidation, a calendar built concurrently with a change is not kept
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    @Override
+    public void afterPropertiesSet() {
+        multiNodeCacheManager.registerExternalCache(CACHE_NAME, this::invalidateRemotely);
+        meterRegistry.ifPresent(registry -> {
+            FunctionCounter.builder(METRIC_PREFIX + ".requests", hits, LongAdder::sum).tag("result", "hit").register(registry);
+            FunctionCounter.builder(METRIC_PREFIX + ".requests", misses, LongAdder::sum).tag("result", "miss").register(registry);
+            Gauge.builder(METRIC_PREFIX + ".size", this, BusinessCalendarCache::getSize)
+                    .description("Office calendars held for all tenants").register(registry);
+        });
+    }
+
+    /**
+     * @return the calendar of the given office of the current tenant, or null when the cache is disabled
+     */
+    public BusinessCalendarIndex getIndex(Long officeId) {
+        FineractProperties.FineractLoanBusinessCalendarProperties properties = getProperties();
+        if (properties == null || officeId == null) {
+            return null;
+        }
+        LocalDate horizonStart = DateUtils.getBusinessLocalDate().minusDays(properties.getPastDays());
+        TenantCalendar tenantCalendar = calendars.computeIfAbsent(ThreadLocalContextUtil.getTenant().getTenantIdentifier(),
+                tenant -> new TenantCalendar());
+        BuiltCalendar built = tenantCalendar.current(properties.getTimeToLive(), horizonStart);
+        BusinessCalendarIndex index = built == null ? null : built.offices().get(officeId);
+        if (index != null) {
+            hits.increment();
+            return index;
+        }
+        synchronized (tenantCalendar) {
+            long generationAtStart = generation.get();
+            built = tenantCalendar.current(properties.getTimeToLive(), horizonStart);
+            if (built == null) {
+                WorkingDaysCalendar workingDays = BusinessCalendarIndex.buildWorkingDays(workingDaysRepository.findOne(), horizonStart,
+                        properties.getPastDays() + properties.getHorizonDays());
+                built = new BuiltCalendar(workingDays, System.nanoTime(), new ConcurrentHashMap<>());
+                if (generation.get() == generationAtStart) {
+                    tenantCalendar.built = built;
+                }
+            }
+            index = built.offices().get(officeId);
+            if (index != null) {
+                hits.increment();
+                return index;
+            }
+            misses.increment();
+            index = BusinessCalendarIndex.build(built.workingDays(),
+                    holidayRepository.findByOfficeIdAndStatus(officeId, HolidayStatusType.ACTIVE.getValue()));
+            if (generation.get() == generationAtStart) {
+                built.offices().put(officeId, index);
+            }
+            log.debug("Built business calendar of office {} with {} holidays", officeId, index.getHolidayCount());
+            return index;
+        }
+    }
+
+    /**
+     * Drops the calendars of the current tenant, right away and again once the surrounding transaction completed, and on
+     * the other nodes once it committed.
+     */
+    public void invalidate() {
+        final String tenantIdentifier = ThreadLocalContextUtil.getTenant().getTenantIdentifier();
+        invalidate(tenantIdentifier);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCompletion(int status) {
+                    invalidate(tenantIdentifier);
+                }
+            });
+        }
+        multiNodeCacheManager.broadcastInvalidation(CACHE_NAME, tenantIdentifier);
+    }
+
+    private void invalidateRemotely(String tenantIdentifier) {
+        if (tenantIdentifier == null) {
+            generation.incrementAndGet();
+            calendars.values().forEach(tenantCalendar -> tenantCalendar.built = null);
+        } else {
+            invalidate(tenantIdentifier);
+        }
+    }
+
+    private void invalidate(String tenantIdentifier) {
+        generation.incrementAndGet();
+        TenantCalendar tenantCalendar = calendars.get(tenantIdentifier);
+        if (tenantCalendar != null) {
+            tenantCalendar.built = null;
+        }
+    }
+
+    private FineractProperties.FineractLoanBusinessCalendarProperties getProperties() {
+        FineractProperties.FineractLoanBusinessCalendarProperties properties = fineractProperties.getLoan().getBusinessCalendar();
+        if (properties == null || properties.getTimeToLive() == null || properties.getTimeToLive().isZero()
+                || properties.getTimeToLive().isNegative() || properties.getPastDays() < 0 || properties.getHorizonDays() <= 0) {
+            return null;
+        }
+        return properties;
+    }
+
+    private double getSize() {
+        return calendars.values().stream().mapToInt(TenantCalendar::size).sum();
+    }
+
+    private static final class TenantCalendar {
+
+        private volatile BuiltCalendar built;
+
+        private BuiltCalendar current(Duration timeToLive, LocalDate horizonStart) {
+            BuiltCalendar current = built;
+            if (current == null || System.nanoTime() - current.builtAt() >= timeToLive.toNanos()
+                    || !current.workingDays().horizonStart().equals(horizonStart)) {
+                return null;
+            }
+            return current;
+        }
+
+        private int size() {
+            BuiltCalendar current = built;
+            return current == null ? 0 : current.offices().size();
+        }
+    }
+
+    private record BuiltCalendar(WorkingDaysCalendar workingDays, long builtAt, Map<Long, BusinessCalendarIndex> offices) {
+    }
+}
@@ -22,6 +22,7 @@ import org.apache.fineract.infrastructure.core.serialization.FromJsonHelper;
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
 import org.apache.fineract.organisation.holiday.data.HolidayDataValidator;
 import org.apache.fineract.organisation.holiday.domain.HolidayRepositoryWrapper;
+import org.apache.fineract.organisation.holiday.service.BusinessCalendarCache;
 import org.apache.fineract.organisation.holiday.service.HolidayReadPlatformService;
 import org.apache.fineract.organisation.holiday.service.HolidayReadPlatformServiceImpl;
 import org.apache.fineract.organisation.holiday.service.HolidayWritePlatformService;
@@ -46,8 +47,9 @@ public class OrganisationHolidayConfiguration {
     @ConditionalOnMissingBean(HolidayWritePlatformService.class)
     public HolidayWritePlatformService holidayWritePlatformService(HolidayDataValidator fromApiJsonDeserializer,
             HolidayRepositoryWrapper holidayRepository, PlatformSecurityContext context, OfficeRepositoryWrapper officeRepositoryWrapper,
-            FromJsonHelper fromApiJsonHelper, WorkingDaysRepositoryWrapper daysRepositoryWrapper) {
+            FromJsonHelper fromApiJsonHelper, WorkingDaysRepositoryWrapper daysRepositoryWrapper,
+            BusinessCalendarCache businessCalendarCache) {
         return new HolidayWritePlatformServiceJpaRepositoryImpl(fromApiJsonDeserializer, holidayRepository, daysRepositoryWrapper, context,
-                officeRepositoryWrapper, fromApiJsonHelper);
+                officeRepositoryWrapper, fromApiJsonHelper, businessCalendarCache);
     }
 }
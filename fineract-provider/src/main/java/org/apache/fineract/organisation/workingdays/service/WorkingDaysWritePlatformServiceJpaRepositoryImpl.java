@@ -27,6 +27,7 @@ import org.apache.fineract.infrastructure.core.api.JsonCommand;
 import org.apache.fineract.infrastructure.core.data.CommandProcessingResult;
 import org.apache.fineract.infrastructure.core.data.CommandProcessingResultBuilder;
 import org.apache.fineract.infrastructure.core.exception.PlatformDataIntegrityException;
+import org.apache.fineract.organisation.holiday.service.BusinessCalendarCache;
 import org.apache.fineract.organisation.workingdays.api.WorkingDaysApiConstants;
 import org.apache.fineract.organisation.workingdays.data.WorkingDayValidator;
 import org.apache.fineract.organisation.workingdays.domain.WorkingDays;
@@ -38,6 +39,7 @@ public class WorkingDaysWritePlatformServiceJpaRepositoryImpl implements Working
 
     private final WorkingDaysRepositoryWrapper daysRepositoryWrapper;
     private final WorkingDayValidator fromApiJsonDeserializer;
+    private final BusinessCalendarCache businessCalendarCache;
 
     @Transactional
     @Override
@@ -54,6 +56,7 @@ public class WorkingDaysWritePlatformServiceJpaRepositoryImpl implements Working
 
             Map<String, Object> changes = workingDays.update(command);
             this.daysRepositoryWrapper.saveAndFlush(workingDays);
+            this.businessCalendarCache.invalidate();
             return new CommandProcessingResultBuilder().withCommandId(command.commandId()).withEntityId(workingDays.getId()).with(changes)
                     .build();
         } catch (final ValidationException e) {
@@ -0,0 +1,168 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.jobs.addperiodicaccrualentries;
+
+import static org.springframework.transaction.TransactionDefinition.PROPAGATION_REQUIRES_NEW;
+
+import java.time.LocalDate;
+import org.apache.fineract.cob.loan.ContextAwareTaskDecorator;
+import org.apache.fineract.cob.loan.LoanLockingService;
+import org.apache.fineract.infrastructure.jobs.service.JobName;
+import org.apache.fineract.infrastructure.springbatch.PropertyService;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanRepository;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanRepositoryWrapper;
+import org.apache.fineract.portfolio.loanaccount.service.LoanAccrualsProcessingService;
+import org.apache.fineract.useradministration.domain.AppUserRepositoryWrapper;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.partition.support.TaskExecutorPartitionHandler;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * "Add Periodic Accrual Transactions" as a locally partitioned job: the active loans are split into id ranges that are
+ * processed by a bounded worker pool, one transaction per chunk. Settings come from the
+ * {@code fineract.partitioned-job} entry of {@link JobName#ADD_PERIODIC_ACCRUAL_ENTRIES}.
+ */
+@Configuration
+public class AddPeriodicAccrualEntriesConfig {
+
+    private static final String JOB_NAME = JobName.ADD_PERIODIC_ACCRUAL_ENTRIES.name();
+
+    @Autowired
+    private JobRepository jobRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private LoanAccrualsProcessingService loanAccrualsProcessingService;
+    @Autowired
+    private LoanRepository loanRepository;
+    @Autowired
+    private LoanRepositoryWrapper loanRepositoryWrapper;
+    @Autowired
+    private LoanLockingService loanLockingService;
+    @Autowired
+    private AppUserRepositoryWrapper userRepository;
+    @Autowired
+    private PropertyService propertyService;
+
+    @Bean
+    public Job addPeriodicAccrualEntriesJob() {
+        return new JobBuilder(JOB_NAME, jobRepository).start(addPeriodicAccrualEntriesStep()).incrementer(new RunIdIncrementer())
+                .listener(addPeriodicAccrualEntriesJobListener()).build();
+    }
+
+    @Bean
+    public AddPeriodicAccrualEntriesJobListener addPeriodicAccrualEntriesJobListener() {
+        return new AddPeriodicAccrualEntriesJobListener(loanLockingService, new TransactionTemplate(transactionManager));
+    }
+
+    @Bean
+    protected Step addPeriodicAccrualEntriesStep() {
+        return new StepBuilder(JOB_NAME, jobRepository) //
+                .partitioner(JOB_NAME + " - Worker", addPeriodicAccrualEntriesPartitioner()) //
+                .partitionHandler(addPeriodicAccrualEntriesPartitionHandler()) //
+                .build();
+    }
+
+    @Bean
+    public TaskExecutorPartitionHandler addPeriodicAccrualEntriesPartitionHandler() {
+        TaskExecutorPartitionHandler partitionHandler = new TaskExecutorPartitionHandler();
+        partitionHandler.setStep(addPeriodicAccrualEntriesWorkerStep());
+        partitionHandler.setTaskExecutor(addPeriodicAccrualEntriesTaskExecutor());
+        return partitionHandler;
+    }
+
+    @Bean
+    public AddPeriodicAccrualEntriesPartitioner addPeriodicAccrualEntriesPartitioner() {
+        return new AddPeriodicAccrualEntriesPartitioner(loanRepositoryWrapper, propertyService);
+    }
+
+    @Bean
+    public Step addPeriodicAccrualEntriesWorkerStep() {
+        AddPeriodicAccrualEntriesStepListener listener = new AddPeriodicAccrualEntriesStepListener(userRepository);
+        return new StepBuilder(JOB_NAME + " - Worker", jobRepository) //
+                .<Long, Loan>chunk(propertyService.getChunkSize(JOB_NAME), transactionManager) //
+                .reader(addPeriodicAccrualEntriesItemReader()) //
+                .processor(addPeriodicAccrualEntriesItemProcessor(null)) //
+                .writer(addPeriodicAccrualEntriesItemWriter()) //
+                .faultTolerant() //
+                .retry(Exception.class) //
+                .retryLimit(propertyService.getRetryLimit(JOB_NAME)) //
+                .skip(Exception.class) //
+                .skipLimit(propertyService.getSkipLimit(JOB_NAME)) //
+                .listener((SkipListener<Long, Loan>) listener) //
+                .listener((StepExecutionListener) listener) //
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public AddPeriodicAccrualEntriesItemReader addPeriodicAccrualEntriesItemReader() {
+        TransactionTemplate lockTransactionTemplate = new TransactionTemplate(transactionManager);
+        lockTransactionTemplate.setPropagationBehavior(PROPAGATION_REQUIRES_NEW);
+        return new AddPeriodicAccrualEntriesItemReader(loanAccrualsProcessingService, loanLockingService, lockTransactionTemplate,
+                propertyService.getChunkSize(JOB_NAME));
+    }
+
+    @Bean
+    @StepScope
+    public AddPeriodicAccrualEntriesItemProcessor addPeriodicAccrualEntriesItemProcessor(
+            @Value("#{stepExecutionContext['" + AddPeriodicAccrualEntriesPartitioner.TILL_DATE + "']}") String tillDate) {
+        return new AddPeriodicAccrualEntriesItemProcessor(loanRepositoryWrapper, loanLockingService, loanAccrualsProcessingService,
+                LocalDate.parse(tillDate));
+    }
+
+    @Bean
+    public AddPeriodicAccrualEntriesItemWriter addPeriodicAccrualEntriesItemWriter() {
+        AddPeriodicAccrualEntriesItemWriter writer = new AddPeriodicAccrualEntriesItemWriter(loanLockingService);
+        writer.setRepository(loanRepository);
+        return writer;
+    }
+
+    @Bean
+    public TaskExecutor addPeriodicAccrualEntriesTaskExecutor() {
+        int poolSize = propertyService.getThreadPoolMaxPoolSize(JOB_NAME);
+        if (poolSize <= 1) {
+            return new SyncTaskExecutor();
+        }
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setThreadNamePrefix("Accrual-Thread-");
+        taskExecutor.setCorePoolSize(poolSize);
+        taskExecutor.setMaxPoolSize(poolSize);
+        taskExecutor.setAllowCoreThreadTimeOut(true);
+        taskExecutor.setTaskDecorator(new ContextAwareTaskDecorator());
+        return taskExecutor;
+    }
+}
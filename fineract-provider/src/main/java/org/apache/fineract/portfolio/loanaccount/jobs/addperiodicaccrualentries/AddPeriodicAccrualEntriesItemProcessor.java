@@ -0,0 +1,52 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.jobs.addperiodicaccrualentries;
+
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.cob.loan.LoanLockingService;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanRepositoryWrapper;
+import org.apache.fineract.portfolio.loanaccount.service.LoanAccrualsProcessingService;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.lang.NonNull;
+
+@Slf4j
+@RequiredArgsConstructor
+public class AddPeriodicAccrualEntriesItemProcessor implements ItemProcessor<Long, Loan> {
+
+    private final LoanRepositoryWrapper loanRepositoryWrapper;
+    private final LoanLockingService loanLockingService;
+    private final LoanAccrualsProcessingService loanAccrualsProcessingService;
+    private final LocalDate tillDate;
+
+    @Override
+    public Loan process(@NonNull Long loanId) throws Exception {
+        if (loanLockingService.findAllByLoanIdInAndLockOwner(List.of(loanId), AddPeriodicAccrualEntriesItemReader.LOCK_OWNER).isEmpty()) {
+            // the lock was taken over by (inline) COB, which accrues the loan
+            log.debug("Skipping periodic accrual for loan {}, its lock was taken over", loanId);
+            return null;
+        }
+        Loan loan = loanRepositoryWrapper.findOneWithNotFoundDetection(loanId);
+        loanAccrualsProcessingService.addPeriodicAccruals(tillDate, loan);
+        return loan;
+    }
+}
@@ -0,0 +1,158 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.jobs.addperiodicaccrualentries;
+
+import com.google.common.collect.Lists;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.cob.domain.LoanAccountLock;
+import org.apache.fineract.cob.domain.LockOwner;
+import org.apache.fineract.cob.loan.LoanLockingService;
+import org.apache.fineract.portfolio.loanaccount.service.LoanAccrualsProcessingService;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.lang.NonNull;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Reads the ids of the loans of one id range that need periodic accrual, one page at a time. Every page is locked with
+ * {@link LockOwner#LOAN_PERIODIC_ACCRUAL_PROCESSING} in its own transaction before it is handed out, like Loan COB locks
+ * its partitions. Loans locked by Loan COB (or inline COB) are left out, the COB business step accrues them. With the
+ * SKIP LOCKED claim enabled so are loans a concurrent transaction is just locking, otherwise a lock placed concurrently
+ * fails the claim with a duplicate key and the page is claimed again in a new transaction. Locks of this job left
+ * behind by an interrupted run are released when the job starts.
+ *
+ * The writer releases the locks of the written loans with every chunk, the locks of loans that were skipped or not
+ * written because the step failed are released when the reader is closed.
+ *
+ * The id of the last loan of each committed chunk is saved in the step execution context, so a restarted partition
+ * continues after it.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class AddPeriodicAccrualEntriesItemReader implements ItemStreamReader<Long> {
+
+    public static final String LAST_READ_LOAN_ID = "lastReadLoanId";
+    public static final LockOwner LOCK_OWNER = LockOwner.LOAN_PERIODIC_ACCRUAL_PROCESSING;
+    private static final int NUMBER_OF_CLAIM_ATTEMPTS = 3;
+
+    private final LoanAccrualsProcessingService loanAccrualsProcessingService;
+    private final LoanLockingService loanLockingService;
+    // propagation REQUIRES_NEW, the locks must be visible to COB before the chunk transaction commits
+    private final TransactionTemplate lockTransactionTemplate;
+    private final int pageSize;
+
+    private final Deque<Long> page = new ArrayDeque<>();
+    private final Set<Long> lockedLoanIds = new LinkedHashSet<>();
+    private LocalDate tillDate;
+    private Long maxLoanId;
+    private Long lastFetchedLoanId;
+    private Long lastReadLoanId;
+    private boolean exhausted;
+
+    @Override
+    public void open(@NonNull ExecutionContext executionContext) {
+        tillDate = LocalDate.parse(executionContext.getString(AddPeriodicAccrualEntriesPartitioner.TILL_DATE));
+        maxLoanId = executionContext.getLong(AddPeriodicAccrualEntriesPartitioner.MAX_LOAN_ID);
+        if (executionContext.containsKey(LAST_READ_LOAN_ID)) {
+            lastReadLoanId = executionContext.getLong(LAST_READ_LOAN_ID);
+        } else {
+            lastReadLoanId = executionContext.getLong(AddPeriodicAccrualEntriesPartitioner.MIN_LOAN_ID) - 1;
+        }
+        lastFetchedLoanId = lastReadLoanId;
+        page.clear();
+        lockedLoanIds.clear();
+        exhausted = false;
+    }
+
+    @Override
+    public Long read() {
+        while (page.isEmpty() && !exhausted) {
+            fetchNextPage();
+        }
+        Long loanId = page.poll();
+        if (loanId != null) {
+            lastReadLoanId = loanId;
+        }
+        return loanId;
+    }
+
+    @Override
+    public void update(@NonNull ExecutionContext executionContext) {
+        executionContext.putLong(LAST_READ_LOAN_ID, lastReadLoanId);
+    }
+
+    @Override
+    public void close() {
+        if (lockedLoanIds.isEmpty()) {
+            return;
+        }
+        List<Long> loanIds = new ArrayList<>(lockedLoanIds);
+        lockedLoanIds.clear();
+        lockTransactionTemplate.executeWithoutResult(status -> Lists.partition(loanIds, pageSize)
+                .forEach(partition -> loanLockingService.deleteByLoanIdInAndLockOwner(partition, LOCK_OWNER)));
+    }
+
+    private void fetchNextPage() {
+        List<Long> loanIds = loanAccrualsProcessingService.retrieveLoanIdsForPeriodicAccrual(tillDate, lastFetchedLoanId, maxLoanId,
+                pageSize);
+        if (loanIds.isEmpty()) {
+            exhausted = true;
+            return;
+        }
+        // the page only counts as fetched once it is claimed, a failed claim is fetched again by the next read
+        Set<Long> claimedLoanIds = claimLocks(loanIds);
+        lastFetchedLoanId = loanIds.get(loanIds.size() - 1);
+        exhausted = loanIds.size() < pageSize;
+        if (claimedLoanIds.size() < loanIds.size()) {
+            log.debug("Skipping periodic accrual for {} loans locked by COB or a concurrent transaction",
+                    loanIds.size() - claimedLoanIds.size());
+        }
+        loanIds.stream().filter(claimedLoanIds::contains).forEach(loanId -> {
+            lockedLoanIds.add(loanId);
+            page.add(loanId);
+        });
+    }
+
+    private Set<Long> claimLocks(List<Long> loanIds) {
+        for (int attempt = 1;; attempt++) {
+            try {
+                return lockTransactionTemplate.execute(status -> {
+                    loanLockingService.claimLocks(loanIds, LOCK_OWNER);
+                    return loanLockingService.findAllByLoanIdInAndLockOwner(loanIds, LOCK_OWNER).stream().map(LoanAccountLock::getLoanId)
+                            .collect(Collectors.toSet());
+                });
+            } catch (DataIntegrityViolationException e) {
+                if (attempt >= NUMBER_OF_CLAIM_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("Loans were locked concurrently while claiming them for periodic accrual, claiming them again", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.jobs.addperiodicaccrualentries;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.cob.loan.LoanLockingService;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.lang.NonNull;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Releases the locks an interrupted run of the job left behind before the job starts, so neither COB nor this run has
+ * to wait for them. Only one run of the job is started at a time, every accrual lock found here is stale.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class AddPeriodicAccrualEntriesJobListener implements JobExecutionListener {
+
+    private final LoanLockingService loanLockingService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void beforeJob(@NonNull JobExecution jobExecution) {
+        log.debug("Releasing the locks left behind by previous periodic accrual runs");
+        transactionTemplate
+                .executeWithoutResult(status -> loanLockingService.deleteByLockOwner(AddPeriodicAccrualEntriesItemReader.LOCK_OWNER));
+    }
+}
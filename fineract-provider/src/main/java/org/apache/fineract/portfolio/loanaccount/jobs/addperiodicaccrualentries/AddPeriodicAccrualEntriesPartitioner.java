@@ -0,0 +1,78 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.jobs.addperiodicaccrualentries;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.jobs.service.JobName;
+import org.apache.fineract.infrastructure.springbatch.PropertyService;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanRepositoryWrapper;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanStatus;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.lang.NonNull;
+
+/**
+ * Splits the active loans into id ranges of {@code partition-size} ids. The business date is captured once, so every
+ * partition (and a restarted partition) accrues till the same date.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class AddPeriodicAccrualEntriesPartitioner implements Partitioner {
+
+    public static final String PARTITION_PREFIX = "partition_";
+    public static final String PARTITION_KEY = "partition";
+    public static final String MIN_LOAN_ID = "minLoanId";
+    public static final String MAX_LOAN_ID = "maxLoanId";
+    public static final String TILL_DATE = "tillDate";
+
+    private final LoanRepositoryWrapper loanRepositoryWrapper;
+    private final PropertyService propertyService;
+
+    @NonNull
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+        Long minLoanId = loanRepositoryWrapper.findMinLoanIdByStatus(LoanStatus.ACTIVE);
+        Long maxLoanId = loanRepositoryWrapper.findMaxLoanIdByStatus(LoanStatus.ACTIVE);
+        if (minLoanId == null || maxLoanId == null) {
+            log.info("AddPeriodicAccrualEntriesPartitioner found no active loans, no partitions were created.");
+            return partitions;
+        }
+        LocalDate tillDate = DateUtils.getBusinessLocalDate();
+        long partitionSize = Math.max(1, propertyService.getPartitionSize(JobName.ADD_PERIODIC_ACCRUAL_ENTRIES.name()));
+        int partitionNo = 0;
+        for (long from = minLoanId; from <= maxLoanId; from += partitionSize) {
+            String partitionName = PARTITION_PREFIX + partitionNo++;
+            ExecutionContext executionContext = new ExecutionContext();
+            executionContext.putLong(MIN_LOAN_ID, from);
+            executionContext.putLong(MAX_LOAN_ID, Math.min(from + partitionSize - 1, maxLoanId));
+            executionContext.putString(TILL_DATE, tillDate.toString());
+            executionContext.putString(PARTITION_KEY, partitionName);
+            partitions.put(partitionName, executionContext);
+        }
+        log.info("AddPeriodicAccrualEntriesPartitioner created {} partitions for loan ids {} - {} using partition size {}.",
+                partitions.size(), minLoanId, maxLoanId, partitionSize);
+        return partitions;
+    }
+}
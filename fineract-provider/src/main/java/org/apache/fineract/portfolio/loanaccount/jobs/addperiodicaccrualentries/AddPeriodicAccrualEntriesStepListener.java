@@ -0,0 +1,81 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.jobs.addperiodicaccrualentries;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
+import org.apache.fineract.useradministration.domain.AppUser;
+import org.apache.fineract.useradministration.domain.AppUserRepositoryWrapper;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Runs the worker step as the system user and logs the loans skipped after the retries were exhausted. A partition with
+ * skipped loans ends as failed, so the job reports the failure like the former single transaction implementation did.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class AddPeriodicAccrualEntriesStepListener implements StepExecutionListener, SkipListener<Long, Loan> {
+
+    private final AppUserRepositoryWrapper userRepository;
+    private final ThreadLocal<Authentication> previousAuthentication = new ThreadLocal<>();
+
+    @Override
+    public void beforeStep(@NonNull StepExecution stepExecution) {
+        previousAuthentication.set(SecurityContextHolder.getContext().getAuthentication());
+        AppUser user = userRepository.fetchSystemUser();
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken(user, user.getPassword(), user.getAuthorities()));
+    }
+
+    @Override
+    public ExitStatus afterStep(@NonNull StepExecution stepExecution) {
+        SecurityContextHolder.getContext().setAuthentication(previousAuthentication.get());
+        previousAuthentication.remove();
+        if (stepExecution.getSkipCount() > 0) {
+            stepExecution.setStatus(BatchStatus.FAILED);
+            return ExitStatus.FAILED.addExitDescription(
+                    "Failed to add periodic accrual for " + stepExecution.getSkipCount() + " loans in " + stepExecution.getStepName());
+        }
+        return stepExecution.getExitStatus();
+    }
+
+    @Override
+    public void onSkipInRead(@NonNull Throwable t) {
+        log.error("Failed to read loans for periodic accrual", t);
+    }
+
+    @Override
+    public void onSkipInProcess(@NonNull Long loanId, @NonNull Throwable t) {
+        log.error("Failed to add accrual for loan {}", loanId, t);
+    }
+
+    @Override
+    public void onSkipInWrite(@NonNull Loan loan, @NonNull Throwable t) {
+        log.error("Failed to add accrual for loan {}", loan.getId(), t);
+    }
+}
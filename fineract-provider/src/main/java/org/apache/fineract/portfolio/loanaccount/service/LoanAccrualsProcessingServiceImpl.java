@@ -158,6 +158,16 @@ public class LoanAccrualsProcessingServiceImpl implements LoanAccrualsProcessing
         addAccruals(loan, tillDate, true, false, true, chargeOnDueDate);
     }
 
+    /**
+     * method retrieves the next page of loan ids for the partitioned batch job "Add Periodic Accrual Transactions"
+     */
+    @Override
+    public List<Long> retrieveLoanIdsForPeriodicAccrual(@NotNull LocalDate tillDate, @NotNull Long afterLoanId, @NotNull Long maxLoanId,
+            int limit) {
+        return loanRepositoryWrapper.findLoanIdsForPeriodicAccrual(AccountingRuleType.ACCRUAL_PERIODIC, tillDate, !isChargeOnDueDate(),
+                afterLoanId, maxLoanId, limit);
+    }
+
     /**
      * method adds accrual for batch job "Add Accrual Transactions"
      */
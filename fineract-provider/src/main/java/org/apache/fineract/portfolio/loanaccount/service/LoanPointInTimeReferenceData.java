@@ -0,0 +1,81 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.organisation.holiday.domain.Holiday;
+import org.apache.fineract.organisation.workingdays.domain.WorkingDays;
+import org.apache.fineract.portfolio.loanaccount.data.HolidayDetailDTO;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
+
+/**
+ * Reference data shared by every loan of one batch of a bulk point-in-time retrieval. The holiday related configuration
+ * and the working days are read once, the active holidays once per office. It holds entities of the persistence context
+ * of the batch and is used by the thread calculating the batch only. Each loan gets the holidays the single loan path
+ * would have queried for it (see {@link LoanUtilService#buildScheduleGeneratorDTO(Loan, LocalDate, LocalDate)}).
+ */
+final class LoanPointInTimeReferenceData {
+
+    private final boolean holidayEnabled;
+    private final WorkingDays workingDays;
+    private final boolean allowTransactionsOnHoliday;
+    private final boolean allowTransactionsOnNonWorkingDay;
+    private final Function<Long, List<Holiday>> activeHolidaysLoader;
+    private final Map<Long, List<Holiday>> activeHolidaysByOffice = new HashMap<>();
+
+    LoanPointInTimeReferenceData(boolean holidayEnabled, WorkingDays workingDays, boolean allowTransactionsOnHoliday,
+            boolean allowTransactionsOnNonWorkingDay, Function<Long, List<Holiday>> activeHolidaysLoader) {
+        this.holidayEnabled = holidayEnabled;
+        this.workingDays = workingDays;
+        this.allowTransactionsOnHoliday = allowTransactionsOnHoliday;
+        this.allowTransactionsOnNonWorkingDay = allowTransactionsOnNonWorkingDay;
+        this.activeHolidaysLoader = activeHolidaysLoader;
+    }
+
+    HolidayDetailDTO holidayDetailsFor(Loan loan) {
+        return holidayDetailsFor(loan.getOfficeId(), loan.getDisbursementDate());
+    }
+
+    HolidayDetailDTO holidayDetailsFor(Long officeId, LocalDate disbursementDate) {
+        return new HolidayDetailDTO(holidayEnabled, holidaysFor(officeId, disbursementDate), workingDays, allowTransactionsOnHoliday,
+                allowTransactionsOnNonWorkingDay);
+    }
+
+    private List<Holiday> holidaysFor(Long officeId, LocalDate disbursementDate) {
+        List<Holiday> holidays = new ArrayList<>();
+        if (disbursementDate == null) {
+            // the query of the single loan path does not match anything for a null date either
+            return holidays;
+        }
+        for (Holiday holiday : activeHolidaysByOffice.computeIfAbsent(officeId, activeHolidaysLoader)) {
+            // same predicate as HolidayRepository#findByOfficeIdAndGreaterThanDate
+            if (!DateUtils.isBefore(holiday.getFromDate(), disbursementDate)
+                    || !DateUtils.isBefore(holiday.getToDate(), disbursementDate)) {
+                holidays.add(holiday);
+            }
+        }
+        return holidays;
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.fineract.portfolio.loanaccount.service;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
 import org.apache.fineract.portfolio.loanaccount.data.LoanPointInTimeData;
 
 public interface LoanPointInTimeService {
@@ -27,4 +28,9 @@ public interface LoanPointInTimeService {
     LoanPointInTimeData retrieveAt(Long loanId, LocalDate date);
 
     List<LoanPointInTimeData> retrieveAt(List<Long> loanIds, LocalDate date);
+
+    /**
+     * Streams the loans as they were on the given date to the consumer, in the order of the given ids.
+     */
+    void retrieveAt(List<Long> loanIds, LocalDate date, Consumer<LoanPointInTimeData> consumer);
 }
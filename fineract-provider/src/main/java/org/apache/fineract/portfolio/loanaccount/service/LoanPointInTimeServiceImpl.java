@@ -18,37 +18,83 @@
  */
 package org.apache.fineract.portfolio.loanaccount.service;
 
+import com.google.common.collect.Lists;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.FlushModeType;
 import java.time.LocalDate;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.data.ApiParameterError;
 import org.apache.fineract.infrastructure.core.data.DataValidatorBuilder;
 import org.apache.fineract.infrastructure.core.exception.PlatformApiDataValidationException;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.organisation.holiday.domain.HolidayRepository;
+import org.apache.fineract.organisation.holiday.domain.HolidayStatusType;
+import org.apache.fineract.organisation.workingdays.domain.WorkingDaysRepositoryWrapper;
+import org.apache.fineract.portfolio.loanaccount.data.HolidayDetailDTO;
+import org.apache.fineract.portfolio.loanaccount.data.LoanIdAndVersion;
 import org.apache.fineract.portfolio.loanaccount.data.LoanPointInTimeData;
 import org.apache.fineract.portfolio.loanaccount.data.ScheduleGeneratorDTO;
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.support.NoOpCache;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.TransactionTemplate;
 
+/**
+ * Calculates loans as they were on a given date. Bulk retrievals load the loans in batches of
+ * {@code fineract.loan.point-in-time.batch-size}. Each batch is recalculated on one of the
+ * {@code fineract.loan.point-in-time.thread-pool-size} workers shared by all requests, in its own read-only transaction;
+ * the request itself runs without a transaction. Results are cached per loan, date and loan version in the
+ * {@value #CACHE_NAME} cache, when caching is enabled.
+ */
 @Service
 @RequiredArgsConstructor
 @Transactional
+@CacheConfig(cacheNames = LoanPointInTimeServiceImpl.CACHE_NAME)
 public class LoanPointInTimeServiceImpl implements LoanPointInTimeService {
 
+    public static final String CACHE_NAME = "loanPointInTime";
+    public static final String POINT_IN_TIME_EXECUTOR_BEAN_NAME = "loanPointInTimeExecutor";
+
     private final LoanUtilService loanUtilService;
     private final LoanScheduleService loanScheduleService;
     private final LoanAssembler loanAssembler;
     private final LoanPointInTimeData.Mapper dataMapper;
     private final EntityManager entityManager;
+    private final LoanRepository loanRepository;
+    private final HolidayRepository holidayRepository;
+    private final WorkingDaysRepositoryWrapper workingDaysRepository;
+    private final ConfigurationDomainService configurationDomainService;
+    private final PlatformTransactionManager transactionManager;
+    private final FineractProperties fineractProperties;
+    @Qualifier("runtimeDelegatingCacheManager")
+    private final CacheManager cacheManager;
+    @Qualifier(POINT_IN_TIME_EXECUTOR_BEAN_NAME)
+    private final ThreadPoolTaskExecutor pointInTimeExecutor;
 
     @Override
     public LoanPointInTimeData retrieveAt(Long loanId, LocalDate date) {
@@ -61,15 +107,7 @@ public class LoanPointInTimeServiceImpl implements LoanPointInTimeService {
         HashMap<BusinessDateType, LocalDate> originalBDs = ThreadLocalContextUtil.getBusinessDates();
         try {
             ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, date)));
-
-            Loan loan = loanAssembler.assembleFrom(loanId);
-            removeAfterDateTransactions(loan, date);
-            removeAfterDateCharges(loan, date);
-
-            ScheduleGeneratorDTO scheduleGeneratorDTO = loanUtilService.buildScheduleGeneratorDTO(loan, null, null);
-            loanScheduleService.recalculateSchedule(loan, scheduleGeneratorDTO);
-
-            return dataMapper.map(loan);
+            return retrieveBatchAt(List.of(loanId), date, null).get(0);
         } finally {
             entityManager.clear();
             TransactionInterceptor.currentTransactionStatus().setRollbackOnly();
@@ -77,6 +115,84 @@ public class LoanPointInTimeServiceImpl implements LoanPointInTimeService {
         }
     }
 
+    private List<LoanPointInTimeData> retrieveBatchAt(List<Long> loanIds, LocalDate date, LoanPointInTimeReferenceData referenceData) {
+        Cache cache = getCache();
+        Collection<Long> distinctLoanIds = new LinkedHashSet<>(loanIds);
+        Map<Long, Integer> versions = cache == null ? Map.of() : findVersions(distinctLoanIds);
+        Map<Long, LoanPointInTimeData> results = new HashMap<>();
+        List<Long> loanIdsToCalculate = new ArrayList<>();
+        for (Long loanId : distinctLoanIds) {
+            Integer version = versions.get(loanId);
+            LoanPointInTimeData cached = version == null ? null : cache.get(cacheKey(loanId, date, version), LoanPointInTimeData.class);
+            if (cached != null) {
+                results.put(loanId, cached);
+            } else {
+                loanIdsToCalculate.add(loanId);
+            }
+        }
+
+        if (!loanIdsToCalculate.isEmpty()) {
+            Map<Long, Loan> loans = new HashMap<>();
+            for (Loan loan : loanRepository.findAllByIdInForCOB(loanIdsToCalculate)) {
+                loans.put(loan.getId(), loan);
+            }
+            for (Long loanId : loanIdsToCalculate) {
+                Loan loan = loans.get(loanId);
+                if (loan == null) {
+                    // fails with the usual not found error
+                    loan = loanAssembler.assembleFrom(loanId);
+                } else {
+                    loan.initializeLazyCollections();
+                }
+                results.put(loanId, calculateAt(loan, date, referenceData));
+            }
+            if (cache != null) {
+                cacheResults(cache, loanIdsToCalculate, date, versions, results);
+            }
+        }
+        return loanIds.stream().map(results::get).toList();
+    }
+
+    private LoanPointInTimeData calculateAt(Loan loan, LocalDate date, LoanPointInTimeReferenceData referenceData) {
+        removeAfterDateTransactions(loan, date);
+        removeAfterDateCharges(loan, date);
+
+        HolidayDetailDTO holidayDetails = referenceData == null ? null : referenceData.holidayDetailsFor(loan);
+        ScheduleGeneratorDTO scheduleGeneratorDTO = loanUtilService.buildScheduleGeneratorDTO(loan, null, null, holidayDetails);
+        loanScheduleService.recalculateSchedule(loan, scheduleGeneratorDTO);
+
+        return dataMapper.map(loan);
+    }
+
+    private void cacheResults(Cache cache, List<Long> loanIds, LocalDate date, Map<Long, Integer> versions,
+            Map<Long, LoanPointInTimeData> results) {
+        Map<Long, Integer> versionsAfterCalculation = findVersions(loanIds);
+        for (Long loanId : loanIds) {
+            Integer version = versions.get(loanId);
+            // a loan modified while it was calculated may have been read in either state, it is not cached
+            if (version != null && version.equals(versionsAfterCalculation.get(loanId))) {
+                cache.put(cacheKey(loanId, date, version), results.get(loanId));
+            }
+        }
+    }
+
+    private Cache getCache() {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        return cache instanceof NoOpCache ? null : cache;
+    }
+
+    private Map<Long, Integer> findVersions(Collection<Long> loanIds) {
+        Map<Long, Integer> versions = new HashMap<>();
+        for (LoanIdAndVersion loanIdAndVersion : loanRepository.findVersionsByIdIn(loanIds)) {
+            versions.put(loanIdAndVersion.getId(), loanIdAndVersion.getVersion());
+        }
+        return versions;
+    }
+
+    private static String cacheKey(Long loanId, LocalDate date, Integer version) {
+        return ThreadLocalContextUtil.getTenant().getTenantIdentifier() + "_" + loanId + "_" + date + "_" + version;
+    }
+
     private void removeAfterDateCharges(Loan loan, LocalDate date) {
         loan.removeCharges(c -> DateUtils.isAfter(c.getEffectiveDueDate(), date));
     }
@@ -94,13 +210,84 @@ public class LoanPointInTimeServiceImpl implements LoanPointInTimeService {
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<LoanPointInTimeData> retrieveAt(List<Long> loanIds, LocalDate date) {
         validateBulkRetrieval(loanIds, date);
-        List<LoanPointInTimeData> result = loanIds.stream().map(loanId -> retrieveAt(loanId, date)).toList();
-        TransactionInterceptor.currentTransactionStatus().setRollbackOnly();
+        List<LoanPointInTimeData> result = new ArrayList<>(loanIds.size());
+        retrieveAt(loanIds, date, result::add);
         return result;
     }
 
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void retrieveAt(List<Long> loanIds, LocalDate date, Consumer<LoanPointInTimeData> consumer) {
+        validateBulkRetrieval(loanIds, date);
+        FineractProperties.FineractLoanPointInTimeProperties properties = fineractProperties.getLoan().getPointInTime();
+        List<List<Long>> batches = Lists.partition(loanIds, Math.max(1, properties.getBatchSize()));
+        int parallelism = Math.min(Math.max(1, properties.getThreadPoolSize()), batches.size());
+
+        // every batch runs in a read-only transaction of its own, nothing else holds a connection meanwhile
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        if (parallelism == 1) {
+            for (List<Long> batch : batches) {
+                retrieveBatchInNewTransaction(readOnlyTransaction, batch, date).forEach(consumer);
+            }
+            return;
+        }
+        // batches are handed to the consumer in the requested order, at most two per worker are kept in memory
+        Deque<Future<List<LoanPointInTimeData>>> pendingBatches = new ArrayDeque<>();
+        for (List<Long> batch : batches) {
+            if (pendingBatches.size() == parallelism * 2) {
+                awaitBatch(pendingBatches.poll()).forEach(consumer);
+            }
+            pendingBatches.add(pointInTimeExecutor.submit(() -> retrieveBatchInNewTransaction(readOnlyTransaction, batch, date)));
+        }
+        while (!pendingBatches.isEmpty()) {
+            awaitBatch(pendingBatches.poll()).forEach(consumer);
+        }
+    }
+
+    private List<LoanPointInTimeData> retrieveBatchInNewTransaction(TransactionTemplate readOnlyTransaction, List<Long> loanIds,
+            LocalDate date) {
+        // Interest is always calculated against the current date of the system so we need to roll time back
+        HashMap<BusinessDateType, LocalDate> originalBDs = ThreadLocalContextUtil.getBusinessDates();
+        try {
+            ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, date)));
+            // whatever we modify on the loans is not going to be propagated to the DB, the persistence context of the
+            // batch is discarded together with its transaction
+            return readOnlyTransaction.execute(status -> {
+                status.setRollbackOnly();
+                entityManager.setFlushMode(FlushModeType.COMMIT);
+                // the reference data holds entities of the persistence context of this batch, it is not shared
+                return retrieveBatchAt(loanIds, date, loadReferenceData());
+            });
+        } finally {
+            ThreadLocalContextUtil.setBusinessDates(originalBDs);
+        }
+    }
+
+    private LoanPointInTimeReferenceData loadReferenceData() {
+        return new LoanPointInTimeReferenceData(configurationDomainService.isRescheduleRepaymentsOnHolidaysEnabled(),
+                workingDaysRepository.findOne(), configurationDomainService.allowTransactionsOnHolidayEnabled(),
+                configurationDomainService.allowTransactionsOnNonWorkingDayEnabled(),
+                officeId -> holidayRepository.findByOfficeIdAndStatus(officeId, HolidayStatusType.ACTIVE.getValue()));
+    }
+
+    private static List<LoanPointInTimeData> awaitBatch(Future<List<LoanPointInTimeData>> batch) {
+        try {
+            return batch.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a point in time batch", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
     private void validateBulkRetrieval(List<Long> loanIds, LocalDate date) {
         List<ApiParameterError> dataValidationErrors = new ArrayList<>();
         DataValidatorBuilder baseDataValidator = new DataValidatorBuilder(dataValidationErrors).resource("loan");
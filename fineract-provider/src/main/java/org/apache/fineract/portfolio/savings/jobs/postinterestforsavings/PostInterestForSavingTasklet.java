@@ -20,205 +20,310 @@ package org.apache.fineract.portfolio.savings.jobs.postinterestforsavings;
 
 import static org.apache.fineract.portfolio.savings.domain.SavingsAccountStatusType.ACTIVE;
 
-import java.util.ArrayDeque;
+import com.google.common.collect.Lists;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Queue;
-import java.util.concurrent.Callable;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.collections4.CollectionUtils;
 import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
-import org.apache.fineract.infrastructure.core.config.TaskExecutorConstant;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.domain.FineractContext;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.jobs.exception.JobExecutionException;
 import org.apache.fineract.portfolio.savings.data.SavingsAccountData;
 import org.apache.fineract.portfolio.savings.service.SavingsAccountReadPlatformService;
 import org.apache.fineract.portfolio.savings.service.SavingsSchedularInterestPosterTask;
 import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.repeat.RepeatStatus;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.ApplicationContext;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
+/**
+ * Posts savings interest as a producer/consumer pipeline. The tasklet thread pages through the active accounts by id
+ * (keyset pagination) and puts batches of {@code batch-size} accounts into a bounded queue, blocking while the queue is
+ * full. A dedicated pool of {@code thread-pool-size} workers posts each batch in its own transaction. The highest
+ * account id below which every batch was posted is written to the step execution context as the pages complete, a
+ * restarted execution continues after it. The producer stops as soon as a worker dies, and the workers stop polling
+ * once the producer is done or aborted, so neither side can block the other forever.
+ */
 @RequiredArgsConstructor
 @Slf4j
 @Component
 public class PostInterestForSavingTasklet implements Tasklet {
 
-    private static final int QUEUE_SIZE = 1;
+    public static final String LAST_POSTED_SAVINGS_ID = "lastPostedSavingsId";
+    private static final String METRIC_PREFIX = "fineract.savings.interest.posting";
+    private static final long QUEUE_POLL_TIMEOUT_MILLIS = 500L;
 
     private final SavingsAccountReadPlatformService savingAccountReadPlatformService;
     private final ConfigurationDomainService configurationDomainService;
     private final ApplicationContext applicationContext;
-    @Qualifier(TaskExecutorConstant.CONFIGURABLE_TASK_EXECUTOR_BEAN_NAME)
-    private final ThreadPoolTaskExecutor taskExecutor;
+    private final FineractProperties fineractProperties;
+    private final Optional<MeterRegistry> meterRegistry;
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final AtomicLong queuedBatches = new AtomicLong();
+    private final AtomicLong pendingAccounts = new AtomicLong();
 
     @Override
     public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
-        final Queue<List<SavingsAccountData>> queue = new ArrayDeque<>();
         final int threadPoolSize = Integer.parseInt((String) chunkContext.getStepContext().getJobParameters().get("thread-pool-size"));
-        taskExecutor.setCorePoolSize(threadPoolSize);
-        taskExecutor.setMaxPoolSize(threadPoolSize);
         final int batchSize = Integer.parseInt((String) chunkContext.getStepContext().getJobParameters().get("batch-size"));
-        final int pageSize = batchSize * threadPoolSize;
-        Long maxSavingsIdInList = 0L;
+        final int queueCapacity = Math.max(1, fineractProperties.getJob().getSavingsInterestPosting().getQueueCapacity());
         final boolean backdatedTxnsAllowedTill = this.configurationDomainService.retrievePivotDateConfig();
+        final StepExecution stepExecution = contribution.getStepExecution();
+        final ExecutionContext executionContext = stepExecution.getExecutionContext();
+        final SavingsInterestPostingCheckpoint checkpoint = new SavingsInterestPostingCheckpoint(
+                executionContext.containsKey(LAST_POSTED_SAVINGS_ID) ? executionContext.getLong(LAST_POSTED_SAVINGS_ID) : 0L);
+        final CheckpointWriter checkpointWriter = new CheckpointWriter(stepExecution, checkpoint);
+        final PostingMetrics metrics = new PostingMetrics();
 
-        long start = System.currentTimeMillis();
-
-        log.debug("Reading Savings Account Data!");
-        List<SavingsAccountData> savingsAccounts = savingAccountReadPlatformService
-                .retrieveAllSavingsDataForInterestPosting(backdatedTxnsAllowedTill, pageSize, ACTIVE.getValue(), maxSavingsIdInList);
-
-        if (savingsAccounts != null && savingsAccounts.size() > 0) {
-            savingsAccounts = Collections.synchronizedList(savingsAccounts);
-            long finish = System.currentTimeMillis();
-            log.debug("Done fetching Data within {} milliseconds", finish - start);
-            queue.add(savingsAccounts);
-
-            if (!CollectionUtils.isEmpty(queue)) {
-                do {
-                    int totalFilteredRecords = savingsAccounts.size();
-                    log.debug("Starting Interest posting - total records - {}", totalFilteredRecords);
-                    List<SavingsAccountData> queueElement = queue.element();
-                    maxSavingsIdInList = queueElement.get(queueElement.size() - 1).getId();
-                    postInterest(queue.remove(), threadPoolSize, backdatedTxnsAllowedTill, pageSize, maxSavingsIdInList, queue);
-                } while (!CollectionUtils.isEmpty(queue));
+        final Pipeline pipeline = new Pipeline(new ArrayBlockingQueue<>(queueCapacity));
+        final List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+        final FineractContext context = ThreadLocalContextUtil.getContext();
+        final ThreadPoolTaskExecutor workers = createWorkerPool(threadPoolSize);
+        try {
+            for (int i = 0; i < threadPoolSize; i++) {
+                pipeline.workerResults
+                        .add(workers.submit(() -> postBatches(pipeline, checkpoint, backdatedTxnsAllowedTill, context, errors, metrics)));
             }
+            produceBatches(pipeline, checkpoint, checkpointWriter, backdatedTxnsAllowedTill, batchSize * threadPoolSize, batchSize,
+                    metrics);
+        } catch (Exception | Error e) {
+            pipeline.abort();
+            throw e;
+        } finally {
+            pipeline.producing.set(false);
+            awaitWorkers(pipeline.workerResults, errors);
+            workers.shutdown();
+            executionContext.putLong(LAST_POSTED_SAVINGS_ID, checkpoint.getLastPostedSavingsId());
         }
-        return RepeatStatus.FINISHED;
-    }
-
-    private void postInterest(List<SavingsAccountData> savingsAccounts, int threadPoolSize, final boolean backdatedTxnsAllowedTill,
-            final int pageSize, Long maxSavingsIdInList, Queue<List<SavingsAccountData>> queue) {
-        List<Callable<Void>> posters = new ArrayList<>();
-        int fromIndex = 0;
-        int size = savingsAccounts.size();
-        int batchSize = (int) Math.ceil((double) size / threadPoolSize);
 
-        if (batchSize == 0) {
-            return;
+        if (pipeline.aborted.get() && errors.isEmpty()) {
+            errors.add(new IllegalStateException("Interest posting worker stopped before all savings accounts were posted"));
         }
-
-        int toIndex = (batchSize > size - 1) ? size : batchSize;
-        while (toIndex < size && savingsAccounts.get(toIndex - 1).getId().equals(savingsAccounts.get(toIndex).getId())) {
-            toIndex++;
+        if (!errors.isEmpty()) {
+            throw new JobExecutionException(errors);
         }
-        boolean lastBatch = false;
-        int loopCount = size / batchSize + 1;
-
-        FineractContext context = ThreadLocalContextUtil.getContext();
+        return RepeatStatus.FINISHED;
+    }
 
-        Callable<Void> fetchData = () -> {
-            try {
-                ThreadLocalContextUtil.init(context);
-                Long maxId = maxSavingsIdInList;
-                if (!queue.isEmpty()) {
-                    maxId = Math.max(maxSavingsIdInList, queue.element().get(queue.element().size() - 1).getId());
-                }
+    private void produceBatches(Pipeline pipeline, SavingsInterestPostingCheckpoint checkpoint, CheckpointWriter checkpointWriter,
+            boolean backdatedTxnsAllowedTill, int pageSize, int batchSize, PostingMetrics metrics) throws InterruptedException {
+        Long afterSavingsId = checkpoint.getLastPostedSavingsId();
+        while (true) {
+            List<Long> savingsIds = savingAccountReadPlatformService.getAccountsIdsByStatusPaged(ACTIVE.getValue(), pageSize,
+                    afterSavingsId);
+            if (savingsIds.isEmpty()) {
+                return;
+            }
+            Long lastSavingsIdOfPage = savingsIds.get(savingsIds.size() - 1);
+            long start = System.nanoTime();
+            List<SavingsAccountData> savingsAccounts = savingAccountReadPlatformService.retrieveSavingsDataForInterestPostingInRange(
+                    backdatedTxnsAllowedTill, ACTIVE.getValue(), afterSavingsId, lastSavingsIdOfPage);
+            metrics.recordFetch(System.nanoTime() - start);
+            log.debug("Fetched {} savings accounts for interest posting in range ({}, {}]", savingsAccounts.size(), afterSavingsId,
+                    lastSavingsIdOfPage);
 
-                while (queue.size() <= QUEUE_SIZE) {
-                    log.debug("Fetching while threads are running!");
-                    List<SavingsAccountData> savingsAccountDataList = Collections.synchronizedList(this.savingAccountReadPlatformService
-                            .retrieveAllSavingsDataForInterestPosting(backdatedTxnsAllowedTill, pageSize, ACTIVE.getValue(), maxId));
-                    if (savingsAccountDataList.isEmpty()) {
-                        break;
-                    }
-                    maxId = savingsAccountDataList.get(savingsAccountDataList.size() - 1).getId();
-                    queue.add(savingsAccountDataList);
+            // the mapper returns one element per account, so an account is never split between two batches
+            List<List<SavingsAccountData>> batches = Lists.partition(savingsAccounts, batchSize);
+            checkpoint.registerPage(lastSavingsIdOfPage, batches.size());
+            pendingAccounts.addAndGet(savingsAccounts.size());
+            for (List<SavingsAccountData> batch : batches) {
+                if (!enqueue(pipeline, new InterestPostingBatch(lastSavingsIdOfPage, batch), checkpointWriter)) {
+                    return;
                 }
-                return null;
-            } finally {
-                ThreadLocalContextUtil.reset();
+                queuedBatches.incrementAndGet();
             }
-        };
-        posters.add(fetchData);
-
-        for (long i = 0; i < loopCount; i++) {
-            List<SavingsAccountData> subList = safeSubList(savingsAccounts, fromIndex, toIndex);
-            SavingsSchedularInterestPosterTask savingsSchedularInterestPosterTask = applicationContext
-                    .getBean(SavingsSchedularInterestPosterTask.class);
-            savingsSchedularInterestPosterTask.setSavingAccounts(subList);
-            savingsSchedularInterestPosterTask.setBackdatedTxnsAllowedTill(backdatedTxnsAllowedTill);
-            savingsSchedularInterestPosterTask.setContext(ThreadLocalContextUtil.getContext());
-
-            posters.add(savingsSchedularInterestPosterTask);
+            checkpointWriter.write();
+            afterSavingsId = lastSavingsIdOfPage;
+        }
+    }
 
-            if (lastBatch) {
-                break;
+    private boolean enqueue(Pipeline pipeline, InterestPostingBatch batch, CheckpointWriter checkpointWriter) throws InterruptedException {
+        while (true) {
+            if (pipeline.workerResults.stream().anyMatch(Future::isDone)) {
+                // workers only return once the producer is done, a finished worker died and may leave the queue full
+                log.error("Interest posting worker stopped, no more savings accounts are queued");
+                pipeline.abort();
+                return false;
             }
-            if (toIndex + batchSize > size - 1) {
-                lastBatch = true;
-            }
-            fromIndex = fromIndex + (toIndex - fromIndex);
-            toIndex = (toIndex + batchSize > size - 1) ? size : toIndex + batchSize;
-            while (toIndex < size && savingsAccounts.get(toIndex - 1).getId().equals(savingsAccounts.get(toIndex).getId())) {
-                toIndex++;
+            if (pipeline.queue.offer(batch, QUEUE_POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                return true;
             }
+            checkpointWriter.write();
         }
+    }
 
-        List<Future<Void>> responses = new ArrayList<>();
-        posters.forEach(poster -> responses.add(taskExecutor.submit(poster)));
-        Long maxId = maxSavingsIdInList;
-        if (!queue.isEmpty()) {
-            maxId = Math.max(maxSavingsIdInList, queue.element().get(queue.element().size() - 1).getId());
+    private Void postBatches(Pipeline pipeline, SavingsInterestPostingCheckpoint checkpoint, boolean backdatedTxnsAllowedTill,
+            FineractContext context, List<Throwable> errors, PostingMetrics metrics) throws InterruptedException {
+        while (!pipeline.aborted.get()) {
+            InterestPostingBatch batch = pipeline.queue.poll(QUEUE_POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            if (batch == null) {
+                // nothing is queued after the producer finished, so an empty queue at that point stays empty
+                if (!pipeline.producing.get() && pipeline.queue.isEmpty()) {
+                    return null;
+                }
+                continue;
+            }
+            queuedBatches.decrementAndGet();
+            boolean success = false;
+            long start = System.nanoTime();
+            try {
+                SavingsSchedularInterestPosterTask poster = applicationContext.getBean(SavingsSchedularInterestPosterTask.class);
+                poster.setSavingAccounts(batch.savingsAccounts());
+                poster.setBackdatedTxnsAllowedTill(backdatedTxnsAllowedTill);
+                poster.setContext(context);
+                poster.call();
+                success = true;
+            } catch (Exception e) {
+                log.error("Interest posting failed for savings accounts {}",
+                        batch.savingsAccounts().stream().map(SavingsAccountData::getId).toList(), e);
+                errors.add(e);
+            } finally {
+                pendingAccounts.addAndGet(-batch.savingsAccounts().size());
+                checkpoint.batchCompleted(batch.lastSavingsIdOfPage(), success);
+                metrics.recordBatch(System.nanoTime() - start, batch.savingsAccounts().size(), success);
+            }
         }
+        return null;
+    }
 
-        while (queue.size() <= QUEUE_SIZE) {
-            log.debug("Fetching while threads are running!..:: this is not supposed to run........");
-            savingsAccounts = Collections.synchronizedList(this.savingAccountReadPlatformService
-                    .retrieveAllSavingsDataForInterestPosting(backdatedTxnsAllowedTill, pageSize, ACTIVE.getValue(), maxId));
-            if (savingsAccounts.isEmpty()) {
-                break;
+    private void awaitWorkers(List<Future<?>> workerResults, List<Throwable> errors) throws InterruptedException {
+        for (Future<?> workerResult : workerResults) {
+            try {
+                workerResult.get();
+            } catch (ExecutionException e) {
+                log.error("Interest posting worker failed", e.getCause());
+                errors.add(e.getCause());
             }
-            maxId = savingsAccounts.get(savingsAccounts.size() - 1).getId();
-            log.debug("Add to the Queue");
-            queue.add(savingsAccounts);
         }
+    }
+
+    private ThreadPoolTaskExecutor createWorkerPool(int threadPoolSize) {
+        ThreadPoolTaskExecutor workers = new ThreadPoolTaskExecutor();
+        workers.setThreadNamePrefix("SavingsInterestPosting-");
+        workers.setCorePoolSize(threadPoolSize);
+        workers.setMaxPoolSize(threadPoolSize);
+        workers.initialize();
+        return workers;
+    }
 
-        checkCompletion(responses);
-        log.debug("Queue size {}", queue.size());
+    private record InterestPostingBatch(Long lastSavingsIdOfPage, List<SavingsAccountData> savingsAccounts) {
     }
 
-    private <T> List<T> safeSubList(List<T> list, int fromIndex, int toIndex) {
-        int size = list.size();
-        if (fromIndex >= size || toIndex <= 0 || fromIndex >= toIndex) {
-            return Collections.emptyList();
+    private final class Pipeline {
+
+        private final BlockingQueue<InterestPostingBatch> queue;
+        private final List<Future<?>> workerResults = new ArrayList<>();
+        private final AtomicBoolean producing = new AtomicBoolean(true);
+        private final AtomicBoolean aborted = new AtomicBoolean();
+
+        private Pipeline(BlockingQueue<InterestPostingBatch> queue) {
+            this.queue = queue;
+        }
+
+        private void abort() {
+            aborted.set(true);
+            int dropped = queue.size();
+            queue.clear();
+            queuedBatches.addAndGet(-dropped);
         }
+    }
+
+    /**
+     * Writes the checkpoint to the job repository in its own transaction whenever it moved, the step transaction only
+     * commits once the whole run is over.
+     */
+    private final class CheckpointWriter {
 
-        fromIndex = Math.max(0, fromIndex);
-        toIndex = Math.min(size, toIndex);
+        private final StepExecution stepExecution;
+        private final SavingsInterestPostingCheckpoint checkpoint;
+        private final TransactionTemplate transactionTemplate;
+        private long writtenSavingsId;
 
-        return list.subList(fromIndex, toIndex);
+        private CheckpointWriter(StepExecution stepExecution, SavingsInterestPostingCheckpoint checkpoint) {
+            this.stepExecution = stepExecution;
+            this.checkpoint = checkpoint;
+            this.transactionTemplate = new TransactionTemplate(transactionManager);
+            this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            this.writtenSavingsId = checkpoint.getLastPostedSavingsId();
+        }
+
+        private void write() {
+            long lastPostedSavingsId = checkpoint.getLastPostedSavingsId();
+            if (lastPostedSavingsId <= writtenSavingsId) {
+                return;
+            }
+            stepExecution.getExecutionContext().putLong(LAST_POSTED_SAVINGS_ID, lastPostedSavingsId);
+            transactionTemplate.executeWithoutResult(status -> jobRepository.updateExecutionContext(stepExecution));
+            writtenSavingsId = lastPostedSavingsId;
+        }
     }
 
-    private void checkCompletion(List<Future<Void>> responses) {
-        try {
-            for (Future<Void> f : responses) {
-                f.get();
+    private final class PostingMetrics {
+
+        private final Timer fetchTimer;
+        private final Timer batchTimer;
+        private final Counter postedCounter;
+        private final Counter failedCounter;
+
+        private PostingMetrics() {
+            MeterRegistry registry = meterRegistry.orElse(null);
+            if (registry == null) {
+                fetchTimer = null;
+                batchTimer = null;
+                postedCounter = null;
+                failedCounter = null;
+                return;
             }
-            boolean allThreadsExecuted;
-            int noOfThreadsExecuted = 0;
-            for (Future<Void> future : responses) {
-                if (future.isDone()) {
-                    noOfThreadsExecuted++;
-                }
+            fetchTimer = Timer.builder(METRIC_PREFIX + ".fetch").description("Time spent fetching one page of savings accounts")
+                    .register(registry);
+            batchTimer = Timer.builder(METRIC_PREFIX + ".batch").description("Time spent posting interest for one batch")
+                    .register(registry);
+            postedCounter = Counter.builder(METRIC_PREFIX + ".accounts").tag("result", "posted").register(registry);
+            failedCounter = Counter.builder(METRIC_PREFIX + ".accounts").tag("result", "failed").register(registry);
+            Gauge.builder(METRIC_PREFIX + ".queue.size", queuedBatches, AtomicLong::get)
+                    .description("Batches waiting for a posting worker").register(registry);
+            Gauge.builder(METRIC_PREFIX + ".lag", pendingAccounts, AtomicLong::get)
+                    .description("Accounts fetched but not posted yet").register(registry);
+        }
+
+        private void recordFetch(long nanos) {
+            if (fetchTimer != null) {
+                fetchTimer.record(nanos, TimeUnit.NANOSECONDS);
             }
-            allThreadsExecuted = noOfThreadsExecuted == responses.size();
-            if (!allThreadsExecuted) {
-                log.error("All threads could not execute.");
+        }
+
+        private void recordBatch(long nanos, int accounts, boolean success) {
+            if (batchTimer == null) {
+                return;
             }
-        } catch (InterruptedException e1) {
-            log.error("Interrupted while interest posting entries", e1);
-        } catch (ExecutionException e2) {
-            log.error("Execution exception while interest posting entries", e2);
+            batchTimer.record(nanos, TimeUnit.NANOSECONDS);
+            (success ? postedCounter : failedCounter).increment(accounts);
         }
     }
 }
@@ -0,0 +1,79 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.jobs.postinterestforsavings;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Tracks the keyset pages handed to the posting workers and the highest savings account id below which every batch
+ * was posted. Batches complete out of order, the checkpoint only moves over a page once all of its batches (and the
+ * batches of all earlier pages) succeeded.
+ */
+final class SavingsInterestPostingCheckpoint {
+
+    private final TreeMap<Long, PageState> pages = new TreeMap<>();
+    private long lastPostedSavingsId;
+
+    SavingsInterestPostingCheckpoint(long lastPostedSavingsId) {
+        this.lastPostedSavingsId = lastPostedSavingsId;
+    }
+
+    synchronized void registerPage(long lastSavingsIdOfPage, int numberOfBatches) {
+        pages.put(lastSavingsIdOfPage, new PageState(numberOfBatches));
+        advance();
+    }
+
+    synchronized void batchCompleted(long lastSavingsIdOfPage, boolean success) {
+        PageState page = pages.get(lastSavingsIdOfPage);
+        if (page == null) {
+            return;
+        }
+        page.remaining--;
+        if (!success) {
+            page.failed = true;
+        }
+        advance();
+    }
+
+    synchronized long getLastPostedSavingsId() {
+        return lastPostedSavingsId;
+    }
+
+    private void advance() {
+        while (!pages.isEmpty()) {
+            Map.Entry<Long, PageState> first = pages.firstEntry();
+            if (first.getValue().remaining > 0 || first.getValue().failed) {
+                return;
+            }
+            lastPostedSavingsId = first.getKey();
+            pages.pollFirstEntry();
+        }
+    }
+
+    private static final class PageState {
+
+        private int remaining;
+        private boolean failed;
+
+        private PageState(int remaining) {
+            this.remaining = remaining;
+        }
+    }
+}
@@ -255,6 +255,28 @@ public class SavingsAccountReadPlatformServiceImpl implements SavingsAccountRead
         return savingsAccountDataList;
     }
 
+    @Override
+    public List<SavingsAccountData> retrieveSavingsDataForInterestPostingInRange(final boolean backdatedTxnsAllowedTill,
+            final Integer status, final Long afterSavingsId, final Long lastSavingsId) {
+        LocalDate yesterday = DateUtils.getBusinessLocalDate().minusDays(1);
+        String sql = "select " + this.savingAccountMapperForInterestPosting.schema()
+                + "where sa.id > ? and sa.id <= ? and sa.status_enum = ? ";
+        if (backdatedTxnsAllowedTill) {
+            sql = sql
+                    + "and (CASE WHEN sa.interest_posted_till_date is not null THEN tr.transaction_date >= sa.interest_posted_till_date ELSE tr.transaction_date >= sa.activatedon_date END) ";
+        }
+        sql = sql + "and (sa.interest_posted_till_date is null or sa.interest_posted_till_date <= ? ) ";
+        // #audit backward compatibility
+        sql = sql + "order by sa.id, tr.transaction_date, tr." + CREATED_DATE_DB_FIELD + ", tr.created_date, tr.id";
+
+        List<SavingsAccountData> savingsAccountDataList = this.jdbcTemplate.query(sql, this.savingAccountMapperForInterestPosting, // NOSONAR
+                new Object[] { afterSavingsId, lastSavingsId, status, yesterday });
+        for (SavingsAccountData savingsAccountData : savingsAccountDataList) {
+            this.savingAccountAssembler.assembleSavings(savingsAccountData);
+        }
+        return savingsAccountDataList;
+    }
+
     private static final class SavingAccountMapperForInterestPosting implements ResultSetExtractor<List<SavingsAccountData>> {
 
         private final String schemaSql;
@@ -16,11 +16,10 @@
  * specific language governing permissions and limitations
  * under the License.
  */
-package org.apache.fineract.portfolio.loanaccount.jobs.addperiodicaccrualentries;
+package org.apache.fineract.portfolio.search.jobs.rebuildsearchindex;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.fineract.infrastructure.jobs.service.JobName;
-import org.apache.fineract.portfolio.loanaccount.service.LoanAccrualsProcessingService;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.job.builder.JobBuilder;
@@ -33,26 +32,20 @@ import org.springframework.transaction.PlatformTransactionManager;
 
 @Configuration
 @RequiredArgsConstructor
-public class AddPeriodicAccrualEntriesConfig {
+public class RebuildSearchIndexConfig {
 
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
-    private final LoanAccrualsProcessingService loanAccrualsProcessingService;
 
     @Bean
-    protected Step addPeriodicAccrualEntriesStep() {
-        return new StepBuilder(JobName.ADD_PERIODIC_ACCRUAL_ENTRIES.name(), jobRepository)
-                .tasklet(addPeriodicAccrualEntriesTasklet(), transactionManager).build();
+    protected Step rebuildSearchIndexStep(RebuildSearchIndexTasklet rebuildSearchIndexTasklet) {
+        return new StepBuilder(JobName.REBUILD_SEARCH_INDEX.name(), jobRepository).tasklet(rebuildSearchIndexTasklet, transactionManager)
+                .build();
     }
 
     @Bean
-    public Job addPeriodicAccrualEntriesJob() {
-        return new JobBuilder(JobName.ADD_PERIODIC_ACCRUAL_ENTRIES.name(), jobRepository).start(addPeriodicAccrualEntriesStep())
+    public Job rebuildSearchIndexJob(RebuildSearchIndexTasklet rebuildSearchIndexTasklet) {
+        return new JobBuilder(JobName.REBUILD_SEARCH_INDEX.name(), jobRepository).start(rebuildSearchIndexStep(rebuildSearchIndexTasklet))
                 .incrementer(new RunIdIncrementer()).build();
     }
-
-    @Bean
-    public AddPeriodicAccrualEntriesTasklet addPeriodicAccrualEntriesTasklet() {
-        return new AddPeriodicAccrualEntriesTasklet(loanAccrualsProcessingService);
-    }
 }
@@ -16,37 +16,47 @@
  * specific language governing permissions and limitations
  * under the License.
  */
-package org.apache.fineract.portfolio.loanaccount.jobs.addperiodicaccrualentries;
+package org.apache.fineract.portfolio.search.jobs.rebuildsearchindex;
 
-import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.fineract.infrastructure.core.exception.MultiException;
-import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.infrastructure.jobs.exception.JobExecutionException;
-import org.apache.fineract.portfolio.loanaccount.service.LoanAccrualsProcessingService;
+import org.apache.fineract.portfolio.search.service.SearchIndexEntityType;
+import org.apache.fineract.portfolio.search.service.SearchIndexWritePlatformService;
 import org.springframework.batch.core.StepContribution;
 import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.core.step.tasklet.Tasklet;
 import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.stereotype.Component;
 
+/**
+ * Brings {@code m_search_index} in line with the source tables. Needs to run once before the indexed search is enabled
+ * and regularly afterwards to correct entries missed by the change tracking, e.g. rows written by plain SQL.
+ */
 @Slf4j
 @RequiredArgsConstructor
-public class AddPeriodicAccrualEntriesTasklet implements Tasklet {
+@Component
+public class RebuildSearchIndexTasklet implements Tasklet {
 
-    private final LoanAccrualsProcessingService loanAccrualsProcessingService;
+    private final SearchIndexWritePlatformService searchIndexWritePlatformService;
 
     @Override
     public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
-        try {
-            addPeriodicAccruals(DateUtils.getBusinessLocalDate());
-        } catch (MultiException e) {
-            throw new JobExecutionException(e);
+        List<Throwable> errors = new ArrayList<>();
+        for (SearchIndexEntityType entityType : SearchIndexEntityType.values()) {
+            try {
+                searchIndexWritePlatformService.rebuild(entityType);
+            } catch (Exception e) {
+                log.error("Failed to rebuild the search index of {}", entityType, e);
+                errors.add(e);
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new JobExecutionException(errors);
         }
-        return RepeatStatus.FINISHED;
-    }
 
-    private void addPeriodicAccruals(final LocalDate tilldate) throws MultiException {
-        loanAccrualsProcessingService.addPeriodicAccruals(tilldate);
+        return RepeatStatus.FINISHED;
     }
 }
@@ -0,0 +1,141 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.domain.AbstractPersistableCustom;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Collects the tracked entities written by a transaction and reindexes them once it has committed, so the index never
+ * sees uncommitted data and a failing index update cannot roll back the business transaction. Failed updates are
+ * counted and left for the {@code Rebuild Search Index} job to correct.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty("fineract.search.index.enabled")
+@RequiredArgsConstructor
+public class SearchIndexChangeTracker implements InitializingBean, DisposableBean {
+
+    private final SearchIndexWritePlatformService searchIndexWritePlatformService;
+    private final Optional<MeterRegistry> meterRegistry;
+
+    @Override
+    public void afterPropertiesSet() {
+        SearchIndexDescriptorCustomizer.setChangeTracker(this);
+    }
+
+    @Override
+    public void destroy() {
+        SearchIndexDescriptorCustomizer.setChangeTracker(null);
+    }
+
+    /**
+     * @param changedAttributes
+     *            the attributes changed by an update, {@code null} for inserts and deletes
+     */
+    void entityChanged(final Object entity, final Collection<String> changedAttributes) {
+        final SearchIndexTrackedEntity trackedEntity = SearchIndexTrackedEntity.of(entity.getClass());
+        if (trackedEntity == null || changedAttributes != null && changedAttributes.stream()
+                .noneMatch(trackedEntity.getIndexedAttributes()::contains)) {
+            return;
+        }
+        final Long entityId = (Long) ((AbstractPersistableCustom<?>) entity).getId();
+        final PendingChanges pendingChanges = getPendingChanges();
+        if (pendingChanges == null) {
+            reindex(trackedEntity.getEntityType(), Set.of(entityId));
+            return;
+        }
+        pendingChanges.entityIds.computeIfAbsent(trackedEntity.getEntityType(), type -> new HashSet<>()).add(entityId);
+        // accounts and identifiers carry the office of their client
+        if (trackedEntity == SearchIndexTrackedEntity.CLIENT && changedAttributes != null && changedAttributes.contains("office")) {
+            pendingChanges.movedClientIds.add(entityId);
+        }
+    }
+
+    /**
+     * The pending changes live in a synchronization rather than a bound resource, synchronizations are suspended with
+     * their transaction so changes of a nested {@code REQUIRES_NEW} transaction are reindexed when it commits.
+     */
+    private PendingChanges getPendingChanges() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingChanges pendingChanges) {
+                return pendingChanges;
+            }
+        }
+        final PendingChanges pendingChanges = new PendingChanges();
+        TransactionSynchronizationManager.registerSynchronization(pendingChanges);
+        return pendingChanges;
+    }
+
+    private void reindex(final SearchIndexEntityType entityType, final Set<Long> entityIds) {
+        try {
+            searchIndexWritePlatformService.reindex(entityType, entityIds);
+        } catch (RuntimeException e) {
+            log.warn("Search index update of {} {} failed, it is corrected by the next rebuild", entityType, entityIds, e);
+            countFailure(entityType);
+        }
+    }
+
+    private void reindexClientAccounts(final Set<Long> clientIds) {
+        try {
+            searchIndexWritePlatformService.reindexClientAccounts(clientIds);
+        } catch (RuntimeException e) {
+            log.warn("Search index update of the accounts of clients {} failed, it is corrected by the next rebuild", clientIds, e);
+            countFailure(SearchIndexEntityType.CLIENT);
+        }
+    }
+
+    private void countFailure(final SearchIndexEntityType entityType) {
+        meterRegistry.ifPresent(registry -> Counter.builder("fineract.search.index.update.failures")
+                .description("Search index updates that failed after commit").tag("type", entityType.name()).register(registry)
+                .increment());
+    }
+
+    private final class PendingChanges implements TransactionSynchronization {
+
+        private final Map<SearchIndexEntityType, Set<Long>> entityIds = new EnumMap<>(SearchIndexEntityType.class);
+        private final Set<Long> movedClientIds = new HashSet<>();
+
+        @Override
+        public void afterCommit() {
+            entityIds.forEach(SearchIndexChangeTracker.this::reindex);
+            if (!movedClientIds.isEmpty()) {
+                reindexClientAccounts(movedClientIds);
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.service;
+
+import org.eclipse.persistence.config.DescriptorCustomizer;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.DescriptorEvent;
+import org.eclipse.persistence.descriptors.DescriptorEventAdapter;
+import org.eclipse.persistence.sessions.changesets.ObjectChangeSet;
+
+/**
+ * Registers the search index change listener on the descriptors of the {@link SearchIndexTrackedEntity tracked
+ * entities}. EclipseLink instantiates descriptor customizers by class name, hence the {@link SearchIndexChangeTracker}
+ * is handed over statically once the application context is up; events raised before that are not tracked.
+ */
+public class SearchIndexDescriptorCustomizer implements DescriptorCustomizer {
+
+    private static final DescriptorEventAdapter LISTENER = new ChangeListener();
+
+    private static volatile SearchIndexChangeTracker changeTracker;
+
+    static void setChangeTracker(final SearchIndexChangeTracker changeTracker) {
+        SearchIndexDescriptorCustomizer.changeTracker = changeTracker;
+    }
+
+    @Override
+    public void customize(final ClassDescriptor descriptor) {
+        descriptor.getEventManager().addListener(LISTENER);
+    }
+
+    private static final class ChangeListener extends DescriptorEventAdapter {
+
+        @Override
+        public void postInsert(final DescriptorEvent event) {
+            notifyTracker(event, true);
+        }
+
+        @Override
+        public void postUpdate(final DescriptorEvent event) {
+            notifyTracker(event, false);
+        }
+
+        @Override
+        public void postDelete(final DescriptorEvent event) {
+            notifyTracker(event, true);
+        }
+
+        private void notifyTracker(final DescriptorEvent event, final boolean allAttributes) {
+            final SearchIndexChangeTracker tracker = changeTracker;
+            if (tracker == null) {
+                return;
+            }
+            final ObjectChangeSet changeSet = allAttributes ? null : event.getChangeSet();
+            tracker.entityChanged(event.getObject(), changeSet == null ? null : changeSet.getChangedAttributeNames());
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.fineract.infrastructure.core.config.jpa.EntityManagerFactoryCustomizer;
+import org.eclipse.persistence.config.PersistenceUnitProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hooks {@link SearchIndexDescriptorCustomizer} into the descriptors of the entities the search index is derived from.
+ */
+@Component
+@ConditionalOnProperty("fineract.search.index.enabled")
+public class SearchIndexEntityManagerFactoryCustomizer implements EntityManagerFactoryCustomizer {
+
+    @Override
+    public Map<String, Object> additionalVendorProperties() {
+        final Map<String, Object> properties = new HashMap<>();
+        for (SearchIndexTrackedEntity trackedEntity : SearchIndexTrackedEntity.values()) {
+            properties.put(PersistenceUnitProperties.DESCRIPTOR_CUSTOMIZER_ + trackedEntity.getEntityClass().getSimpleName(),
+                    SearchIndexDescriptorCustomizer.class.getName());
+        }
+        return properties;
+    }
+}
@@ -0,0 +1,55 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Resources kept in {@code m_search_index}. Every source query exposes the same column aliases so the tokens of all
+ * resources are derived the same way; the declaration order is the ranking used between resources that match equally
+ * well.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum SearchIndexEntityType {
+
+    CLIENT("m_client", "c.id", "select c.id as id, c.office_id as officeId, c.account_no as accountNo, c.external_id as externalId, "
+            + "c.display_name as name, c.mobile_no as mobileNo, null as documentKey from m_client c"), //
+    LOAN("m_loan", "l.id", "select l.id as id, c.office_id as officeId, l.account_no as accountNo, l.external_id as externalId, "
+            + "null as name, null as mobileNo, null as documentKey from m_loan l left join m_client c on c.id = l.client_id"), //
+    SAVING("m_savings_account", "s.id",
+            "select s.id as id, c.office_id as officeId, s.account_no as accountNo, s.external_id as externalId, null as name, "
+                    + "null as mobileNo, null as documentKey from m_savings_account s left join m_client c on c.id = s.client_id"), //
+    SHARE("m_share_account", "s.id",
+            "select s.id as id, c.office_id as officeId, s.account_no as accountNo, s.external_id as externalId, null as name, "
+                    + "null as mobileNo, null as documentKey from m_share_account s left join m_client c on c.id = s.client_id"), //
+    CLIENTIDENTIFIER("m_client_identifier", "ci.id",
+            "select ci.id as id, c.office_id as officeId, null as accountNo, null as externalId, null as name, null as mobileNo, "
+                    + "ci.document_key as documentKey from m_client_identifier ci join m_client c on c.id = ci.client_id"), //
+    GROUP("m_group", "g.id", "select g.id as id, g.office_id as officeId, g.account_no as accountNo, g.external_id as externalId, "
+            + "g.display_name as name, null as mobileNo, null as documentKey from m_group g");
+
+    /**
+     * Table the entity ids are paged from when the index is rebuilt.
+     */
+    private final String tableName;
+    private final String idColumn;
+    private final String sourceSql;
+}
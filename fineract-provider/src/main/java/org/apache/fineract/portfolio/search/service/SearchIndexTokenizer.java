@@ -0,0 +1,87 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.service;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.fineract.portfolio.search.data.SearchIndexToken;
+
+/**
+ * Derives the {@code m_search_index} tokens of an entity. Values are trimmed, lowercased and whitespace collapsed so
+ * that the same normalisation applied to the search query allows plain prefix and equality lookups.
+ */
+public final class SearchIndexTokenizer {
+
+    public static final String ACCOUNT_NO = "ACCOUNT_NO";
+    public static final String EXTERNAL_ID = "EXTERNAL_ID";
+    public static final String NAME = "NAME";
+    public static final String NAME_WORD = "NAME_WORD";
+    public static final String MOBILE_NO = "MOBILE_NO";
+    public static final String DOCUMENT_KEY = "DOCUMENT_KEY";
+
+    static final int MAX_TOKEN_LENGTH = 255;
+
+    private SearchIndexTokenizer() {}
+
+    public static String normalize(final String value) {
+        if (StringUtils.isBlank(value)) {
+            return null;
+        }
+        final String normalized = StringUtils.normalizeSpace(value).toLowerCase(Locale.ROOT);
+        return StringUtils.left(normalized, MAX_TOKEN_LENGTH);
+    }
+
+    public static Set<SearchIndexToken> tokenize(final Long entityId, final Long officeId, final String accountNo, final String externalId,
+            final String name, final String mobileNo, final String documentKey) {
+        final Set<SearchIndexToken> tokens = new LinkedHashSet<>();
+        final String normalizedAccountNo = normalize(accountNo);
+        if (normalizedAccountNo != null) {
+            tokens.add(new SearchIndexToken(entityId, ACCOUNT_NO, normalizedAccountNo, officeId));
+            // account numbers are zero padded, tellers usually type the significant digits only
+            final String significant = StringUtils.stripStart(normalizedAccountNo, "0");
+            if (!significant.isEmpty() && !significant.equals(normalizedAccountNo)) {
+                tokens.add(new SearchIndexToken(entityId, ACCOUNT_NO, significant, officeId));
+            }
+        }
+        add(tokens, entityId, EXTERNAL_ID, externalId, officeId);
+        add(tokens, entityId, MOBILE_NO, mobileNo, officeId);
+        add(tokens, entityId, DOCUMENT_KEY, documentKey, officeId);
+        final String normalizedName = normalize(name);
+        if (normalizedName != null) {
+            tokens.add(new SearchIndexToken(entityId, NAME, normalizedName, officeId));
+            final String[] words = StringUtils.split(normalizedName, ' ');
+            if (words.length > 1) {
+                for (String word : words) {
+                    tokens.add(new SearchIndexToken(entityId, NAME_WORD, word, officeId));
+                }
+            }
+        }
+        return tokens;
+    }
+
+    private static void add(final Set<SearchIndexToken> tokens, final Long entityId, final String fieldName, final String value,
+            final Long officeId) {
+        final String normalized = normalize(value);
+        if (normalized != null) {
+            tokens.add(new SearchIndexToken(entityId, fieldName, normalized, officeId));
+        }
+    }
+}
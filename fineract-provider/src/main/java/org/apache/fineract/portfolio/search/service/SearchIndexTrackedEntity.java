@@ -0,0 +1,58 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.service;
+
+import java.util.Set;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.portfolio.client.domain.Client;
+import org.apache.fineract.portfolio.client.domain.ClientIdentifier;
+import org.apache.fineract.portfolio.group.domain.Group;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccount;
+import org.apache.fineract.portfolio.shareaccounts.domain.ShareAccount;
+
+/**
+ * JPA entities whose changes are mirrored into the search index, with the attributes the index is derived from. Updates
+ * touching none of these attributes leave the index alone.
+ */
+@Getter
+@RequiredArgsConstructor
+enum SearchIndexTrackedEntity {
+
+    CLIENT(Client.class, SearchIndexEntityType.CLIENT, Set.of("accountNumber", "displayName", "externalId", "mobileNo", "office")), //
+    LOAN(Loan.class, SearchIndexEntityType.LOAN, Set.of("accountNumber", "externalId", "client", "group")), //
+    SAVING(SavingsAccount.class, SearchIndexEntityType.SAVING, Set.of("accountNumber", "externalId", "client", "group")), //
+    SHARE(ShareAccount.class, SearchIndexEntityType.SHARE, Set.of("accountNumber", "externalId", "client")), //
+    CLIENTIDENTIFIER(ClientIdentifier.class, SearchIndexEntityType.CLIENTIDENTIFIER, Set.of("documentKey", "client")), //
+    GROUP(Group.class, SearchIndexEntityType.GROUP, Set.of("accountNumber", "name", "externalId", "office"));
+
+    private final Class<?> entityClass;
+    private final SearchIndexEntityType entityType;
+    private final Set<String> indexedAttributes;
+
+    static SearchIndexTrackedEntity of(final Class<?> entityClass) {
+        for (SearchIndexTrackedEntity trackedEntity : values()) {
+            if (trackedEntity.entityClass.isAssignableFrom(entityClass)) {
+                return trackedEntity;
+            }
+        }
+        return null;
+    }
+}
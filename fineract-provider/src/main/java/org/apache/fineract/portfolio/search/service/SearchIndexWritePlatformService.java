@@ -0,0 +1,42 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.service;
+
+import java.util.Collection;
+
+public interface SearchIndexWritePlatformService {
+
+    /**
+     * Replaces the index entries of the given entities with the tokens of their current state, entities that no longer
+     * exist are removed from the index. Runs in its own transaction.
+     */
+    void reindex(SearchIndexEntityType entityType, Collection<Long> entityIds);
+
+    /**
+     * Reindexes the accounts and identifiers of the given clients, their office filter is taken from the client.
+     */
+    void reindexClientAccounts(Collection<Long> clientIds);
+
+    /**
+     * Compares the whole index of the resource with its source tables and rewrites the entries that drifted.
+     *
+     * @return the number of entities whose entries had to be corrected
+     */
+    long rebuild(SearchIndexEntityType entityType);
+}
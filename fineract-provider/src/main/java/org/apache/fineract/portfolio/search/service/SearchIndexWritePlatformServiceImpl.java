@@ -0,0 +1,208 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.JdbcSupport;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.portfolio.search.data.SearchIndexToken;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchIndexWritePlatformServiceImpl implements SearchIndexWritePlatformService, InitializingBean {
+
+    private static final String METRIC_PREFIX = "fineract.search.index";
+    private static final EnumSet<SearchIndexEntityType> CLIENT_OWNED_TYPES = EnumSet.of(SearchIndexEntityType.LOAN,
+            SearchIndexEntityType.SAVING, SearchIndexEntityType.SHARE, SearchIndexEntityType.CLIENTIDENTIFIER);
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final DatabaseSpecificSQLGenerator sqlGenerator;
+    private final PlatformTransactionManager transactionManager;
+    private final FineractProperties fineractProperties;
+    private final Optional<MeterRegistry> meterRegistry;
+
+    private final Map<String, AtomicLong> lastRebuildDrift = new ConcurrentHashMap<>();
+    private TransactionTemplate transactionTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public void reindex(final SearchIndexEntityType entityType, final Collection<Long> entityIds) {
+        if (entityIds.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> replace(entityType, entityIds, loadTokens(entityType, entityIds)));
+        countUpdates(entityType, entityIds.size());
+    }
+
+    @Override
+    public void reindexClientAccounts(final Collection<Long> clientIds) {
+        if (clientIds.isEmpty()) {
+            return;
+        }
+        final MapSqlParameterSource params = new MapSqlParameterSource("clientIds", clientIds);
+        for (SearchIndexEntityType entityType : CLIENT_OWNED_TYPES) {
+            final List<Long> entityIds = namedParameterJdbcTemplate
+                    .queryForList("select id from " + entityType.getTableName() + " where client_id in (:clientIds)", params, Long.class);
+            reindex(entityType, entityIds);
+        }
+    }
+
+    @Override
+    public long rebuild(final SearchIndexEntityType entityType) {
+        final int batchSize = fineractProperties.getSearch().getIndex().getBatchSize();
+        final String idSql = "select id from " + entityType.getTableName() + " where id > :lastId order by id "
+                + sqlGenerator.limit(batchSize);
+        long drifted = 0;
+        long lastId = 0;
+        List<Long> entityIds = namedParameterJdbcTemplate.queryForList(idSql, new MapSqlParameterSource("lastId", lastId), Long.class);
+        while (!entityIds.isEmpty()) {
+            final List<Long> batch = entityIds;
+            drifted += Objects.requireNonNull(transactionTemplate.execute(status -> rebuildBatch(entityType, batch)));
+            lastId = batch.get(batch.size() - 1);
+            entityIds = namedParameterJdbcTemplate.queryForList(idSql, new MapSqlParameterSource("lastId", lastId), Long.class);
+        }
+        drifted += Objects.requireNonNull(transactionTemplate.execute(status -> removeOrphans(entityType)));
+        driftGauge(entityType).set(drifted);
+        log.info("Search index of {} rebuilt, {} entities had drifted", entityType, drifted);
+        return drifted;
+    }
+
+    private long rebuildBatch(final SearchIndexEntityType entityType, final List<Long> entityIds) {
+        final Map<Long, Set<SearchIndexToken>> expected = loadTokens(entityType, entityIds);
+        final Map<Long, List<SearchIndexToken>> indexed = loadIndexedTokens(entityType, entityIds);
+        final List<Long> drifted = new ArrayList<>();
+        for (Long entityId : entityIds) {
+            final Set<SearchIndexToken> expectedTokens = expected.getOrDefault(entityId, Set.of());
+            final List<SearchIndexToken> indexedTokens = indexed.getOrDefault(entityId, List.of());
+            // duplicated rows count as drift too, hence the size check next to the set comparison
+            if (indexedTokens.size() != expectedTokens.size() || !expectedTokens.equals(new HashSet<>(indexedTokens))) {
+                drifted.add(entityId);
+            }
+        }
+        if (!drifted.isEmpty()) {
+            replace(entityType, drifted, expected);
+            countUpdates(entityType, drifted.size());
+        }
+        return drifted.size();
+    }
+
+    private long removeOrphans(final SearchIndexEntityType entityType) {
+        final String sql = "delete from m_search_index where entity_type = :entityType and not exists (select 1 from "
+                + entityType.getTableName() + " e where e.id = m_search_index.entity_id)";
+        return namedParameterJdbcTemplate.update(sql, new MapSqlParameterSource("entityType", entityType.name()));
+    }
+
+    private void replace(final SearchIndexEntityType entityType, final Collection<Long> entityIds,
+            final Map<Long, Set<SearchIndexToken>> tokens) {
+        final MapSqlParameterSource params = new MapSqlParameterSource("entityType", entityType.name()).addValue("entityIds", entityIds);
+        namedParameterJdbcTemplate.update("delete from m_search_index where entity_type = :entityType and entity_id in (:entityIds)",
+                params);
+        final List<SqlParameterSource> rows = new ArrayList<>();
+        for (Long entityId : entityIds) {
+            for (SearchIndexToken token : tokens.getOrDefault(entityId, Set.of())) {
+                rows.add(new MapSqlParameterSource("entityType", entityType.name()).addValue("entityId", token.entityId())
+                        .addValue("fieldName", token.fieldName()).addValue("token", token.token())
+                        .addValue("officeId", token.officeId()));
+            }
+        }
+        if (!rows.isEmpty()) {
+            namedParameterJdbcTemplate.batchUpdate("insert into m_search_index (entity_type, entity_id, field_name, token, office_id) "
+                    + "values (:entityType, :entityId, :fieldName, :token, :officeId)", rows.toArray(new SqlParameterSource[0]));
+        }
+    }
+
+    private Map<Long, Set<SearchIndexToken>> loadTokens(final SearchIndexEntityType entityType, final Collection<Long> entityIds) {
+        final Map<Long, Set<SearchIndexToken>> tokens = new HashMap<>();
+        final String sql = entityType.getSourceSql() + " where " + entityType.getIdColumn() + " in (:entityIds)";
+        namedParameterJdbcTemplate.query(sql, new MapSqlParameterSource("entityIds", entityIds), (ResultSet rs) -> {
+            final Long entityId = JdbcSupport.getLong(rs, "id");
+            tokens.put(entityId,
+                    SearchIndexTokenizer.tokenize(entityId, JdbcSupport.getLong(rs, "officeId"), rs.getString("accountNo"),
+                            rs.getString("externalId"), rs.getString("name"), rs.getString("mobileNo"), rs.getString("documentKey")));
+        });
+        return tokens;
+    }
+
+    private Map<Long, List<SearchIndexToken>> loadIndexedTokens(final SearchIndexEntityType entityType, final Collection<Long> entityIds) {
+        final Map<Long, List<SearchIndexToken>> tokens = new HashMap<>();
+        final MapSqlParameterSource params = new MapSqlParameterSource("entityType", entityType.name()).addValue("entityIds", entityIds);
+        namedParameterJdbcTemplate.query("select entity_id, field_name, token, office_id from m_search_index "
+                + "where entity_type = :entityType and entity_id in (:entityIds)", params, (ResultSet rs) -> {
+                    final SearchIndexToken token = toToken(rs);
+                    tokens.computeIfAbsent(token.entityId(), id -> new ArrayList<>()).add(token);
+                });
+        return tokens;
+    }
+
+    private static SearchIndexToken toToken(final ResultSet rs) throws SQLException {
+        return new SearchIndexToken(rs.getLong("entity_id"), rs.getString("field_name"), rs.getString("token"),
+                JdbcSupport.getLong(rs, "office_id"));
+    }
+
+    private void countUpdates(final SearchIndexEntityType entityType, final int count) {
+        meterRegistry.ifPresent(registry -> Counter.builder(METRIC_PREFIX + ".updates")
+                .description("Entities (re)written to the search index").tag("type", entityType.name()).register(registry)
+                .increment(count));
+    }
+
+    private AtomicLong driftGauge(final SearchIndexEntityType entityType) {
+        final String tenant = ThreadLocalContextUtil.getTenant().getTenantIdentifier();
+        return lastRebuildDrift.computeIfAbsent(tenant + ":" + entityType.name(), key -> {
+            final AtomicLong drift = new AtomicLong();
+            meterRegistry.ifPresent(registry -> Gauge.builder(METRIC_PREFIX + ".drift", drift, AtomicLong::get)
+                    .description("Entities whose search index entries were corrected by the last rebuild").tag("tenant", tenant)
+                    .tag("type", entityType.name()).register(registry));
+            return drift;
+        });
+    }
+}
@@ -21,10 +21,16 @@ package org.apache.fineract.portfolio.search.service;
 import java.math.BigDecimal;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.data.EnumOptionData;
 import org.apache.fineract.infrastructure.core.domain.JdbcSupport;
 import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
@@ -52,17 +58,51 @@ import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 @RequiredArgsConstructor
 public class SearchReadPlatformServiceImpl implements SearchReadPlatformService {
 
+    private static final int MAX_RESULTS = 50;
+
+    private static final String CLIENT_SELECT_SQL = "select 'CLIENT' as entityType, c.id as entityId, c.display_name as entityName, c.external_id as entityExternalId, c.account_no as entityAccountNo "
+            + " , c.office_id as parentId, o.name as parentName, c.mobile_no as entityMobileNo,c.status_enum as entityStatusEnum, null as subEntityType, null as parentType "
+            + " from m_client c join m_office o on o.id = c.office_id where o.hierarchy like :hierarchy";
+
+    private static final String LOAN_SELECT_SQL = "select 'LOAN' as entityType, l.id as entityId, pl.name as entityName, l.external_id as entityExternalId, l.account_no as entityAccountNo "
+            + " , coalesce(c.id,g.id) as parentId, coalesce(c.display_name,g.display_name) as parentName, null as entityMobileNo, l.loan_status_id as entityStatusEnum, null as subEntityType, CASE WHEN g.id is null THEN 'client' ELSE 'group' END as parentType "
+            + " from m_loan l left join m_client c on l.client_id = c.id left join m_group g ON l.group_id = g.id left join m_office o on o.id = c.office_id left join m_product_loan pl on pl.id=l.product_id where (o.hierarchy IS NULL OR o.hierarchy like :hierarchy)";
+
+    private static final String SAVING_SELECT_SQL = "select 'SAVING' as entityType, s.id as entityId, sp.name as entityName, s.external_id as entityExternalId, s.account_no as entityAccountNo "
+            + " , coalesce(c.id,g.id) as parentId, coalesce(c.display_name, g.display_name) as parentName, null as entityMobileNo, s.status_enum as entityStatusEnum, concat(s.deposit_type_enum, '') as subEntityType, CASE WHEN g.id is null THEN 'client' ELSE 'group' END as parentType "
+            + " from m_savings_account s left join m_client c on s.client_id = c.id left join m_group g ON s.group_id = g.id left join m_office o on o.id = c.office_id left join m_savings_product sp on sp.id=s.product_id "
+            + " where (o.hierarchy IS NULL OR o.hierarchy like :hierarchy)";
+
+    private static final String SHARE_SELECT_SQL = "select 'SHARE' as entityType, s.id as entityId, sp.name as entityName, s.external_id as entityExternalId, s.account_no as entityAccountNo "
+            + " , c.id as parentId, c.display_name as parentName, null as entityMobileNo, s.status_enum as entityStatusEnum, null as subEntityType, 'client' as parentType "
+            + " from m_share_account s left join m_client c on s.client_id = c.id left join m_office o on o.id = c.office_id left join m_share_product sp on sp.id=s.product_id "
+            + " where (o.hierarchy IS NULL OR o.hierarchy like :hierarchy)";
+
+    private static final String CLIENT_IDENTIFIER_SELECT_SQL = "select 'CLIENTIDENTIFIER' as entityType, ci.id as entityId, ci.document_key as entityName, "
+            + " null as entityExternalId, null as entityAccountNo, c.id as parentId, c.display_name as parentName,null as entityMobileNo, c.status_enum as entityStatusEnum, null as subEntityType, null as parentType "
+            + " from m_client_identifier ci join m_client c on ci.client_id=c.id join m_office o on o.id = c.office_id "
+            + " where o.hierarchy like :hierarchy";
+
+    private static final String GROUP_SELECT_SQL = "select CASE WHEN g.level_id=1 THEN 'CENTER' ELSE 'GROUP' END as entityType, g.id as entityId, g.display_name as entityName, g.external_id as entityExternalId, g.account_no as entityAccountNo, "
+            + " g.office_id as parentId, o.name as parentName, null as entityMobileNo, g.status_enum as entityStatusEnum, null as subEntityType, null as parentType "
+            + " from m_group g join m_office o on o.id = g.office_id where o.hierarchy like :hierarchy";
+
     private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
     private final PlatformSecurityContext context;
     private final LoanProductReadPlatformService loanProductReadPlatformService;
     private final OfficeReadPlatformService officeReadPlatformService;
     private final DatabaseSpecificSQLGenerator sqlGenerator;
+    private final FineractProperties fineractProperties;
 
     @Override
     public List<SearchData> retriveMatchingData(final SearchConditions searchConditions) {
         final AppUser currentUser = context.authenticatedUser();
         final String hierarchy = currentUser.getOffice().getHierarchy();
 
+        if (fineractProperties.getSearch().getIndex().isEnabled()) {
+            return retrieveMatchingDataFromIndex(searchConditions, hierarchy);
+        }
+
         final SearchMapper rm = new SearchMapper();
 
         final MapSqlParameterSource params = new MapSqlParameterSource();
@@ -78,36 +118,24 @@ public class SearchReadPlatformServiceImpl implements SearchReadPlatformService
     public String searchSchema(final SearchConditions searchConditions) {
 
         final String union = " union ";
-        final String clientMatchSql = "( (select 'CLIENT' as entityType, c.id as entityId, c.display_name as entityName, c.external_id as entityExternalId, c.account_no as entityAccountNo "
-                + " , c.office_id as parentId, o.name as parentName, c.mobile_no as entityMobileNo,c.status_enum as entityStatusEnum, null as subEntityType, null as parentType "
-                + " from m_client c join m_office o on o.id = c.office_id where o.hierarchy like :hierarchy and (c.account_no like :search or c.display_name like :search or c.external_id like :search or c.mobile_no like :search)) "
+        final String clientMatchSql = "( (" + CLIENT_SELECT_SQL
+                + " and (c.account_no like :search or c.display_name like :search or c.external_id like :search or c.mobile_no like :search)) "
                 + " order by c.id desc)";
 
-        final String loanMatchSql = "( (select 'LOAN' as entityType, l.id as entityId, pl.name as entityName, l.external_id as entityExternalId, l.account_no as entityAccountNo "
-                + " , coalesce(c.id,g.id) as parentId, coalesce(c.display_name,g.display_name) as parentName, null as entityMobileNo, l.loan_status_id as entityStatusEnum, null as subEntityType, CASE WHEN g.id is null THEN 'client' ELSE 'group' END as parentType "
-                + " from m_loan l left join m_client c on l.client_id = c.id left join m_group g ON l.group_id = g.id left join m_office o on o.id = c.office_id left join m_product_loan pl on pl.id=l.product_id where (o.hierarchy IS NULL OR o.hierarchy like :hierarchy) and (l.account_no like :search or l.external_id like :search)) "
+        final String loanMatchSql = "( (" + LOAN_SELECT_SQL + " and (l.account_no like :search or l.external_id like :search)) "
                 + " order by l.id desc)";
 
-        final String savingMatchSql = "( (select 'SAVING' as entityType, s.id as entityId, sp.name as entityName, s.external_id as entityExternalId, s.account_no as entityAccountNo "
-                + " , coalesce(c.id,g.id) as parentId, coalesce(c.display_name, g.display_name) as parentName, null as entityMobileNo, s.status_enum as entityStatusEnum, concat(s.deposit_type_enum, '') as subEntityType, CASE WHEN g.id is null THEN 'client' ELSE 'group' END as parentType "
-                + " from m_savings_account s left join m_client c on s.client_id = c.id left join m_group g ON s.group_id = g.id left join m_office o on o.id = c.office_id left join m_savings_product sp on sp.id=s.product_id "
-                + " where (o.hierarchy IS NULL OR o.hierarchy like :hierarchy) and (s.account_no like :search or s.external_id like :search)) "
+        final String savingMatchSql = "( (" + SAVING_SELECT_SQL + " and (s.account_no like :search or s.external_id like :search)) "
                 + " order by s.id desc)";
 
-        final String shareMatchSql = "( (select 'SHARE' as entityType, s.id as entityId, sp.name as entityName, s.external_id as entityExternalId, s.account_no as entityAccountNo "
-                + " , c.id as parentId, c.display_name as parentName, null as entityMobileNo, s.status_enum as entityStatusEnum, null as subEntityType, 'client' as parentType "
-                + " from m_share_account s left join m_client c on s.client_id = c.id left join m_office o on o.id = c.office_id left join m_share_product sp on sp.id=s.product_id "
-                + " where (o.hierarchy IS NULL OR o.hierarchy like :hierarchy) and (s.account_no like :search or s.external_id like :search)) "
+        final String shareMatchSql = "( (" + SHARE_SELECT_SQL + " and (s.account_no like :search or s.external_id like :search)) "
                 + " order by s.id desc)";
 
-        final String clientIdentifierMatchSql = "( (select 'CLIENTIDENTIFIER' as entityType, ci.id as entityId, ci.document_key as entityName, "
-                + " null as entityExternalId, null as entityAccountNo, c.id as parentId, c.display_name as parentName,null as entityMobileNo, c.status_enum as entityStatusEnum, null as subEntityType, null as parentType "
-                + " from m_client_identifier ci join m_client c on ci.client_id=c.id join m_office o on o.id = c.office_id "
-                + " where o.hierarchy like :hierarchy and ci.document_key like :search ) " + " order by ci.id desc)";
+        final String clientIdentifierMatchSql = "( (" + CLIENT_IDENTIFIER_SELECT_SQL + " and ci.document_key like :search ) "
+                + " order by ci.id desc)";
 
-        final String groupMatchSql = "( (select CASE WHEN g.level_id=1 THEN 'CENTER' ELSE 'GROUP' END as entityType, g.id as entityId, g.display_name as entityName, g.external_id as entityExternalId, g.account_no as entityAccountNo, "
-                + " g.office_id as parentId, o.name as parentName, null as entityMobileNo, g.status_enum as entityStatusEnum, null as subEntityType, null as parentType "
-                + " from m_group g join m_office o on o.id = g.office_id where o.hierarchy like :hierarchy and (g.account_no like :search or g.display_name like :search or g.external_id like :search )) "
+        final String groupMatchSql = "( (" + GROUP_SELECT_SQL
+                + " and (g.account_no like :search or g.display_name like :search or g.external_id like :search )) "
                 + " order by g.id desc)";
 
         final StringBuilder sql = new StringBuilder();
@@ -140,10 +168,102 @@ public class SearchReadPlatformServiceImpl implements SearchReadPlatformService
         sql.replace(sql.lastIndexOf(union), sql.length(), "");
 
         // only get the first 50 rows in case of searcing
-        sql.append(" ").append(sqlGenerator.limit(50, 0));
+        sql.append(" ").append(sqlGenerator.limit(MAX_RESULTS, 0));
         return sql.toString();
     }
 
+    /**
+     * Looks the query up in {@code m_search_index} and loads the matched entities with the same projections as the
+     * LIKE based search. Values are matched by prefix (or equality for exact matches) on whole values, multi word names
+     * also by prefix of every word. Whole value matches rank before word matches, then resources rank in their
+     * {@link SearchIndexEntityType} order and newer entities first.
+     */
+    private List<SearchData> retrieveMatchingDataFromIndex(final SearchConditions searchConditions, final String hierarchy) {
+        final String token = SearchIndexTokenizer.normalize(searchConditions.getSearchQuery());
+        final List<String> entityTypes = new ArrayList<>();
+        for (SearchIndexEntityType entityType : SearchIndexEntityType.values()) {
+            if (isSearched(searchConditions, entityType)) {
+                entityTypes.add(entityType.name());
+            }
+        }
+        if (token == null || entityTypes.isEmpty()) {
+            return List.of();
+        }
+
+        final MapSqlParameterSource params = new MapSqlParameterSource("hierarchy", hierarchy + "%").addValue("entityTypes", entityTypes)
+                .addValue("token", token);
+        final StringBuilder sql = new StringBuilder("select si.entity_type as entityType, si.entity_id as entityId, ");
+        sql.append("min(case when si.field_name = '").append(SearchIndexTokenizer.NAME_WORD)
+                .append("' then 2 when si.token = :token then 0 else 1 end) as matchRank ");
+        sql.append("from m_search_index si left join m_office o on o.id = si.office_id ");
+        sql.append("where si.entity_type in (:entityTypes) and (si.office_id is null or o.hierarchy like :hierarchy) ");
+        if (searchConditions.getExactMatch()) {
+            sql.append("and si.token = :token and si.field_name <> '").append(SearchIndexTokenizer.NAME_WORD).append("' ");
+        } else {
+            params.addValue("prefix", escapeLikePattern(token) + "%");
+            sql.append("and si.token like :prefix ");
+        }
+        sql.append("group by si.entity_type, si.entity_id order by matchRank, case si.entity_type");
+        for (SearchIndexEntityType entityType : SearchIndexEntityType.values()) {
+            sql.append(" when '").append(entityType.name()).append("' then ").append(entityType.ordinal());
+        }
+        sql.append(" end, si.entity_id desc ").append(sqlGenerator.limit(MAX_RESULTS));
+
+        final List<Pair<SearchIndexEntityType, Long>> matches = namedParameterJdbcTemplate.query(sql.toString(), params,
+                (rs, rowNum) -> Pair.of(SearchIndexEntityType.valueOf(rs.getString("entityType")), JdbcSupport.getLong(rs, "entityId")));
+
+        final Map<SearchIndexEntityType, List<Long>> matchedIds = new EnumMap<>(SearchIndexEntityType.class);
+        for (Pair<SearchIndexEntityType, Long> match : matches) {
+            matchedIds.computeIfAbsent(match.getLeft(), type -> new ArrayList<>()).add(match.getRight());
+        }
+        final Map<Pair<SearchIndexEntityType, Long>, SearchData> entities = new HashMap<>();
+        final SearchMapper rm = new SearchMapper();
+        matchedIds.forEach((entityType, entityIds) -> {
+            final MapSqlParameterSource entityParams = new MapSqlParameterSource("hierarchy", hierarchy + "%").addValue("entityIds",
+                    entityIds);
+            final String entitySql = selectSql(entityType) + " and " + entityType.getIdColumn() + " in (:entityIds)";
+            for (SearchData data : namedParameterJdbcTemplate.query(entitySql, entityParams, rm)) {
+                entities.put(Pair.of(entityType, data.getEntityId()), data);
+            }
+        });
+
+        // entries of entities moved out of the hierarchy since they were indexed are skipped
+        final List<SearchData> result = new ArrayList<>();
+        for (Pair<SearchIndexEntityType, Long> match : matches) {
+            final SearchData data = entities.get(match);
+            if (data != null) {
+                result.add(data);
+            }
+        }
+        return result;
+    }
+
+    private static boolean isSearched(final SearchConditions searchConditions, final SearchIndexEntityType entityType) {
+        return switch (entityType) {
+            case CLIENT -> searchConditions.isClientSearch();
+            case LOAN -> searchConditions.isLoanSeach();
+            case SAVING -> searchConditions.isSavingSeach();
+            case SHARE -> searchConditions.isShareSeach();
+            case CLIENTIDENTIFIER -> searchConditions.isClientIdentifierSearch();
+            case GROUP -> searchConditions.isGroupSearch();
+        };
+    }
+
+    private static String selectSql(final SearchIndexEntityType entityType) {
+        return switch (entityType) {
+            case CLIENT -> CLIENT_SELECT_SQL;
+            case LOAN -> LOAN_SELECT_SQL;
+            case SAVING -> SAVING_SELECT_SQL;
+            case SHARE -> SHARE_SELECT_SQL;
+            case CLIENTIDENTIFIER -> CLIENT_IDENTIFIER_SELECT_SQL;
+            case GROUP -> GROUP_SELECT_SQL;
+        };
+    }
+
+    private static String escapeLikePattern(final String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
     private static final class SearchMapper implements RowMapper<SearchData> {
 
         @Override
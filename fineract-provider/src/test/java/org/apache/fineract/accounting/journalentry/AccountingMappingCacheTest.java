@@ -0,0 +1,241 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.accounting.journalentry;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.apache.fineract.accounting.closure.domain.GLClosureRepository;
+import org.apache.fineract.accounting.financialactivityaccount.domain.FinancialActivityAccountRepository;
+import org.apache.fineract.accounting.journalentry.service.AccountingMappingCache;
+import org.apache.fineract.accounting.journalentry.service.AccountingMappingIndex;
+import org.apache.fineract.accounting.producttoaccountmapping.domain.ProductToGLAccountMappingIds;
+import org.apache.fineract.accounting.producttoaccountmapping.domain.ProductToGLAccountMappingRepository;
+import org.apache.fineract.infrastructure.cache.service.MultiNodeCacheManager;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.portfolio.PortfolioProductType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class AccountingMappingCacheTest {
+
+    private static final FineractPlatformTenant DEFAULT_TENANT = new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata",
+            null);
+    private static final FineractPlatformTenant OTHER_TENANT = new FineractPlatformTenant(2L, "other", "Other", "Asia/Kolkata", null);
+    private static final Integer LOAN = PortfolioProductType.LOAN.getValue();
+
+    @Mock
+    private ProductToGLAccountMappingRepository accountMappingRepository;
+    @Mock
+    private FinancialActivityAccountRepository financialActivityAccountRepository;
+    @Mock
+    private GLClosureRepository closureRepository;
+    @Mock
+    private MultiNodeCacheManager multiNodeCacheManager;
+
+    private FineractProperties.FineractAccountingMappingCacheProperties mappingCacheProperties;
+    private AccountingMappingCache underTest;
+
+    @BeforeEach
+    void setUp() {
+        mappingCacheProperties = new FineractProperties.FineractAccountingMappingCacheProperties();
+        mappingCacheProperties.setTimeToLive(Duration.ofHours(1));
+        FineractProperties.FineractAccountingProperties accountingProperties = new FineractProperties.FineractAccountingProperties();
+        accountingProperties.setMappingCache(mappingCacheProperties);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setAccounting(accountingProperties);
+        underTest = new AccountingMappingCache(accountMappingRepository, financialActivityAccountRepository, closureRepository,
+                fineractProperties, multiNodeCacheManager, Optional.empty());
+        ThreadLocalContextUtil.setTenant(DEFAULT_TENANT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void testIndexIsBuiltOnceAndReused() {
+        AccountingMappingIndex index = underTest.getIndex();
+
+        assertSame(index, underTest.getIndex());
+        verify(accountMappingRepository, times(1)).findAllMappingIds();
+    }
+
+    @Test
+    void testZeroTimeToLiveDisablesTheCache() {
+        mappingCacheProperties.setTimeToLive(Duration.ZERO);
+
+        assertNull(underTest.getIndex());
+        assertNull(underTest.getIndex(1L, LOAN));
+        verifyNoInteractions(accountMappingRepository, financialActivityAccountRepository, closureRepository);
+    }
+
+    @Test
+    void testInvalidateRebuildsTheIndex() {
+        AccountingMappingIndex index = underTest.getIndex();
+
+        underTest.invalidate();
+
+        assertNotSame(index, underTest.getIndex());
+        verify(accountMappingRepository, times(2)).findAllMappingIds();
+    }
+
+    @Test
+    void testInvalidateOnlyDropsTheIndexOfTheCurrentTenant() {
+        AccountingMappingIndex defaultIndex = underTest.getIndex();
+        ThreadLocalContextUtil.setTenant(OTHER_TENANT);
+        AccountingMappingIndex otherIndex = underTest.getIndex();
+
+        underTest.invalidate();
+
+        assertNotSame(otherIndex, underTest.getIndex());
+        ThreadLocalContextUtil.setTenant(DEFAULT_TENANT);
+        assertSame(defaultIndex, underTest.getIndex());
+        verify(accountMappingRepository, times(3)).findAllMappingIds();
+    }
+
+    @Test
+    void testIndexBuiltConcurrentlyWithAnInvalidationIsNotKept() {
+        when(accountMappingRepository.findAllMappingIds()).thenAnswer(invocation -> {
+            underTest.invalidate();
+            return List.of();
+        }).thenReturn(List.of());
+
+        AccountingMappingIndex staleIndex = underTest.getIndex();
+        AccountingMappingIndex index = underTest.getIndex();
+
+        assertNotSame(staleIndex, index);
+        assertSame(index, underTest.getIndex());
+        verify(accountMappingRepository, times(2)).findAllMappingIds();
+    }
+
+    @Test
+    void testInvalidationOfAnotherTenantDoesNotDiscardTheIndexBeingBuilt() {
+        ThreadLocalContextUtil.setTenant(OTHER_TENANT);
+        underTest.getIndex();
+        ThreadLocalContextUtil.setTenant(DEFAULT_TENANT);
+        when(accountMappingRepository.findAllMappingIds()).thenAnswer(invocation -> {
+            ThreadLocalContextUtil.setTenant(OTHER_TENANT);
+            underTest.invalidate();
+            ThreadLocalContextUtil.setTenant(DEFAULT_TENANT);
+            return List.of();
+        });
+
+        AccountingMappingIndex index = underTest.getIndex();
+
+        assertSame(index, underTest.getIndex());
+        verify(accountMappingRepository, times(2)).findAllMappingIds();
+    }
+
+    @Test
+    void testIndexIsDroppedAgainAfterTheTransactionCompleted() {
+        TransactionSynchronizationManager.initSynchronization();
+        underTest.invalidate();
+        // read by the invalidating transaction before it committed
+        AccountingMappingIndex indexBeforeCommit = underTest.getIndex();
+        assertSame(indexBeforeCommit, underTest.getIndex());
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        assertNotSame(indexBeforeCommit, underTest.getIndex());
+        verify(accountMappingRepository, times(2)).findAllMappingIds();
+    }
+
+    @Test
+    void testUnknownProductRebuildsTheIndexOnlyOnce() {
+        AccountingMappingIndex index = underTest.getIndex();
+
+        AccountingMappingIndex rebuilt = underTest.getIndex(1L, LOAN);
+
+        assertNotSame(index, rebuilt);
+        assertSame(rebuilt, underTest.getIndex(1L, LOAN));
+        verify(accountMappingRepository, times(2)).findAllMappingIds();
+    }
+
+    @Test
+    void testProductCreatedOnAnotherNodeIsFound() {
+        ProductToGLAccountMappingIds mapping = mock(ProductToGLAccountMappingIds.class);
+        when(mapping.getProductId()).thenReturn(1L);
+        when(mapping.getProductType()).thenReturn(LOAN);
+        when(accountMappingRepository.findAllMappingIds()).thenReturn(List.of(), List.of(mapping));
+        underTest.getIndex();
+
+        AccountingMappingIndex index = underTest.getIndex(1L, LOAN);
+
+        assertSame(index, underTest.getIndex(1L, LOAN));
+        assertSame(index, underTest.getIndex());
+        verify(accountMappingRepository, times(2)).findAllMappingIds();
+    }
+
+    @Test
+    void testInvalidateIsBroadcastToTheOtherNodes() {
+        underTest.invalidate();
+
+        verify(multiNodeCacheManager).broadcastInvalidation(AccountingMappingCache.CACHE_NAME, DEFAULT_TENANT.getTenantIdentifier());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testInvalidationOfAnotherNodeDropsTheIndexOfItsTenant() {
+        ArgumentCaptor<Consumer<String>> evictor = ArgumentCaptor.forClass(Consumer.class);
+        underTest.afterPropertiesSet();
+        verify(multiNodeCacheManager).registerExternalCache(eq(AccountingMappingCache.CACHE_NAME), evictor.capture());
+        AccountingMappingIndex defaultIndex = underTest.getIndex();
+        ThreadLocalContextUtil.setTenant(OTHER_TENANT);
+        AccountingMappingIndex otherIndex = underTest.getIndex();
+
+        evictor.getValue().accept(DEFAULT_TENANT.getTenantIdentifier());
+
+        assertSame(otherIndex, underTest.getIndex());
+        ThreadLocalContextUtil.setTenant(DEFAULT_TENANT);
+        assertNotSame(defaultIndex, underTest.getIndex());
+
+        evictor.getValue().accept(null);
+
+        ThreadLocalContextUtil.setTenant(OTHER_TENANT);
+        assertNotSame(otherIndex, underTest.getIndex());
+    }
+}
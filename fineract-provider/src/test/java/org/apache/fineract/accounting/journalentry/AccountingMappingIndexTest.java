@@ -0,0 +1,120 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.accounting.journalentry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.apache.fineract.accounting.closure.domain.GLClosure;
+import org.apache.fineract.accounting.common.AccountingConstants.CashAccountsForLoan;
+import org.apache.fineract.accounting.common.AccountingConstants.FinancialActivity;
+import org.apache.fineract.accounting.financialactivityaccount.domain.FinancialActivityAccount;
+import org.apache.fineract.accounting.glaccount.domain.GLAccount;
+import org.apache.fineract.accounting.journalentry.service.AccountingMappingIndex;
+import org.apache.fineract.accounting.producttoaccountmapping.domain.ProductToGLAccountMappingIds;
+import org.apache.fineract.organisation.office.domain.Office;
+import org.apache.fineract.portfolio.PortfolioProductType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AccountingMappingIndexTest {
+
+    private static final Long PRODUCT_ID = 1L;
+    private static final Integer LOAN = PortfolioProductType.LOAN.getValue();
+    private static final Integer FUND_SOURCE = CashAccountsForLoan.FUND_SOURCE.getValue();
+    private static final Integer INCOME_FROM_FEES = CashAccountsForLoan.INCOME_FROM_FEES.getValue();
+
+    private AccountingMappingIndex index;
+
+    @BeforeEach
+    void setUp() {
+        Office office = mock(Office.class);
+        when(office.getId()).thenReturn(2L);
+        GLClosure closure = mock(GLClosure.class);
+        when(closure.getOffice()).thenReturn(office);
+        when(closure.getId()).thenReturn(30L);
+        when(closure.getClosingDate()).thenReturn(LocalDate.of(2024, 3, 31));
+        GLAccount glAccount = mock(GLAccount.class);
+        when(glAccount.getId()).thenReturn(50L);
+
+        index = AccountingMappingIndex.build(
+                List.of(mapping(10L, FUND_SOURCE, null, null, null, 100L), mapping(11L, FUND_SOURCE, 5L, null, null, 101L),
+                        mapping(12L, INCOME_FROM_FEES, null, 7L, null, 102L), mapping(13L, FUND_SOURCE, null, null, 9L, 103L),
+                        mapping(14L, INCOME_FROM_FEES, null, null, null, null)),
+                List.of(FinancialActivityAccount.createNew(glAccount, FinancialActivity.ASSET_FUND_SOURCE.getValue())), List.of(closure));
+    }
+
+    @Test
+    void testCoreMappingIsNotShadowedBySpecificMappings() {
+        assertEquals(new AccountingMappingIndex.ResolvedMapping(10L, 100L), index.findCoreMapping(PRODUCT_ID, LOAN, FUND_SOURCE));
+        assertEquals(new AccountingMappingIndex.ResolvedMapping(14L, null), index.findCoreMapping(PRODUCT_ID, LOAN, INCOME_FROM_FEES));
+        assertNull(index.findCoreMapping(PRODUCT_ID, PortfolioProductType.SAVING.getValue(), FUND_SOURCE));
+    }
+
+    @Test
+    void testPaymentTypeAndChargeMappings() {
+        assertEquals(101L, index.findPaymentTypeMapping(PRODUCT_ID, LOAN, FUND_SOURCE, 5L).glAccountId());
+        assertNull(index.findPaymentTypeMapping(PRODUCT_ID, LOAN, FUND_SOURCE, 6L));
+        assertNull(index.findPaymentTypeMapping(PRODUCT_ID, LOAN, FUND_SOURCE, null));
+        assertEquals(102L, index.findChargeMapping(PRODUCT_ID, LOAN, INCOME_FROM_FEES, 7L).glAccountId());
+        assertNull(index.findChargeMapping(PRODUCT_ID, LOAN, FUND_SOURCE, 7L));
+        assertNull(index.findChargeMapping(PRODUCT_ID, LOAN, INCOME_FROM_FEES, null));
+    }
+
+    @Test
+    void testChargeOffMappingIgnoresFinancialAccountType() {
+        assertEquals(103L, index.findChargeOffMapping(PRODUCT_ID, LOAN, 9L).glAccountId());
+        assertNull(index.findChargeOffMapping(PRODUCT_ID, LOAN, 8L));
+        assertNull(index.findCoreMapping(PRODUCT_ID, LOAN, null));
+    }
+
+    @Test
+    void testUnknownProduct() {
+        assertTrue(index.containsProduct(PRODUCT_ID, LOAN));
+        assertFalse(index.containsProduct(2L, LOAN));
+    }
+
+    @Test
+    void testFinancialActivityAndClosure() {
+        assertEquals(50L, index.findFinancialActivityGLAccountId(FinancialActivity.ASSET_FUND_SOURCE.getValue()));
+        assertNull(index.findFinancialActivityGLAccountId(FinancialActivity.LIABILITY_TRANSFER.getValue()));
+        assertEquals(new AccountingMappingIndex.LatestClosure(30L, LocalDate.of(2024, 3, 31)), index.findLatestClosure(2L));
+        assertNull(index.findLatestClosure(3L));
+    }
+
+    private static ProductToGLAccountMappingIds mapping(Long id, Integer financialAccountType, Long paymentTypeId, Long chargeId,
+            Long chargeOffReasonId, Long glAccountId) {
+        ProductToGLAccountMappingIds mapping = mock(ProductToGLAccountMappingIds.class);
+        when(mapping.getId()).thenReturn(id);
+        when(mapping.getProductId()).thenReturn(PRODUCT_ID);
+        when(mapping.getProductType()).thenReturn(LOAN);
+        when(mapping.getFinancialAccountType()).thenReturn(financialAccountType);
+        when(mapping.getPaymentTypeId()).thenReturn(paymentTypeId);
+        when(mapping.getChargeId()).thenReturn(chargeId);
+        when(mapping.getChargeOffReasonId()).thenReturn(chargeOffReasonId);
+        when(mapping.getGlAccountId()).thenReturn(glAccountId);
+        return mapping;
+    }
+}
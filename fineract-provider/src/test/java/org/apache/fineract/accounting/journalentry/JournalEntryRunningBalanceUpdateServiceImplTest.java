@@ -0,0 +1,420 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.accounting.journalentry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.apache.fineract.accounting.glaccount.domain.GLAccountType;
+import org.apache.fineract.accounting.journalentry.api.JournalEntryJsonInputParams;
+import org.apache.fineract.accounting.journalentry.data.JournalEntryDataValidator;
+import org.apache.fineract.accounting.journalentry.domain.JournalEntryType;
+import org.apache.fineract.accounting.journalentry.service.JournalEntryRunningBalanceUpdateServiceImpl;
+import org.apache.fineract.infrastructure.core.api.JsonCommand;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.serialization.FromJsonHelper;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
+import org.apache.fineract.organisation.office.domain.OfficeRepositoryWrapper;
+import org.apache.fineract.useradministration.domain.AppUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs the parallel running balance update against an in-memory journal behind the mocked {@link JdbcTemplate} and
+ * compares the result with the sequential algorithm the service used before: one walk over every entry from the oldest
+ * uncalculated date, ordered by entry date and id.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class JournalEntryRunningBalanceUpdateServiceImplTest {
+
+    private static final int PAGE_SIZE = 3;
+    private static final int BATCH_SIZE = 2;
+    private static final int THREAD_POOL_SIZE = 4;
+    private static final LocalDate START_DATE = LocalDate.of(2024, 1, 1);
+    private static final Map<Long, GLAccountType> ACCOUNT_TYPES = Map.of(1L, GLAccountType.ASSET, 2L, GLAccountType.LIABILITY, 3L,
+            GLAccountType.EQUITY, 4L, GLAccountType.INCOME, 5L, GLAccountType.EXPENSE);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private OfficeRepositoryWrapper officeRepositoryWrapper;
+    @Mock
+    private JournalEntryDataValidator dataValidator;
+    @Mock
+    private FromJsonHelper fromApiJsonHelper;
+    @Mock
+    private DatabaseSpecificSQLGenerator sqlGenerator;
+    @Mock
+    private PlatformSecurityContext platformSecurityContext;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private ThreadPoolTaskExecutor runningBalanceUpdateExecutor;
+    private List<JournalRow> journal;
+    private JournalEntryRunningBalanceUpdateServiceImpl underTest;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        AppUser user = mock(AppUser.class);
+        when(user.getId()).thenReturn(1L);
+        when(platformSecurityContext.authenticatedUser()).thenReturn(user);
+        when(sqlGenerator.limit(anyInt())).thenAnswer(invocation -> "LIMIT " + invocation.getArgument(0));
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class))).thenAnswer(invocation -> partitions(invocation.getArgument(1), null));
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class))).thenAnswer(invocation -> {
+            Object[] arguments = invocation.getArguments();
+            Object[] params = Arrays.copyOfRange(arguments, 2, arguments.length);
+            String sql = invocation.getArgument(0);
+            return sql.contains("group by je.account_id") ? partitions(invocation.getArgument(1), (Long) params[0])
+                    : page(invocation.getArgument(1), params);
+        });
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), any(Object[].class)))
+                .thenAnswer(invocation -> ACCOUNT_TYPES.get((Long) invocation.getArgument(2)).getValue());
+        when(jdbcTemplate.queryForList(anyString(), eq(BigDecimal.class), any(Object[].class)))
+                .thenAnswer(invocation -> organizationSeed(invocation.getArgument(2), invocation.getArgument(3)));
+        when(jdbcTemplate.query(anyString(), any(RowCallbackHandler.class), any(Object[].class))).thenAnswer(invocation -> {
+            Object[] arguments = invocation.getArguments();
+            officeSeeds(invocation.getArgument(1), Arrays.copyOfRange(arguments, 2, arguments.length));
+            return null;
+        });
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenAnswer(invocation -> update(invocation.getArgument(0), invocation.getArgument(1)));
+
+        FineractProperties fineractProperties = new FineractProperties();
+        FineractProperties.FineractAccountingProperties accounting = new FineractProperties.FineractAccountingProperties();
+        FineractProperties.FineractRunningBalanceProperties runningBalance = new FineractProperties.FineractRunningBalanceProperties();
+        runningBalance.setThreadPoolSize(THREAD_POOL_SIZE);
+        runningBalance.setPageSize(PAGE_SIZE);
+        runningBalance.setBatchSize(BATCH_SIZE);
+        accounting.setRunningBalance(runningBalance);
+        fineractProperties.setAccounting(accounting);
+
+        runningBalanceUpdateExecutor = new ThreadPoolTaskExecutor();
+        runningBalanceUpdateExecutor.setCorePoolSize(THREAD_POOL_SIZE);
+        runningBalanceUpdateExecutor.setMaxPoolSize(THREAD_POOL_SIZE);
+        runningBalanceUpdateExecutor.setThreadNamePrefix("running-balance-");
+        runningBalanceUpdateExecutor.initialize();
+
+        underTest = new JournalEntryRunningBalanceUpdateServiceImpl(jdbcTemplate, officeRepositoryWrapper, dataValidator, fromApiJsonHelper,
+                sqlGenerator, platformSecurityContext, fineractProperties, transactionTemplate, runningBalanceUpdateExecutor);
+        journal = fullyCalculatedJournal();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        runningBalanceUpdateExecutor.shutdown();
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testParallelRunMatchesSequentialRunWithInterleavedDatesAndOffices() {
+        for (JournalRow row : journal) {
+            // every account has its own first uncalculated date, account 3 is fully calculated
+            LocalDate uncalculatedFrom = START_DATE.plusDays(row.accountId == 3L ? 1000 : 4 + 6 * row.accountId);
+            if (!row.entryDate.isBefore(uncalculatedFrom)) {
+                row.calculated = false;
+                row.organizationRunningBalance = null;
+                row.officeRunningBalance = null;
+            }
+        }
+        List<JournalRow> sequential = copy(journal);
+        updateOrganizationSequentially(sequential);
+
+        underTest.updateRunningBalance();
+
+        assertEquals(snapshot(sequential), snapshot(journal));
+        assertEquals(snapshot(fullyCalculatedJournal()), snapshot(journal));
+    }
+
+    @Test
+    public void testOfficeRunMatchesSequentialOfficeRun() {
+        for (JournalRow row : journal) {
+            if (row.officeId == 2L && !row.entryDate.isBefore(START_DATE.plusDays(4 + 3 * row.accountId))) {
+                row.calculated = false;
+                row.officeRunningBalance = null;
+            }
+        }
+        List<JournalRow> sequential = copy(journal);
+        updateOfficeSequentially(sequential, 2L);
+        JsonCommand command = mock(JsonCommand.class);
+        when(fromApiJsonHelper.extractLongNamed(eq(JournalEntryJsonInputParams.OFFICE_ID.getValue()), any())).thenReturn(2L);
+
+        assertEquals(2L, underTest.updateOfficeRunningBalance(command).getOfficeId());
+
+        assertEquals(snapshot(sequential), snapshot(journal));
+        verify(officeRepositoryWrapper).findOneWithNotFoundDetection(2L);
+    }
+
+    @Test
+    public void testFullyCalculatedJournalIsNotUpdated() {
+        underTest.updateRunningBalance();
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        assertEquals(snapshot(fullyCalculatedJournal()), snapshot(journal));
+    }
+
+    /**
+     * 300 entries over 45 days in 3 offices and 5 GL accounts. The ids do not follow the entry dates, so backdated
+     * entries interleave with the others.
+     */
+    private static List<JournalRow> fullyCalculatedJournal() {
+        Random random = new Random(42L);
+        List<JournalRow> rows = new ArrayList<>();
+        for (long id = 1; id <= 300; id++) {
+            rows.add(new JournalRow(id, 1L + random.nextInt(5), 1L + random.nextInt(3), START_DATE.plusDays(random.nextInt(45)),
+                    random.nextBoolean() ? JournalEntryType.CREDIT : JournalEntryType.DEBIT,
+                    BigDecimal.valueOf(1 + random.nextInt(100_000), 2)));
+        }
+        updateOrganizationSequentially(rows);
+        return rows;
+    }
+
+    private static void updateOrganizationSequentially(List<JournalRow> rows) {
+        LocalDate fromDate = rows.stream().filter(row -> !row.calculated).map(row -> row.entryDate).min(Comparator.naturalOrder())
+                .orElse(null);
+        if (fromDate == null) {
+            return;
+        }
+        Map<Long, BigDecimal> organizationRunningBalances = new HashMap<>();
+        Map<Long, Map<Long, BigDecimal>> officeRunningBalances = new HashMap<>();
+        for (JournalRow row : sorted(rows)) {
+            Map<Long, BigDecimal> officeRunningBalance = officeRunningBalances.computeIfAbsent(row.officeId, officeId -> new HashMap<>());
+            if (row.entryDate.isBefore(fromDate)) {
+                organizationRunningBalances.put(row.accountId, row.organizationRunningBalance);
+                officeRunningBalance.put(row.accountId, row.officeRunningBalance);
+            } else {
+                row.organizationRunningBalance = apply(row, organizationRunningBalances.getOrDefault(row.accountId, BigDecimal.ZERO));
+                row.officeRunningBalance = apply(row, officeRunningBalance.getOrDefault(row.accountId, BigDecimal.ZERO));
+                row.calculated = true;
+                organizationRunningBalances.put(row.accountId, row.organizationRunningBalance);
+                officeRunningBalance.put(row.accountId, row.officeRunningBalance);
+            }
+        }
+    }
+
+    private static void updateOfficeSequentially(List<JournalRow> rows, Long officeId) {
+        LocalDate fromDate = rows.stream().filter(row -> row.officeId == officeId && !row.calculated).map(row -> row.entryDate)
+                .min(Comparator.naturalOrder()).orElseThrow();
+        Map<Long, BigDecimal> runningBalances = new HashMap<>();
+        for (JournalRow row : sorted(rows)) {
+            if (row.officeId != officeId) {
+                continue;
+            }
+            if (!row.entryDate.isBefore(fromDate)) {
+                row.officeRunningBalance = apply(row, runningBalances.getOrDefault(row.accountId, BigDecimal.ZERO));
+            }
+            runningBalances.put(row.accountId, row.officeRunningBalance);
+        }
+    }
+
+    private static BigDecimal apply(JournalRow row, BigDecimal runningBalance) {
+        boolean isIncrease = switch (ACCOUNT_TYPES.get(row.accountId)) {
+            case ASSET, EXPENSE -> row.entryType.isDebitType();
+            case EQUITY, INCOME, LIABILITY -> row.entryType.isCreditType();
+        };
+        return isIncrease ? runningBalance.add(row.amount) : runningBalance.subtract(row.amount);
+    }
+
+    private <T> List<T> partitions(RowMapper<T> mapper, Long officeId) throws Exception {
+        Map<Long, LocalDate> fromDates = new HashMap<>();
+        synchronized (journal) {
+            journal.stream().filter(row -> !row.calculated && (officeId == null || row.officeId == officeId))
+                    .forEach(row -> fromDates.merge(row.accountId, row.entryDate,
+                            (first, second) -> first.isBefore(second) ? first : second));
+        }
+        List<T> partitions = new ArrayList<>();
+        for (Map.Entry<Long, LocalDate> fromDate : fromDates.entrySet()) {
+            partitions.add(mapper.mapRow(resultSet(Map.of("accountId", fromDate.getKey(), "fromDate", fromDate.getValue())),
+                    partitions.size()));
+        }
+        return partitions;
+    }
+
+    private List<BigDecimal> organizationSeed(Long accountId, LocalDate fromDate) {
+        synchronized (journal) {
+            List<BigDecimal> seed = new ArrayList<>();
+            sorted(journal).stream().filter(row -> row.accountId == accountId && row.entryDate.isBefore(fromDate))
+                    .reduce((first, second) -> second).ifPresent(row -> seed.add(row.organizationRunningBalance));
+            return seed;
+        }
+    }
+
+    private void officeSeeds(RowCallbackHandler handler, Object[] params) throws Exception {
+        Long accountId = (Long) params[0];
+        LocalDate fromDate = (LocalDate) params[1];
+        Long officeId = params.length == 4 ? (Long) params[2] : null;
+        Map<Long, JournalRow> lastRows = new HashMap<>();
+        synchronized (journal) {
+            sorted(journal).stream()
+                    .filter(row -> row.accountId == accountId && row.entryDate.isBefore(fromDate)
+                            && (officeId == null || row.officeId == officeId))
+                    .forEach(row -> lastRows.put(row.officeId, row.copy()));
+        }
+        for (JournalRow row : lastRows.values()) {
+            Map<String, Object> columns = new HashMap<>();
+            columns.put("officeId", row.officeId);
+            columns.put("runningBalance", row.officeRunningBalance);
+            handler.processRow(resultSet(columns));
+        }
+    }
+
+    private <T> List<T> page(RowMapper<T> mapper, Object[] params) throws Exception {
+        Long accountId = (Long) params[0];
+        Long officeId = params.length == 5 ? (Long) params[1] : null;
+        LocalDate lastEntryDate = (LocalDate) params[params.length - 3];
+        Long lastEntryId = (Long) params[params.length - 1];
+        List<JournalRow> rows;
+        synchronized (journal) {
+            rows = sorted(journal).stream()
+                    .filter(row -> row.accountId == accountId && (officeId == null || row.officeId == officeId))
+                    .filter(row -> row.entryDate.isAfter(lastEntryDate) || (row.entryDate.equals(lastEntryDate) && row.id > lastEntryId))
+                    .limit(PAGE_SIZE).map(JournalRow::copy).toList();
+        }
+        List<T> page = new ArrayList<>();
+        for (JournalRow row : rows) {
+            page.add(mapper.mapRow(resultSet(Map.of("id", row.id, "entryDate", row.entryDate, "officeId", row.officeId, "entryType",
+                    row.entryType.getValue(), "amount", row.amount)), page.size()));
+        }
+        return page;
+    }
+
+    private int[] update(String sql, List<Object[]> batch) {
+        assertTrue(batch.size() <= BATCH_SIZE);
+        boolean officeOnly = !sql.contains("is_running_balance_calculated");
+        synchronized (journal) {
+            for (Object[] params : batch) {
+                Long id = (Long) params[params.length - 1];
+                JournalRow row = journal.stream().filter(candidate -> candidate.id == id).findFirst().orElseThrow();
+                if (officeOnly) {
+                    row.officeRunningBalance = (BigDecimal) params[0];
+                } else {
+                    row.calculated = (Boolean) params[0];
+                    row.organizationRunningBalance = (BigDecimal) params[1];
+                    row.officeRunningBalance = (BigDecimal) params[2];
+                }
+            }
+        }
+        return new int[batch.size()];
+    }
+
+    private static List<JournalRow> sorted(List<JournalRow> rows) {
+        return rows.stream().sorted(Comparator.comparing((JournalRow row) -> row.entryDate).thenComparing(row -> row.id)).toList();
+    }
+
+    private static List<JournalRow> copy(List<JournalRow> rows) {
+        return rows.stream().map(JournalRow::copy).toList();
+    }
+
+    private static List<String> snapshot(List<JournalRow> rows) {
+        return rows.stream().map(row -> row.id + ":" + row.calculated + ":" + plain(row.organizationRunningBalance) + ":"
+                + plain(row.officeRunningBalance)).toList();
+    }
+
+    private static String plain(BigDecimal amount) {
+        return amount == null ? null : amount.stripTrailingZeros().toPlainString();
+    }
+
+    /**
+     * Read-only result set row answering the getters the row mappers of the service use.
+     */
+    private static ResultSet resultSet(Map<String, Object> columns) {
+        List<String> columnNames = new ArrayList<>(columns.keySet());
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[] { ResultSet.class },
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findColumn" -> columnNames.indexOf((String) args[0]) + 1;
+                    case "getLong" -> columns.get((String) args[0]);
+                    case "getInt" -> columns.get(columnNames.get((Integer) args[0] - 1));
+                    case "getDate" -> Date.valueOf((LocalDate) columns.get((String) args[0]));
+                    case "getBigDecimal" -> columns.get((String) args[0]);
+                    case "wasNull" -> false;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static final class JournalRow {
+
+        private final long id;
+        private final long accountId;
+        private final long officeId;
+        private final LocalDate entryDate;
+        private final JournalEntryType entryType;
+        private final BigDecimal amount;
+        private boolean calculated;
+        private BigDecimal organizationRunningBalance;
+        private BigDecimal officeRunningBalance;
+
+        private JournalRow(long id, long accountId, long officeId, LocalDate entryDate, JournalEntryType entryType, BigDecimal amount) {
+            this.id = id;
+            this.accountId = accountId;
+            this.officeId = officeId;
+            this.entryDate = entryDate;
+            this.entryType = entryType;
+            this.amount = amount;
+        }
+
+        private JournalRow copy() {
+            JournalRow copy = new JournalRow(id, accountId, officeId, entryDate, entryType, amount);
+            copy.calculated = calculated;
+            copy.organizationRunningBalance = organizationRunningBalance;
+            copy.officeRunningBalance = officeRunningBalance;
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.listener;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.fineract.infrastructure.core.diagnostics.jpa.RoundTripCountingSessionProfiler;
+import org.apache.fineract.infrastructure.core.diagnostics.jpa.StatementCountingSessionEventListener;
+import org.eclipse.persistence.sessions.SessionProfiler;
+import org.junit.jupiter.api.Test;
+
+public class StatementCountingChunkListenerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final DistributionSummary statements = DistributionSummary.builder("test.chunk.statements").register(registry);
+    private final DistributionSummary roundTrips = DistributionSummary.builder("test.chunk.round-trips").register(registry);
+    private final StatementCountingChunkListener listener = new StatementCountingChunkListener(statements, roundTrips);
+    private final StatementCountingSessionEventListener sessionListener = new StatementCountingSessionEventListener();
+    private final RoundTripCountingSessionProfiler profiler = new RoundTripCountingSessionProfiler();
+
+    @Test
+    public void recordsStatementsExecutedWithinChunk() {
+        executeStatement();
+
+        listener.beforeChunk(null);
+        executeStatement();
+        executeStatement();
+        executeStatement();
+        listener.afterChunk(null);
+
+        executeStatement();
+
+        assertEquals(1L, statements.count());
+        assertEquals(3.0, statements.totalAmount());
+        assertEquals(3.0, roundTrips.totalAmount());
+    }
+
+    @Test
+    public void batchedStatementsCountAsOneRoundTrip() {
+        listener.beforeChunk(null);
+        executeStatement();
+        // three updates appended to a JDBC batch, the batch is executed once
+        sessionListener.postExecuteCall(null);
+        sessionListener.postExecuteCall(null);
+        sessionListener.postExecuteCall(null);
+        profiler.startOperationProfile(SessionProfiler.StatementExecute, null, SessionProfiler.ALL);
+        listener.afterChunk(null);
+
+        assertEquals(4.0, statements.totalAmount());
+        assertEquals(2.0, roundTrips.totalAmount());
+    }
+
+    @Test
+    public void otherProfiledOperationsAreNotRoundTrips() {
+        listener.beforeChunk(null);
+        profiler.startOperationProfile(SessionProfiler.SqlPrepare, null, SessionProfiler.ALL);
+        profiler.startOperationProfile(SessionProfiler.ConnectionManagement, null, SessionProfiler.ALL);
+        listener.afterChunk(null);
+
+        assertEquals(0.0, roundTrips.totalAmount());
+    }
+
+    @Test
+    public void failedChunkIsNotRecorded() {
+        listener.beforeChunk(null);
+        executeStatement();
+        listener.afterChunkError(null);
+
+        assertEquals(0L, statements.count());
+        assertEquals(0L, roundTrips.count());
+        assertEquals(new StatementCountingSessionEventListener.StatementCounts(0L, 0L), StatementCountingSessionEventListener.stop());
+    }
+
+    private void executeStatement() {
+        profiler.startOperationProfile(SessionProfiler.StatementExecute, null, SessionProfiler.ALL);
+        sessionListener.postExecuteCall(null);
+    }
+}
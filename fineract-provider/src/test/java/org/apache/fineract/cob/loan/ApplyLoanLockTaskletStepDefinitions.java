@@ -59,6 +59,9 @@ public class ApplyLoanLockTaskletStepDefinitions implements En {
     private LoanLockingService loanLockingService = mock(LoanLockingService.class);
     private FineractProperties fineractProperties = mock(FineractProperties.class);
     private FineractProperties.FineractQueryProperties fineractQueryProperties = mock(FineractProperties.FineractQueryProperties.class);
+    private FineractProperties.FineractJobProperties fineractJobProperties = mock(FineractProperties.FineractJobProperties.class);
+    private FineractProperties.FineractLoanCobLockProperties fineractLoanCobLockProperties = mock(
+            FineractProperties.FineractLoanCobLockProperties.class);
     private RetrieveLoanIdService retrieveLoanIdService = mock(RetrieveLoanIdService.class);
     private TransactionTemplate transactionTemplate = spy(TransactionTemplate.class);
 
@@ -83,6 +86,8 @@ public class ApplyLoanLockTaskletStepDefinitions implements En {
                     .thenReturn(List.of(1L, 2L, 3L, 4L));
             stepExecution.setExecutionContext(executionContext);
             stepContribution = new StepContribution(stepExecution);
+            lenient().when(fineractProperties.getJob()).thenReturn(fineractJobProperties);
+            lenient().when(fineractJobProperties.getLoanCobLock()).thenReturn(fineractLoanCobLockProperties);
 
             if ("error".equals(action)) {
                 lenient().when(fineractProperties.getQuery()).thenReturn(fineractQueryProperties);
@@ -107,6 +112,37 @@ public class ApplyLoanLockTaskletStepDefinitions implements En {
                 lenient().when(fineractQueryProperties.getInClauseParameterSizeLimit()).thenReturn(65000);
                 lenient().when(loanLockingService.findAllByLoanIdIn(Mockito.anyList())).thenReturn(accountLocks);
                 Mockito.doThrow(new RuntimeException("db error")).when(loanLockingService).applyLock(Mockito.anyList(), any());
+            } else if ("claim".equals(action)) {
+                lenient().when(fineractProperties.getQuery()).thenReturn(fineractQueryProperties);
+                lenient().when(fineractQueryProperties.getInClauseParameterSizeLimit()).thenReturn(65000);
+                lenient().when(fineractLoanCobLockProperties.isSkipLockedClaimEnabled()).thenReturn(true);
+                lenient().when(loanLockingService.claimLocks(Mockito.anyList(), any())).thenReturn(List.of());
+            } else if ("claim-held-once".equals(action)) {
+                lenient().when(fineractProperties.getQuery()).thenReturn(fineractQueryProperties);
+                lenient().when(fineractQueryProperties.getInClauseParameterSizeLimit()).thenReturn(65000);
+                lenient().when(fineractLoanCobLockProperties.isSkipLockedClaimEnabled()).thenReturn(true);
+                lenient().when(loanLockingService.claimLocks(Mockito.anyList(), any())).thenReturn(List.of(3L), List.of());
+            } else if ("claim-held-always".equals(action)) {
+                lenient().when(fineractProperties.getQuery()).thenReturn(fineractQueryProperties);
+                lenient().when(fineractQueryProperties.getInClauseParameterSizeLimit()).thenReturn(65000);
+                lenient().when(fineractLoanCobLockProperties.isSkipLockedClaimEnabled()).thenReturn(true);
+                lenient().when(loanLockingService.claimLocks(Mockito.anyList(), any())).thenReturn(List.of(3L));
+            } else if ("accrual-locked".equals(action)) {
+                LoanAccountLock lock1 = new LoanAccountLock(1L, LockOwner.LOAN_COB_CHUNK_PROCESSING, LocalDate.now(ZoneId.systemDefault()));
+                LoanAccountLock lock3 = new LoanAccountLock(3L, LockOwner.LOAN_PERIODIC_ACCRUAL_PROCESSING,
+                        LocalDate.now(ZoneId.systemDefault()));
+                lenient().when(fineractProperties.getQuery()).thenReturn(fineractQueryProperties);
+                lenient().when(fineractQueryProperties.getInClauseParameterSizeLimit()).thenReturn(65000);
+                lenient().when(loanLockingService.findAllByLoanIdIn(Mockito.anyList())).thenReturn(List.of(lock1, lock3));
+            } else if ("claim-accrual-locked".equals(action)) {
+                LoanAccountLock lock3 = new LoanAccountLock(3L, LockOwner.LOAN_PERIODIC_ACCRUAL_PROCESSING,
+                        LocalDate.now(ZoneId.systemDefault()));
+                lenient().when(fineractProperties.getQuery()).thenReturn(fineractQueryProperties);
+                lenient().when(fineractQueryProperties.getInClauseParameterSizeLimit()).thenReturn(65000);
+                lenient().when(fineractLoanCobLockProperties.isSkipLockedClaimEnabled()).thenReturn(true);
+                lenient().when(loanLockingService.claimLocks(Mockito.anyList(), any())).thenReturn(List.of());
+                lenient().when(loanLockingService.findAllByLoanIdInAndLockOwner(List.of(1L, 2L, 3L, 4L),
+                        LockOwner.LOAN_PERIODIC_ACCRUAL_PROCESSING)).thenReturn(List.of(lock3));
             } else {
                 LoanAccountLock lock1 = new LoanAccountLock(1L, LockOwner.LOAN_COB_CHUNK_PROCESSING, LocalDate.now(ZoneId.systemDefault()));
                 LoanAccountLock lock3 = new LoanAccountLock(3L, LockOwner.LOAN_INLINE_COB_PROCESSING,
@@ -137,6 +173,38 @@ public class ApplyLoanLockTaskletStepDefinitions implements En {
             assertEquals(LockOwner.LOAN_COB_CHUNK_PROCESSING, lockOwnerValueCaptor.getValue());
         });
 
+        Then("ApplyLoanLockTasklet.execute result should claim the locks", () -> {
+            assertEquals(RepeatStatus.FINISHED, resultItem);
+            verify(loanLockingService, Mockito.times(1)).claimLocks(valueCaptor.capture(), lockOwnerValueCaptor.capture());
+            verify(loanLockingService, Mockito.never()).findAllByLoanIdIn(Mockito.anyList());
+            verify(loanLockingService, Mockito.never()).applyLock(Mockito.anyList(), any());
+            assertEquals(List.of(1L, 2L, 3L, 4L), valueCaptor.getValue());
+            assertEquals(LockOwner.LOAN_COB_CHUNK_PROCESSING, lockOwnerValueCaptor.getValue());
+        });
+
+        Then("ApplyLoanLockTasklet.execute result should take over the periodic accrual locks", () -> {
+            assertEquals(RepeatStatus.FINISHED, resultItem);
+            verify(loanLockingService).applyLock(List.of(2L, 4L), LockOwner.LOAN_COB_CHUNK_PROCESSING);
+            verify(loanLockingService).upgradeLock(List.of(3L), LockOwner.LOAN_COB_CHUNK_PROCESSING);
+        });
+
+        Then("ApplyLoanLockTasklet.execute result should claim the locks and take over the periodic accrual locks", () -> {
+            assertEquals(RepeatStatus.FINISHED, resultItem);
+            verify(loanLockingService).claimLocks(List.of(1L, 2L, 3L, 4L), LockOwner.LOAN_COB_CHUNK_PROCESSING);
+            verify(loanLockingService).upgradeLock(List.of(3L), LockOwner.LOAN_COB_CHUNK_PROCESSING);
+        });
+
+        Then("ApplyLoanLockTasklet.execute result should claim the held loans again", () -> {
+            assertEquals(RepeatStatus.FINISHED, resultItem);
+            verify(loanLockingService, Mockito.times(2)).claimLocks(valueCaptor.capture(), lockOwnerValueCaptor.capture());
+            assertEquals(List.of(List.of(1L, 2L, 3L, 4L), List.of(3L)), valueCaptor.getAllValues());
+        });
+
+        Then("ApplyLoanLockTasklet.execute result should retry the step for held loans", () -> {
+            assertEquals(RepeatStatus.CONTINUABLE, resultItem);
+            verify(loanLockingService, Mockito.times(4)).claimLocks(valueCaptor.capture(), lockOwnerValueCaptor.capture());
+        });
+
         Then("throw exception ApplyLoanLockTasklet.execute method", () -> {
             assertThrows(RuntimeException.class, () -> {
                 resultItem = applyLoanLockTasklet.execute(stepContribution, null);
@@ -49,6 +49,8 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.item.ExecutionContext;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @ExtendWith(MockitoExtension.class)
 class LoanItemReaderTest {
@@ -169,4 +171,63 @@ class LoanItemReaderTest {
 
         Mockito.verifyNoMoreInteractions(loanRepository);
     }
+
+    @Test
+    public void testLoanItemReaderPrefetchWindows() throws Exception {
+        // given
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "test", "test", "UTC", null));
+        LoanItemReader loanItemReader = new LoanItemReader(loanRepository, retrieveLoanIdService, customJobParameterResolver,
+                loanLockingService);
+        loanItemReader.setPrefetchWindowSize(2);
+        loanItemReader.setChunkSize(3);
+        when(stepExecution.getExecutionContext()).thenReturn(executionContext);
+        LoanCOBParameter loanCOBParameter = new LoanCOBParameter(1L, 5L);
+        when(executionContext.get(LoanCOBConstant.LOAN_COB_PARAMETER)).thenReturn(loanCOBParameter);
+        when(retrieveLoanIdService.retrieveAllNonClosedLoansByLastClosedBusinessDateAndMinAndMaxLoanId(loanCOBParameter, false))
+                .thenReturn(new ArrayList<>(List.of(1L, 2L, 3L, 4L, 5L)));
+        List<LoanAccountLock> accountLocks = List.of(1L, 2L, 3L, 4L, 5L).stream()
+                .map(l -> new LoanAccountLock(l, LockOwner.LOAN_COB_CHUNK_PROCESSING, LocalDate.of(2023, 7, 25))).toList();
+        when(loanLockingService.findAllByLoanIdInAndLockOwner(List.of(1L, 2L, 3L, 4L, 5L), LockOwner.LOAN_COB_CHUNK_PROCESSING))
+                .thenReturn(accountLocks);
+        List<Loan> loans = IntStream.rangeClosed(1, 5).mapToObj(i -> {
+            Loan windowLoan = Mockito.mock(Loan.class);
+            when(windowLoan.getId()).thenReturn((long) i);
+            return windowLoan;
+        }).toList();
+        when(loanRepository.findAllByIdInForCOB(List.of(1L, 2L))).thenReturn(loans.subList(0, 2));
+        when(loanRepository.findAllByIdInForCOB(List.of(3L))).thenReturn(loans.subList(2, 3));
+        when(loanRepository.findAllByIdInForCOB(List.of(4L, 5L))).thenReturn(loans.subList(3, 5));
+
+        // when + then
+        loanItemReader.beforeStep(stepExecution);
+        try {
+            // first chunk: a full window plus a window capped by the chunk size
+            TransactionSynchronizationManager.initSynchronization();
+            for (int i = 0; i < 3; i++) {
+                Assertions.assertEquals(loans.get(i), loanItemReader.read());
+            }
+            completeTransaction();
+
+            // second chunk: the remaining loans, then the end of the data
+            TransactionSynchronizationManager.initSynchronization();
+            Assertions.assertEquals(loans.get(3), loanItemReader.read());
+            Assertions.assertEquals(loans.get(4), loanItemReader.read());
+            Assertions.assertNull(loanItemReader.read());
+            completeTransaction();
+        } finally {
+            TransactionSynchronizationManager.unbindResourceIfPossible(loanItemReader);
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+
+        verify(loanRepository, times(3)).findAllByIdInForCOB(Mockito.anyCollection());
+        Mockito.verifyNoMoreInteractions(loanRepository);
+    }
+
+    private void completeTransaction() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
 }
@@ -0,0 +1,225 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.loan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.cob.domain.LoanAccountLockRepository;
+import org.apache.fineract.cob.domain.LockOwner;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseTypeResolver;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.mockito.Mockito;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Contention benchmark for claiming COB loan locks with many workers over overlapping id ranges, comparing the lock
+ * table anti-join insert with {@link SkipLockedLoanLockingServiceImpl}. It creates its own {@code m_loan} and
+ * {@code m_loan_account_locks} tables, so it must point to an empty scratch PostgreSQL or MySQL 8 database:
+ *
+ * <pre>
+ * FINERACT_BENCHMARK_JDBC_URL=jdbc:postgresql://localhost:5432/lock_bench FINERACT_BENCHMARK_USERNAME=root \
+ *     FINERACT_BENCHMARK_PASSWORD=mifos ./gradlew :fineract-provider:test --tests LoanLockClaimContentionBenchmark
+ * </pre>
+ */
+@Slf4j
+@EnabledIfEnvironmentVariable(named = "FINERACT_BENCHMARK_JDBC_URL", matches = ".+")
+public class LoanLockClaimContentionBenchmark {
+
+    private static final int NUMBER_OF_LOANS = 200_000;
+    private static final int NUMBER_OF_WORKERS = 16;
+    private static final int RANGE_SIZE = 2_000;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final int ROUNDS = 3;
+
+    private static final String ANTI_JOIN_INSERT = """
+                INSERT INTO m_loan_account_locks (loan_id, version, lock_owner, lock_placed_on, lock_placed_on_cob_business_date)
+                SELECT loan.id, ?, ?, ?, ? FROM m_loan loan
+                    WHERE loan.id NOT IN (SELECT loan_id FROM m_loan_account_locks)
+                    AND loan.id BETWEEN ? AND ?
+                    AND loan.loan_status_id IN (100,200,300,303,304)
+                    AND (? = loan.last_closed_business_date OR loan.last_closed_business_date IS NULL)
+            """;
+
+    private static HikariDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+    private static TransactionTemplate transactionTemplate;
+    private static SkipLockedLoanLockingServiceImpl skipLockedLoanLockingService;
+
+    @BeforeAll
+    public static void setUp() throws Exception {
+        String url = System.getenv("FINERACT_BENCHMARK_JDBC_URL");
+        HikariConfig hikariConfig = new HikariConfig();
+        hikariConfig.setJdbcUrl(url);
+        hikariConfig.setDriverClassName(url.startsWith("jdbc:postgresql") ? "org.postgresql.Driver"
+                : url.startsWith("jdbc:mariadb") ? "org.mariadb.jdbc.Driver" : "com.mysql.cj.jdbc.Driver");
+        hikariConfig.setUsername(System.getenv("FINERACT_BENCHMARK_USERNAME"));
+        hikariConfig.setPassword(System.getenv("FINERACT_BENCHMARK_PASSWORD"));
+        hikariConfig.setMaximumPoolSize(NUMBER_OF_WORKERS + 1);
+        DatabaseTypeResolver databaseTypeResolver = new DatabaseTypeResolver(hikariConfig);
+        databaseTypeResolver.afterPropertiesSet();
+
+        dataSource = new HikariDataSource(hikariConfig);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        skipLockedLoanLockingService = new SkipLockedLoanLockingServiceImpl(jdbcTemplate, Mockito.mock(FineractProperties.class),
+                Mockito.mock(LoanAccountLockRepository.class), databaseTypeResolver);
+
+        jdbcTemplate.execute("""
+                CREATE TABLE m_loan (id BIGINT PRIMARY KEY, loan_status_id SMALLINT NOT NULL, last_closed_business_date DATE)
+                """);
+        jdbcTemplate.execute("""
+                CREATE TABLE m_loan_account_locks (loan_id BIGINT PRIMARY KEY, version BIGINT NOT NULL, lock_owner VARCHAR(50) NOT NULL,
+                    lock_placed_on TIMESTAMP NOT NULL, error VARCHAR(500), stacktrace TEXT, lock_placed_on_cob_business_date DATE)
+                """);
+        List<Long> loanIds = new ArrayList<>(NUMBER_OF_LOANS);
+        for (long id = 1; id <= NUMBER_OF_LOANS; id++) {
+            loanIds.add(id);
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO m_loan (id, loan_status_id) VALUES (?, 300)", loanIds, 1_000,
+                (ps, loanId) -> ps.setLong(1, loanId));
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        if (jdbcTemplate != null) {
+            jdbcTemplate.execute("DROP TABLE m_loan_account_locks");
+            jdbcTemplate.execute("DROP TABLE m_loan");
+            dataSource.close();
+        }
+    }
+
+    @Test
+    public void compareClaimStrategies() throws Exception {
+        runRound("anti-join (warm-up)", this::claimWithAntiJoin);
+        runRound("skip-locked (warm-up)", this::claimWithSkipLocked);
+        for (int round = 1; round <= ROUNDS; round++) {
+            runRound("anti-join", this::claimWithAntiJoin);
+            runRound("skip-locked", this::claimWithSkipLocked);
+        }
+    }
+
+    private interface ClaimStrategy {
+
+        void claim(long fromId, long toId);
+    }
+
+    /**
+     * Every worker takes ranges from a shared queue. Consecutive ranges overlap by half, so neighbouring workers keep
+     * competing for the same loans, like partitions racing with inline COB and retried steps.
+     */
+    private void runRound(String name, ClaimStrategy strategy) throws Exception {
+        jdbcTemplate.execute("DELETE FROM m_loan_account_locks");
+        Queue<long[]> ranges = new ConcurrentLinkedQueue<>();
+        for (long fromId = 1; fromId <= NUMBER_OF_LOANS; fromId += RANGE_SIZE / 2) {
+            ranges.add(new long[] { fromId, Math.min(fromId + RANGE_SIZE - 1, NUMBER_OF_LOANS) });
+        }
+        AtomicInteger failedAttempts = new AtomicInteger();
+        AtomicInteger abandonedRanges = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(NUMBER_OF_WORKERS);
+        long start = System.nanoTime();
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int i = 0; i < NUMBER_OF_WORKERS; i++) {
+                workers.add(executor.submit(() -> {
+                    ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+                    ThreadLocalContextUtil
+                            .setBusinessDates(new HashMap<>(Map.of(BusinessDateType.COB_DATE, LocalDate.now(DateUtils.getSystemZoneId()))));
+                    try {
+                        long[] range;
+                        while ((range = ranges.poll()) != null) {
+                            claimWithRetry(strategy, range, failedAttempts, abandonedRanges);
+                        }
+                    } finally {
+                        ThreadLocalContextUtil.reset();
+                    }
+                }));
+            }
+            for (Future<?> worker : workers) {
+                assertNull(worker.get());
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        Integer locked = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM m_loan_account_locks", Integer.class);
+        log.info("{}: {} workers locked {} of {} loans in {} ms, {} failed attempts, {} abandoned ranges", name, NUMBER_OF_WORKERS, locked,
+                NUMBER_OF_LOANS, elapsedMillis, failedAttempts.get(), abandonedRanges.get());
+        if (abandonedRanges.get() == 0) {
+            assertEquals(NUMBER_OF_LOANS, locked);
+        }
+    }
+
+    private void claimWithRetry(ClaimStrategy strategy, long[] range, AtomicInteger failedAttempts, AtomicInteger abandonedRanges) {
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            try {
+                strategy.claim(range[0], range[1]);
+                return;
+            } catch (DataAccessException e) {
+                // duplicate keys and deadlocks between concurrent claimers
+                failedAttempts.incrementAndGet();
+            }
+        }
+        abandonedRanges.incrementAndGet();
+    }
+
+    private void claimWithAntiJoin(long fromId, long toId) {
+        LocalDate cobBusinessDate = ThreadLocalContextUtil.getBusinessDateByType(BusinessDateType.COB_DATE);
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(ANTI_JOIN_INSERT, 1L,
+                LockOwner.LOAN_COB_CHUNK_PROCESSING.name(), DateUtils.getAuditOffsetDateTime(), cobBusinessDate, fromId, toId,
+                cobBusinessDate.minusDays(1)));
+    }
+
+    private void claimWithSkipLocked(long fromId, long toId) {
+        List<Long> loanIds = jdbcTemplate.queryForList("SELECT id FROM m_loan WHERE id BETWEEN ? AND ?", Long.class, fromId, toId);
+        List<Long> skippedIds = loanIds;
+        while (!skippedIds.isEmpty()) {
+            List<Long> claimIds = skippedIds;
+            skippedIds = transactionTemplate
+                    .execute(status -> skipLockedLoanLockingService.claimLocks(claimIds, LockOwner.LOAN_COB_CHUNK_PROCESSING));
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.loan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.cob.domain.LoanAccountLockRepository;
+import org.apache.fineract.cob.domain.LockOwner;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseTypeResolver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+@ExtendWith(MockitoExtension.class)
+public class SkipLockedLoanLockingServiceImplTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private FineractProperties fineractProperties;
+    @Mock
+    private LoanAccountLockRepository loanAccountLockRepository;
+    @Mock
+    private DatabaseTypeResolver databaseTypeResolver;
+    @Captor
+    private ArgumentCaptor<String> sqlCaptor;
+
+    private SkipLockedLoanLockingServiceImpl underTest;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.COB_DATE, LocalDate.of(2024, 1, 1))));
+        underTest = new SkipLockedLoanLockingServiceImpl(jdbcTemplate, fineractProperties, loanAccountLockRepository,
+                databaseTypeResolver);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testClaimLocksReturnsLoansHeldByConcurrentTransactionsOnPostgreSQL() {
+        when(databaseTypeResolver.isPostgreSQL()).thenReturn(true);
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(Object[].class))).thenReturn(List.of(1L, 2L, 4L));
+
+        List<Long> skipped = underTest.claimLocks(List.of(1L, 2L, 3L, 4L), LockOwner.LOAN_COB_CHUNK_PROCESSING);
+
+        assertEquals(List.of(3L), skipped);
+        verify(jdbcTemplate).queryForList(sqlCaptor.capture(), eq(Long.class), eq(1L), eq(2L), eq(3L), eq(4L));
+        assertTrue(sqlCaptor.getValue().endsWith("WHERE loan.id IN (?,?,?,?) FOR UPDATE SKIP LOCKED"));
+        verify(jdbcTemplate).batchUpdate(sqlCaptor.capture(), eq(List.of(1L, 2L, 4L)), eq(3),
+                any(ParameterizedPreparedStatementSetter.class));
+        assertTrue(sqlCaptor.getValue().contains("ON CONFLICT (loan_id) DO NOTHING"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testClaimLocksIgnoresExistingLocksOnMySQL() {
+        when(databaseTypeResolver.isMySQL()).thenReturn(true);
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(Object[].class))).thenReturn(List.of(2L, 3L));
+
+        assertTrue(underTest.claimLocks(List.of(2L, 3L), LockOwner.LOAN_COB_CHUNK_PROCESSING).isEmpty());
+        verify(jdbcTemplate).batchUpdate(sqlCaptor.capture(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        assertTrue(sqlCaptor.getValue().contains("ON DUPLICATE KEY UPDATE loan_id = loan_id"));
+    }
+
+    @Test
+    public void testClaimLocksWithoutLoansDoesNotQuery() {
+        assertTrue(underTest.claimLocks(List.of(), LockOwner.LOAN_COB_CHUNK_PROCESSING).isEmpty());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testClaimLocksWhenAllLoansAreHeldByOtherTransactions() {
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(Object[].class))).thenReturn(List.of());
+
+        assertEquals(List.of(5L, 6L), underTest.claimLocks(List.of(5L, 6L), LockOwner.LOAN_COB_CHUNK_PROCESSING));
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+    }
+}
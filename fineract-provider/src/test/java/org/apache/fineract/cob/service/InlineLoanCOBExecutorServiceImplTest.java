@@ -19,6 +19,7 @@
 package org.apache.fineract.cob.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
@@ -34,7 +35,11 @@ import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Optional;
 import org.apache.fineract.cob.data.LoanIdAndLastClosedBusinessDate;
+import org.apache.fineract.cob.domain.LoanAccountLock;
+import org.apache.fineract.cob.domain.LoanAccountLockRepository;
+import org.apache.fineract.cob.domain.LockOwner;
 import org.apache.fineract.cob.exceptions.LoanAccountLockCannotBeOverruledException;
 import org.apache.fineract.cob.loan.RetrieveLoanIdService;
 import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
@@ -42,6 +47,8 @@ import org.apache.fineract.infrastructure.core.api.JsonCommand;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
+import org.apache.fineract.useradministration.domain.AppUser;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -62,6 +69,10 @@ class InlineLoanCOBExecutorServiceImplTest {
     @Mock
     private TransactionTemplate transactionTemplate;
     @Mock
+    private LoanAccountLockRepository loanAccountLockRepository;
+    @Mock
+    private PlatformSecurityContext context;
+    @Mock
     private InlineLoanCOBExecutionDataParser dataParser;
     @Mock
     private RetrieveLoanIdService retrieveLoanIdService;
@@ -138,6 +149,29 @@ class InlineLoanCOBExecutorServiceImplTest {
         assertEquals(LocalDate.of(2023, 1, 10), getOldestCOBBusinessDate().invoke(testObj, List.of(loan1, loan2, loan3)));
     }
 
+    @Test
+    void shouldPeriodicAccrualLockBeTakenOver() throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
+        AppUser user = mock(AppUser.class);
+        LocalDate businessDate = LocalDate.of(2023, 1, 10);
+        LoanAccountLock accrualLock = new LoanAccountLock(1L, LockOwner.LOAN_PERIODIC_ACCRUAL_PROCESSING, businessDate);
+        when(context.getAuthenticatedUserIfPresent()).thenReturn(user);
+        when(user.isBypassUser()).thenReturn(false);
+        when(loanAccountLockRepository.findById(1L)).thenReturn(Optional.of(accrualLock));
+        when(loanAccountLockRepository.findById(2L))
+                .thenReturn(Optional.of(new LoanAccountLock(2L, LockOwner.LOAN_COB_CHUNK_PROCESSING, businessDate)));
+
+        assertEquals(List.of(accrualLock), getLoanAccountLocks().invoke(testObj, List.of(1L), businessDate));
+        InvocationTargetException e = assertThrows(InvocationTargetException.class,
+                () -> getLoanAccountLocks().invoke(testObj, List.of(2L), businessDate));
+        assertInstanceOf(LoanAccountLockCannotBeOverruledException.class, e.getCause());
+    }
+
+    private Method getLoanAccountLocks() throws NoSuchMethodException {
+        Method method = InlineLoanCOBExecutorServiceImpl.class.getDeclaredMethod("getLoanAccountLocks", List.class, LocalDate.class);
+        method.setAccessible(true);
+        return method;
+    }
+
     private Method getOldestCOBBusinessDate() throws NoSuchMethodException {
         Method method = InlineLoanCOBExecutorServiceImpl.class.getDeclaredMethod("getOldestCOBBusinessDate", List.class);
         method.setAccessible(true);
@@ -26,6 +26,7 @@ import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -55,6 +56,7 @@ import org.apache.fineract.infrastructure.core.domain.FineractRequestContextHold
 import org.apache.fineract.infrastructure.core.exception.IdempotentCommandProcessUnderProcessingException;
 import org.apache.fineract.infrastructure.core.exception.PlatformApiDataValidationException;
 import org.apache.fineract.infrastructure.core.serialization.ToApiJsonSerializer;
+import org.apache.fineract.infrastructure.hooks.service.HookEventRegistry;
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
 import org.apache.fineract.useradministration.domain.AppUser;
 import org.jetbrains.annotations.NotNull;
@@ -66,7 +68,9 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.mockito.Spy;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEvent;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
@@ -99,6 +103,12 @@ public class SynchronousCommandProcessingServiceTest {
     @Mock
     private RetryConfigurationAssembler retryConfigurationAssembler;
 
+    @Mock
+    private HookEventRegistry hookEventRegistry;
+
+    @Mock
+    private ObjectProvider<CommandProcessedListener> commandProcessedListeners;
+
     @Spy
     private FineractRequestContextHolder fineractRequestContextHolder;
 
@@ -191,6 +201,7 @@ public class SynchronousCommandProcessingServiceTest {
         // verify 2x throw before success
         verify(commandSourceService, times(2)).generateErrorInfo(any());
         verify(commandSourceService).saveResultSameTransaction(commandSource);
+        verify(commandProcessedListeners).orderedStream();
     }
 
     /**
@@ -472,12 +483,25 @@ public class SynchronousCommandProcessingServiceTest {
         String invalidJson = "{ invalidJson }";
 
         when(command.json()).thenReturn(invalidJson);
+        when(hookEventRegistry.hasHooksListeningTo(entityName, actionName)).thenReturn(true);
 
         assertThrows(PlatformApiDataValidationException.class, () -> {
             underTest.publishHookEvent(entityName, actionName, command, Object.class);
         });
     }
 
+    @Test
+    public void publishHookEventWithoutHooksPublishesNothing() {
+        JsonCommand command = Mockito.mock(JsonCommand.class);
+        when(hookEventRegistry.hasHooksListeningTo("entity", "action")).thenReturn(false);
+
+        underTest.publishHookEvent("entity", "action", command, Object.class);
+
+        verify(applicationContext, never()).publishEvent(any(ApplicationEvent.class));
+        verify(applicationContext, never()).publishEvent(any(Object.class));
+        verify(command, never()).json();
+    }
+
     private static final class RetryException extends RuntimeException {}
 
     @Test
@@ -21,16 +21,25 @@ package org.apache.fineract.infrastructure.businessdate.service;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.apache.fineract.infrastructure.businessdate.domain.BusinessDate;
 import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateRepository;
 import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
 import org.apache.fineract.infrastructure.businessdate.exception.BusinessDateNotFoundException;
 import org.apache.fineract.infrastructure.businessdate.mapper.BusinessDateMapper;
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -53,6 +62,17 @@ public class BusinessDateReadPlatformServiceTest {
     @Mock
     private BusinessDateMapper mapper;
 
+    @Mock
+    private ConfigurationDomainService configurationDomainService;
+
+    @Mock
+    private TenantBusinessDateProvider tenantBusinessDateProvider;
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
     @Test
     public void notFoundByTypeNonexistentType() {
         BusinessDateNotFoundException businessDateNotFoundException = assertThrows(BusinessDateNotFoundException.class,
@@ -85,6 +105,31 @@ public class BusinessDateReadPlatformServiceTest {
         verify(mapper, times(1)).map(result.get());
     }
 
+    @Test
+    public void getBusinessDatesUsesStoredBusinessDates() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        LocalDate businessDate = LocalDate.of(2024, 3, 15);
+        given(configurationDomainService.isBusinessDateEnabled()).willReturn(true);
+        given(tenantBusinessDateProvider.getStoredBusinessDates()).willReturn(Map.of(BusinessDateType.BUSINESS_DATE, businessDate));
+
+        HashMap<BusinessDateType, LocalDate> businessDates = businessDateReadPlatformService.getBusinessDates();
+
+        assertEquals(businessDate, businessDates.get(BusinessDateType.BUSINESS_DATE));
+        assertEquals(DateUtils.getLocalDateOfTenant(), businessDates.get(BusinessDateType.COB_DATE));
+        verify(repository, never()).findAll();
+    }
+
+    @Test
+    public void getBusinessDatesIgnoresStoredBusinessDatesWhenDisabled() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        given(configurationDomainService.isBusinessDateEnabled()).willReturn(false);
+
+        HashMap<BusinessDateType, LocalDate> businessDates = businessDateReadPlatformService.getBusinessDates();
+
+        assertEquals(DateUtils.getLocalDateOfTenant(), businessDates.get(BusinessDateType.BUSINESS_DATE));
+        verify(tenantBusinessDateProvider, never()).getStoredBusinessDates();
+    }
+
     @Test
     public void findByBusinessType() {
         Optional<BusinessDate> result = Optional.of(Mockito.mock(BusinessDate.class));
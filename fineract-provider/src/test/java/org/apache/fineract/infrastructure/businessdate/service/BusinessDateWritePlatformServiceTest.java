@@ -22,6 +22,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -72,6 +73,9 @@ public class BusinessDateWritePlatformServiceTest {
     @Mock
     private ConfigurationDomainService configurationDomainService;
 
+    @Mock
+    private TenantBusinessDateProvider businessDateProvider;
+
     @Captor
     private ArgumentCaptor<BusinessDate> businessDateArgumentCaptor;
 
@@ -95,6 +99,7 @@ public class BusinessDateWritePlatformServiceTest {
         BusinessDateActionException exception = assertThrows(BusinessDateActionException.class,
                 () -> underTest.updateBusinessDate(command));
         assertEquals("Business date functionality is not enabled", exception.getDefaultUserMessage());
+        verify(businessDateProvider, never()).evict();
     }
 
     @Test
@@ -115,6 +120,7 @@ public class BusinessDateWritePlatformServiceTest {
         verify(businessDateRepository, times(1)).save(businessDateArgumentCaptor.capture());
         assertEquals(LocalDate.of(2022, 6, 13), businessDateArgumentCaptor.getValue().getDate());
         assertEquals(BusinessDateType.BUSINESS_DATE, businessDateArgumentCaptor.getValue().getType());
+        verify(businessDateProvider, times(1)).evict();
     }
 
     @Test
@@ -276,5 +282,6 @@ public class BusinessDateWritePlatformServiceTest {
         verify(configurationDomainService, times(1)).isCOBDateAdjustmentEnabled();
         verify(businessDateRepository, times(1)).save(businessDateArgumentCaptor.capture());
         assertEquals(localDate, businessDateArgumentCaptor.getValue().getDate());
+        verify(businessDateProvider, times(1)).evict();
     }
 }
@@ -0,0 +1,96 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.businessdate.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.LocalDate;
+import java.util.Map;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateRepository;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+public class TenantBusinessDateProviderTest {
+
+    private static final Map<BusinessDateType, LocalDate> OLD_DATES = Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.of(2024, 1, 1));
+
+    @Mock
+    private BusinessDateRepository repository;
+
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(TenantBusinessDateProvider.CACHE_NAME);
+
+    private TenantBusinessDateProvider underTest;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        underTest = new TenantBusinessDateProvider(repository, cacheManager);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testEvictWithoutTransactionEvictsRightAway() {
+        Cache cache = cacheManager.getCache(TenantBusinessDateProvider.CACHE_NAME);
+        cache.put("defaultBD", OLD_DATES);
+        cache.put("otherBD", OLD_DATES);
+
+        underTest.evict();
+
+        assertNull(cache.get("defaultBD"));
+        assertEquals(OLD_DATES, cache.get("otherBD").get());
+    }
+
+    @Test
+    public void testEvictEvictsAgainOnceTheTransactionCompleted() {
+        TransactionSynchronizationManager.initSynchronization();
+        Cache cache = cacheManager.getCache(TenantBusinessDateProvider.CACHE_NAME);
+        cache.put("defaultBD", OLD_DATES);
+
+        underTest.evict();
+        assertNull(cache.get("defaultBD"));
+
+        // a concurrent request reads the dates from before the commit
+        cache.put("defaultBD", OLD_DATES);
+        ThreadLocalContextUtil.reset();
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        assertNull(cache.get("defaultBD"));
+    }
+}
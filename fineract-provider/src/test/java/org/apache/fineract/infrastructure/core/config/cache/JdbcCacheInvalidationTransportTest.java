@@ -0,0 +1,247 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.config.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.apache.fineract.infrastructure.cache.data.CacheInvalidationMessage;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+/**
+ * Runs the JDBC transport of two nodes against an in-memory <code>cache_invalidation</code> table behind the mocked
+ * {@link JdbcTemplate}. The scheduled polls are made long enough to only run once at start, the tests poll by hand.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class JdbcCacheInvalidationTransportTest {
+
+    private static final Duration POLL_INTERVAL = Duration.ofHours(1);
+    private static final Duration RETENTION = Duration.ofHours(1);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<InvalidationRow> table = new ArrayList<>();
+    private final AtomicInteger polls = new AtomicInteger();
+    private final AtomicInteger purges = new AtomicInteger();
+    private final AtomicBoolean failNextPoll = new AtomicBoolean();
+    private long nextId;
+    private JdbcCacheInvalidationTransport nodeA;
+    private JdbcCacheInvalidationTransport nodeB;
+    private List<CacheInvalidationMessage> receivedByB;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        when(jdbcTemplate.queryForObject("select max(id) from cache_invalidation", Long.class)).thenAnswer(invocation -> maxId());
+        when(jdbcTemplate.update(startsWith("insert into cache_invalidation"), any(Object[].class))).thenAnswer(invocation -> {
+            insert(reserveId(), invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3), invocation.getArgument(4));
+            return 1;
+        });
+        when(jdbcTemplate.update(startsWith("delete from cache_invalidation"), any(Object[].class)))
+                .thenAnswer(invocation -> delete(invocation.getArgument(1)));
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class))).thenAnswer(invocation -> {
+            Object[] arguments = invocation.getArguments();
+            return select(invocation.getArgument(1), Arrays.copyOfRange(arguments, 2, arguments.length));
+        });
+
+        nodeA = new JdbcCacheInvalidationTransport(jdbcTemplate, POLL_INTERVAL, RETENTION);
+        nodeB = new JdbcCacheInvalidationTransport(jdbcTemplate, POLL_INTERVAL, RETENTION);
+        receivedByB = new CopyOnWriteArrayList<>();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        nodeA.stop();
+        nodeB.stop();
+    }
+
+    @Test
+    public void testInvalidationsRoundTripBetweenNodes() throws InterruptedException {
+        start();
+
+        nodeA.publish(new CacheInvalidationMessage("node-a", "users", "mifos"));
+        nodeA.publish(new CacheInvalidationMessage("node-a", "codes", null));
+        nodeB.poll();
+
+        assertEquals(List.of(new CacheInvalidationMessage("node-a", "users", "mifos"),
+                new CacheInvalidationMessage("node-a", "codes", null)), receivedByB);
+        nodeB.poll();
+        assertEquals(2, receivedByB.size());
+    }
+
+    @Test
+    public void testRowsWrittenBeforeStartAreNotDelivered() throws InterruptedException {
+        insert(reserveId(), "node-a", "users", "before", DateUtils.getAuditLocalDateTime());
+        start();
+
+        nodeA.publish(new CacheInvalidationMessage("node-a", "users", "after"));
+        nodeB.poll();
+
+        assertEquals(List.of(new CacheInvalidationMessage("node-a", "users", "after")), receivedByB);
+    }
+
+    @Test
+    public void testRowCommittedBehindAnAlreadyReadRowIsDelivered() throws InterruptedException {
+        start();
+        long uncommittedId = reserveId();
+        nodeA.publish(new CacheInvalidationMessage("node-a", "users", "second"));
+        nodeB.poll();
+        assertEquals(List.of(new CacheInvalidationMessage("node-a", "users", "second")), receivedByB);
+
+        insert(uncommittedId, "node-c", "users", "first", DateUtils.getAuditLocalDateTime());
+        nodeB.poll();
+        nodeB.poll();
+
+        assertEquals(List.of(new CacheInvalidationMessage("node-a", "users", "second"),
+                new CacheInvalidationMessage("node-c", "users", "first")), receivedByB);
+    }
+
+    @Test
+    public void testRowsOlderThanTheRetentionArePurged() throws InterruptedException {
+        insert(reserveId(), "node-a", "users", "old", DateUtils.getAuditLocalDateTime().minus(RETENTION.multipliedBy(2)));
+        insert(reserveId(), "node-a", "users", "recent", DateUtils.getAuditLocalDateTime());
+
+        start();
+        await(() -> purges.get() >= 2, "The polls scheduled at start did not purge");
+
+        synchronized (table) {
+            assertEquals(List.of("recent"), table.stream().map(InvalidationRow::cacheKey).toList());
+        }
+    }
+
+    @Test
+    public void testFailedPollIsRepeatedByTheNextPoll() throws InterruptedException {
+        start();
+        nodeA.publish(new CacheInvalidationMessage("node-a", "users", "mifos"));
+        failNextPoll.set(true);
+
+        nodeB.poll();
+        assertTrue(receivedByB.isEmpty());
+        nodeB.poll();
+
+        assertEquals(List.of(new CacheInvalidationMessage("node-a", "users", "mifos")), receivedByB);
+    }
+
+    /**
+     * Starts both nodes and waits until the poll scheduled at start has run.
+     */
+    private void start() throws InterruptedException {
+        nodeA.start(message -> {});
+        nodeB.start(receivedByB::add);
+        await(() -> polls.get() >= 2, "The polls scheduled at start did not run");
+    }
+
+    private static void await(BooleanSupplier condition, String failure) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail(failure);
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private Long maxId() {
+        synchronized (table) {
+            return table.stream().map(InvalidationRow::id).max(Comparator.naturalOrder()).orElse(null);
+        }
+    }
+
+    private long reserveId() {
+        synchronized (table) {
+            return ++nextId;
+        }
+    }
+
+    private void insert(long id, String nodeId, String cacheName, String cacheKey, LocalDateTime createdDate) {
+        synchronized (table) {
+            table.add(new InvalidationRow(id, nodeId, cacheName, cacheKey, createdDate));
+        }
+    }
+
+    private int delete(LocalDateTime createdBefore) {
+        synchronized (table) {
+            int size = table.size();
+            table.removeIf(row -> row.createdDate().isBefore(createdBefore));
+            purges.incrementAndGet();
+            return size - table.size();
+        }
+    }
+
+    private List<CacheInvalidationMessage> select(RowMapper<CacheInvalidationMessage> mapper, Object[] params) throws Exception {
+        polls.incrementAndGet();
+        if (failNextPoll.getAndSet(false)) {
+            throw new DataAccessResourceFailureException("connection lost");
+        }
+        long lastSeenId = (Long) params[0];
+        List<Long> gaps = Arrays.stream(params, 1, params.length).map(Long.class::cast).toList();
+        List<InvalidationRow> rows;
+        synchronized (table) {
+            rows = table.stream().filter(row -> row.id() > lastSeenId || gaps.contains(row.id()))
+                    .sorted(Comparator.comparing(InvalidationRow::id)).toList();
+        }
+        List<CacheInvalidationMessage> messages = new ArrayList<>();
+        for (InvalidationRow row : rows) {
+            Map<String, Object> columns = new HashMap<>();
+            columns.put("id", row.id());
+            columns.put("node_id", row.nodeId());
+            columns.put("cache_name", row.cacheName());
+            columns.put("cache_key", row.cacheKey());
+            ResultSet resultSet = mock(ResultSet.class, invocation -> columns.get(invocation.<String>getArgument(0)));
+            messages.add(mapper.mapRow(resultSet, messages.size()));
+        }
+        return messages;
+    }
+
+    private record InvalidationRow(long id, String nodeId, String cacheName, String cacheKey, LocalDateTime createdDate) {
+    }
+}
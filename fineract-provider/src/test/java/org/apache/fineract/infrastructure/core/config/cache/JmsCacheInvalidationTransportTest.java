@@ -0,0 +1,196 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.config.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.Mockito.RETURNS_DEFAULTS;
+import static org.mockito.Mockito.mock;
+
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.MapMessage;
+import jakarta.jms.Message;
+import jakarta.jms.MessageConsumer;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Session;
+import jakarta.jms.TextMessage;
+import jakarta.jms.Topic;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.fineract.infrastructure.cache.data.CacheInvalidationMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+/**
+ * Runs the JMS transport of two nodes through an in-memory topic: the mocked connection factory hands out sessions
+ * whose producers deliver every message to the queue of each open consumer.
+ */
+public class JmsCacheInvalidationTransportTest {
+
+    private static final String TOPIC_NAME = "fineract-cache-invalidation";
+
+    private InMemoryTopic topic;
+    private JmsCacheInvalidationTransport nodeA;
+    private JmsCacheInvalidationTransport nodeB;
+    private BlockingQueue<CacheInvalidationMessage> receivedByB;
+
+    @BeforeEach
+    public void setUp() {
+        topic = new InMemoryTopic();
+        nodeA = new JmsCacheInvalidationTransport(topic.connectionFactory(), TOPIC_NAME);
+        nodeB = new JmsCacheInvalidationTransport(topic.connectionFactory(), TOPIC_NAME);
+        receivedByB = new LinkedBlockingQueue<>();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        nodeA.stop();
+        nodeB.stop();
+    }
+
+    @Test
+    public void testInvalidationsRoundTripBetweenNodes() throws InterruptedException {
+        start();
+
+        nodeA.publish(new CacheInvalidationMessage("node-a", "users", "mifos"));
+        nodeA.publish(new CacheInvalidationMessage("node-a", "codes", null));
+
+        assertEquals(new CacheInvalidationMessage("node-a", "users", "mifos"), receivedByB.poll(10, TimeUnit.SECONDS));
+        assertEquals(new CacheInvalidationMessage("node-a", "codes", null), receivedByB.poll(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testUnexpectedMessageTypeIsSkipped() throws InterruptedException {
+        start();
+
+        topic.deliver(mock(TextMessage.class));
+        nodeA.publish(new CacheInvalidationMessage("node-a", "users", "mifos"));
+
+        assertEquals(new CacheInvalidationMessage("node-a", "users", "mifos"), receivedByB.poll(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testPublishingWithoutStartDoesNotConnect() {
+        nodeA.publish(new CacheInvalidationMessage("node-a", "users", "mifos"));
+
+        assertEquals(0, topic.connections.get());
+    }
+
+    @Test
+    public void testStoppedNodeNeitherPublishesNorReceives() throws InterruptedException {
+        start();
+        nodeB.stop();
+
+        nodeB.publish(new CacheInvalidationMessage("node-b", "users", "mifos"));
+        nodeA.publish(new CacheInvalidationMessage("node-a", "users", "mifos"));
+
+        assertNull(receivedByB.poll(500, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * Starts both nodes and waits until both listen on the topic, a topic only delivers to current subscribers.
+     */
+    private void start() throws InterruptedException {
+        nodeA.start(message -> {});
+        nodeB.start(receivedByB::add);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (topic.subscriptions.size() < 2) {
+            if (System.nanoTime() > deadline) {
+                fail("The nodes did not subscribe to the topic");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static final class InMemoryTopic {
+
+        private final List<BlockingQueue<Message>> subscriptions = new CopyOnWriteArrayList<>();
+        private final Map<String, Topic> topics = new ConcurrentHashMap<>();
+        private final AtomicInteger connections = new AtomicInteger();
+
+        private ConnectionFactory connectionFactory() {
+            return fake(ConnectionFactory.class, Map.of("createConnection", invocation -> {
+                connections.incrementAndGet();
+                return fake(Connection.class, Map.of("createSession", sessionInvocation -> session()));
+            }));
+        }
+
+        private Session session() {
+            return fake(Session.class, Map.of( //
+                    "createTopic", invocation -> topics.computeIfAbsent(invocation.getArgument(0), name -> mock(Topic.class)), //
+                    "createMapMessage", invocation -> mapMessage(), //
+                    "createProducer", invocation -> fake(MessageProducer.class, Map.of("send", this::send)), //
+                    "createConsumer", invocation -> consumer()));
+        }
+
+        private Object send(InvocationOnMock invocation) {
+            for (Object argument : invocation.getArguments()) {
+                if (argument instanceof Message message) {
+                    deliver(message);
+                }
+            }
+            return null;
+        }
+
+        private void deliver(Message message) {
+            subscriptions.forEach(subscription -> subscription.add(message));
+        }
+
+        private MessageConsumer consumer() {
+            BlockingQueue<Message> subscription = new LinkedBlockingQueue<>();
+            subscriptions.add(subscription);
+            return fake(MessageConsumer.class, Map.of( //
+                    "receive", invocation -> invocation.getArguments().length == 1
+                            ? subscription.poll(invocation.<Long>getArgument(0), TimeUnit.MILLISECONDS)
+                            : subscription.take(), //
+                    "receiveNoWait", invocation -> subscription.poll(), //
+                    "close", invocation -> subscriptions.remove(subscription)));
+        }
+
+        private static MapMessage mapMessage() {
+            Map<String, Object> values = Collections.synchronizedMap(new HashMap<>());
+            return fake(MapMessage.class, Map.of( //
+                    "setString", invocation -> values.put(invocation.getArgument(0), invocation.getArgument(1)), //
+                    "getString", invocation -> values.get(invocation.<String>getArgument(0))));
+        }
+
+        /**
+         * Mock answering the given methods by name, every other method gives back the Mockito default.
+         */
+        private static <T> T fake(Class<T> type, Map<String, Answer<?>> methods) {
+            return mock(type, invocation -> {
+                Answer<?> answer = methods.get(invocation.getMethod().getName());
+                return answer == null ? RETURNS_DEFAULTS.answer(invocation) : answer.answer(invocation);
+            });
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.config.jpa;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.organisation.office.domain.Office;
+import org.apache.fineract.portfolio.client.domain.Client;
+import org.eclipse.persistence.config.CacheIsolationType;
+import org.eclipse.persistence.config.PersistenceUnitProperties;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.invalidation.TimeToLiveCacheInvalidationPolicy;
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.sessions.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SharedEntityCacheCustomizerTest {
+
+    private ClassDescriptor officeDescriptor;
+    private ClassDescriptor clientDescriptor;
+    private Session session;
+
+    @BeforeEach
+    void setUp() {
+        FineractProperties.FineractJpaSharedCacheProperties sharedCache = new FineractProperties.FineractJpaSharedCacheProperties();
+        sharedCache.setEnabled(true);
+        sharedCache.setEntities(List.of("Office"));
+        sharedCache.setMaxEntriesPerTenant(100);
+        sharedCache.setTimeToLive(Duration.ofMinutes(10));
+        FineractProperties.FineractJpaProperties jpa = new FineractProperties.FineractJpaProperties();
+        jpa.setSharedCache(sharedCache);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setJpa(jpa);
+
+        SharedEntityCacheCustomizer customizer = new SharedEntityCacheCustomizer(fineractProperties);
+        assertEquals(Map.of(PersistenceUnitProperties.SESSION_CUSTOMIZER, SharedEntityCacheSessionCustomizer.class.getName()),
+                customizer.additionalVendorProperties());
+
+        officeDescriptor = descriptor(Office.class);
+        clientDescriptor = descriptor(Client.class);
+        Map<Class<?>, ClassDescriptor> descriptors = new HashMap<>();
+        descriptors.put(Office.class, officeDescriptor);
+        descriptors.put(Client.class, clientDescriptor);
+        session = mock(Session.class);
+        doReturn(descriptors).when(session).getDescriptors();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void listedEntitiesGetATenantPartitionedSharedCache() {
+        new SharedEntityCacheSessionCustomizer().customize(session);
+
+        assertEquals(CacheIsolationType.SHARED, officeDescriptor.getCacheIsolation());
+        assertEquals(TenantPartitionedIdentityMap.class, officeDescriptor.getIdentityMapClass());
+        assertEquals(100, officeDescriptor.getIdentityMapSize());
+        TimeToLiveCacheInvalidationPolicy invalidationPolicy = assertInstanceOf(TimeToLiveCacheInvalidationPolicy.class,
+                officeDescriptor.getCacheInvalidationPolicy());
+        assertEquals(Duration.ofMinutes(10).toMillis(), invalidationPolicy.getTimeToLive());
+        assertTrue(SharedEntityCacheSessionCustomizer.getCachedEntityClasses().contains(Office.class));
+    }
+
+    @Test
+    void otherEntitiesStayIsolated() {
+        ClassDescriptor untouched = descriptor(Client.class);
+
+        new SharedEntityCacheSessionCustomizer().customize(session);
+
+        assertEquals(untouched.getCacheIsolation(), clientDescriptor.getCacheIsolation());
+        assertEquals(untouched.getIdentityMapClass(), clientDescriptor.getIdentityMapClass());
+        assertNotEquals(TenantPartitionedIdentityMap.class, clientDescriptor.getIdentityMapClass());
+        assertFalse(SharedEntityCacheSessionCustomizer.getCachedEntityClasses().contains(Client.class));
+    }
+
+    @Test
+    void identityMapKeepsTheEntitiesOfEachTenantApart() {
+        new SharedEntityCacheSessionCustomizer().customize(session);
+        TenantPartitionedIdentityMap identityMap = new TenantPartitionedIdentityMap(officeDescriptor.getIdentityMapSize(),
+                officeDescriptor, null, false);
+        assertInstanceOf(TenantPartitionedMap.class, identityMap.getCacheKeys());
+
+        switchTenant("tenant1");
+        identityMap.getCacheKeys().put(1L, new CacheKey(1L, mock(Office.class), null));
+        assertNotNull(identityMap.getCacheKey(1L, false));
+
+        switchTenant("tenant2");
+        assertNull(identityMap.getCacheKey(1L, false));
+        assertEquals(0, identityMap.getSize());
+    }
+
+    private static ClassDescriptor descriptor(Class<?> javaClass) {
+        ClassDescriptor descriptor = new ClassDescriptor();
+        descriptor.setJavaClass(javaClass);
+        return descriptor;
+    }
+
+    private static void switchTenant(String tenantIdentifier) {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, tenantIdentifier, tenantIdentifier, "Asia/Kolkata", null));
+    }
+}
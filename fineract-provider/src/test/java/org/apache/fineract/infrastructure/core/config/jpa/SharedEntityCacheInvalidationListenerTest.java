@@ -0,0 +1,162 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.config.jpa;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.fineract.infrastructure.codes.domain.CodeValue;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.organisation.office.domain.Office;
+import org.apache.fineract.portfolio.loanproduct.domain.LoanProduct;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.sessions.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SharedEntityCacheInvalidationListenerTest {
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+    @Mock
+    private Cache cache;
+
+    private final List<String> evictions = new ArrayList<>();
+    private SharedEntityCacheInvalidationListener underTest;
+
+    @BeforeEach
+    void setUp() {
+        SharedEntityCacheSessionCustomizer.configure(Set.of("Office", "CodeValue", "LoanProduct"), 100, null);
+        Map<Class<?>, ClassDescriptor> descriptors = new HashMap<>();
+        for (Class<?> entityClass : List.of(Office.class, CodeValue.class, LoanProduct.class)) {
+            ClassDescriptor descriptor = new ClassDescriptor();
+            descriptor.setJavaClass(entityClass);
+            descriptors.put(entityClass, descriptor);
+        }
+        Session session = mock(Session.class);
+        doReturn(descriptors).when(session).getDescriptors();
+        new SharedEntityCacheSessionCustomizer().customize(session);
+
+        // the shared cache is partitioned by the tenant of the thread, an eviction only clears the partition of that tenant
+        when(entityManagerFactory.getCache()).thenReturn(cache);
+        doAnswer(invocation -> {
+            Class<?> entityClass = invocation.getArgument(0);
+            evictions.add(ThreadLocalContextUtil.getTenant().getTenantIdentifier() + ":" + entityClass.getSimpleName());
+            return null;
+        }).when(cache).evict(any(Class.class));
+
+        underTest = new SharedEntityCacheInvalidationListener(entityManagerFactory);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void commandOutsideOfATransactionEvictsImmediately() {
+        switchTenant("tenant1");
+        underTest.onCommandProcessed("OFFICE", "UPDATE");
+
+        assertEquals(List.of("tenant1:Office"), evictions);
+    }
+
+    @Test
+    void commandInATransactionEvictsAfterCommit() {
+        switchTenant("tenant2");
+        TransactionSynchronizationManager.initSynchronization();
+        underTest.onCommandProcessed("LOANPRODUCT", "UPDATE");
+
+        assertTrue(evictions.isEmpty());
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertEquals(List.of("tenant2:LoanProduct"), evictions);
+    }
+
+    @Test
+    void rolledBackCommandDoesNotEvict() {
+        switchTenant("tenant1");
+        TransactionSynchronizationManager.initSynchronization();
+        underTest.onCommandProcessed("OFFICE", "UPDATE");
+
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertTrue(evictions.isEmpty());
+    }
+
+    @Test
+    void eachTenantEvictsOnlyTheEntityOfItsCommand() {
+        switchTenant("tenant1");
+        underTest.onCommandProcessed("CODE", "DELETE");
+        switchTenant("tenant2");
+        underTest.onCommandProcessed("CODEVALUE", "UPDATE");
+        underTest.onCommandProcessed("OFFICE", "CREATE");
+
+        assertEquals(List.of("tenant1:CodeValue", "tenant2:CodeValue", "tenant2:Office"), evictions);
+    }
+
+    @Test
+    void commandOnAnEntityWithoutSharedCacheDoesNotEvict() {
+        switchTenant("tenant1");
+        TransactionSynchronizationManager.initSynchronization();
+        underTest.onCommandProcessed("CLIENT", "UPDATE");
+
+        assertTrue(TransactionSynchronizationManager.getSynchronizations().isEmpty());
+        assertTrue(evictions.isEmpty());
+    }
+
+    private static void completeTransaction(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private static void switchTenant(String tenantIdentifier) {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, tenantIdentifier, tenantIdentifier, "Asia/Kolkata", null));
+    }
+}
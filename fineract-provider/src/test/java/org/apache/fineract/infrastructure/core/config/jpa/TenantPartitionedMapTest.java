@@ -0,0 +1,87 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.config.jpa;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class TenantPartitionedMapTest {
+
+    private final TenantPartitionedMap<Long, String> map = new TenantPartitionedMap<>(3);
+
+    @AfterEach
+    void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void entriesAreOnlyVisibleToTheirTenant() {
+        switchTenant("tenant1");
+        map.put(1L, "office of tenant1");
+
+        switchTenant("tenant2");
+        assertNull(map.get(1L));
+        assertFalse(map.containsKey(1L));
+        assertNull(map.putIfAbsent(1L, "office of tenant2"));
+        assertEquals(1, map.size());
+
+        switchTenant("tenant1");
+        assertEquals("office of tenant1", map.get(1L));
+        assertEquals("office of tenant1", map.putIfAbsent(1L, "other"));
+    }
+
+    @Test
+    void clearOnlyAffectsTheCurrentTenant() {
+        switchTenant("tenant1");
+        map.put(1L, "a");
+        switchTenant("tenant2");
+        map.put(1L, "b");
+
+        map.clear();
+
+        assertTrue(map.isEmpty());
+        switchTenant("tenant1");
+        assertEquals("a", map.get(1L));
+    }
+
+    @Test
+    void partitionSizeIsBounded() {
+        switchTenant("tenant1");
+        for (long id = 1; id <= 10; id++) {
+            map.put(id, "value" + id);
+        }
+        assertEquals(3, map.size());
+        assertEquals("value10", map.get(10L));
+
+        map.put(10L, "updated");
+        assertEquals(3, map.size());
+        assertEquals("updated", map.get(10L));
+    }
+
+    private static void switchTenant(String tenantIdentifier) {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, tenantIdentifier, tenantIdentifier, "Asia/Kolkata", null));
+    }
+}
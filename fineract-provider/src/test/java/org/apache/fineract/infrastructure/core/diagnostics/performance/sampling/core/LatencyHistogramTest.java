@@ -0,0 +1,113 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.diagnostics.performance.sampling.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+    @Test
+    void testEmptyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        LatencySnapshot snapshot = histogram.snapshot();
+
+        assertEquals(0L, snapshot.count());
+        assertEquals(Duration.ZERO, snapshot.max());
+        assertEquals(Duration.ZERO, snapshot.mean());
+        assertEquals(Duration.ZERO, snapshot.percentile99());
+    }
+
+    @Test
+    void testPercentilesStayWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(Duration.ofMillis(i));
+        }
+
+        LatencySnapshot snapshot = histogram.snapshot();
+
+        assertEquals(1000L, snapshot.count());
+        assertEquals(Duration.ofMillis(1000), snapshot.max());
+        assertEquals(Duration.ofNanos(500_500_000L), snapshot.mean());
+        assertWithinPrecision(Duration.ofMillis(500), snapshot.median());
+        assertWithinPrecision(Duration.ofMillis(950), snapshot.percentile95());
+        assertWithinPrecision(Duration.ofMillis(990), snapshot.percentile99());
+    }
+
+    @Test
+    void testValuesAboveTrackableRangeKeepExactMax() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(Duration.ofHours(2));
+
+        assertEquals(Duration.ofHours(2), histogram.getMax());
+        assertEquals(Duration.ofHours(2), histogram.getValueAtPercentile(100.0));
+    }
+
+    @Test
+    void testBucketsCoverEveryValue() {
+        for (long value : new long[] { 0L, 1L, 31L, 32L, 33L, 63L, 64L, 1_000_000L, 123_456_789L, (1L << 41) - 1 }) {
+            int index = LatencyHistogram.bucketIndex(value);
+            assertTrue(LatencyHistogram.bucketUpperBound(index) >= value, "upper bound below " + value);
+            assertTrue(index == 0 || LatencyHistogram.bucketUpperBound(index - 1) < value, "lower bound above " + value);
+        }
+        assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.bucketIndex(Long.MAX_VALUE));
+    }
+
+    @Test
+    void testConcurrentRecordingLosesNoSample() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    histogram.record(i);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        assertEquals(80_000L, histogram.getCount());
+        assertEquals(Duration.ofNanos(9_999L), histogram.getMax());
+    }
+
+    @Test
+    void testReset() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(Duration.ofMillis(5));
+
+        histogram.reset();
+
+        assertEquals(0L, histogram.getCount());
+        assertEquals(Duration.ZERO, histogram.getValueAtPercentile(50.0));
+    }
+
+    private static void assertWithinPrecision(Duration expected, Duration actual) {
+        double relativeError = Math.abs(actual.toNanos() - expected.toNanos()) / (double) expected.toNanos();
+        assertTrue(relativeError <= 0.035, "expected " + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,168 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.service.database;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class ReadReplicaLagGuardTest {
+
+    @Mock
+    private DatabaseTypeResolver databaseTypeResolver;
+    @Mock
+    private DataSource readReplicaDataSource;
+    @Mock
+    private Connection connection;
+    @Mock
+    private Statement statement;
+    @Mock
+    private ResultSet resultSet;
+
+    private FineractProperties.FineractReadReplicaProperties readReplicaProperties;
+
+    private ReadReplicaLagGuard underTest;
+
+    @BeforeEach
+    public void setUp() throws SQLException {
+        readReplicaProperties = new FineractProperties.FineractReadReplicaProperties();
+        readReplicaProperties.setEnabled(true);
+        readReplicaProperties.setMaxLag(Duration.ofSeconds(10));
+        readReplicaProperties.setLagCheckInterval(Duration.ofHours(1));
+        FineractProperties.FineractTenantProperties tenantProperties = new FineractProperties.FineractTenantProperties();
+        tenantProperties.setReadReplica(readReplicaProperties);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setTenant(tenantProperties);
+        underTest = new ReadReplicaLagGuard(fineractProperties, databaseTypeResolver);
+
+        when(readReplicaDataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+        when(resultSet.findColumn("Seconds_Behind_Source")).thenReturn(3);
+    }
+
+    @Test
+    public void testReplicaWithinMaxLagIsUsedAndMeasuredOncePerInterval() throws SQLException {
+        givenMySQLLagOfSeconds(BigDecimal.valueOf(4));
+
+        assertTrue(underTest.isWithinMaxLag(1L, readReplicaDataSource));
+        assertTrue(underTest.isWithinMaxLag(1L, readReplicaDataSource));
+
+        verify(readReplicaDataSource, times(1)).getConnection();
+    }
+
+    @Test
+    public void testReplicaIsMeasuredAgainOnceTheIntervalElapsed() throws SQLException {
+        readReplicaProperties.setLagCheckInterval(Duration.ZERO);
+        givenMySQLLagOfSeconds(BigDecimal.valueOf(4));
+        assertTrue(underTest.isWithinMaxLag(1L, readReplicaDataSource));
+
+        givenMySQLLagOfSeconds(BigDecimal.valueOf(11));
+        assertFalse(underTest.isWithinMaxLag(1L, readReplicaDataSource));
+
+        verify(readReplicaDataSource, times(2)).getConnection();
+    }
+
+    @Test
+    public void testReplicaBehindMaxLagFallsBackToPrimary() throws SQLException {
+        givenMySQLLagOfSeconds(new BigDecimal("10.5"));
+
+        assertFalse(underTest.isWithinMaxLag(1L, readReplicaDataSource));
+    }
+
+    @Test
+    public void testStoppedReplicationFallsBackToPrimary() throws SQLException {
+        givenMySQLLagOfSeconds(null);
+
+        assertFalse(underTest.isWithinMaxLag(1L, readReplicaDataSource));
+    }
+
+    @Test
+    public void testUnreachableReplicaFallsBackToPrimary() throws SQLException {
+        when(readReplicaDataSource.getConnection()).thenThrow(new SQLException("Connection refused"));
+
+        assertFalse(underTest.isWithinMaxLag(1L, readReplicaDataSource));
+    }
+
+    @Test
+    public void testConnectionWithoutReplicaStatusIsUsed() throws SQLException {
+        when(resultSet.next()).thenReturn(false);
+
+        assertTrue(underTest.isWithinMaxLag(1L, readReplicaDataSource));
+    }
+
+    @Test
+    public void testPostgreSQLReplayLagIsUsed() throws SQLException {
+        when(databaseTypeResolver.isPostgreSQL()).thenReturn(true);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getBigDecimal(1)).thenReturn(new BigDecimal("0.250"));
+
+        assertTrue(underTest.isWithinMaxLag(1L, readReplicaDataSource));
+    }
+
+    @Test
+    public void testRequestsDuringTheFirstMeasurementUsePrimaryWithoutMeasuring() throws Exception {
+        CountDownLatch measuring = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        givenMySQLLagOfSeconds(BigDecimal.ONE);
+        when(readReplicaDataSource.getConnection()).thenAnswer(invocation -> {
+            measuring.countDown();
+            assertTrue(release.await(10, TimeUnit.SECONDS));
+            return connection;
+        });
+
+        CompletableFuture<Boolean> firstRequest = CompletableFuture.supplyAsync(() -> underTest.isWithinMaxLag(1L, readReplicaDataSource));
+        assertTrue(measuring.await(10, TimeUnit.SECONDS));
+        assertFalse(underTest.isWithinMaxLag(1L, readReplicaDataSource));
+        release.countDown();
+
+        assertTrue(firstRequest.get(10, TimeUnit.SECONDS));
+        assertTrue(underTest.isWithinMaxLag(1L, readReplicaDataSource));
+        verify(readReplicaDataSource, times(1)).getConnection();
+    }
+
+    private void givenMySQLLagOfSeconds(BigDecimal seconds) throws SQLException {
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getBigDecimal(3)).thenReturn(seconds);
+    }
+}
@@ -0,0 +1,175 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.service.database;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenantConnection;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.tenant.TenantDetailsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class TomcatJdbcDataSourcePerTenantServiceTest {
+
+    // the data sources are kept in static maps, every test uses connections of its own
+    private static final AtomicLong CONNECTION_IDS = new AtomicLong(1_000_000L);
+
+    @Mock
+    private DataSource defaultDataSource;
+    @Mock
+    private DataSource primaryDataSource;
+    @Mock
+    private DataSource readReplicaDataSource;
+    @Mock
+    private TenantDetailsService tenantDetailsService;
+    @Mock
+    private DataSourcePerTenantServiceFactory dataSourcePerTenantServiceFactory;
+    @Mock
+    private ReadReplicaLagGuard readReplicaLagGuard;
+    @Mock
+    private FineractPlatformTenantConnection tenantConnection;
+
+    private final FineractProperties fineractProperties = new FineractProperties();
+    private FineractProperties.FineractReadReplicaProperties readReplicaProperties;
+    private final FineractProperties.FineractModeProperties modeProperties = new FineractProperties.FineractModeProperties();
+
+    private Long connectionId;
+    private FineractPlatformTenant tenant;
+    private TomcatJdbcDataSourcePerTenantService underTest;
+
+    @BeforeEach
+    public void setUp() {
+        readReplicaProperties = new FineractProperties.FineractReadReplicaProperties();
+        readReplicaProperties.setEnabled(true);
+        readReplicaProperties.setMaxLag(Duration.ofSeconds(10));
+        readReplicaProperties.setLagCheckInterval(Duration.ofSeconds(5));
+        FineractProperties.FineractTenantProperties tenantProperties = new FineractProperties.FineractTenantProperties();
+        tenantProperties.setReadReplica(readReplicaProperties);
+        fineractProperties.setTenant(tenantProperties);
+        modeProperties.setReadEnabled(true);
+        modeProperties.setWriteEnabled(true);
+        modeProperties.setBatchWorkerEnabled(true);
+        modeProperties.setBatchManagerEnabled(true);
+        fineractProperties.setMode(modeProperties);
+
+        connectionId = CONNECTION_IDS.incrementAndGet();
+        when(tenantConnection.getConnectionId()).thenReturn(connectionId);
+        tenant = new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", tenantConnection);
+        ThreadLocalContextUtil.setTenant(tenant);
+
+        when(dataSourcePerTenantServiceFactory.createNewDataSourceFor(tenant, tenantConnection)).thenReturn(primaryDataSource);
+        when(dataSourcePerTenantServiceFactory.createNewReadReplicaDataSourceFor(tenant, tenantConnection))
+                .thenReturn(readReplicaDataSource);
+        when(dataSourcePerTenantServiceFactory.hasReadReplica(tenantConnection)).thenReturn(true);
+        when(readReplicaLagGuard.isWithinMaxLag(connectionId, readReplicaDataSource)).thenReturn(true);
+
+        underTest = new TomcatJdbcDataSourcePerTenantService(defaultDataSource, tenantDetailsService, dataSourcePerTenantServiceFactory,
+                fineractProperties, readReplicaLagGuard);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testReadOnlyTransactionIsRoutedToTheReadReplica() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertSame(readReplicaDataSource, underTest.retrieveDataSource());
+        assertSame(readReplicaDataSource, underTest.retrieveDataSource());
+
+        verify(dataSourcePerTenantServiceFactory, times(1)).createNewReadReplicaDataSourceFor(tenant, tenantConnection);
+        verify(dataSourcePerTenantServiceFactory, never()).createNewDataSourceFor(any(), any());
+    }
+
+    @Test
+    public void testReadWriteTransactionIsRoutedToThePrimary() {
+        assertSame(primaryDataSource, underTest.retrieveDataSource());
+
+        verify(dataSourcePerTenantServiceFactory, never()).createNewReadReplicaDataSourceFor(any(), any());
+        verify(readReplicaLagGuard, never()).isWithinMaxLag(any(), any());
+    }
+
+    @Test
+    public void testReadOnlyTransactionFallsBackToThePrimaryWhenTheReplicaLags() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(readReplicaLagGuard.isWithinMaxLag(eq(connectionId), any())).thenReturn(false);
+
+        assertSame(primaryDataSource, underTest.retrieveDataSource());
+    }
+
+    @Test
+    public void testReadOnlyTransactionIsRoutedToThePrimaryWhenRoutingIsDisabled() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        readReplicaProperties.setEnabled(false);
+
+        assertSame(primaryDataSource, underTest.retrieveDataSource());
+        verify(readReplicaLagGuard, never()).isWithinMaxLag(any(), any());
+    }
+
+    @Test
+    public void testReadOnlyTransactionIsRoutedToThePrimaryWithoutReadOnlyConnection() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(dataSourcePerTenantServiceFactory.hasReadReplica(tenantConnection)).thenReturn(false);
+
+        assertSame(primaryDataSource, underTest.retrieveDataSource());
+        verify(dataSourcePerTenantServiceFactory, never()).createNewReadReplicaDataSourceFor(any(), any());
+    }
+
+    @Test
+    public void testReadOnlyInstanceKeepsItsOwnDataSource() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        modeProperties.setWriteEnabled(false);
+        modeProperties.setBatchWorkerEnabled(false);
+        modeProperties.setBatchManagerEnabled(false);
+
+        assertSame(primaryDataSource, underTest.retrieveDataSource());
+        verify(readReplicaLagGuard, never()).isWithinMaxLag(any(), any());
+    }
+
+    @Test
+    public void testRequestWithoutTenantUsesTheDefaultDataSource() {
+        ThreadLocalContextUtil.reset();
+
+        assertSame(defaultDataSource, underTest.retrieveDataSource());
+    }
+}
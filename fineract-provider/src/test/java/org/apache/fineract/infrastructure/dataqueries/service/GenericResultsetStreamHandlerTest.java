@@ -0,0 +1,84 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.dataqueries.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.fineract.infrastructure.core.serialization.ExcludeNothingWithPrettyPrintingOffJsonSerializerGoogleGson;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseType;
+import org.apache.fineract.infrastructure.dataqueries.data.GenericResultsetData;
+import org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData;
+import org.apache.fineract.infrastructure.dataqueries.data.ResultsetRowData;
+import org.junit.jupiter.api.Test;
+
+class GenericResultsetStreamHandlerTest {
+
+    private final List<ResultsetColumnHeaderData> columnHeaders = List.of(
+            ResultsetColumnHeaderData.basic("name", "VARCHAR", DatabaseType.MYSQL),
+            ResultsetColumnHeaderData.basic("amount", "DECIMAL", DatabaseType.MYSQL),
+            ResultsetColumnHeaderData.basic("due_date", "DATE", DatabaseType.MYSQL));
+    private final List<List<Object>> rows = List.of(Arrays.asList("Loan \"A\"", new BigDecimal("12.50"), LocalDate.of(2024, 3, 1)),
+            Arrays.asList("Loan B", null, null));
+
+    @Test
+    void testCsvHandlerWritesHeaderAndRows() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        stream(new CsvResultsetStreamHandler(out));
+
+        assertEquals("name,amount,due_date\r\n\"Loan \"\"A\"\"\",12.50,2024-03-01\r\nLoan B,,\r\n", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testJsonHandlerMatchesSerializedResultset() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        stream(new JsonResultsetStreamHandler(out));
+
+        List<ResultsetRowData> data = new ArrayList<>();
+        rows.forEach(row -> data.add(ResultsetRowData.create(row)));
+        String expected = new ExcludeNothingWithPrettyPrintingOffJsonSerializerGoogleGson()
+                .serialize(new GenericResultsetData(columnHeaders, data));
+        assertEquals(expected, out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testPlainJsonHandlerWritesOneObjectPerRow() throws IOException {
+        StringWriter writer = new StringWriter();
+        stream(new PlainJsonResultsetStreamHandler(writer));
+
+        assertEquals("[\n{\"name\": \"Loan \\\"A\\\"\",\n\"amount\": 12.50,\n\"due_date\": [2024,3,1]},\n{\"name\": \"Loan B\",\n"
+                + "\"amount\": null,\n\"due_date\": null}\n]", writer.toString());
+    }
+
+    private void stream(GenericResultsetStreamHandler handler) throws IOException {
+        handler.start(columnHeaders);
+        for (List<Object> row : rows) {
+            handler.row(row);
+        }
+        handler.finish();
+    }
+}
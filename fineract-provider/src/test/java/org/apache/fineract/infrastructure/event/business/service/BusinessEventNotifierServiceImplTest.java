@@ -21,20 +21,24 @@ package org.apache.fineract.infrastructure.event.business.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
 import java.util.HashMap;
+import java.util.List;
 import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.infrastructure.event.business.BusinessEventListener;
 import org.apache.fineract.infrastructure.event.business.domain.BulkBusinessEvent;
 import org.apache.fineract.infrastructure.event.business.domain.BusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.BusinessEventWithContext;
 import org.apache.fineract.infrastructure.event.external.service.ExternalEventService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -86,11 +90,17 @@ class BusinessEventNotifierServiceImplTest {
         verifyNoInteractions(externalEventService);
         // simulate finish transaction
         underTest.beforeCommit(mockTransaction);
-        verify(externalEventService).postEvent(event);
+        verifyPostedEvents(event);
         underTest.afterCommit(mockTransaction, null);
         verifyNoInteractions(mockTransaction);
     }
 
+    private void verifyPostedEvents(BusinessEvent<?>... events) {
+        ArgumentCaptor<List<BusinessEventWithContext>> argumentCaptor = ArgumentCaptor.forClass(List.class);
+        verify(externalEventService, atLeastOnce()).postEvents(argumentCaptor.capture());
+        assertThat(argumentCaptor.getValue()).extracting(BusinessEventWithContext::event).containsExactly(events);
+    }
+
     private void setBusinessDate() {
         HashMap<BusinessDateType, LocalDate> map = new HashMap<>(2);
         map.put(BusinessDateType.BUSINESS_DATE, LocalDate.of(2023, 2, 1));
@@ -125,10 +135,10 @@ class BusinessEventNotifierServiceImplTest {
         // simulate commit nested transaction
         underTest.beforeCommit(mockTransaction);
         underTest.afterCommit(mockTransaction, null);
-        verify(externalEventService).postEvent(nestedEvent);
+        verifyPostedEvents(nestedEvent);
         // simulate commit outer transaction
         underTest.beforeCommit(mockTransaction);
-        verify(externalEventService).postEvent(event);
+        verifyPostedEvents(event);
         underTest.afterCommit(mockTransaction, null);
         verifyNoInteractions(mockTransaction);
     }
@@ -162,7 +172,7 @@ class BusinessEventNotifierServiceImplTest {
         verifyNoInteractions(externalEventService);
         // simulate commit outer transaction
         underTest.beforeCommit(mockTransaction);
-        verify(externalEventService).postEvent(event);
+        verifyPostedEvents(event);
         underTest.afterCommit(mockTransaction, null);
         verifyNoInteractions(mockTransaction);
     }
@@ -324,6 +334,23 @@ class BusinessEventNotifierServiceImplTest {
         verifyNoInteractions(externalEventService);
     }
 
+    @Test
+    public void testNotifyPostBusinessEventShouldNotifyListenersOfSuperTypesAndListenersAddedLater() {
+        // given
+        configureExternalEventsProperties(false);
+        MockBusinessEvent event = new MockBusinessEvent();
+        BusinessEventListener<MockBusinessEvent> postListener = mockListener();
+        BusinessEventListener superTypeListener = mock(BusinessEventListener.class);
+        underTest.addPostBusinessEventListener(MockBusinessEvent.class, postListener);
+        underTest.notifyPostBusinessEvent(event);
+        // when
+        underTest.addPostBusinessEventListener(BusinessEvent.class, superTypeListener);
+        underTest.notifyPostBusinessEvent(event);
+        // then
+        verify(postListener, times(2)).onBusinessEvent(event);
+        verify(superTypeListener).onBusinessEvent(event);
+    }
+
     private void configureExternalEventsProperties(boolean isExternalEventsEnabled) {
         FineractProperties.FineractEventsProperties eventsProperties = new FineractProperties.FineractEventsProperties();
         FineractProperties.FineractExternalEventsProperties externalProperties = new FineractProperties.FineractExternalEventsProperties();
@@ -0,0 +1,203 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.jobs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.domain.ActionContext;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.event.external.data.ExternalEventData;
+import org.apache.fineract.infrastructure.event.external.exception.AcknowledgementTimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+class ExternalEventSendPipelineTest {
+
+    private static final int BATCH_SIZE = 4;
+
+    private ThreadPoolTaskExecutor serializationExecutor;
+    private final List<Map<Long, List<byte[]>>> producedBatches = new CopyOnWriteArrayList<>();
+    private final List<Long> markedEventIds = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
+        ThreadLocalContextUtil
+                .setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.now(ZoneId.systemDefault()))));
+        serializationExecutor = new ThreadPoolTaskExecutor();
+        serializationExecutor.setCorePoolSize(2);
+        serializationExecutor.setMaxPoolSize(2);
+        serializationExecutor.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        serializationExecutor.shutdown();
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void testAllBatchesAreSentInOrderPerAggregateRoot() {
+        // given
+        List<ExternalEventData> events = createEvents(10, 3);
+
+        // when
+        long sent = createPipeline(events, producedBatches::add).run();
+
+        // then
+        assertEquals(10, sent);
+        assertEquals(3, producedBatches.size());
+        assertEquals(events.stream().map(ExternalEventData::getId).toList(), markedEventIds.stream().sorted().toList());
+        Map<Long, List<String>> producedPerAggregateRoot = new HashMap<>();
+        producedBatches.forEach(batch -> batch.forEach((aggregateRootId, messages) -> messages.forEach(message -> producedPerAggregateRoot
+                .computeIfAbsent(aggregateRootId, key -> new ArrayList<>()).add(new String(message, StandardCharsets.UTF_8)))));
+        producedPerAggregateRoot.values().forEach(messages -> assertEquals(messages.stream().sorted(
+                (first, second) -> Long.compare(Long.parseLong(first), Long.parseLong(second))).toList(), messages));
+    }
+
+    @Test
+    void testNextBatchIsReadWhileTheCurrentOneIsProduced() throws InterruptedException {
+        // given
+        List<ExternalEventData> events = createEvents(8, 2);
+        CountDownLatch secondBatchRead = new CountDownLatch(1);
+        List<Boolean> overlapped = new CopyOnWriteArrayList<>();
+        Function<ExternalEventData, List<ExternalEventData>> reader = reader(events);
+        Function<ExternalEventData, List<ExternalEventData>> signallingReader = lastRead -> {
+            List<ExternalEventData> batch = reader.apply(lastRead);
+            if (lastRead != null) {
+                secondBatchRead.countDown();
+            }
+            return batch;
+        };
+        Consumer<Map<Long, List<byte[]>>> producer = partitions -> {
+            if (producedBatches.isEmpty()) {
+                try {
+                    // a sequential sender would never read the second batch while this one is blocked
+                    overlapped.add(secondBatchRead.await(10, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            producedBatches.add(partitions);
+        };
+
+        // when
+        long sent = new ExternalEventSendPipeline(BATCH_SIZE, 2, 2, signallingReader, this::serialize, producer, markedEventIds::addAll,
+                serializationExecutor, new ExternalEventSendPipelineMetrics(Optional.empty())).run();
+
+        // then
+        assertEquals(List.of(true), overlapped);
+        assertEquals(8, sent);
+    }
+
+    @Test
+    void testLaterBatchesAreNotSentAfterAFailedBatch() {
+        // given
+        List<ExternalEventData> events = createEvents(12, 3);
+        Consumer<Map<Long, List<byte[]>>> producer = partitions -> {
+            if (producedBatches.size() == 1) {
+                throw new AcknowledgementTimeoutException("Event Send Exception", new RuntimeException());
+            }
+            producedBatches.add(partitions);
+        };
+
+        // when
+        long sent = createPipeline(events, producer).run();
+
+        // then
+        assertEquals(BATCH_SIZE, sent);
+        assertEquals(1, producedBatches.size());
+        assertEquals(events.subList(0, BATCH_SIZE).stream().map(ExternalEventData::getId).toList(), markedEventIds);
+    }
+
+    @Test
+    void testPreviousBatchIsMarkedWhileTheNextOneIsProduced() {
+        // given
+        List<ExternalEventData> events = createEvents(3 * BATCH_SIZE, 2);
+        CountDownLatch secondBatchProduced = new CountDownLatch(1);
+        List<Boolean> overlapped = new CopyOnWriteArrayList<>();
+        Consumer<Map<Long, List<byte[]>>> producer = partitions -> {
+            producedBatches.add(partitions);
+            if (producedBatches.size() == 2) {
+                secondBatchProduced.countDown();
+            }
+        };
+        Consumer<List<Long>> markAsSent = eventIds -> {
+            if (markedEventIds.isEmpty()) {
+                try {
+                    // a sequential sender would never produce the second batch before this one is marked
+                    overlapped.add(secondBatchProduced.await(10, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            markedEventIds.addAll(eventIds);
+        };
+
+        // when
+        long sent = new ExternalEventSendPipeline(BATCH_SIZE, 3, 2, reader(events), this::serialize, producer, markAsSent,
+                serializationExecutor, new ExternalEventSendPipelineMetrics(Optional.empty())).run();
+
+        // then
+        assertEquals(List.of(true), overlapped);
+        assertEquals(3L * BATCH_SIZE, sent);
+        assertEquals(events.stream().map(ExternalEventData::getId).toList(), markedEventIds);
+    }
+
+    private ExternalEventSendPipeline createPipeline(List<ExternalEventData> events, Consumer<Map<Long, List<byte[]>>> producer) {
+        return new ExternalEventSendPipeline(BATCH_SIZE, 3, 2, reader(events), this::serialize, producer, markedEventIds::addAll,
+                serializationExecutor, new ExternalEventSendPipelineMetrics(Optional.empty()));
+    }
+
+    private Function<ExternalEventData, List<ExternalEventData>> reader(List<ExternalEventData> events) {
+        return lastRead -> {
+            int from = lastRead == null ? 0 : events.indexOf(lastRead) + 1;
+            return events.subList(from, Math.min(from + BATCH_SIZE, events.size()));
+        };
+    }
+
+    private List<byte[]> serialize(List<ExternalEventData> events) {
+        assertEquals(1L, ThreadLocalContextUtil.getTenant().getId());
+        return events.stream().map(event -> String.valueOf(event.getId()).getBytes(StandardCharsets.UTF_8)).toList();
+    }
+
+    private static List<ExternalEventData> createEvents(int count, int aggregateRoots) {
+        return LongStream.rangeClosed(1, count).mapToObj(id -> new ExternalEventData(id, "aType", "aCategory", "aSchema", new byte[0], null,
+                null, null, "aIdempotencyKey", LocalDate.now(ZoneId.systemDefault()), id % aggregateRoots)).toList();
+    }
+}
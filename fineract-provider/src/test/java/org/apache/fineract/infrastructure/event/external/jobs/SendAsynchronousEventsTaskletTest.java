@@ -25,6 +25,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import jakarta.persistence.EntityManager;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
@@ -34,8 +35,10 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
 import org.apache.fineract.avro.MessageV1;
 import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
 import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
@@ -43,6 +46,7 @@ import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.domain.ActionContext;
 import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.event.external.data.ExternalEventData;
 import org.apache.fineract.infrastructure.event.external.exception.AcknowledgementTimeoutException;
 import org.apache.fineract.infrastructure.event.external.producer.ExternalEventProducer;
 import org.apache.fineract.infrastructure.event.external.repository.ExternalEventRepository;
@@ -112,7 +116,7 @@ class SendAsynchronousEventsTaskletTest {
         when(transactionTemplate.execute(ArgumentMatchers.any()))
                 .thenAnswer(invocation -> invocation.<TransactionCallback<Boolean>>getArgument(0).doInTransaction(transactionStatus));
         underTest = new SendAsynchronousEventsTasklet(fineractProperties, repository, eventProducer, messageFactory, byteBufferConverter,
-                configurationDomainService, transactionTemplate, taskExecutor);
+                configurationDomainService, transactionTemplate, taskExecutor, new ExternalEventSendPipelineMetrics(Optional.empty()));
     }
 
     @AfterEach
@@ -236,6 +240,36 @@ class SendAsynchronousEventsTaskletTest {
         assertThat(externalEventPageSizeArgumentCaptor.getValue().getPageSize()).isEqualTo(10);
     }
 
+    @Test
+    public void givenPipelineEnabledWhenTaskExecutionThenDetachedEventsAreReadAndPersistenceContextIsClearedPerBatch()
+            throws Exception {
+        // given
+        FineractProperties.FineractExternalEventsPipelineProperties pipelineProperties = new FineractProperties.FineractExternalEventsPipelineProperties();
+        pipelineProperties.setEnabled(true);
+        pipelineProperties.setMaxInFlightBatches(2);
+        pipelineProperties.setSerializationParallelism(2);
+        fineractProperties.getEvents().getExternal().setPipeline(pipelineProperties);
+        EntityManager entityManager = Mockito.mock(EntityManager.class);
+        underTest.setEntityManager(entityManager);
+        List<ExternalEventData> events = LongStream.rangeClosed(1, 10).mapToObj(id -> new ExternalEventData(id, "aType", "aCategory",
+                "aSchema", new byte[0], null, null, null, "aIdempotencyKey", LocalDate.now(ZoneId.systemDefault()), id % 3)).toList();
+        MessageV1 dummyMessage = new MessageV1(1L, "aSource", "aType", "nocategory", "aCreateDate", "aBusinessDate", "aTenantId",
+                "anidempotencyKey", "aSchema", ByteBuffer.wrap("dummy".getBytes(StandardCharsets.UTF_8)));
+        when(repository.findDataByStatusOrderByBusinessDateAscIdAsc(Mockito.any(), Mockito.any())).thenReturn(events);
+        when(repository.findDataByStatusAfterOrderByBusinessDateAscIdAsc(Mockito.any(), Mockito.any(), Mockito.eq(10L), Mockito.any()))
+                .thenReturn(List.of());
+        when(messageFactory.createMessage(Mockito.any())).thenReturn(dummyMessage);
+        when(byteBufferConverter.convert(Mockito.any(ByteBuffer.class))).thenReturn(new byte[0]);
+        // when
+        resultStatus = underTest.execute(stepContribution, chunkContext);
+        // then
+        verify(eventProducer).sendEvents(Mockito.any());
+        verify(repository).markEventsSent(Mockito.eq(events.stream().map(ExternalEventData::getId).toList()), Mockito.any());
+        verify(repository, Mockito.never()).findByStatusOrderByBusinessDateAscIdAsc(Mockito.any(), Mockito.any());
+        verify(entityManager, times(2)).clear();
+        assertEquals(RepeatStatus.FINISHED, resultStatus);
+    }
+
     private ExternalEventView createExternalEventView(String type, String category, String schema, byte[] data, String idempotencyKey,
             Long aggregateRootId) {
         ExternalEventView result = Mockito.mock(ExternalEventView.class);
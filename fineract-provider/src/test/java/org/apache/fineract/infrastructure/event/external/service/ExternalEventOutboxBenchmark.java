@@ -0,0 +1,205 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import java.nio.ByteBuffer;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.avro.loan.v1.LoanAccountDataV1;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.domain.FineractContext;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.DataEnricherProcessor;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseTypeResolver;
+import org.apache.fineract.infrastructure.event.business.domain.BusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.BusinessEventWithContext;
+import org.apache.fineract.infrastructure.event.external.repository.ExternalEventRepository;
+import org.apache.fineract.infrastructure.event.external.service.idempotency.ExternalEventIdempotencyKeyGenerator;
+import org.apache.fineract.infrastructure.event.external.service.message.BulkMessageItemFactory;
+import org.apache.fineract.infrastructure.event.external.service.serialization.serializer.BusinessEventSerializer;
+import org.apache.fineract.infrastructure.event.external.service.serialization.serializer.BusinessEventSerializerFactory;
+import org.apache.fineract.infrastructure.event.external.service.support.ByteBufferConverter;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Commit latency benchmark of the external event outbox for transactions raising 1, 10 and 100 events, comparing one
+ * insert per event (what saving every event through the repository amounts to) with
+ * {@link ExternalEventService#postEvents(List)}. Serialization is stubbed, so the numbers show the database side only.
+ * It creates its own {@code m_external_event} table, so it must point to an empty scratch PostgreSQL or MySQL 8
+ * database. Batches only save round trips when the driver rewrites them ({@code rewriteBatchedStatements=true} for
+ * MySQL, {@code reWriteBatchedInserts=true} for PostgreSQL):
+ *
+ * <pre>
+ * FINERACT_BENCHMARK_JDBC_URL=jdbc:postgresql://localhost:5432/outbox_bench?reWriteBatchedInserts=true \
+ *     FINERACT_BENCHMARK_USERNAME=root FINERACT_BENCHMARK_PASSWORD=mifos \
+ *     ./gradlew :fineract-provider:test --tests ExternalEventOutboxBenchmark
+ * </pre>
+ */
+@Slf4j
+@EnabledIfEnvironmentVariable(named = "FINERACT_BENCHMARK_JDBC_URL", matches = ".+")
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class ExternalEventOutboxBenchmark {
+
+    private static final int[] EVENTS_PER_TRANSACTION = { 1, 10, 100 };
+    private static final int TRANSACTIONS = 200;
+    private static final int WARM_UP_TRANSACTIONS = 50;
+    private static final byte[] PAYLOAD = new byte[2_048];
+
+    private static final String SINGLE_INSERT = "INSERT INTO m_external_event (type, category, %s, data, created_at, status, "
+            + "idempotency_key, business_date, aggregate_root_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static HikariDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+    private static TransactionTemplate transactionTemplate;
+    private static DatabaseSpecificSQLGenerator sqlGenerator;
+    private static ExternalEventService externalEventService;
+
+    @BeforeAll
+    public static void setUp() throws Exception {
+        String url = System.getenv("FINERACT_BENCHMARK_JDBC_URL");
+        HikariConfig hikariConfig = new HikariConfig();
+        hikariConfig.setJdbcUrl(url);
+        hikariConfig.setDriverClassName(url.startsWith("jdbc:postgresql") ? "org.postgresql.Driver"
+                : url.startsWith("jdbc:mariadb") ? "org.mariadb.jdbc.Driver" : "com.mysql.cj.jdbc.Driver");
+        hikariConfig.setUsername(System.getenv("FINERACT_BENCHMARK_USERNAME"));
+        hikariConfig.setPassword(System.getenv("FINERACT_BENCHMARK_PASSWORD"));
+        hikariConfig.setMaximumPoolSize(2);
+        DatabaseTypeResolver databaseTypeResolver = new DatabaseTypeResolver(hikariConfig);
+        databaseTypeResolver.afterPropertiesSet();
+
+        dataSource = new HikariDataSource(hikariConfig);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        sqlGenerator = new DatabaseSpecificSQLGenerator(databaseTypeResolver);
+        boolean postgres = databaseTypeResolver.isPostgreSQL();
+        jdbcTemplate.execute("CREATE TABLE m_external_event (id " + (postgres ? "BIGSERIAL" : "BIGINT AUTO_INCREMENT")
+                + " PRIMARY KEY, type VARCHAR(100) NOT NULL, category VARCHAR(100) NOT NULL, " + sqlGenerator.escape("schema")
+                + " VARCHAR(300) NOT NULL, data " + (postgres ? "BYTEA" : "BLOB") + " NOT NULL, created_at TIMESTAMP(6) NOT NULL, "
+                + "status VARCHAR(100) NOT NULL, sent_at TIMESTAMP(6) NULL, idempotency_key VARCHAR(100) NOT NULL, "
+                + "business_date DATE NOT NULL, aggregate_root_id BIGINT)");
+
+        ExternalEventIdempotencyKeyGenerator idempotencyKeyGenerator = mock(ExternalEventIdempotencyKeyGenerator.class);
+        given(idempotencyKeyGenerator.generate(any())).will(invocation -> UUID.randomUUID().toString());
+        BusinessEventSerializer serializer = mock(BusinessEventSerializer.class);
+        given(serializer.getSupportedSchema()).will(invocation -> LoanAccountDataV1.class);
+        given(serializer.toAvroDTO(any())).willReturn(new LoanAccountDataV1());
+        BusinessEventSerializerFactory serializerFactory = mock(BusinessEventSerializerFactory.class);
+        given(serializerFactory.create(any())).willReturn(serializer);
+        ByteBufferConverter byteBufferConverter = mock(ByteBufferConverter.class);
+        given(byteBufferConverter.convert(any(ByteBuffer.class))).willReturn(PAYLOAD);
+
+        externalEventService = new ExternalEventService(mock(ExternalEventRepository.class), idempotencyKeyGenerator, serializerFactory,
+                byteBufferConverter, mock(BulkMessageItemFactory.class), new DataEnricherProcessor(Optional.empty()), jdbcTemplate,
+                sqlGenerator);
+        externalEventService.setEntityManager(mock(EntityManager.class));
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        if (jdbcTemplate != null) {
+            jdbcTemplate.execute("DROP TABLE m_external_event");
+            dataSource.close();
+        }
+    }
+
+    @Test
+    public void compareCommitLatency() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil
+                .setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.now(DateUtils.getSystemZoneId()))));
+        try {
+            for (int events : EVENTS_PER_TRANSACTION) {
+                List<BusinessEventWithContext> businessEvents = createEvents(events);
+                measure("per-event insert (warm-up)", events, WARM_UP_TRANSACTIONS, () -> insertOneByOne(businessEvents));
+                measure("batched outbox (warm-up)", events, WARM_UP_TRANSACTIONS, () -> externalEventService.postEvents(businessEvents));
+                measure("per-event insert", events, TRANSACTIONS, () -> insertOneByOne(businessEvents));
+                measure("batched outbox", events, TRANSACTIONS, () -> externalEventService.postEvents(businessEvents));
+            }
+        } finally {
+            ThreadLocalContextUtil.reset();
+        }
+    }
+
+    private static List<BusinessEventWithContext> createEvents(int count) {
+        FineractContext context = ThreadLocalContextUtil.getContext();
+        List<BusinessEventWithContext> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            BusinessEvent event = mock(BusinessEvent.class);
+            given(event.getType()).willReturn("LoanBalanceChangedBusinessEvent");
+            given(event.getCategory()).willReturn("Loan");
+            given(event.getAggregateRootId()).willReturn((long) i);
+            events.add(new BusinessEventWithContext(event, context));
+        }
+        return events;
+    }
+
+    private void insertOneByOne(List<BusinessEventWithContext> events) {
+        String sql = String.format(SINGLE_INSERT, sqlGenerator.escape("schema"));
+        for (BusinessEventWithContext event : events) {
+            jdbcTemplate.update(sql, ps -> {
+                ps.setString(1, event.event().getType());
+                ps.setString(2, event.event().getCategory());
+                ps.setString(3, LoanAccountDataV1.class.getName());
+                ps.setBytes(4, PAYLOAD);
+                ps.setObject(5, DateUtils.getAuditOffsetDateTime());
+                ps.setString(6, "TO_BE_SENT");
+                ps.setString(7, UUID.randomUUID().toString());
+                ps.setObject(8, DateUtils.getBusinessLocalDate());
+                ps.setObject(9, event.event().getAggregateRootId(), Types.BIGINT);
+            });
+        }
+    }
+
+    private void measure(String name, int eventsPerTransaction, int transactions, Runnable outboxWrite) {
+        jdbcTemplate.execute("DELETE FROM m_external_event");
+        long start = System.nanoTime();
+        for (int i = 0; i < transactions; i++) {
+            transactionTemplate.executeWithoutResult(status -> outboxWrite.run());
+        }
+        long elapsedMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+        log.info("{}: {} events per transaction, {} us per commit on average", name, eventsPerTransaction, elapsedMicros / transactions);
+        Integer stored = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM m_external_event", Integer.class);
+        assertEquals(eventsPerTransaction * transactions, stored);
+    }
+}
@@ -21,10 +21,15 @@ package org.apache.fineract.infrastructure.event.external.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import jakarta.persistence.EntityManager;
 import java.io.IOException;
@@ -32,6 +37,7 @@ import java.nio.ByteBuffer;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -42,11 +48,14 @@ import org.apache.fineract.avro.loan.v1.LoanAccountDataV1;
 import org.apache.fineract.avro.loan.v1.LoanTransactionAdjustmentDataV1;
 import org.apache.fineract.avro.loan.v1.LoanTransactionDataV1;
 import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.domain.FineractContext;
 import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
 import org.apache.fineract.infrastructure.core.service.DataEnricherProcessor;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
 import org.apache.fineract.infrastructure.event.business.domain.BulkBusinessEvent;
 import org.apache.fineract.infrastructure.event.business.domain.BusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.BusinessEventWithContext;
 import org.apache.fineract.infrastructure.event.external.repository.ExternalEventRepository;
 import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEvent;
 import org.apache.fineract.infrastructure.event.external.service.idempotency.ExternalEventIdempotencyKeyGenerator;
@@ -65,6 +74,8 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
 
 @ExtendWith(MockitoExtension.class)
 @SuppressWarnings({ "rawtypes", "unchecked" })
@@ -91,6 +102,10 @@ class ExternalEventServiceTest {
     private LoanTransactionAdjustmentDataV1Enricher loanTransactionAdjustmentDataV1Enricher;
     @Mock
     private LoanTransactionDataV1Enricher loanTransactionDataV1Enricher;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private DatabaseSpecificSQLGenerator sqlGenerator;
 
     private ExternalEventService underTest;
 
@@ -103,7 +118,7 @@ class ExternalEventServiceTest {
         DataEnricherProcessor dataEnricherProcessor = new DataEnricherProcessor(
                 Optional.of(List.of(loanAccountDataV1Enricher, loanTransactionAdjustmentDataV1Enricher, loanTransactionDataV1Enricher)));
         underTest = new ExternalEventService(repository, idempotencyKeyGenerator, serializerFactory, byteBufferConverter,
-                bulkMessageItemFactory, dataEnricherProcessor);
+                bulkMessageItemFactory, dataEnricherProcessor, jdbcTemplate, sqlGenerator);
         underTest.setEntityManager(entityManager);
         FineractPlatformTenant tenant = new FineractPlatformTenant(1L, "default", "Default Tenant", "Europe/Budapest", null);
         ThreadLocalContextUtil.setTenant(tenant);
@@ -312,4 +327,40 @@ class ExternalEventServiceTest {
         assertThat(externalEvent.getType()).isEqualTo(eventType);
         assertThat(externalEvent.getSchema()).isEqualTo(eventSchema);
     }
+
+    @Test
+    public void testPostEventsShouldFlushOnceAndInsertAllEventsWithSingleBatch() {
+        // given
+        ArgumentCaptor<Collection<ExternalEvent>> externalEventsArgumentCaptor = ArgumentCaptor.forClass(Collection.class);
+        BusinessEvent event1 = mock(BusinessEvent.class);
+        BusinessEvent event2 = mock(BusinessEvent.class);
+        BusinessEventSerializer eventSerializer = mock(BusinessEventSerializer.class);
+        FineractContext context = ThreadLocalContextUtil.getContext();
+
+        given(event1.getType()).willReturn("FirstType");
+        given(event2.getType()).willReturn("SecondType");
+        given(idempotencyKeyGenerator.generate(event1)).willReturn("key1");
+        given(idempotencyKeyGenerator.generate(event2)).willReturn("key2");
+        given(serializerFactory.create(any(BusinessEvent.class))).willReturn(eventSerializer);
+        given(eventSerializer.getSupportedSchema()).will(invocation -> LoanAccountDataV1.class);
+        given(eventSerializer.toAvroDTO(any(BusinessEvent.class))).willReturn(new LoanAccountDataV1());
+        given(sqlGenerator.escape("schema")).willReturn("`schema`");
+        // when
+        underTest.postEvents(List.of(new BusinessEventWithContext(event1, context), new BusinessEventWithContext(event2, context)));
+        // then
+        verify(entityManager, times(1)).flush();
+        verify(repository, never()).save(any());
+        verify(jdbcTemplate).batchUpdate(anyString(), externalEventsArgumentCaptor.capture(), eq(2),
+                any(ParameterizedPreparedStatementSetter.class));
+        assertThat(externalEventsArgumentCaptor.getValue()).extracting(ExternalEvent::getType).containsExactly("FirstType", "SecondType");
+        assertThat(externalEventsArgumentCaptor.getValue()).extracting(ExternalEvent::getIdempotencyKey).containsExactly("key1", "key2");
+    }
+
+    @Test
+    public void testPostEventsShouldDoNothingWithoutEvents() {
+        // when
+        underTest.postEvents(List.of());
+        // then
+        verifyNoInteractions(entityManager, jdbcTemplate, repository);
+    }
 }
@@ -0,0 +1,166 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.hooks.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import retrofit2.Call;
+import retrofit2.Response;
+
+class WebHookDeliveryServiceTest {
+
+    private static final String URL = "http://localhost/hook";
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final FineractProperties fineractProperties = new FineractProperties();
+    private WebHookDeliveryService underTest;
+
+    @BeforeEach
+    void setUp() {
+        FineractProperties.FineractHookDeliveryProperties delivery = new FineractProperties.FineractHookDeliveryProperties();
+        delivery.setThreadPoolSize(1);
+        delivery.setQueueCapacity(1);
+        delivery.setMaxAttempts(3);
+        delivery.setInitialBackoff(Duration.ofMillis(10));
+        fineractProperties.setHooks(new FineractProperties.FineractHookProperties());
+        fineractProperties.getHooks().setDelivery(delivery);
+        underTest = new WebHookDeliveryService(fineractProperties, Optional.of(registry));
+        underTest.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        underTest.destroy();
+    }
+
+    @Test
+    void testSuccessfulDeliveryIsNotRetried() throws IOException {
+        Call<Void> call = mockCall();
+        when(call.execute()).thenReturn(Response.success(null));
+
+        underTest.deliver(URL, call);
+
+        Awaitility.await().atMost(10L, TimeUnit.SECONDS)
+                .untilAsserted(() -> assertEquals(1L, registry.timer("fineract.hooks.delivery", "outcome", "success").count()));
+        verify(call, times(1)).execute();
+        assertEquals(0.0, registry.counter("fineract.hooks.delivery.retries").count());
+    }
+
+    @Test
+    void testConnectionFailuresAndServerErrorsAreRetriedWithBackoff() throws IOException {
+        Call<Void> call = mockCall();
+        when(call.execute()).thenThrow(new IOException("connection refused")).thenReturn(error(503)).thenReturn(Response.success(null));
+
+        long start = System.nanoTime();
+        underTest.deliver(URL, call);
+
+        Awaitility.await().atMost(10L, TimeUnit.SECONDS)
+                .untilAsserted(() -> assertEquals(1L, registry.timer("fineract.hooks.delivery", "outcome", "success").count()));
+        // 10 ms before the second attempt, 20 ms before the third
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(30));
+        verify(call, times(3)).execute();
+        assertEquals(2.0, registry.counter("fineract.hooks.delivery.retries").count());
+        assertEquals(2L, registry.timer("fineract.hooks.delivery", "outcome", "error").count());
+    }
+
+    @Test
+    void testDeliveryGivesUpAfterMaxAttempts() throws IOException {
+        Call<Void> call = mockCall();
+        when(call.execute()).thenReturn(error(429));
+
+        underTest.deliver(URL, call);
+
+        Awaitility.await().atMost(10L, TimeUnit.SECONDS).untilAsserted(() -> assertEquals(1.0, failures("exhausted").count()));
+        verify(call, times(3)).execute();
+        assertEquals(2.0, registry.counter("fineract.hooks.delivery.retries").count());
+    }
+
+    @Test
+    void testClientErrorsAreNotRetried() throws IOException {
+        Call<Void> call = mockCall();
+        when(call.execute()).thenReturn(error(400));
+
+        underTest.deliver(URL, call);
+
+        Awaitility.await().atMost(10L, TimeUnit.SECONDS).untilAsserted(() -> assertEquals(1.0, failures("http").count()));
+        verify(call, times(1)).execute();
+        assertEquals(0.0, registry.counter("fineract.hooks.delivery.retries").count());
+    }
+
+    @Test
+    void testRequestsAreDroppedWhenTheQueueIsFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Call<Void> blocking = mockCall();
+        when(blocking.execute()).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(10L, TimeUnit.SECONDS);
+            return Response.success(null);
+        });
+        Call<Void> queued = mockCall();
+        when(queued.execute()).thenReturn(Response.success(null));
+        Call<Void> dropped = mockCall();
+
+        underTest.deliver(URL, blocking);
+        assertTrue(started.await(10L, TimeUnit.SECONDS));
+        underTest.deliver(URL, queued);
+        underTest.deliver(URL, dropped);
+
+        assertEquals(1.0, failures("rejected").count());
+        assertEquals(1.0, registry.get("fineract.hooks.delivery.queue.size").gauge().value());
+        release.countDown();
+        Awaitility.await().atMost(10L, TimeUnit.SECONDS)
+                .untilAsserted(() -> assertEquals(2L, registry.timer("fineract.hooks.delivery", "outcome", "success").count()));
+        verify(dropped, times(0)).execute();
+    }
+
+    private Counter failures(String reason) {
+        return registry.counter("fineract.hooks.delivery.failures", "reason", reason);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Call<Void> mockCall() {
+        Call<Void> call = mock(Call.class);
+        when(call.clone()).thenReturn(call);
+        return call;
+    }
+
+    private static Response<Void> error(int code) {
+        return Response.error(code, ResponseBody.create("", MediaType.parse("text/plain")));
+    }
+}
@@ -0,0 +1,97 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.hooks.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.hooks.domain.HookRepository;
+import org.apache.fineract.infrastructure.hooks.domain.RegisteredHookEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class HookEventRegistryImplTest {
+
+    @Mock
+    private HookRepository hookRepository;
+
+    private final FineractProperties fineractProperties = new FineractProperties();
+    private HookEventRegistryImpl underTest;
+
+    @BeforeEach
+    void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        fineractProperties.setHooks(new FineractProperties.FineractHookProperties());
+        fineractProperties.getHooks().setRegistryTimeToLive(Duration.ofMinutes(1));
+        underTest = new HookEventRegistryImpl(hookRepository, fineractProperties);
+        RegisteredHookEvent event = mock(RegisteredHookEvent.class);
+        when(event.getEntityName()).thenReturn("CLIENT");
+        when(event.getActionName()).thenReturn("CREATE");
+        when(hookRepository.findAllActiveHookEvents()).thenReturn(List.of(event));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void testRegisteredEventsAreLoadedOnce() {
+        assertTrue(underTest.hasHooksListeningTo("CLIENT", "CREATE"));
+        assertFalse(underTest.hasHooksListeningTo("CLIENT", "UPDATE"));
+        assertFalse(underTest.hasHooksListeningTo("LOAN", "CREATE"));
+
+        verify(hookRepository, times(1)).findAllActiveHookEvents();
+    }
+
+    @Test
+    void testInvalidateReloadsRegisteredEvents() {
+        assertTrue(underTest.hasHooksListeningTo("CLIENT", "CREATE"));
+        when(hookRepository.findAllActiveHookEvents()).thenReturn(List.of());
+
+        underTest.invalidate();
+
+        assertFalse(underTest.hasHooksListeningTo("CLIENT", "CREATE"));
+        verify(hookRepository, times(2)).findAllActiveHookEvents();
+    }
+
+    @Test
+    void testZeroTimeToLiveAlwaysReads() {
+        fineractProperties.getHooks().setRegistryTimeToLive(Duration.ZERO);
+
+        assertTrue(underTest.hasHooksListeningTo("CLIENT", "CREATE"));
+        assertTrue(underTest.hasHooksListeningTo("CLIENT", "CREATE"));
+
+        verify(hookRepository, times(2)).findAllActiveHookEvents();
+    }
+}
@@ -395,4 +395,43 @@ class FineractInstanceModeApiFilterTest {
         verifyNoInteractions(filterChain);
         verify(response).setStatus(HttpStatus.SC_METHOD_NOT_ALLOWED);
     }
+
+    @Test
+    void testDoFilterInternal_ShouldLetSamplingRulesApiThrough_WhenFineractIsInBatchWorkerMode() throws ServletException, IOException {
+        // given
+        FineractProperties.FineractModeProperties modeProperties = InstanceModeMock.createModeProps(false, false, true, false);
+        given(fineractProperties.getMode()).willReturn(modeProperties);
+        given(request.getMethod()).willReturn(HttpMethod.PUT.name());
+        given(request.getPathInfo()).willReturn("/v1/sampling/rules");
+        // when
+        underTest.doFilterInternal(request, response, filterChain);
+        // then
+        verify(filterChain).doFilter(request, response);
+    }
+
+    @Test
+    void testDoFilterInternal_ShouldLetSamplingApiThrough_WhenFineractIsInBatchWorkerMode() throws ServletException, IOException {
+        // given
+        FineractProperties.FineractModeProperties modeProperties = InstanceModeMock.createModeProps(false, false, true, false);
+        given(fineractProperties.getMode()).willReturn(modeProperties);
+        given(request.getMethod()).willReturn(HttpMethod.GET.name());
+        given(request.getPathInfo()).willReturn("/v1/sampling");
+        // when
+        underTest.doFilterInternal(request, response, filterChain);
+        // then
+        verify(filterChain).doFilter(request, response);
+    }
+
+    @Test
+    void testDoFilterInternal_ShouldLetSamplingRulesApiThrough_WhenFineractIsInReadMode() throws ServletException, IOException {
+        // given
+        FineractProperties.FineractModeProperties modeProperties = InstanceModeMock.createModeProps(true, false, false, false);
+        given(fineractProperties.getMode()).willReturn(modeProperties);
+        given(request.getMethod()).willReturn(HttpMethod.PUT.name());
+        given(request.getPathInfo()).willReturn("/v1/sampling/rules");
+        // when
+        underTest.doFilterInternal(request, response, filterChain);
+        // then
+        verify(filterChain).doFilter(request, response);
+    }
 }
@@ -0,0 +1,125 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.security.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Optional;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.LockedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@ExtendWith(MockitoExtension.class)
+class CredentialCachingAuthenticationProviderTest {
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    private CredentialCachingAuthenticationProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        provider = new CredentialCachingAuthenticationProvider(Duration.ofMinutes(5), 100, Optional.empty());
+        provider.setUserDetailsService(userDetailsService);
+        provider.setPasswordEncoder(passwordEncoder);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void repeatedAuthenticationSkipsPasswordVerification() {
+        when(userDetailsService.loadUserByUsername("mifos")).thenReturn(user("{bcrypt}hash-1", false));
+        when(passwordEncoder.matches("password", "{bcrypt}hash-1")).thenReturn(true);
+
+        provider.authenticate(token("password"));
+        provider.authenticate(token("password"));
+        provider.authenticate(token("password"));
+
+        verify(passwordEncoder, times(1)).matches(anyString(), anyString());
+        assertEquals(2.0 / 3.0, provider.getHitRate(), 0.0001);
+    }
+
+    @Test
+    void wrongPasswordIsNeverServedFromCache() {
+        when(userDetailsService.loadUserByUsername("mifos")).thenReturn(user("{bcrypt}hash-1", false));
+        when(passwordEncoder.matches("password", "{bcrypt}hash-1")).thenReturn(true);
+        when(passwordEncoder.matches("wrong", "{bcrypt}hash-1")).thenReturn(false);
+
+        provider.authenticate(token("password"));
+
+        assertThrows(BadCredentialsException.class, () -> provider.authenticate(token("wrong")));
+        assertThrows(BadCredentialsException.class, () -> provider.authenticate(token("wrong")));
+        verify(passwordEncoder, times(2)).matches("wrong", "{bcrypt}hash-1");
+    }
+
+    @Test
+    void passwordChangeInvalidatesRememberedCredentials() {
+        when(userDetailsService.loadUserByUsername("mifos")).thenReturn(user("{bcrypt}hash-1", false),
+                user("{bcrypt}hash-2", false));
+        when(passwordEncoder.matches("password", "{bcrypt}hash-1")).thenReturn(true);
+        when(passwordEncoder.matches("password", "{bcrypt}hash-2")).thenReturn(false);
+
+        provider.authenticate(token("password"));
+
+        assertThrows(BadCredentialsException.class, () -> provider.authenticate(token("password")));
+    }
+
+    @Test
+    void lockedUserIsRejectedDespiteRememberedCredentials() {
+        when(userDetailsService.loadUserByUsername("mifos")).thenReturn(user("{bcrypt}hash-1", false),
+                user("{bcrypt}hash-1", true));
+        when(passwordEncoder.matches("password", "{bcrypt}hash-1")).thenReturn(true);
+
+        provider.authenticate(token("password"));
+
+        assertThrows(LockedException.class, () -> provider.authenticate(token("password")));
+    }
+
+    private static UsernamePasswordAuthenticationToken token(String password) {
+        return UsernamePasswordAuthenticationToken.unauthenticated("mifos", password);
+    }
+
+    private static User user(String encodedPassword, boolean locked) {
+        return (User) User.withUsername("mifos").password(encodedPassword).accountLocked(locked).authorities("ALL_FUNCTIONS").build();
+    }
+}
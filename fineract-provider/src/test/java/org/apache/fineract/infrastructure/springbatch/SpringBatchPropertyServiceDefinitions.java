@@ -32,6 +32,7 @@ public class SpringBatchPropertyServiceDefinitions implements En {
     private int partitionSize;
     private int chunkSize;
     private int retryLimit;
+    private int skipLimit;
 
     public SpringBatchPropertyServiceDefinitions() {
         Given("Property Service is initialized", () -> {
@@ -50,6 +51,10 @@ public class SpringBatchPropertyServiceDefinitions implements En {
             retryLimit = propertyService.getRetryLimit(jobName);
         });
 
+        When("skip limit is fetched for {string}", (String jobName) -> {
+            skipLimit = propertyService.getSkipLimit(jobName);
+        });
+
         Then("partition size is {int}", (Integer value) -> {
             assertThat(partitionSize).isEqualTo(value);
         });
@@ -61,5 +66,9 @@ public class SpringBatchPropertyServiceDefinitions implements En {
         Then("retry limit is {int}", (Integer value) -> {
             assertThat(retryLimit).isEqualTo(value);
         });
+
+        Then("skip limit is {int}", (Integer value) -> {
+            assertThat(skipLimit).isEqualTo(value);
+        });
     }
 }
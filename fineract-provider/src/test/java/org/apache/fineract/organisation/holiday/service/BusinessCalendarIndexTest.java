@@ -0,0 +1,117 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.organisation.holiday.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import org.apache.fineract.junit.context.WithTenantContextExtension;
+import org.apache.fineract.junit.timezone.WithSystemTimeZoneExtension;
+import org.apache.fineract.organisation.holiday.domain.Holiday;
+import org.apache.fineract.organisation.holiday.domain.HolidayStatusType;
+import org.apache.fineract.organisation.holiday.domain.RescheduleType;
+import org.apache.fineract.organisation.workingdays.domain.RepaymentRescheduleType;
+import org.apache.fineract.organisation.workingdays.domain.WorkingDays;
+import org.apache.fineract.organisation.workingdays.service.WorkingDaysUtil;
+import org.apache.fineract.portfolio.loanaccount.data.HolidayDetailDTO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith({ WithSystemTimeZoneExtension.class, WithTenantContextExtension.class })
+class BusinessCalendarIndexTest {
+
+    private static final LocalDate HORIZON_START = LocalDate.of(2024, 1, 1);
+    private static final int HORIZON_DAYS = 366;
+
+    private final WorkingDays workingDays = new WorkingDays("FREQ=WEEKLY;INTERVAL=1;BYDAY=MO,TU,WE,TH,FR",
+            RepaymentRescheduleType.MOVE_TO_NEXT_WORKING_DAY.getValue(), false, false);
+
+    private final List<Holiday> holidays = List.of(holiday(3L, "2024-05-01", "2024-05-01"), holiday(1L, "2024-12-24", "2025-01-02"),
+            holiday(2L, "2024-04-30", "2024-05-03"), holiday(4L, "2023-12-20", "2024-01-05"));
+
+    @Test
+    void testMatchesWorkingDaysAndHolidayUtilsInsideAndOutsideTheHorizon() {
+        BusinessCalendarIndex index = BusinessCalendarIndex
+                .build(BusinessCalendarIndex.buildWorkingDays(workingDays, HORIZON_START, HORIZON_DAYS), holidays);
+        List<Holiday> holidaysById = holidays.stream().sorted(Comparator.comparing(Holiday::getId)).toList();
+
+        for (LocalDate date = LocalDate.of(2023, 12, 1); date.isBefore(LocalDate.of(2025, 2, 1)); date = date.plusDays(1)) {
+            assertEquals(WorkingDaysUtil.isNonWorkingDay(workingDays, date), index.isNonWorkingDay(date), date.toString());
+            Holiday expected = HolidayUtil.getApplicableHoliday(date, holidaysById);
+            Holiday actual = index.getApplicableHoliday(date);
+            assertEquals(expected == null ? null : expected.getId(), actual == null ? null : actual.getId(), date.toString());
+        }
+        assertFalse(index.isSevenDayWeek());
+    }
+
+    @Test
+    void testOverlappingHolidaysResolveToTheLowestId() {
+        BusinessCalendarIndex index = BusinessCalendarIndex
+                .build(BusinessCalendarIndex.buildWorkingDays(workingDays, HORIZON_START, HORIZON_DAYS), holidays);
+
+        assertEquals(2L, index.getApplicableHoliday(LocalDate.of(2024, 5, 1)).getId());
+        assertEquals(2L, index.getApplicableHoliday(LocalDate.of(2024, 5, 2)).getId());
+        assertNull(index.getApplicableHoliday(LocalDate.of(2024, 5, 4)));
+    }
+
+    @Test
+    void testHolidayDetailsSelectHolidaysLikeTheRepositoryQuery() {
+        BusinessCalendarIndex index = BusinessCalendarIndex
+                .build(BusinessCalendarIndex.buildWorkingDays(workingDays, HORIZON_START, HORIZON_DAYS), holidays);
+
+        HolidayDetailDTO details = new HolidayDetailDTO(true, index, LocalDate.of(2024, 1, 6), false, false);
+
+        assertEquals(List.of(1L, 2L, 3L), details.getHolidays().stream().map(Holiday::getId).toList());
+        // holiday 4 ended before the selection date, it must not be applied
+        assertNull(details.getApplicableHoliday(LocalDate.of(2024, 1, 3)));
+        assertEquals(2L, details.getApplicableHoliday(LocalDate.of(2024, 5, 1)).getId());
+        assertTrue(details.isNonWorkingDay(LocalDate.of(2024, 1, 6)));
+    }
+
+    @Test
+    void testWorkingDaysAndHolidaysAreDetachedCopies() {
+        BusinessCalendarIndex index = BusinessCalendarIndex
+                .build(BusinessCalendarIndex.buildWorkingDays(workingDays, HORIZON_START, HORIZON_DAYS), holidays);
+
+        WorkingDays first = index.newWorkingDays();
+        first.setRepaymentReschedulingType(RepaymentRescheduleType.SAME_DAY.getValue());
+        WorkingDays second = index.newWorkingDays();
+
+        assertNotSame(first, second);
+        assertEquals(RepaymentRescheduleType.MOVE_TO_NEXT_WORKING_DAY.getValue(), second.getRepaymentReschedulingType());
+        Holiday holiday = index.getApplicableHoliday(LocalDate.of(2024, 12, 25));
+        assertNotSame(holidays.get(1), holiday);
+        assertSame(holiday, index.getApplicableHoliday(LocalDate.of(2024, 12, 26)));
+    }
+
+    private static Holiday holiday(Long id, String from, String to) {
+        Holiday holiday = new Holiday().setName("holiday " + id).setFromDate(LocalDate.parse(from)).setToDate(LocalDate.parse(to))
+                .setReschedulingType(RescheduleType.RESCHEDULETONEXTREPAYMENTDATE.getValue())
+                .setStatus(HolidayStatusType.ACTIVE.getValue());
+        holiday.setId(id);
+        return holiday;
+    }
+}
@@ -0,0 +1,80 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.jobs.addperiodicaccrualentries;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.apache.fineract.cob.domain.LoanAccountLock;
+import org.apache.fineract.cob.domain.LockOwner;
+import org.apache.fineract.cob.loan.LoanLockingService;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanRepositoryWrapper;
+import org.apache.fineract.portfolio.loanaccount.service.LoanAccrualsProcessingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class AddPeriodicAccrualEntriesItemProcessorTest {
+
+    private static final LocalDate TILL_DATE = LocalDate.of(2024, 1, 31);
+    private static final LockOwner LOCK_OWNER = LockOwner.LOAN_PERIODIC_ACCRUAL_PROCESSING;
+
+    @Mock
+    private LoanRepositoryWrapper loanRepositoryWrapper;
+    @Mock
+    private LoanLockingService loanLockingService;
+    @Mock
+    private LoanAccrualsProcessingService loanAccrualsProcessingService;
+
+    private AddPeriodicAccrualEntriesItemProcessor processor;
+
+    @BeforeEach
+    public void setUp() {
+        processor = new AddPeriodicAccrualEntriesItemProcessor(loanRepositoryWrapper, loanLockingService, loanAccrualsProcessingService,
+                TILL_DATE);
+    }
+
+    @Test
+    public void processAddsThePeriodicAccrualsOfALockedLoan() throws Exception {
+        Loan loan = mock(Loan.class);
+        when(loanLockingService.findAllByLoanIdInAndLockOwner(List.of(3L), LOCK_OWNER)).thenReturn(List.of(mock(LoanAccountLock.class)));
+        when(loanRepositoryWrapper.findOneWithNotFoundDetection(3L)).thenReturn(loan);
+
+        assertSame(loan, processor.process(3L));
+        verify(loanAccrualsProcessingService).addPeriodicAccruals(TILL_DATE, loan);
+    }
+
+    @Test
+    public void processSkipsALoanWhoseLockWasTakenOverByCob() throws Exception {
+        when(loanLockingService.findAllByLoanIdInAndLockOwner(List.of(3L), LOCK_OWNER)).thenReturn(List.of());
+
+        assertNull(processor.process(3L));
+        verifyNoInteractions(loanRepositoryWrapper, loanAccrualsProcessingService);
+    }
+}
@@ -0,0 +1,208 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.jobs.addperiodicaccrualentries;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.apache.fineract.cob.domain.LoanAccountLock;
+import org.apache.fineract.cob.domain.LockOwner;
+import org.apache.fineract.cob.loan.LoanLockingService;
+import org.apache.fineract.portfolio.loanaccount.service.LoanAccrualsProcessingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+public class AddPeriodicAccrualEntriesItemReaderTest {
+
+    private static final LocalDate TILL_DATE = LocalDate.of(2024, 1, 31);
+    private static final LockOwner LOCK_OWNER = LockOwner.LOAN_PERIODIC_ACCRUAL_PROCESSING;
+
+    @Mock
+    private LoanAccrualsProcessingService loanAccrualsProcessingService;
+    @Mock
+    private LoanLockingService loanLockingService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AddPeriodicAccrualEntriesItemReader reader;
+    private ExecutionContext executionContext;
+
+    private List<LoanAccountLock> locksOf3;
+    private List<LoanAccountLock> locksOf3And5;
+    private List<LoanAccountLock> locksOf5;
+    private List<LoanAccountLock> locksOf8;
+
+    @BeforeEach
+    public void setUp() {
+        locksOf3 = List.of(lock(3L));
+        locksOf3And5 = List.of(lock(3L), lock(5L));
+        locksOf5 = List.of(lock(5L));
+        locksOf8 = List.of(lock(8L));
+        reader = createReader();
+        executionContext = new ExecutionContext();
+        executionContext.putLong(AddPeriodicAccrualEntriesPartitioner.MIN_LOAN_ID, 1L);
+        executionContext.putLong(AddPeriodicAccrualEntriesPartitioner.MAX_LOAN_ID, 100L);
+        executionContext.putString(AddPeriodicAccrualEntriesPartitioner.TILL_DATE, TILL_DATE.toString());
+    }
+
+    @Test
+    public void readsAllPagesAndSkipsLoansLockedByOthers() {
+        when(loanAccrualsProcessingService.retrieveLoanIdsForPeriodicAccrual(TILL_DATE, 0L, 100L, 2)).thenReturn(List.of(3L, 5L));
+        when(loanAccrualsProcessingService.retrieveLoanIdsForPeriodicAccrual(TILL_DATE, 5L, 100L, 2)).thenReturn(List.of(8L));
+        // loan 5 is locked by COB, the claim leaves it out
+        when(loanLockingService.findAllByLoanIdInAndLockOwner(List.of(3L, 5L), LOCK_OWNER)).thenReturn(locksOf3);
+        when(loanLockingService.findAllByLoanIdInAndLockOwner(List.of(8L), LOCK_OWNER)).thenReturn(locksOf8);
+
+        reader.open(executionContext);
+
+        assertEquals(3L, reader.read());
+        assertEquals(8L, reader.read());
+        assertNull(reader.read());
+        verify(loanLockingService).claimLocks(List.of(3L, 5L), LOCK_OWNER);
+        verify(loanLockingService).claimLocks(List.of(8L), LOCK_OWNER);
+        // every page is locked in its own transaction
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    public void pageIsLockedBeforeItsLoansAreHandedOut() {
+        when(loanAccrualsProcessingService.retrieveLoanIdsForPeriodicAccrual(TILL_DATE, 0L, 100L, 2)).thenReturn(List.of(3L));
+        when(loanLockingService.findAllByLoanIdInAndLockOwner(List.of(3L), LOCK_OWNER)).thenReturn(locksOf3);
+        reader.open(executionContext);
+
+        assertEquals(3L, reader.read());
+
+        InOrder inOrder = inOrder(transactionManager, loanLockingService);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(loanLockingService).claimLocks(List.of(3L), LOCK_OWNER);
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    public void closeReleasesTheLocksOfAllHandedOutLoans() {
+        when(loanAccrualsProcessingService.retrieveLoanIdsForPeriodicAccrual(TILL_DATE, 0L, 100L, 2)).thenReturn(List.of(3L, 5L));
+        when(loanAccrualsProcessingService.retrieveLoanIdsForPeriodicAccrual(TILL_DATE, 5L, 100L, 2)).thenReturn(List.of(8L));
+        when(loanLockingService.findAllByLoanIdInAndLockOwner(List.of(3L, 5L), LOCK_OWNER)).thenReturn(locksOf3And5);
+        when(loanLockingService.findAllByLoanIdInAndLockOwner(List.of(8L), LOCK_OWNER)).thenReturn(locksOf8);
+        reader.open(executionContext);
+        reader.read();
+        reader.read();
+        reader.read();
+
+        reader.close();
+        reader.close();
+
+        verify(loanLockingService).deleteByLoanIdInAndLockOwner(List.of(3L, 5L), LOCK_OWNER);
+        verify(loanLockingService).deleteByLoanIdInAndLockOwner(List.of(8L), LOCK_OWNER);
+        verify(transactionManager, times(3)).commit(any());
+    }
+
+    @Test
+    public void closeWithoutLockedLoansDoesNotOpenATransaction() {
+        when(loanAccrualsProcessingService.retrieveLoanIdsForPeriodicAccrual(TILL_DATE, 0L, 100L, 2)).thenReturn(List.of());
+        reader.open(executionContext);
+        assertNull(reader.read());
+
+        reader.close();
+
+        verify(loanLockingService, never()).deleteByLoanIdInAndLockOwner(any(), any());
+        verify(transactionManager, never()).getTransaction(any());
+    }
+
+    @Test
+    public void restartContinuesAfterLastCommittedLoan() {
+        when(loanAccrualsProcessingService.retrieveLoanIdsForPeriodicAccrual(TILL_DATE, 0L, 100L, 2)).thenReturn(List.of(3L, 5L));
+        when(loanLockingService.findAllByLoanIdInAndLockOwner(List.of(3L, 5L), LOCK_OWNER)).thenReturn(locksOf3And5);
+        reader.open(executionContext);
+        assertEquals(3L, reader.read());
+        reader.update(executionContext);
+
+        // the lock on loan 5 was left behind by the interrupted run and is taken over
+        when(loanAccrualsProcessingService.retrieveLoanIdsForPeriodicAccrual(TILL_DATE, 3L, 100L, 2)).thenReturn(List.of(5L));
+        when(loanLockingService.findAllByLoanIdInAndLockOwner(List.of(5L), LOCK_OWNER)).thenReturn(locksOf5);
+        AddPeriodicAccrualEntriesItemReader restartedReader = createReader();
+        restartedReader.open(executionContext);
+
+        assertEquals(5L, restartedReader.read());
+        assertNull(restartedReader.read());
+    }
+
+    @Test
+    public void concurrentlyPlacedLockIsClaimedAgainInANewTransaction() {
+        when(loanAccrualsProcessingService.retrieveLoanIdsForPeriodicAccrual(TILL_DATE, 0L, 100L, 2)).thenReturn(List.of(3L));
+        // COB inserted a lock for loan 3 between the read and the insert of the claim
+        doThrow(new DuplicateKeyException("duplicate key")).doReturn(List.of()).when(loanLockingService).claimLocks(List.of(3L),
+                LOCK_OWNER);
+        when(loanLockingService.findAllByLoanIdInAndLockOwner(List.of(3L), LOCK_OWNER)).thenReturn(locksOf3);
+        reader.open(executionContext);
+
+        assertEquals(3L, reader.read());
+        assertNull(reader.read());
+        verify(loanLockingService, times(2)).claimLocks(List.of(3L), LOCK_OWNER);
+        verify(transactionManager).rollback(any());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    public void pageIsFetchedAgainAfterAFailedClaim() {
+        when(loanAccrualsProcessingService.retrieveLoanIdsForPeriodicAccrual(TILL_DATE, 0L, 100L, 2)).thenReturn(List.of(3L));
+        doThrow(new DuplicateKeyException("duplicate key")).when(loanLockingService).claimLocks(List.of(3L), LOCK_OWNER);
+        reader.open(executionContext);
+
+        assertThrows(DuplicateKeyException.class, () -> reader.read());
+
+        doReturn(List.of()).when(loanLockingService).claimLocks(List.of(3L), LOCK_OWNER);
+        when(loanLockingService.findAllByLoanIdInAndLockOwner(List.of(3L), LOCK_OWNER)).thenReturn(locksOf3);
+        assertEquals(3L, reader.read());
+        verify(loanAccrualsProcessingService, times(2)).retrieveLoanIdsForPeriodicAccrual(TILL_DATE, 0L, 100L, 2);
+    }
+
+    private AddPeriodicAccrualEntriesItemReader createReader() {
+        return new AddPeriodicAccrualEntriesItemReader(loanAccrualsProcessingService, loanLockingService,
+                new TransactionTemplate(transactionManager), 2);
+    }
+
+    private static LoanAccountLock lock(Long loanId) {
+        LoanAccountLock lock = mock(LoanAccountLock.class);
+        lenient().when(lock.getLoanId()).thenReturn(loanId);
+        return lock;
+    }
+}
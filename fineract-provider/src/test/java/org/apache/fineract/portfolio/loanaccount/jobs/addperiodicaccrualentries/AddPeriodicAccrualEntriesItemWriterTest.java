@@ -0,0 +1,77 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.jobs.addperiodicaccrualentries;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.apache.fineract.cob.domain.LockOwner;
+import org.apache.fineract.cob.loan.LoanLockingService;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.Chunk;
+
+@ExtendWith(MockitoExtension.class)
+public class AddPeriodicAccrualEntriesItemWriterTest {
+
+    @Mock
+    private LoanLockingService loanLockingService;
+    @Mock
+    private LoanRepository loanRepository;
+
+    private AddPeriodicAccrualEntriesItemWriter writer;
+
+    @BeforeEach
+    public void setUp() {
+        writer = new AddPeriodicAccrualEntriesItemWriter(loanLockingService);
+        writer.setRepository(loanRepository);
+    }
+
+    @Test
+    public void writeReleasesThePeriodicAccrualLocksOfTheWrittenLoans() throws Exception {
+        Loan first = loan(3L);
+        Loan second = loan(8L);
+
+        writer.write(new Chunk<>(first, second));
+
+        verify(loanRepository).saveAll(List.of(first, second));
+        verify(loanLockingService).deleteByLoanIdInAndLockOwner(List.of(3L, 8L), LockOwner.LOAN_PERIODIC_ACCRUAL_PROCESSING);
+    }
+
+    @Test
+    public void emptyChunkReleasesNothing() throws Exception {
+        writer.write(new Chunk<>());
+
+        verifyNoInteractions(loanLockingService, loanRepository);
+    }
+
+    private static Loan loan(Long id) {
+        Loan loan = mock(Loan.class);
+        when(loan.getId()).thenReturn(id);
+        return loan;
+    }
+}
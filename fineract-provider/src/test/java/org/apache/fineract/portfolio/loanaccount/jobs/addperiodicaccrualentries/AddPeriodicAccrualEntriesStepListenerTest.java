@@ -0,0 +1,72 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.jobs.addperiodicaccrualentries;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.apache.fineract.useradministration.domain.AppUserRepositoryWrapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+
+@ExtendWith(MockitoExtension.class)
+public class AddPeriodicAccrualEntriesStepListenerTest {
+
+    @Mock
+    private AppUserRepositoryWrapper userRepository;
+    @InjectMocks
+    private AddPeriodicAccrualEntriesStepListener listener;
+
+    @Test
+    public void partitionWithSkippedLoansFails() {
+        StepExecution stepExecution = stepExecution();
+        stepExecution.setProcessSkipCount(2);
+
+        ExitStatus exitStatus = listener.afterStep(stepExecution);
+
+        assertEquals(ExitStatus.FAILED.getExitCode(), exitStatus.getExitCode());
+        assertEquals(BatchStatus.FAILED, stepExecution.getStatus());
+    }
+
+    @Test
+    public void partitionWithoutSkippedLoansKeepsItsStatus() {
+        StepExecution stepExecution = stepExecution();
+
+        ExitStatus exitStatus = listener.afterStep(stepExecution);
+
+        assertEquals(ExitStatus.COMPLETED, exitStatus);
+        assertEquals(BatchStatus.COMPLETED, stepExecution.getStatus());
+    }
+
+    private static StepExecution stepExecution() {
+        JobExecution jobExecution = new JobExecution(new JobInstance(1L, "ADD_PERIODIC_ACCRUAL_ENTRIES"), 1L, new JobParameters());
+        StepExecution stepExecution = new StepExecution("ADD_PERIODIC_ACCRUAL_ENTRIES - Worker:partition_0", jobExecution);
+        stepExecution.setStatus(BatchStatus.COMPLETED);
+        stepExecution.setExitStatus(ExitStatus.COMPLETED);
+        return stepExecution;
+    }
+}
@@ -0,0 +1,83 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.organisation.holiday.domain.Holiday;
+import org.apache.fineract.organisation.workingdays.domain.WorkingDays;
+import org.apache.fineract.portfolio.loanaccount.data.HolidayDetailDTO;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class LoanPointInTimeReferenceDataTest {
+
+    private final WorkingDays workingDays = Mockito.mock(WorkingDays.class);
+    private final Map<Long, Integer> loads = new HashMap<>();
+
+    private final Holiday past = holiday(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 2));
+    private final Holiday spanning = holiday(LocalDate.of(2024, 3, 30), LocalDate.of(2024, 4, 2));
+    private final Holiday future = holiday(LocalDate.of(2024, 12, 25), LocalDate.of(2024, 12, 26));
+
+    private final LoanPointInTimeReferenceData underTest = new LoanPointInTimeReferenceData(true, workingDays, false, true, officeId -> {
+        loads.merge(officeId, 1, Integer::sum);
+        return officeId == 1L ? List.of(past, spanning, future) : List.of(future);
+    });
+
+    @Test
+    void givesEachLoanTheHolidaysEndingOnOrAfterItsDisbursement() {
+        HolidayDetailDTO details = underTest.holidayDetailsFor(1L, LocalDate.of(2024, 4, 1));
+
+        assertEquals(List.of(spanning, future), details.getHolidays());
+        assertTrue(details.isHolidayEnabled());
+        assertSame(workingDays, details.getWorkingDays());
+        assertFalse(details.isAllowTransactionsOnHoliday());
+        assertTrue(details.isAllowTransactionsOnNonWorkingDay());
+
+        assertEquals(List.of(future), underTest.holidayDetailsFor(1L, LocalDate.of(2024, 12, 26)).getHolidays());
+        assertEquals(List.of(past, spanning, future), underTest.holidayDetailsFor(1L, LocalDate.of(2023, 6, 1)).getHolidays());
+    }
+
+    @Test
+    void loadsTheHolidaysOfAnOfficeOnce() {
+        underTest.holidayDetailsFor(1L, LocalDate.of(2024, 1, 1));
+        underTest.holidayDetailsFor(1L, LocalDate.of(2024, 6, 1));
+        underTest.holidayDetailsFor(2L, LocalDate.of(2024, 6, 1));
+        underTest.holidayDetailsFor(2L, LocalDate.of(2025, 6, 1));
+
+        assertEquals(Map.of(1L, 1, 2L, 1), loads);
+    }
+
+    @Test
+    void givesNoHolidaysWithoutDisbursementDate() {
+        assertTrue(underTest.holidayDetailsFor(1L, null).getHolidays().isEmpty());
+        assertTrue(loads.isEmpty());
+    }
+
+    private static Holiday holiday(LocalDate fromDate, LocalDate toDate) {
+        return new Holiday().setFromDate(fromDate).setToDate(toDate);
+    }
+}
@@ -0,0 +1,256 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.fineract.cob.loan.ContextAwareTaskDecorator;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.organisation.holiday.domain.HolidayRepository;
+import org.apache.fineract.organisation.workingdays.domain.WorkingDaysRepositoryWrapper;
+import org.apache.fineract.portfolio.loanaccount.data.LoanIdAndVersion;
+import org.apache.fineract.portfolio.loanaccount.data.LoanPointInTimeData;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.support.NoOpCache;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class LoanPointInTimeServiceImplTest {
+
+    private static final LocalDate CURRENT_DATE = LocalDate.of(2024, 6, 30);
+    private static final LocalDate POINT_IN_TIME = LocalDate.of(2024, 3, 31);
+
+    @Mock
+    private LoanUtilService loanUtilService;
+    @Mock
+    private LoanScheduleService loanScheduleService;
+    @Mock
+    private LoanAssembler loanAssembler;
+    @Mock
+    private LoanPointInTimeData.Mapper dataMapper;
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private LoanRepository loanRepository;
+    @Mock
+    private HolidayRepository holidayRepository;
+    @Mock
+    private WorkingDaysRepositoryWrapper workingDaysRepository;
+    @Mock
+    private ConfigurationDomainService configurationDomainService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private CacheManager cacheManager;
+
+    private final Map<Long, Loan> loans = new HashMap<>();
+    private final Map<Long, String> calculatingThreads = new ConcurrentHashMap<>();
+    private final Map<Long, LocalDate> calculatingBusinessDates = new ConcurrentHashMap<>();
+    private final List<Long> calculatedLoanIds = new ArrayList<>();
+    private FineractProperties.FineractLoanPointInTimeProperties pointInTimeProperties;
+    private ThreadPoolTaskExecutor pointInTimeExecutor;
+    private LoanPointInTimeServiceImpl underTest;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, CURRENT_DATE)));
+
+        pointInTimeProperties = new FineractProperties.FineractLoanPointInTimeProperties();
+        FineractProperties.FineractLoanProperties loanProperties = new FineractProperties.FineractLoanProperties();
+        loanProperties.setPointInTime(pointInTimeProperties);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setLoan(loanProperties);
+
+        pointInTimeExecutor = new ThreadPoolTaskExecutor();
+        pointInTimeExecutor.setCorePoolSize(2);
+        pointInTimeExecutor.setMaxPoolSize(2);
+        pointInTimeExecutor.setThreadNamePrefix("loan-point-in-time-test-");
+        pointInTimeExecutor.setTaskDecorator(new ContextAwareTaskDecorator());
+        pointInTimeExecutor.initialize();
+
+        for (long loanId = 1; loanId <= 6; loanId++) {
+            Loan loan = mock(Loan.class);
+            when(loan.getId()).thenReturn(loanId);
+            loans.put(loanId, loan);
+        }
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        when(cacheManager.getCache(LoanPointInTimeServiceImpl.CACHE_NAME)).thenReturn(new NoOpCache(LoanPointInTimeServiceImpl.CACHE_NAME));
+        when(loanRepository.findAllByIdInForCOB(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> loanIds = invocation.getArgument(0);
+            return loanIds.stream().map(loans::get).toList();
+        });
+        when(dataMapper.map(any(Loan.class))).thenAnswer(invocation -> {
+            Long loanId = invocation.getArgument(0, Loan.class).getId();
+            calculatingThreads.put(loanId, Thread.currentThread().getName());
+            calculatingBusinessDates.put(loanId, ThreadLocalContextUtil.getBusinessDateByType(BusinessDateType.BUSINESS_DATE));
+            synchronized (calculatedLoanIds) {
+                calculatedLoanIds.add(loanId);
+            }
+            // the first loans take longest, their batches complete last
+            Thread.sleep(Math.max(0, 60 - loanId * 10));
+            LoanPointInTimeData data = new LoanPointInTimeData();
+            data.setId(loanId);
+            return data;
+        });
+
+        underTest = new LoanPointInTimeServiceImpl(loanUtilService, loanScheduleService, loanAssembler, dataMapper, entityManager,
+                loanRepository, holidayRepository, workingDaysRepository, configurationDomainService, transactionManager,
+                fineractProperties, cacheManager, pointInTimeExecutor);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        pointInTimeExecutor.shutdown();
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testBulkRetrievalKeepsTheRequestedOrder() {
+        pointInTimeProperties.setBatchSize(2);
+        pointInTimeProperties.setThreadPoolSize(1);
+
+        List<LoanPointInTimeData> result = underTest.retrieveAt(List.of(5L, 3L, 5L, 1L, 4L), POINT_IN_TIME);
+
+        assertEquals(List.of(5L, 3L, 5L, 1L, 4L), result.stream().map(LoanPointInTimeData::getId).toList());
+        verify(loanRepository, times(3)).findAllByIdInForCOB(anyCollection());
+        assertFalse(calculatingThreads.values().stream().anyMatch(thread -> thread.startsWith("loan-point-in-time-test-")));
+        assertReadOnlyTransactionPerBatch(3);
+        assertEquals(Set.of(POINT_IN_TIME), Set.copyOf(calculatingBusinessDates.values()));
+        assertEquals(CURRENT_DATE, ThreadLocalContextUtil.getBusinessDateByType(BusinessDateType.BUSINESS_DATE));
+    }
+
+    @Test
+    public void testParallelRetrievalRunsOnTheSharedWorkersAndKeepsTheRequestedOrder() {
+        pointInTimeProperties.setBatchSize(1);
+        pointInTimeProperties.setThreadPoolSize(2);
+        List<Long> loanIds = List.of(1L, 2L, 3L, 4L, 5L, 6L);
+        List<Long> consumedLoanIds = new ArrayList<>();
+
+        underTest.retrieveAt(loanIds, POINT_IN_TIME, data -> consumedLoanIds.add(data.getId()));
+
+        assertEquals(loanIds, consumedLoanIds);
+        assertEquals(6, calculatingThreads.size());
+        assertTrue(calculatingThreads.values().stream().allMatch(thread -> thread.startsWith("loan-point-in-time-test-")));
+        assertReadOnlyTransactionPerBatch(6);
+        assertEquals(Set.of(POINT_IN_TIME), Set.copyOf(calculatingBusinessDates.values()));
+        assertEquals(CURRENT_DATE, ThreadLocalContextUtil.getBusinessDateByType(BusinessDateType.BUSINESS_DATE));
+        // the workers are shared, the call must not shut them down
+        assertFalse(pointInTimeExecutor.getThreadPoolExecutor().isShutdown());
+    }
+
+    @Test
+    public void testResultsAreCachedPerLoanVersion() {
+        pointInTimeProperties.setBatchSize(10);
+        pointInTimeProperties.setThreadPoolSize(1);
+        ConcurrentMapCache cache = new ConcurrentMapCache(LoanPointInTimeServiceImpl.CACHE_NAME);
+        when(cacheManager.getCache(LoanPointInTimeServiceImpl.CACHE_NAME)).thenReturn(cache);
+        when(loanRepository.findVersionsByIdIn(anyCollection())).thenReturn(List.of(version(1L, 1), version(2L, 7)));
+
+        underTest.retrieveAt(List.of(1L, 2L), POINT_IN_TIME);
+        List<LoanPointInTimeData> cached = underTest.retrieveAt(List.of(2L, 1L), POINT_IN_TIME);
+
+        assertEquals(List.of(2L, 1L), cached.stream().map(LoanPointInTimeData::getId).toList());
+        assertEquals(List.of(1L, 2L), calculatedLoanIds);
+        assertNotNull(cache.get("default_1_" + POINT_IN_TIME + "_1"));
+        assertNotNull(cache.get("default_2_" + POINT_IN_TIME + "_7"));
+
+        // a new version of a loan is calculated again, the other one is still served from the cache
+        when(loanRepository.findVersionsByIdIn(anyCollection())).thenReturn(List.of(version(1L, 2), version(2L, 7)));
+        underTest.retrieveAt(List.of(1L, 2L), POINT_IN_TIME);
+
+        assertEquals(List.of(1L, 2L, 1L), calculatedLoanIds);
+        assertNotNull(cache.get("default_1_" + POINT_IN_TIME + "_2"));
+    }
+
+    @Test
+    public void testLoanModifiedDuringTheCalculationIsNotCached() {
+        pointInTimeProperties.setBatchSize(10);
+        pointInTimeProperties.setThreadPoolSize(1);
+        ConcurrentMapCache cache = new ConcurrentMapCache(LoanPointInTimeServiceImpl.CACHE_NAME);
+        when(cacheManager.getCache(LoanPointInTimeServiceImpl.CACHE_NAME)).thenReturn(cache);
+        when(loanRepository.findVersionsByIdIn(anyCollection())).thenReturn(List.of(version(1L, 1))).thenReturn(List.of(version(1L, 2)));
+
+        underTest.retrieveAt(List.of(1L), POINT_IN_TIME);
+
+        assertTrue(cache.getNativeCache().isEmpty());
+    }
+
+    private void assertReadOnlyTransactionPerBatch(int batches) {
+        ArgumentCaptor<TransactionDefinition> definitions = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager, times(batches)).getTransaction(definitions.capture());
+        for (TransactionDefinition definition : definitions.getAllValues()) {
+            assertTrue(definition.isReadOnly());
+            assertEquals(TransactionDefinition.PROPAGATION_REQUIRED, definition.getPropagationBehavior());
+        }
+    }
+
+    private static LoanIdAndVersion version(Long loanId, Integer version) {
+        return new LoanIdAndVersion() {
+
+            @Override
+            public Long getId() {
+                return loanId;
+            }
+
+            @Override
+            public Integer getVersion() {
+                return version;
+            }
+        };
+    }
+}
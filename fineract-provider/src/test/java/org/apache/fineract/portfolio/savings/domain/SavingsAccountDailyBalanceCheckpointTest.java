@@ -0,0 +1,323 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.organisation.monetary.domain.MonetaryCurrency;
+import org.apache.fineract.organisation.monetary.domain.Money;
+import org.apache.fineract.organisation.monetary.domain.MoneyHelper;
+import org.apache.fineract.portfolio.account.service.AccountTransfersReadPlatformService;
+import org.apache.fineract.portfolio.savings.DepositAccountType;
+import org.apache.fineract.portfolio.savings.SavingsCompoundingInterestPeriodType;
+import org.apache.fineract.portfolio.savings.SavingsInterestCalculationDaysInYearType;
+import org.apache.fineract.portfolio.savings.SavingsInterestCalculationType;
+import org.apache.fineract.portfolio.savings.SavingsPostingInterestPeriodType;
+import org.apache.fineract.portfolio.savings.domain.interest.PostingPeriod;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class SavingsAccountDailyBalanceCheckpointTest {
+
+    private static final MockedStatic<MoneyHelper> MONEY_HELPER = Mockito.mockStatic(MoneyHelper.class);
+    private static final MonetaryCurrency CURRENCY = new MonetaryCurrency("USD", 2, null);
+    private static final LocalDate START_DATE = LocalDate.of(2024, 1, 1);
+
+    private SavingsAccount account;
+    private long nextTransactionId;
+
+    @BeforeAll
+    public static void init() {
+        MONEY_HELPER.when(MoneyHelper::getMathContext).thenReturn(new MathContext(12, RoundingMode.HALF_EVEN));
+        MONEY_HELPER.when(MoneyHelper::getRoundingMode).thenReturn(RoundingMode.HALF_EVEN);
+    }
+
+    @AfterAll
+    public static void destruct() {
+        MONEY_HELPER.close();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, START_DATE.plusYears(1))));
+        account = new SavingsAccount();
+        ReflectionTestUtils.setField(account, "currency", CURRENCY);
+        nextTransactionId = 1L;
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testIncrementalRecalculationMatchesFullRecalculation() {
+        final Random random = new Random(20240101L);
+        LocalDate lastDate = START_DATE;
+        for (int step = 0; step < 300; step++) {
+            final int action = random.nextInt(10);
+            if (action < 6 || account.transactions.isEmpty()) {
+                lastDate = lastDate.plusDays(random.nextInt(3));
+                addTransaction(random, lastDate);
+            } else if (action < 8) {
+                final int days = (int) (lastDate.toEpochDay() - START_DATE.toEpochDay());
+                addTransaction(random, START_DATE.plusDays(random.nextInt(days + 1)));
+            } else {
+                account.transactions.get(random.nextInt(account.transactions.size())).reverse();
+            }
+
+            account.recalculateDailyBalances(Money.zero(CURRENCY), lastDate, false, false);
+            final List<String> incremental = snapshot();
+            final Object checkpointDate = ReflectionTestUtils.getField(account, "balanceCheckpointDate");
+            final Object checkpointHash = ReflectionTestUtils.getField(account, "balanceCheckpointHash");
+
+            ReflectionTestUtils.setField(account, "balanceCheckpointHash", null);
+            account.recalculateDailyBalances(Money.zero(CURRENCY), lastDate, false, false);
+
+            assertEquals(snapshot(), incremental, "daily balances differ after step " + step);
+            assertEquals(checkpointDate, ReflectionTestUtils.getField(account, "balanceCheckpointDate"));
+            assertEquals(checkpointHash, ReflectionTestUtils.getField(account, "balanceCheckpointHash"));
+            persistTransactions();
+        }
+    }
+
+    @Test
+    public void testTransactionsBeforeCheckpointAreNotRecalculated() {
+        addTransaction(START_DATE, 100);
+        addTransaction(START_DATE.plusDays(1), 50);
+        addTransaction(START_DATE.plusDays(2), 25);
+        persistTransactions();
+        account.recalculateDailyBalances(Money.zero(CURRENCY), START_DATE.plusDays(2), false, false);
+        assertEquals(START_DATE.plusDays(1), ReflectionTestUtils.getField(account, "balanceCheckpointDate"));
+
+        final SavingsAccountTransaction first = account.transactions.get(0);
+        ReflectionTestUtils.setField(first, "cumulativeBalance", new BigDecimal("-1"));
+        addTransaction(START_DATE.plusDays(3), 10);
+        account.recalculateDailyBalances(Money.zero(CURRENCY), START_DATE.plusDays(3), false, false);
+
+        assertEquals(0, new BigDecimal("-1").compareTo(first.getCumulativeBalance()));
+        assertEquals(0, new BigDecimal("175").compareTo(account.transactions.get(2).getRunningBalance()));
+        assertEquals(START_DATE.plusDays(2), account.transactions.get(2).getBalanceEndDate());
+        assertEquals(0, new BigDecimal("185").compareTo(account.transactions.get(3).getRunningBalance()));
+    }
+
+    @Test
+    public void testBackdatedTransactionTriggersFullRecalculation() {
+        addTransaction(START_DATE, 100);
+        addTransaction(START_DATE.plusDays(2), 50);
+        addTransaction(START_DATE.plusDays(4), 25);
+        persistTransactions();
+        account.recalculateDailyBalances(Money.zero(CURRENCY), START_DATE.plusDays(4), false, false);
+        assertEquals(START_DATE.plusDays(2), ReflectionTestUtils.getField(account, "balanceCheckpointDate"));
+
+        addTransaction(START_DATE.plusDays(1), 10);
+        account.recalculateDailyBalances(Money.zero(CURRENCY), START_DATE.plusDays(4), false, false);
+
+        final SavingsAccountTransaction first = account.transactions.get(0);
+        assertEquals(START_DATE, first.getBalanceEndDate());
+        assertEquals(0, new BigDecimal("100").compareTo(first.getCumulativeBalance()));
+        assertEquals(0, new BigDecimal("110").compareTo(account.transactions.get(1).getRunningBalance()));
+        assertEquals(0, new BigDecimal("185").compareTo(account.transactions.get(3).getRunningBalance()));
+        assertEquals(START_DATE, ReflectionTestUtils.getField(account, "balanceCheckpointDate"));
+        assertNotNull(ReflectionTestUtils.getField(account, "balanceCheckpointHash"));
+    }
+
+    @Test
+    public void testInterestFromCheckpointMatchesFullCalculation() {
+        setUpInterest();
+        final Random random = new Random(20240301L);
+        LocalDate lastDate = START_DATE;
+        addTransaction(START_DATE, 1000);
+        boolean checkpointUsed = false;
+        for (int month = 1; month <= 12; month++) {
+            final LocalDate postingDate = START_DATE.plusMonths(month);
+            while (lastDate.plusDays(3).isBefore(postingDate)) {
+                lastDate = lastDate.plusDays(1 + random.nextInt(3));
+                addTransaction(lastDate, random.nextInt(300) - 50);
+            }
+            if (month % 5 == 0) {
+                // backdated into an already posted month
+                addTransaction(START_DATE.plusMonths(random.nextInt(month - 1)).plusDays(10), 250);
+            }
+            persistTransactions();
+
+            final List<PostingPeriod> fromCheckpoint = calculateInterest(postingDate);
+            final BigDecimal interestEarnedFromCheckpoint = account.getSummary().getTotalInterestEarned();
+            final LocalDate checkpointDate = (LocalDate) ReflectionTestUtils.getField(account, "interestCheckpointDate");
+            final BigDecimal checkpointInterestEarned = (BigDecimal) ReflectionTestUtils.getField(account,
+                    "interestCheckpointInterestEarned");
+
+            ReflectionTestUtils.setField(account, "interestCheckpointHash", null);
+            final List<PostingPeriod> full = calculateInterest(postingDate);
+
+            assertTrue(full.size() >= fromCheckpoint.size());
+            assertEquals(snapshot(full.subList(full.size() - fromCheckpoint.size(), full.size())), snapshot(fromCheckpoint),
+                    "posting periods differ in month " + month);
+            assertEquals(0, account.getSummary().getTotalInterestEarned().compareTo(interestEarnedFromCheckpoint),
+                    "interest earned differs in month " + month);
+            assertEquals(checkpointDate, ReflectionTestUtils.getField(account, "interestCheckpointDate"));
+            if (checkpointDate != null) {
+                assertEquals(0, checkpointInterestEarned
+                        .compareTo((BigDecimal) ReflectionTestUtils.getField(account, "interestCheckpointInterestEarned")));
+            }
+            checkpointUsed |= full.size() > fromCheckpoint.size();
+
+            postInterest(full, postingDate);
+            persistTransactions();
+        }
+        assertTrue(checkpointUsed);
+    }
+
+    @Test
+    public void testBackdatedTransactionInvalidatesInterestCheckpoint() {
+        setUpInterest();
+        addTransaction(START_DATE, 1000);
+        for (int month = 1; month <= 3; month++) {
+            final LocalDate postingDate = START_DATE.plusMonths(month);
+            addTransaction(postingDate.minusDays(10), 100);
+            persistTransactions();
+            postInterest(calculateInterest(postingDate), postingDate);
+            persistTransactions();
+        }
+        addTransaction(START_DATE.plusMonths(3).plusDays(5), 100);
+        persistTransactions();
+        // only the last posted period and the open one are calculated
+        assertEquals(2, calculateInterest(START_DATE.plusMonths(3).plusDays(10)).size());
+        assertEquals(START_DATE.plusMonths(3).minusDays(1), ReflectionTestUtils.getField(account, "interestCheckpointDate"));
+
+        addTransaction(START_DATE.plusDays(15), 500);
+        persistTransactions();
+        final List<PostingPeriod> periods = calculateInterest(START_DATE.plusMonths(3).plusDays(10));
+
+        assertEquals(4, periods.size());
+        assertEquals(START_DATE, periods.get(0).getPeriodInterval().startDate());
+        // the interest posted for January no longer matches
+        assertNull(ReflectionTestUtils.getField(account, "interestCheckpointDate"));
+    }
+
+    private void setUpInterest() {
+        ReflectionTestUtils.setField(account, "depositType", DepositAccountType.SAVINGS_DEPOSIT.getValue());
+        ReflectionTestUtils.setField(account, "activatedOnDate", START_DATE);
+        ReflectionTestUtils.setField(account, "nominalAnnualInterestRate", new BigDecimal("7.5"));
+        ReflectionTestUtils.setField(account, "nominalAnnualInterestRateOverdraft", BigDecimal.ZERO);
+        // annual compounding carries interest not yet compounded over the monthly posting periods
+        ReflectionTestUtils.setField(account, "interestCompoundingPeriodType", SavingsCompoundingInterestPeriodType.ANNUAL.getValue());
+        ReflectionTestUtils.setField(account, "interestPostingPeriodType", SavingsPostingInterestPeriodType.MONTHLY.getValue());
+        ReflectionTestUtils.setField(account, "interestCalculationType", SavingsInterestCalculationType.DAILY_BALANCE.getValue());
+        ReflectionTestUtils.setField(account, "interestCalculationDaysInYearType",
+                SavingsInterestCalculationDaysInYearType.DAYS_365.getValue());
+        ReflectionTestUtils.setField(account, "summary", new SavingsAccountSummary());
+        ReflectionTestUtils.setField(account, "savingsAccountTransactionSummaryWrapper", new SavingsAccountTransactionSummaryWrapper());
+        ReflectionTestUtils.setField(account, "savingsHelper", new SavingsHelper(Mockito.mock(AccountTransfersReadPlatformService.class)));
+    }
+
+    private List<PostingPeriod> calculateInterest(final LocalDate upToDate) {
+        return account.calculateInterestUsing(MathContext.DECIMAL64, upToDate, false, false, 1, null, false, false);
+    }
+
+    /**
+     * Posts the interest of the periods the way {@link SavingsAccount#postInterest} does, reversing postings whose amount
+     * changed.
+     */
+    private void postInterest(final List<PostingPeriod> postingPeriods, final LocalDate upToDate) {
+        for (PostingPeriod postingPeriod : postingPeriods) {
+            final LocalDate postingDate = postingPeriod.dateOfPostingTransaction();
+            if (postingDate.isAfter(upToDate)) {
+                continue;
+            }
+            final SavingsAccountTransaction posting = account.findInterestPostingTransactionFor(postingDate);
+            if (posting != null && !posting.hasNotAmount(postingPeriod.getInterestEarned())) {
+                continue;
+            }
+            if (posting != null) {
+                posting.reverse();
+            }
+            account.transactions.add(
+                    SavingsAccountTransaction.interestPosting(account, null, postingDate, postingPeriod.getInterestEarned(), false));
+        }
+        account.transactions.sort(new SavingsAccountTransactionComparator());
+    }
+
+    private static List<String> snapshot(final List<PostingPeriod> postingPeriods) {
+        final List<String> values = new ArrayList<>();
+        for (PostingPeriod postingPeriod : postingPeriods) {
+            values.add(postingPeriod.getPeriodInterval().startDate() + "|" + postingPeriod.getPeriodInterval().endDate() + "|"
+                    + plain(postingPeriod.openingBalance().getAmount()) + "|" + plain(postingPeriod.closingBalance().getAmount()) + "|"
+                    + plain(postingPeriod.interest().getAmount()) + "|" + postingPeriod.dateOfPostingTransaction());
+        }
+        return values;
+    }
+
+    private void addTransaction(final Random random, final LocalDate date) {
+        addTransaction(date, random.nextInt(400) - 150);
+    }
+
+    private void addTransaction(final LocalDate date, final int amount) {
+        final Money money = Money.of(CURRENCY, BigDecimal.valueOf(Math.abs(amount)));
+        final SavingsAccountTransaction transaction = amount < 0
+                ? SavingsAccountTransaction.withdrawal(account, null, null, date, money, null)
+                : SavingsAccountTransaction.deposit(account, null, null, date, money, null);
+        account.transactions.add(transaction);
+        account.transactions.sort(new SavingsAccountTransactionComparator());
+    }
+
+    private void persistTransactions() {
+        for (SavingsAccountTransaction transaction : account.transactions) {
+            if (transaction.getId() == null) {
+                ReflectionTestUtils.setField(transaction, "id", nextTransactionId++);
+            }
+        }
+    }
+
+    private List<String> snapshot() {
+        final List<String> values = new ArrayList<>();
+        for (SavingsAccountTransaction transaction : account.retrieveListOfTransactions()) {
+            values.add(transaction.getTransactionDate() + "|" + transaction.isReversed() + "|" + plain(transaction.getRunningBalance())
+                    + "|" + plain(transaction.getCumulativeBalance()) + "|" + transaction.getBalanceEndDate() + "|"
+                    + transaction.getBalanceNumberOfDays() + "|" + plain(transaction.getOverdraftAmount()));
+        }
+        return values;
+    }
+
+    private static String plain(final BigDecimal value) {
+        return value == null ? null : value.stripTrailingZeros().toPlainString();
+    }
+}
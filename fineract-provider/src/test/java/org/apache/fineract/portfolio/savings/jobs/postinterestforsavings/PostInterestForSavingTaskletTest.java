@@ -0,0 +1,130 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.jobs.postinterestforsavings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.jobs.exception.JobExecutionException;
+import org.apache.fineract.portfolio.savings.data.SavingsAccountData;
+import org.apache.fineract.portfolio.savings.service.SavingsAccountReadPlatformService;
+import org.apache.fineract.portfolio.savings.service.SavingsSchedularInterestPosterTask;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameter;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+
+public class PostInterestForSavingTaskletTest {
+
+    private final SavingsAccountReadPlatformService savingsAccountReadPlatformService = mock(SavingsAccountReadPlatformService.class);
+    private final ApplicationContext applicationContext = mock(ApplicationContext.class);
+    private final FineractProperties fineractProperties = mock(FineractProperties.class, RETURNS_DEEP_STUBS);
+    private final JobRepository jobRepository = mock(JobRepository.class);
+    private final SavingsSchedularInterestPosterTask poster = mock(SavingsSchedularInterestPosterTask.class);
+    private final PostInterestForSavingTasklet tasklet = new PostInterestForSavingTasklet(savingsAccountReadPlatformService,
+            mock(ConfigurationDomainService.class), applicationContext, fineractProperties, Optional.empty(), jobRepository,
+            mock(PlatformTransactionManager.class));
+
+    private StepExecution stepExecution;
+
+    @BeforeEach
+    public void setUp() {
+        when(fineractProperties.getJob().getSavingsInterestPosting().getQueueCapacity()).thenReturn(1);
+        when(applicationContext.getBean(SavingsSchedularInterestPosterTask.class)).thenReturn(poster);
+        when(savingsAccountReadPlatformService.retrieveSavingsDataForInterestPostingInRange(anyBoolean(), anyInt(), any(), any()))
+                .thenAnswer(invocation -> List.of(mock(SavingsAccountData.class)));
+        JobParameters jobParameters = new JobParameters(
+                Map.of("thread-pool-size", new JobParameter<>("1", String.class), "batch-size", new JobParameter<>("1", String.class)));
+        stepExecution = new StepExecution("test", new JobExecution(new JobInstance(1L, "test"), jobParameters));
+    }
+
+    @Test
+    @Timeout(30)
+    public void workerErrorStopsTheProducerInsteadOfBlockingOnTheQueue() throws Exception {
+        pages(1_000);
+        doThrow(new StackOverflowError("test")).when(poster).call();
+
+        JobExecutionException exception = assertThrows(JobExecutionException.class,
+                () -> tasklet.execute(new StepContribution(stepExecution), new ChunkContext(new StepContext(stepExecution))));
+
+        assertTrue(exception.getCauses().stream().anyMatch(StackOverflowError.class::isInstance));
+        assertEquals(0L, stepExecution.getExecutionContext().getLong(PostInterestForSavingTasklet.LAST_POSTED_SAVINGS_ID));
+    }
+
+    @Test
+    @Timeout(30)
+    public void checkpointIsPersistedWhilePagesAreStillPosted() throws Exception {
+        pages(4);
+        // the second batch is held until the checkpoint of the first one was written, the queue then stays full
+        CountDownLatch checkpointWritten = new CountDownLatch(1);
+        AtomicInteger postedBatches = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (postedBatches.incrementAndGet() == 2) {
+                assertTrue(checkpointWritten.await(20, TimeUnit.SECONDS));
+            }
+            return null;
+        }).when(poster).call();
+        List<Long> writtenCheckpoints = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            writtenCheckpoints.add(stepExecution.getExecutionContext().getLong(PostInterestForSavingTasklet.LAST_POSTED_SAVINGS_ID));
+            checkpointWritten.countDown();
+            return null;
+        }).when(jobRepository).updateExecutionContext(stepExecution);
+
+        tasklet.execute(new StepContribution(stepExecution), new ChunkContext(new StepContext(stepExecution)));
+
+        assertEquals(1L, writtenCheckpoints.get(0));
+        assertEquals(4L, stepExecution.getExecutionContext().getLong(PostInterestForSavingTasklet.LAST_POSTED_SAVINGS_ID));
+    }
+
+    private void pages(long numberOfPages) {
+        when(savingsAccountReadPlatformService.getAccountsIdsByStatusPaged(anyInt(), anyInt(), any())).thenAnswer(invocation -> {
+            long afterSavingsId = invocation.getArgument(2);
+            return afterSavingsId < numberOfPages ? List.of(afterSavingsId + 1) : List.of();
+        });
+    }
+}
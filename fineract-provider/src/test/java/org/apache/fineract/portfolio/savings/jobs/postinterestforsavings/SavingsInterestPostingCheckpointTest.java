@@ -0,0 +1,62 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.jobs.postinterestforsavings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class SavingsInterestPostingCheckpointTest {
+
+    @Test
+    public void advancesOnlyOverCompletedLeadingPages() {
+        SavingsInterestPostingCheckpoint checkpoint = new SavingsInterestPostingCheckpoint(0L);
+        checkpoint.registerPage(100L, 2);
+        checkpoint.registerPage(200L, 1);
+
+        checkpoint.batchCompleted(200L, true);
+        assertEquals(0L, checkpoint.getLastPostedSavingsId());
+
+        checkpoint.batchCompleted(100L, true);
+        assertEquals(0L, checkpoint.getLastPostedSavingsId());
+
+        checkpoint.batchCompleted(100L, true);
+        assertEquals(200L, checkpoint.getLastPostedSavingsId());
+    }
+
+    @Test
+    public void emptyPageAdvancesImmediately() {
+        SavingsInterestPostingCheckpoint checkpoint = new SavingsInterestPostingCheckpoint(50L);
+        checkpoint.registerPage(150L, 0);
+
+        assertEquals(150L, checkpoint.getLastPostedSavingsId());
+    }
+
+    @Test
+    public void failedBatchBlocksCheckpoint() {
+        SavingsInterestPostingCheckpoint checkpoint = new SavingsInterestPostingCheckpoint(0L);
+        checkpoint.registerPage(100L, 1);
+        checkpoint.registerPage(200L, 1);
+
+        checkpoint.batchCompleted(100L, false);
+        checkpoint.batchCompleted(200L, true);
+
+        assertEquals(0L, checkpoint.getLastPostedSavingsId());
+    }
+}
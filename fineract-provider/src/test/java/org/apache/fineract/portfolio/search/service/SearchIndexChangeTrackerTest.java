@@ -0,0 +1,164 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.apache.fineract.organisation.office.domain.Office;
+import org.apache.fineract.portfolio.client.domain.Client;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SearchIndexChangeTrackerTest {
+
+    @Mock
+    private SearchIndexWritePlatformService searchIndexWritePlatformService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SearchIndexChangeTracker underTest;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        underTest = new SearchIndexChangeTracker(searchIndexWritePlatformService, Optional.of(meterRegistry));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void changesAreReindexedOnceAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        underTest.entityChanged(client(1L), null);
+        underTest.entityChanged(client(2L), List.of("displayName"));
+        underTest.entityChanged(client(1L), List.of("mobileNo"));
+        underTest.entityChanged(loan(5L), List.of("accountNumber"));
+
+        verifyNoInteractions(searchIndexWritePlatformService);
+        assertEquals(1, TransactionSynchronizationManager.getSynchronizations().size());
+
+        commit();
+
+        verify(searchIndexWritePlatformService).reindex(SearchIndexEntityType.CLIENT, Set.of(1L, 2L));
+        verify(searchIndexWritePlatformService).reindex(SearchIndexEntityType.LOAN, Set.of(5L));
+        verifyNoMoreInteractions(searchIndexWritePlatformService);
+    }
+
+    @Test
+    void rolledBackChangesAreNotReindexed() {
+        TransactionSynchronizationManager.initSynchronization();
+        underTest.entityChanged(client(1L), null);
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verifyNoInteractions(searchIndexWritePlatformService);
+    }
+
+    @Test
+    void changesOutsideOfATransactionAreReindexedImmediately() {
+        underTest.entityChanged(loan(5L), null);
+
+        verify(searchIndexWritePlatformService).reindex(SearchIndexEntityType.LOAN, Set.of(5L));
+    }
+
+    @Test
+    void updatesOfAttributesOutsideOfTheIndexAreIgnored() {
+        TransactionSynchronizationManager.initSynchronization();
+        underTest.entityChanged(client(1L), List.of("dateOfBirth", "gender"));
+        underTest.entityChanged(mock(Office.class), null);
+
+        assertEquals(0, TransactionSynchronizationManager.getSynchronizations().size());
+        commit();
+
+        verifyNoInteractions(searchIndexWritePlatformService);
+    }
+
+    @Test
+    void clientMovingOfficeReindexesItsAccounts() {
+        TransactionSynchronizationManager.initSynchronization();
+        underTest.entityChanged(client(1L), List.of("office"));
+        underTest.entityChanged(client(2L), List.of("displayName"));
+
+        commit();
+
+        verify(searchIndexWritePlatformService).reindex(SearchIndexEntityType.CLIENT, Set.of(1L, 2L));
+        verify(searchIndexWritePlatformService).reindexClientAccounts(Set.of(1L));
+    }
+
+    @Test
+    void failedReindexIsCountedAndDoesNotFailTheCommit() {
+        doThrow(new DataAccessResourceFailureException("down")).when(searchIndexWritePlatformService).reindex(any(), anyCollection());
+        TransactionSynchronizationManager.initSynchronization();
+        underTest.entityChanged(client(1L), List.of("office"));
+
+        commit();
+
+        verify(searchIndexWritePlatformService).reindexClientAccounts(Set.of(1L));
+        assertEquals(1.0, meterRegistry.get("fineract.search.index.update.failures").tag("type", "CLIENT").counter().count());
+    }
+
+    private static void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+
+    private static Client client(Long id) {
+        Client client = mock(Client.class);
+        when(client.getId()).thenReturn(id);
+        return client;
+    }
+
+    private static Loan loan(Long id) {
+        Loan loan = mock(Loan.class);
+        when(loan.getId()).thenReturn(id);
+        return loan;
+    }
+}
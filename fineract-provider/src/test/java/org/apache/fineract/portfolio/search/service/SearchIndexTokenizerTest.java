@@ -0,0 +1,73 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+import org.apache.fineract.portfolio.search.data.SearchIndexToken;
+import org.junit.jupiter.api.Test;
+
+class SearchIndexTokenizerTest {
+
+    private static final Long ENTITY_ID = 7L;
+    private static final Long OFFICE_ID = 1L;
+
+    @Test
+    void normalizeTrimsLowercasesAndCollapsesWhitespace() {
+        assertEquals("john doe", SearchIndexTokenizer.normalize("  John \t DOE "));
+        assertNull(SearchIndexTokenizer.normalize(" "));
+        assertNull(SearchIndexTokenizer.normalize(null));
+        assertEquals(SearchIndexTokenizer.MAX_TOKEN_LENGTH, SearchIndexTokenizer.normalize("x".repeat(300)).length());
+    }
+
+    @Test
+    void accountNumberIsIndexedWithAndWithoutLeadingZeros() {
+        Set<SearchIndexToken> tokens = SearchIndexTokenizer.tokenize(ENTITY_ID, OFFICE_ID, "000000042", null, null, null, null);
+
+        assertEquals(Set.of(token(SearchIndexTokenizer.ACCOUNT_NO, "000000042"), token(SearchIndexTokenizer.ACCOUNT_NO, "42")), tokens);
+    }
+
+    @Test
+    void multiWordNamesAreIndexedPerWord() {
+        Set<SearchIndexToken> tokens = SearchIndexTokenizer.tokenize(ENTITY_ID, OFFICE_ID, null, "EXT-1", "Jane Mary Smith", "0711",
+                null);
+
+        assertEquals(6, tokens.size());
+        assertTrue(tokens.contains(token(SearchIndexTokenizer.NAME, "jane mary smith")));
+        assertTrue(tokens.contains(token(SearchIndexTokenizer.NAME_WORD, "mary")));
+        assertTrue(tokens.contains(token(SearchIndexTokenizer.NAME_WORD, "smith")));
+        assertTrue(tokens.contains(token(SearchIndexTokenizer.EXTERNAL_ID, "ext-1")));
+        assertTrue(tokens.contains(token(SearchIndexTokenizer.MOBILE_NO, "0711")));
+    }
+
+    @Test
+    void singleWordNameHasNoWordTokens() {
+        Set<SearchIndexToken> tokens = SearchIndexTokenizer.tokenize(ENTITY_ID, null, null, null, "Acme", null, "AB123");
+
+        assertEquals(Set.of(new SearchIndexToken(ENTITY_ID, SearchIndexTokenizer.NAME, "acme", null),
+                new SearchIndexToken(ENTITY_ID, SearchIndexTokenizer.DOCUMENT_KEY, "ab123", null)), tokens);
+    }
+
+    private static SearchIndexToken token(String fieldName, String token) {
+        return new SearchIndexToken(ENTITY_ID, fieldName, token, OFFICE_ID);
+    }
+}
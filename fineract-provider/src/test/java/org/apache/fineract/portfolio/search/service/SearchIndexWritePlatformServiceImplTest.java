@@ -0,0 +1,177 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SearchIndexWritePlatformServiceImplTest {
+
+    private static final Long CLIENT_ID = 1L;
+    private static final Long NEW_OFFICE_ID = 2L;
+
+    @Mock
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    @Mock
+    private DatabaseSpecificSQLGenerator sqlGenerator;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private FineractProperties fineractProperties;
+    @Captor
+    private ArgumentCaptor<SqlParameterSource[]> insertedRows;
+
+    private final Map<String, List<Long>> clientOwnedIds = new HashMap<>();
+    private final Map<String, Map<String, Object>> sourceRows = new HashMap<>();
+    private SearchIndexWritePlatformServiceImpl underTest;
+
+    @BeforeEach
+    void setUp() {
+        when(namedParameterJdbcTemplate.queryForList(startsWith("select id from "), any(SqlParameterSource.class), eq(Long.class)))
+                .thenAnswer(invocation -> {
+                    String sql = invocation.getArgument(0);
+                    SqlParameterSource params = invocation.getArgument(1);
+                    assertEquals(List.of(CLIENT_ID), params.getValue("clientIds"));
+                    String tableName = sql.substring("select id from ".length(), sql.indexOf(" where"));
+                    return clientOwnedIds.getOrDefault(tableName, List.of());
+                });
+        when(namedParameterJdbcTemplate.query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class)))
+                .thenAnswer(invocation -> {
+                    String sql = invocation.getArgument(0);
+                    SqlParameterSource params = invocation.getArgument(1);
+                    RowCallbackHandler handler = invocation.getArgument(2);
+                    for (Object entityId : (Collection<?>) params.getValue("entityIds")) {
+                        Map<String, Object> row = sourceRows.get(sql.substring(0, sql.indexOf(" where")) + "#" + entityId);
+                        if (row != null) {
+                            handler.processRow(resultSet(row));
+                        }
+                    }
+                    return null;
+                });
+
+        underTest = new SearchIndexWritePlatformServiceImpl(namedParameterJdbcTemplate, sqlGenerator, transactionManager,
+                fineractProperties, Optional.empty());
+        underTest.afterPropertiesSet();
+    }
+
+    @Test
+    void clientMovingOfficeMovesTheEntriesOfItsAccountsAndIdentifiers() {
+        clientOwnedIds.put("m_loan", List.of(5L));
+        clientOwnedIds.put("m_client_identifier", List.of(8L));
+        sourceRow(SearchIndexEntityType.LOAN, 5L, "000000005", null);
+        sourceRow(SearchIndexEntityType.CLIENTIDENTIFIER, 8L, null, "AB123");
+
+        underTest.reindexClientAccounts(List.of(CLIENT_ID));
+
+        verify(namedParameterJdbcTemplate).update(startsWith("delete from m_search_index"), entityParams("LOAN", 5L));
+        verify(namedParameterJdbcTemplate).update(startsWith("delete from m_search_index"), entityParams("CLIENTIDENTIFIER", 8L));
+        verify(namedParameterJdbcTemplate, times(2)).batchUpdate(startsWith("insert into m_search_index"), insertedRows.capture());
+        Set<List<Object>> inserted = new HashSet<>();
+        for (SqlParameterSource[] rows : insertedRows.getAllValues()) {
+            for (SqlParameterSource row : rows) {
+                inserted.add(List.of(row.getValue("entityType"), row.getValue("entityId"), row.getValue("fieldName"), row.getValue("token"),
+                        row.getValue("officeId")));
+            }
+        }
+        // the tokens are unchanged, the office filter now follows the client
+        assertEquals(Set.of(List.of("LOAN", 5L, SearchIndexTokenizer.ACCOUNT_NO, "000000005", NEW_OFFICE_ID),
+                List.of("LOAN", 5L, SearchIndexTokenizer.ACCOUNT_NO, "5", NEW_OFFICE_ID),
+                List.of("CLIENTIDENTIFIER", 8L, SearchIndexTokenizer.DOCUMENT_KEY, "ab123", NEW_OFFICE_ID)), inserted);
+    }
+
+    @Test
+    void clientWithoutAccountsDoesNotTouchTheIndex() {
+        underTest.reindexClientAccounts(List.of(CLIENT_ID));
+
+        verify(namedParameterJdbcTemplate, never()).update(anyString(), any(SqlParameterSource.class));
+        verify(namedParameterJdbcTemplate, never()).batchUpdate(anyString(), any(SqlParameterSource[].class));
+    }
+
+    private void sourceRow(SearchIndexEntityType entityType, Long entityId, String accountNo, String documentKey) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", entityId);
+        row.put("officeId", NEW_OFFICE_ID);
+        row.put("accountNo", accountNo);
+        row.put("externalId", null);
+        row.put("name", null);
+        row.put("mobileNo", null);
+        row.put("documentKey", documentKey);
+        sourceRows.put(entityType.getSourceSql() + "#" + entityId, row);
+    }
+
+    private static SqlParameterSource entityParams(String entityType, Long entityId) {
+        return argThat(
+                params -> entityType.equals(params.getValue("entityType")) && List.of(entityId).equals(params.getValue("entityIds")));
+    }
+
+    /**
+     * Read-only result set over a single row, enough for the token loading of the index.
+     */
+    private static ResultSet resultSet(Map<String, Object> columns) {
+        List<String> columnNames = new ArrayList<>(columns.keySet());
+        Object[] lastValue = new Object[1];
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[] { ResultSet.class },
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findColumn" -> columnNames.indexOf((String) args[0]) + 1;
+                    case "getString" -> (String) columns.get((String) args[0]);
+                    case "getLong" -> {
+                        lastValue[0] = columns.get(columnNames.get((Integer) args[0] - 1));
+                        yield lastValue[0] == null ? 0L : ((Number) lastValue[0]).longValue();
+                    }
+                    case "wasNull" -> lastValue[0] == null;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
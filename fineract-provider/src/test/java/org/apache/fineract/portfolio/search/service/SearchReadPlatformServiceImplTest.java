@@ -0,0 +1,249 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
+import org.apache.fineract.organisation.office.domain.Office;
+import org.apache.fineract.organisation.office.service.OfficeReadPlatformService;
+import org.apache.fineract.portfolio.loanproduct.service.LoanProductReadPlatformService;
+import org.apache.fineract.portfolio.search.data.SearchConditions;
+import org.apache.fineract.portfolio.search.data.SearchData;
+import org.apache.fineract.useradministration.domain.AppUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+/**
+ * Searches through the index with the mocked {@link NamedParameterJdbcTemplate} answering the index lookup with the
+ * matches in the order the database ranked them, and the entity loads with the entities still inside the hierarchy.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SearchReadPlatformServiceImplTest {
+
+    private static final String HIERARCHY = ".1.2.";
+
+    @Mock
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    @Mock
+    private PlatformSecurityContext context;
+    @Mock
+    private LoanProductReadPlatformService loanProductReadPlatformService;
+    @Mock
+    private OfficeReadPlatformService officeReadPlatformService;
+    @Mock
+    private DatabaseSpecificSQLGenerator sqlGenerator;
+    @Mock
+    private FineractProperties fineractProperties;
+
+    private final List<Pair<SearchIndexEntityType, Long>> rankedMatches = new ArrayList<>();
+    private final Set<Pair<SearchIndexEntityType, Long>> outsideHierarchy = new HashSet<>();
+    private final List<String> queries = new ArrayList<>();
+    private final List<SqlParameterSource> queryParams = new ArrayList<>();
+    private SearchReadPlatformServiceImpl underTest;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        FineractProperties.FineractSearchIndexProperties index = new FineractProperties.FineractSearchIndexProperties();
+        index.setEnabled(true);
+        FineractProperties.FineractSearchProperties search = new FineractProperties.FineractSearchProperties();
+        search.setIndex(index);
+        when(fineractProperties.getSearch()).thenReturn(search);
+
+        Office office = mock(Office.class);
+        when(office.getHierarchy()).thenReturn(HIERARCHY);
+        AppUser user = mock(AppUser.class);
+        when(user.getOffice()).thenReturn(office);
+        when(context.authenticatedUser()).thenReturn(user);
+        when(sqlGenerator.limit(anyInt())).thenAnswer(invocation -> "limit " + invocation.getArgument(0));
+
+        when(namedParameterJdbcTemplate.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenAnswer(invocation -> query(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)));
+
+        underTest = new SearchReadPlatformServiceImpl(namedParameterJdbcTemplate, context, loanProductReadPlatformService,
+                officeReadPlatformService, sqlGenerator, fineractProperties);
+    }
+
+    @Test
+    void prefixSearchLooksUpTheNormalizedQueryAsTokenPrefix() {
+        underTest.retriveMatchingData(new SearchConditions("  Jo_hn%  ", null, false));
+
+        String sql = queries.get(0);
+        assertTrue(sql.contains("si.token like :prefix"));
+        assertFalse(sql.contains("si.token = :token and"));
+        assertEquals("jo_hn%", queryParams.get(0).getValue("token"));
+        assertEquals("jo\\_hn\\%%", queryParams.get(0).getValue("prefix"));
+    }
+
+    @Test
+    void exactSearchMatchesWholeValuesOnly() {
+        underTest.retriveMatchingData(new SearchConditions("000042", null, true));
+
+        String sql = queries.get(0);
+        assertTrue(sql.contains("and si.token = :token and si.field_name <> '" + SearchIndexTokenizer.NAME_WORD + "'"));
+        assertFalse(sql.contains(":prefix"));
+        assertFalse(queryParams.get(0).hasValue("prefix"));
+        assertEquals("000042", queryParams.get(0).getValue("token"));
+    }
+
+    @Test
+    void onlyTheSearchedResourcesAreLookedUp() {
+        underTest.retriveMatchingData(new SearchConditions("john", "clients,loans", false));
+
+        assertEquals(List.of("CLIENT", "LOAN"), queryParams.get(0).getValue("entityTypes"));
+    }
+
+    @Test
+    void blankQueryDoesNotQuery() {
+        assertTrue(underTest.retriveMatchingData(new SearchConditions("   ", null, false)).isEmpty());
+        verifyNoInteractions(namedParameterJdbcTemplate);
+    }
+
+    @Test
+    void matchesAreFilteredByTheOfficeHierarchyOfTheUser() {
+        rankedMatches.add(Pair.of(SearchIndexEntityType.CLIENT, 3L));
+        rankedMatches.add(Pair.of(SearchIndexEntityType.CLIENT, 4L));
+        // moved to an office outside the hierarchy since it was indexed
+        outsideHierarchy.add(Pair.of(SearchIndexEntityType.CLIENT, 4L));
+
+        List<SearchData> result = underTest.retriveMatchingData(new SearchConditions("john", null, false));
+
+        assertTrue(queries.get(0).contains("(si.office_id is null or o.hierarchy like :hierarchy)"));
+        for (SqlParameterSource params : queryParams) {
+            assertEquals(HIERARCHY + "%", params.getValue("hierarchy"));
+        }
+        assertTrue(queries.get(1).contains("o.hierarchy like :hierarchy"));
+        assertEquals(List.of(Pair.of("CLIENT", 3L)), toMatches(result));
+    }
+
+    @Test
+    void resultsKeepTheRankingOfTheIndex() {
+        rankedMatches.add(Pair.of(SearchIndexEntityType.LOAN, 5L));
+        rankedMatches.add(Pair.of(SearchIndexEntityType.CLIENT, 3L));
+        rankedMatches.add(Pair.of(SearchIndexEntityType.LOAN, 4L));
+        rankedMatches.add(Pair.of(SearchIndexEntityType.GROUP, 9L));
+
+        List<SearchData> result = underTest.retriveMatchingData(new SearchConditions("john", null, false));
+
+        assertTrue(queries.get(0).contains("order by matchRank, case si.entity_type when 'CLIENT' then 0 when 'LOAN' then 1"));
+        assertTrue(queries.get(0).endsWith("si.entity_id desc limit 50"));
+        // whole value matches rank before word matches
+        assertTrue(queries.get(0).contains("min(case when si.field_name = '" + SearchIndexTokenizer.NAME_WORD
+                + "' then 2 when si.token = :token then 0 else 1 end) as matchRank"));
+        // one load per resource, loans included
+        assertEquals(4, queries.size());
+        assertEquals(List.of(Pair.of("LOAN", 5L), Pair.of("CLIENT", 3L), Pair.of("LOAN", 4L), Pair.of("GROUP", 9L)), toMatches(result));
+    }
+
+    private List<?> query(String sql, SqlParameterSource params, RowMapper<?> rowMapper) throws Exception {
+        queries.add(sql);
+        queryParams.add(params);
+        List<Map<String, Object>> rows = new ArrayList<>();
+        if (sql.startsWith("select si.entity_type")) {
+            for (Pair<SearchIndexEntityType, Long> match : rankedMatches) {
+                rows.add(columns(match.getLeft(), match.getRight()));
+            }
+        } else {
+            Collection<?> entityIds = (Collection<?>) params.getValue("entityIds");
+            // the entities are loaded in id order, not in the ranking order
+            rankedMatches.stream().sorted((left, right) -> Long.compare(left.getRight(), right.getRight()))
+                    .filter(match -> sql.contains("from " + match.getLeft().getTableName() + " "))
+                    .filter(match -> entityIds.contains(match.getRight()) && !outsideHierarchy.contains(match))
+                    .forEach(match -> rows.add(columns(match.getLeft(), match.getRight())));
+        }
+        List<Object> result = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            result.add(rowMapper.mapRow(resultSet(rows.get(i)), i));
+        }
+        return result;
+    }
+
+    private static Map<String, Object> columns(SearchIndexEntityType entityType, Long entityId) {
+        Map<String, Object> columns = new HashMap<>();
+        columns.put("entityType", entityType.name());
+        columns.put("entityId", entityId);
+        columns.put("entityName", "John " + entityId);
+        columns.put("entityExternalId", null);
+        columns.put("entityAccountNo", String.format("%09d", entityId));
+        columns.put("parentId", 1L);
+        columns.put("parentName", "Head Office");
+        columns.put("entityMobileNo", null);
+        columns.put("entityStatusEnum", 300);
+        columns.put("subEntityType", null);
+        columns.put("parentType", null);
+        return columns;
+    }
+
+    private static List<Pair<String, Long>> toMatches(List<SearchData> result) {
+        return result.stream().map(data -> Pair.of(data.getEntityType(), data.getEntityId())).toList();
+    }
+
+    /**
+     * Read-only result set over a single row, enough for the row mappers of the search.
+     */
+    private static ResultSet resultSet(Map<String, Object> columns) {
+        List<String> columnNames = new ArrayList<>(columns.keySet());
+        Object[] lastValue = new Object[1];
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[] { ResultSet.class },
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findColumn" -> columnNames.indexOf((String) args[0]) + 1;
+                    case "getString" -> (String) columns.get((String) args[0]);
+                    case "getLong" -> {
+                        lastValue[0] = columns.get(columnNames.get((Integer) args[0] - 1));
+                        yield lastValue[0] == null ? 0L : ((Number) lastValue[0]).longValue();
+                    }
+                    case "getInt" -> {
+                        lastValue[0] = columns.get(columnNames.get((Integer) args[0] - 1));
+                        yield lastValue[0] == null ? 0 : ((Number) lastValue[0]).intValue();
+                    }
+                    case "wasNull" -> lastValue[0] == null;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -29,6 +29,56 @@ Feature: COB Apply Loan Lock Step
       |action|
       |good|
 
+  @cob
+  Scenario Outline: ApplyLoanLockTasklet - run test: claim locks
+    Given The ApplyLoanLockTasklet.execute method with action <action>
+    When ApplyLoanLockTasklet.execute method executed
+    Then ApplyLoanLockTasklet.execute result should claim the locks
+
+    Examples:
+      |action|
+      |claim|
+
+  @cob
+  Scenario Outline: ApplyLoanLockTasklet - run test: take over periodic accrual locks
+    Given The ApplyLoanLockTasklet.execute method with action <action>
+    When ApplyLoanLockTasklet.execute method executed
+    Then ApplyLoanLockTasklet.execute result should take over the periodic accrual locks
+
+    Examples:
+      |action|
+      |accrual-locked|
+
+  @cob
+  Scenario Outline: ApplyLoanLockTasklet - run test: claim locks and take over periodic accrual locks
+    Given The ApplyLoanLockTasklet.execute method with action <action>
+    When ApplyLoanLockTasklet.execute method executed
+    Then ApplyLoanLockTasklet.execute result should claim the locks and take over the periodic accrual locks
+
+    Examples:
+      |action|
+      |claim-accrual-locked|
+
+  @cob
+  Scenario Outline: ApplyLoanLockTasklet - run test: claim locks held by a concurrent transaction
+    Given The ApplyLoanLockTasklet.execute method with action <action>
+    When ApplyLoanLockTasklet.execute method executed
+    Then ApplyLoanLockTasklet.execute result should claim the held loans again
+
+    Examples:
+      |action|
+      |claim-held-once|
+
+  @cob
+  Scenario Outline: ApplyLoanLockTasklet - run test: claim locks held until the retries are exhausted
+    Given The ApplyLoanLockTasklet.execute method with action <action>
+    When ApplyLoanLockTasklet.execute method executed
+    Then ApplyLoanLockTasklet.execute result should retry the step for held loans
+
+    Examples:
+      |action|
+      |claim-held-always|
+
   @cob
   Scenario Outline: ApplyLoanLockTasklet - run test: exception
     Given The ApplyLoanLockTasklet.execute method with action <action>
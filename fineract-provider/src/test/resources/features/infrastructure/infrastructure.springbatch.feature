@@ -29,12 +29,22 @@ Feature: SpringBatch Infrastructure
     Then chunk size is 100
     Then retry limit is 5
 
+  @springbatch
+  Scenario: Verify that the skip limit is read independently of the partition size for ADD_PERIODIC_ACCRUAL_ENTRIES
+    Given Property Service is initialized
+    When partition size is fetched for "ADD_PERIODIC_ACCRUAL_ENTRIES"
+    When skip limit is fetched for "ADD_PERIODIC_ACCRUAL_ENTRIES"
+    Then partition size is 10000
+    Then skip limit is 10
+
   @springbatch
   Scenario: Verify that spring batch default properties are read correctly for non-existing job
     Given Property Service is initialized
     When partition size is fetched for "INVALID_JOB"
     When chunk size is fetched for "INVALID_JOB"
     When retry limit is fetched for "INVALID_JOB"
+    When skip limit is fetched for "INVALID_JOB"
     Then partition size is 1
     Then chunk size is 1
     Then retry limit is 1
+    Then skip limit is 1
@@ -69,6 +69,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 import org.apache.commons.lang3.StringUtils;
@@ -107,6 +108,7 @@ import org.apache.fineract.portfolio.savings.SavingsInterestCalculationType;
 import org.apache.fineract.portfolio.savings.SavingsPeriodFrequencyType;
 import org.apache.fineract.portfolio.savings.SavingsPostingInterestPeriodType;
 import org.apache.fineract.portfolio.savings.data.SavingsAccountTransactionDTO;
+import org.apache.fineract.portfolio.savings.domain.interest.CompoundInterestValues;
 import org.apache.fineract.portfolio.savings.domain.interest.PostingPeriod;
 import org.apache.fineract.portfolio.savings.domain.interest.SavingsAccountTransactionDetailsForPostingPeriod;
 import org.apache.fineract.portfolio.savings.exception.InsufficientAccountBalanceException;
@@ -302,6 +304,43 @@ public class SavingsAccount extends AbstractAuditableWithUTCDateTimeCustom<Long>
     @Column(name = "start_interest_calculation_date")
     protected LocalDate startInterestCalculationDate;
 
+    /**
+     * Last transaction date whose daily balances are known to be final, together with the running balance at the end of
+     * that day and a fingerprint of the transactions up to it. Used to skip the settled prefix of the history when daily
+     * balances are recalculated.
+     */
+    @Column(name = "balance_checkpoint_date")
+    private LocalDate balanceCheckpointDate;
+
+    @Column(name = "balance_checkpoint_running_balance", scale = 6, precision = 19)
+    private BigDecimal balanceCheckpointRunningBalance;
+
+    @Column(name = "balance_checkpoint_hash")
+    private Long balanceCheckpointHash;
+
+    /**
+     * End date of the last posting period whose interest is known to be final, together with the balance and the
+     * interest carried over into the next period and the interest earned up to it. Posting periods up to it are not
+     * calculated again while the balance checkpoint covers them and the interest parameters are unchanged.
+     */
+    @Column(name = "interest_checkpoint_date")
+    private LocalDate interestCheckpointDate;
+
+    @Column(name = "interest_checkpoint_closing_balance", scale = 6, precision = 19)
+    private BigDecimal interestCheckpointClosingBalance;
+
+    @Column(name = "interest_checkpoint_compounded_interest", scale = 20, precision = 38)
+    private BigDecimal interestCheckpointCompoundedInterest;
+
+    @Column(name = "interest_checkpoint_uncompounded_interest", scale = 20, precision = 38)
+    private BigDecimal interestCheckpointUncompoundedInterest;
+
+    @Column(name = "interest_checkpoint_interest_earned", scale = 6, precision = 19)
+    private BigDecimal interestCheckpointInterestEarned;
+
+    @Column(name = "interest_checkpoint_hash")
+    private Long interestCheckpointHash;
+
     @Embedded
     protected SavingsAccountSummary summary;
 
@@ -807,6 +846,9 @@ public class SavingsAccount extends AbstractAuditableWithUTCDateTimeCustom<Long>
      * of interest due at the end of each 'crediting' period check if an existing 'interest posting' transaction exists
      * for date and matches the amount posted
      *
+     * Savings accounts start from the interest checkpoint when it is still valid, the posting periods up to it are
+     * neither calculated nor returned.
+     *
      * @param isInterestTransfer
      *            TODO
      */
@@ -877,25 +919,54 @@ public class SavingsAccount extends AbstractAuditableWithUTCDateTimeCustom<Long>
             final Money minBalanceForInterestCalculation = Money.of(getCurrency(), minBalanceForInterestCalculation());
             final Money minOverdraftForInterestCalculation = Money.of(getCurrency(), this.minOverdraftForInterestCalculation);
 
-            for (final LocalDateInterval periodInterval : postingPeriodIntervals) {
+            // the pivot date configuration and deposit products keep their own interest bookkeeping
+            final boolean useInterestCheckpoint = !backdatedTxnsAllowedTill && depositAccountType().isSavingsDeposit();
+            final Long interestParametersHash = useInterestCheckpoint
+                    ? fingerprintInterestParameters(financialYearBeginningMonth, isSavingsInterestPostingAtCurrentPeriodEnd)
+                    : null;
+            final int firstPeriodIndex = useInterestCheckpoint ? findFirstPostingPeriodAfterInterestCheckpoint(postingPeriodIntervals,
+                    interestParametersHash, upToInterestCalculationDate, postInterestOnDate) : 0;
+            final CompoundInterestValues compoundInterestValues;
+            final Money interestEarnedBeforeFirstPeriod;
+            if (firstPeriodIndex > 0) {
+                periodStartingBalance = Money.of(this.currency, this.interestCheckpointClosingBalance);
+                compoundInterestValues = new CompoundInterestValues(this.interestCheckpointCompoundedInterest,
+                        this.interestCheckpointUncompoundedInterest);
+                interestEarnedBeforeFirstPeriod = Money.of(this.currency, this.interestCheckpointInterestEarned);
+            } else {
+                if (useInterestCheckpoint) {
+                    clearInterestCheckpoint();
+                }
+                compoundInterestValues = new CompoundInterestValues(BigDecimal.ZERO, BigDecimal.ZERO);
+                interestEarnedBeforeFirstPeriod = Money.zero(this.currency);
+            }
+
+            List<SavingsAccountTransaction> orderedNonInterestPostingTransactions = null;
+            if (backdatedTxnsAllowedTill) {
+                orderedNonInterestPostingTransactions = retreiveOrderedNonInterestPostingSavingsTransactionsWithPivotConfig();
+            } else {
+                orderedNonInterestPostingTransactions = retreiveOrderedNonInterestPostingTransactions();
+            }
+            if (firstPeriodIndex > 0) {
+                // balances ending before the first period to calculate are already part of the checkpoint
+                final LocalDate firstPeriodStartDate = postingPeriodIntervals.get(firstPeriodIndex).startDate();
+                orderedNonInterestPostingTransactions = orderedNonInterestPostingTransactions.stream()
+                        .filter(transaction -> transaction.getEndOfBalanceDate() == null
+                                || !DateUtils.isBefore(transaction.getEndOfBalanceDate(), firstPeriodStartDate))
+                        .toList();
+            }
+            List<SavingsAccountTransactionDetailsForPostingPeriod> savingsAccountTransactionDetailsForPostingPeriod = toSavingsAccountTransactionDetailsForPostingPeriodList(
+                    orderedNonInterestPostingTransactions);
+
+            for (final LocalDateInterval periodInterval : postingPeriodIntervals.subList(firstPeriodIndex,
+                    postingPeriodIntervals.size())) {
 
                 boolean isUserPosting = false;
                 if (postedAsOnDates.contains(periodInterval.endDate().plusDays(1))) {
                     isUserPosting = true;
                 }
 
-                PostingPeriod postingPeriod = null;
-                List<SavingsAccountTransaction> orderedNonInterestPostingTransactions = null;
-                if (backdatedTxnsAllowedTill) {
-                    orderedNonInterestPostingTransactions = retreiveOrderedNonInterestPostingSavingsTransactionsWithPivotConfig();
-                } else {
-                    orderedNonInterestPostingTransactions = retreiveOrderedNonInterestPostingTransactions();
-                }
-
-                List<SavingsAccountTransactionDetailsForPostingPeriod> savingsAccountTransactionDetailsForPostingPeriod = toSavingsAccountTransactionDetailsForPostingPeriodList(
-                        orderedNonInterestPostingTransactions);
-
-                postingPeriod = PostingPeriod.createFrom(periodInterval, periodStartingBalance,
+                PostingPeriod postingPeriod = PostingPeriod.createFrom(periodInterval, periodStartingBalance,
                         savingsAccountTransactionDetailsForPostingPeriod, this.currency, compoundingPeriodType, interestCalculationType,
                         interestRateAsFraction, daysInYearType.getValue(), upToInterestCalculationDate, interestPostTransactions,
                         isInterestTransfer, minBalanceForInterestCalculation, isSavingsInterestPostingAtCurrentPeriodEnd,
@@ -906,10 +977,15 @@ public class SavingsAccount extends AbstractAuditableWithUTCDateTimeCustom<Long>
                 allPostingPeriods.add(postingPeriod);
             }
 
-            this.savingsHelper.calculateInterestForAllPostingPeriods(this.currency, allPostingPeriods, getLockedInUntilDate(),
-                    isTransferInterestToOtherAccount());
+            if (useInterestCheckpoint) {
+                calculateInterestAndMoveInterestCheckpoint(allPostingPeriods, compoundInterestValues, interestEarnedBeforeFirstPeriod,
+                        interestParametersHash, upToInterestCalculationDate);
+            } else {
+                this.savingsHelper.calculateInterestForAllPostingPeriods(this.currency, allPostingPeriods, getLockedInUntilDate(),
+                        isTransferInterestToOtherAccount());
+            }
 
-            this.summary.updateFromInterestPeriodSummaries(this.currency, allPostingPeriods);
+            this.summary.updateFromInterestPeriodSummaries(this.currency, interestEarnedBeforeFirstPeriod, allPostingPeriods);
         }
 
         if (backdatedTxnsAllowedTill) {
@@ -999,8 +1075,19 @@ public class SavingsAccount extends AbstractAuditableWithUTCDateTimeCustom<Long>
             accountTransactionsSorted = retrieveListOfTransactions();
         }
 
+        // the pivot date configuration keeps its own opening balance, the checkpoint only covers full recalculations
+        final boolean useBalanceCheckpoint = !backdatedTxnsAllowedTill && openingAccountBalance.isZero();
+        final int firstTransactionIndex = useBalanceCheckpoint ? findFirstTransactionAfterBalanceCheckpoint(accountTransactionsSorted) : 0;
+        if (firstTransactionIndex > 0) {
+            runningBalance = Money.of(this.currency, this.balanceCheckpointRunningBalance);
+        } else if (useBalanceCheckpoint) {
+            // the transactions the interest checkpoint was calculated from may have changed
+            clearInterestCheckpoint();
+        }
+
         boolean isTransactionsModified = false;
-        for (final SavingsAccountTransaction transaction : accountTransactionsSorted) {
+        for (int i = firstTransactionIndex; i < accountTransactionsSorted.size(); i++) {
+            final SavingsAccountTransaction transaction = accountTransactionsSorted.get(i);
             if (transaction.isReversed() || transaction.isReversalTransaction()) {
                 transaction.zeroBalanceFields();
             } else {
@@ -1073,11 +1160,25 @@ public class SavingsAccount extends AbstractAuditableWithUTCDateTimeCustom<Long>
                 accountTransactionsSorted = retrieveListOfTransactions();
             }
         }
-        resetAccountTransactionsEndOfDayBalances(accountTransactionsSorted, interestPostingUpToDate);
+        final LocalDate recalculatedAfterDate = firstTransactionIndex > 0 ? this.balanceCheckpointDate : null;
+        resetAccountTransactionsEndOfDayBalances(accountTransactionsSorted, interestPostingUpToDate, recalculatedAfterDate);
+        if (useBalanceCheckpoint) {
+            updateBalanceCheckpoint(accountTransactionsSorted);
+        }
     }
 
     protected void resetAccountTransactionsEndOfDayBalances(final List<SavingsAccountTransaction> accountTransactionsSorted,
             final LocalDate interestPostingUpToDate) {
+        resetAccountTransactionsEndOfDayBalances(accountTransactionsSorted, interestPostingUpToDate, null);
+    }
+
+    /**
+     * @param recalculatedAfterDate
+     *            when set, the loop stops at the last transaction on or before this date, as the end of day balances of
+     *            the transactions before it did not change
+     */
+    protected void resetAccountTransactionsEndOfDayBalances(final List<SavingsAccountTransaction> accountTransactionsSorted,
+            final LocalDate interestPostingUpToDate, final LocalDate recalculatedAfterDate) {
         // loop over transactions in reverse
         LocalDate endOfBalanceDate = interestPostingUpToDate;
         for (int i = accountTransactionsSorted.size() - 1; i >= 0; i--) {
@@ -1085,6 +1186,9 @@ public class SavingsAccount extends AbstractAuditableWithUTCDateTimeCustom<Long>
             if (transaction.isNotReversed() && !transaction.isReversalTransaction()
                     && !(transaction.isInterestPostingAndNotReversed() || transaction.isOverdraftInterestAndNotReversed())) {
                 transaction.updateCumulativeBalanceAndDates(this.currency, endOfBalanceDate);
+                if (recalculatedAfterDate != null && !DateUtils.isAfter(transaction.getTransactionDate(), recalculatedAfterDate)) {
+                    break;
+                }
                 // this transactions transaction date is end of balance date for
                 // previous transaction.
                 endOfBalanceDate = transaction.getTransactionDate().minusDays(1);
@@ -1092,6 +1196,169 @@ public class SavingsAccount extends AbstractAuditableWithUTCDateTimeCustom<Long>
         }
     }
 
+    /**
+     * Returns the index of the first transaction after the balance checkpoint or 0 when there is no checkpoint or the
+     * transactions up to it changed since it was taken (backdated, reversed or adjusted entries).
+     */
+    private int findFirstTransactionAfterBalanceCheckpoint(final List<SavingsAccountTransaction> accountTransactionsSorted) {
+        if (this.balanceCheckpointDate == null || this.balanceCheckpointRunningBalance == null || this.balanceCheckpointHash == null) {
+            return 0;
+        }
+        final int checkpointIndex = countTransactionsUpTo(accountTransactionsSorted, this.balanceCheckpointDate);
+        final Long hash = fingerprintTransactions(accountTransactionsSorted, checkpointIndex);
+        return this.balanceCheckpointHash.equals(hash) ? checkpointIndex : 0;
+    }
+
+    /**
+     * Moves the balance checkpoint to the last transaction day before the latest one. The latest day stays open for
+     * further same day transactions and nothing from the first transaction that is not yet persisted is covered, as
+     * only persisted transactions can be fingerprinted.
+     */
+    private void updateBalanceCheckpoint(final List<SavingsAccountTransaction> accountTransactionsSorted) {
+        this.balanceCheckpointDate = null;
+        this.balanceCheckpointRunningBalance = null;
+        this.balanceCheckpointHash = null;
+        if (accountTransactionsSorted.isEmpty()) {
+            return;
+        }
+        LocalDate openFromDate = accountTransactionsSorted.get(accountTransactionsSorted.size() - 1).getTransactionDate();
+        for (final SavingsAccountTransaction transaction : accountTransactionsSorted) {
+            if (transaction.getId() == null) {
+                openFromDate = transaction.getTransactionDate();
+                break;
+            }
+        }
+        final int checkpointIndex = countTransactionsUpTo(accountTransactionsSorted, openFromDate.minusDays(1));
+        if (checkpointIndex == 0) {
+            return;
+        }
+        Money runningBalance = Money.zero(this.currency);
+        for (int i = 0; i < checkpointIndex; i++) {
+            final SavingsAccountTransaction transaction = accountTransactionsSorted.get(i);
+            if (transaction.isNotReversed() && !transaction.isReversalTransaction()) {
+                runningBalance = transaction.getRunningBalance(this.currency);
+            }
+        }
+        this.balanceCheckpointDate = accountTransactionsSorted.get(checkpointIndex - 1).getTransactionDate();
+        this.balanceCheckpointRunningBalance = runningBalance.getAmount();
+        this.balanceCheckpointHash = fingerprintTransactions(accountTransactionsSorted, checkpointIndex);
+    }
+
+    private static int countTransactionsUpTo(final List<SavingsAccountTransaction> accountTransactionsSorted, final LocalDate date) {
+        int count = 0;
+        while (count < accountTransactionsSorted.size()
+                && !DateUtils.isAfter(accountTransactionsSorted.get(count).getTransactionDate(), date)) {
+            count++;
+        }
+        return count;
+    }
+
+    private static Long fingerprintTransactions(final List<SavingsAccountTransaction> accountTransactionsSorted, final int count) {
+        long hash = 1L;
+        for (int i = 0; i < count; i++) {
+            final SavingsAccountTransaction transaction = accountTransactionsSorted.get(i);
+            if (transaction.getId() == null) {
+                return null;
+            }
+            hash = 31 * hash + transaction.getId();
+            hash = 31 * hash + (transaction.isReversed() ? 1 : 0);
+            hash = 31 * hash + transaction.getAmount().stripTrailingZeros().hashCode();
+        }
+        return hash;
+    }
+
+    /**
+     * Returns the index of the first posting period after the interest checkpoint or 0 when the checkpoint cannot be
+     * used: the interest parameters changed, the balance checkpoint no longer covers it or the periods up to it are
+     * split differently.
+     */
+    private int findFirstPostingPeriodAfterInterestCheckpoint(final List<LocalDateInterval> postingPeriodIntervals,
+            final Long interestParametersHash, final LocalDate upToInterestCalculationDate, final LocalDate postInterestOnDate) {
+        if (this.interestCheckpointDate == null || !interestParametersHash.equals(this.interestCheckpointHash)
+                || this.balanceCheckpointDate == null || !DateUtils.isBefore(this.interestCheckpointDate, this.balanceCheckpointDate)
+                || !DateUtils.isBefore(this.interestCheckpointDate, upToInterestCalculationDate)) {
+            return 0;
+        }
+        if (postInterestOnDate != null && !DateUtils.isAfter(postInterestOnDate, this.interestCheckpointDate.plusDays(1))) {
+            return 0;
+        }
+        for (int i = 0; i < postingPeriodIntervals.size() - 1; i++) {
+            if (DateUtils.isEqual(postingPeriodIntervals.get(i).endDate(), this.interestCheckpointDate)) {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Calculates the interest of the posting periods one by one and moves the interest checkpoint over every leading
+     * period that is settled.
+     */
+    private void calculateInterestAndMoveInterestCheckpoint(final List<PostingPeriod> postingPeriods,
+            final CompoundInterestValues compoundInterestValues, final Money interestEarnedBeforeFirstPeriod,
+            final Long interestParametersHash, final LocalDate upToInterestCalculationDate) {
+        final LocalDate lockedInUntilDate = getLockedInUntilDate();
+        final boolean transferInterestToOtherAccount = isTransferInterestToOtherAccount();
+        Money interestEarned = interestEarnedBeforeFirstPeriod;
+        boolean settled = true;
+        for (final PostingPeriod postingPeriod : postingPeriods) {
+            final Money interestEarnedThisPeriod = this.savingsHelper.calculateInterestForAllPostingPeriods(this.currency,
+                    List.of(postingPeriod), lockedInUntilDate, transferInterestToOtherAccount, compoundInterestValues);
+            settled = settled && isPostingPeriodSettled(postingPeriod, upToInterestCalculationDate);
+            if (settled) {
+                interestEarned = interestEarned.plus(interestEarnedThisPeriod);
+                this.interestCheckpointDate = postingPeriod.getPeriodInterval().endDate();
+                this.interestCheckpointClosingBalance = postingPeriod.closingBalance().getAmount();
+                this.interestCheckpointCompoundedInterest = compoundInterestValues.getcompoundedInterest();
+                this.interestCheckpointUncompoundedInterest = compoundInterestValues.getuncompoundedInterest();
+                this.interestCheckpointInterestEarned = interestEarned.getAmount();
+                this.interestCheckpointHash = interestParametersHash;
+            }
+        }
+    }
+
+    /**
+     * A posting period is settled when the balance checkpoint covers all of its days and its interest is posted with the
+     * calculated amount, so neither the interest nor the posting can change anymore.
+     */
+    private boolean isPostingPeriodSettled(final PostingPeriod postingPeriod, final LocalDate upToInterestCalculationDate) {
+        final LocalDate periodEndDate = postingPeriod.getPeriodInterval().endDate();
+        if (this.balanceCheckpointDate == null || !DateUtils.isBefore(periodEndDate, this.balanceCheckpointDate)
+                || !DateUtils.isBefore(periodEndDate, upToInterestCalculationDate)) {
+            return false;
+        }
+        final SavingsAccountTransaction postingTransaction = findInterestPostingTransactionFor(postingPeriod.dateOfPostingTransaction());
+        if (postingTransaction == null || postingTransaction.getId() == null) {
+            return false;
+        }
+        final Money interestEarned = postingPeriod.getInterestEarned();
+        return postingTransaction.isInterestPostingAndNotReversed() ? !postingTransaction.hasNotAmount(interestEarned)
+                : !postingTransaction.hasNotAmount(interestEarned.negated());
+    }
+
+    private void clearInterestCheckpoint() {
+        this.interestCheckpointDate = null;
+        this.interestCheckpointClosingBalance = null;
+        this.interestCheckpointCompoundedInterest = null;
+        this.interestCheckpointUncompoundedInterest = null;
+        this.interestCheckpointInterestEarned = null;
+        this.interestCheckpointHash = null;
+    }
+
+    private long fingerprintInterestParameters(final Integer financialYearBeginningMonth,
+            final boolean isSavingsInterestPostingAtCurrentPeriodEnd) {
+        return Objects.hash(stripTrailingZeros(this.nominalAnnualInterestRate), this.interestCompoundingPeriodType,
+                this.interestPostingPeriodType, this.interestCalculationType, this.interestCalculationDaysInYearType,
+                stripTrailingZeros(minBalanceForInterestCalculation()), this.allowOverdraft, stripTrailingZeros(this.overdraftLimit),
+                stripTrailingZeros(this.nominalAnnualInterestRateOverdraft), stripTrailingZeros(this.minOverdraftForInterestCalculation),
+                getStartInterestCalculationDate(), getLockedInUntilDate(), isTransferInterestToOtherAccount(), financialYearBeginningMonth,
+                isSavingsInterestPostingAtCurrentPeriodEnd);
+    }
+
+    private static BigDecimal stripTrailingZeros(final BigDecimal value) {
+        return value == null ? null : value.stripTrailingZeros();
+    }
+
     public SavingsAccountTransaction deposit(final SavingsAccountTransactionDTO transactionDTO, final boolean backdatedTxnsAllowedTill,
             final Long relaxingDaysConfigForPivotDate, final String refNo) {
         return deposit(transactionDTO, SavingsAccountTransactionType.DEPOSIT, backdatedTxnsAllowedTill, relaxingDaysConfigForPivotDate,
@@ -252,7 +252,16 @@ public final class SavingsAccountSummary {
     }
 
     public void updateFromInterestPeriodSummaries(final MonetaryCurrency currency, final List<PostingPeriod> allPostingPeriods) {
-        Money totalEarned = Money.zero(currency);
+        updateFromInterestPeriodSummaries(currency, Money.zero(currency), allPostingPeriods);
+    }
+
+    /**
+     * @param interestEarnedBeforePostingPeriods
+     *            interest earned in the posting periods before the given ones
+     */
+    public void updateFromInterestPeriodSummaries(final MonetaryCurrency currency, final Money interestEarnedBeforePostingPeriods,
+            final List<PostingPeriod> allPostingPeriods) {
+        Money totalEarned = interestEarnedBeforePostingPeriods;
         for (final PostingPeriod period : allPostingPeriods) {
             Money interestEarned = period.interest();
             interestEarned = interestEarned == null ? Money.zero(currency) : interestEarned;
@@ -66,6 +66,9 @@ public interface SavingsAccountReadPlatformService {
     List<SavingsAccountData> retrieveAllSavingsDataForInterestPosting(boolean backdatedTxnsAllowedTill, int pageSize, Integer status,
             Long maxSavingsId);
 
+    List<SavingsAccountData> retrieveSavingsDataForInterestPostingInRange(boolean backdatedTxnsAllowedTill, Integer status,
+            Long afterSavingsId, Long lastSavingsId);
+
     List<SavingsAccountTransactionData> retrieveAllTransactionData(List<String> refNo);
 
     Long retrieveAccountIdByExternalId(ExternalId externalId);